@@ -0,0 +1,6 @@
+-- 대시보드 요약 top-N 조회용 인덱스 (ddl-auto=update 미사용 환경에서 수동 적용)
+-- MariaDB / MySQL.
+
+CREATE INDEX idx_document_status_updated_at ON document (status, updated_at);
+CREATE INDEX idx_review_status_final_approval_at ON review (status, final_approval_at);
+CREATE INDEX idx_review_status_reviewed_at ON review (status, reviewed_at);
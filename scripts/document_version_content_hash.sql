@@ -0,0 +1,5 @@
+-- 버전 ETag용 본문 해시 백필 (content_hash 컬럼은 ddl-auto=update로 추가됨)
+-- 새 버전은 저장 시 계산됨. 해시가 없는 버전도 동작은 하지만 If-None-Match 확인에 본문을 읽어야 합니다.
+-- MariaDB / MySQL. content가 utf8mb4일 때 Java의 UTF-8 SHA-256과 같은 값입니다.
+
+UPDATE document_version SET content_hash = SHA2(content, 256) WHERE content_hash IS NULL;
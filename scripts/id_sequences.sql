@@ -0,0 +1,20 @@
+-- 배치 insert용 ID 시퀀스 테이블 (document_version, handover_history, translation_task, term_dictionary)
+-- MariaDBDialect는 시퀀스를 지원하지 않아 Hibernate가 <테이블>_seq(next_val) 테이블로 ID 블록(50개)을 할당합니다.
+-- 애플리케이션 시작 시 IdSequenceInitializer가 같은 보정을 자동으로 하므로, 이 스크립트는 수동 점검·복구용입니다.
+-- (pooled 최적화: 첫 ID = next_val - 49)
+
+CREATE TABLE IF NOT EXISTS document_version_seq (next_val BIGINT);
+DELETE FROM document_version_seq;
+INSERT INTO document_version_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM document_version;
+
+CREATE TABLE IF NOT EXISTS handover_history_seq (next_val BIGINT);
+DELETE FROM handover_history_seq;
+INSERT INTO handover_history_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM handover_history;
+
+CREATE TABLE IF NOT EXISTS translation_task_seq (next_val BIGINT);
+DELETE FROM translation_task_seq;
+INSERT INTO translation_task_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM translation_task;
+
+CREATE TABLE IF NOT EXISTS term_dictionary_seq (next_val BIGINT);
+DELETE FROM term_dictionary_seq;
+INSERT INTO term_dictionary_seq (next_val) SELECT COALESCE(MAX(id), 0) + 100 FROM term_dictionary;
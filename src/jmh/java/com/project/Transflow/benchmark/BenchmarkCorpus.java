@@ -0,0 +1,289 @@
+package com.project.Transflow.benchmark;
+
+import com.project.Transflow.term.entity.TermDictionary;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * 벤치마크용 고정 코퍼스.
+ * 크롤링한 기사 페이지와 비슷한 구조(헤더·내비게이션·스크립트·본문·사이드바·푸터)를 고정 시드로 생성하므로
+ * 실행할 때마다 같은 입력으로 측정됩니다.
+ * 실제 크롤링 결과로 측정하려면 -Dtransflow.bench.corpus=&lt;디렉터리&gt; 로 *.html 파일이 있는 경로를 지정합니다.
+ *
+ * <p>size: small(본문 약 15KB), medium(약 100KB), large(약 400KB)
+ */
+public final class BenchmarkCorpus {
+
+    public static final String CORPUS_DIR_PROPERTY = "transflow.bench.corpus";
+
+    private static final int PAGES_PER_SIZE = 3;
+    private static final long SEED = 20240601L;
+
+    private static final String[] EN_WORDS = {
+            "the", "evidence", "suggests", "that", "researchers", "have", "observed", "a", "remarkable",
+            "pattern", "in", "fossil", "record", "which", "was", "published", "by", "journal", "of",
+            "geology", "and", "biology", "scientists", "argue", "this", "discovery", "challenges",
+            "conventional", "assumptions", "about", "age", "rock", "layers", "sediment", "deposited",
+            "rapidly", "during", "catastrophic", "flood", "event", "across", "continents", "samples",
+            "collected", "from", "canyon", "revealed", "soft", "tissue", "preserved", "within", "bones",
+            "dinosaur", "carbon", "dating", "results", "were", "unexpected", "for", "many", "experts"
+    };
+
+    private static final String[] KO_PHRASES = {
+            "연구진은", "화석 기록에서", "놀라운 패턴을", "관찰했다고", "세계보건기구", "유엔", "지질학",
+            "생물학", "과학자들은", "이 발견이", "기존의 가정에", "도전한다고", "주장합니다", "암석층의",
+            "연대에 대한", "퇴적물이", "격변적인 홍수", "기간 동안", "빠르게 퇴적되었습니다", "대륙 전역에서",
+            "협곡에서 채취한", "표본은", "공룡 뼈 안에", "연부 조직이", "보존되어 있습니다", "탄소 연대 측정",
+            "결과는", "많은 전문가에게", "예상 밖이었습니다", "창조과학", "진화론", "방사성 동위원소",
+            "반감기", "지층", "화석", "캄브리아기 폭발", "생명의 기원", "설계 논증"
+    };
+
+    private static final String[] KO_ENDINGS = {
+            "입니다.", "합니다.", "있습니다.", "했습니다.", "됩니다.", "없습니다.", "였습니다."
+    };
+
+    private BenchmarkCorpus() {
+    }
+
+    /**
+     * 원문(영어) 크롤링 페이지
+     */
+    public static List<String> sourcePages(String size) {
+        String dir = System.getProperty(CORPUS_DIR_PROPERTY);
+        if (dir != null && !dir.isBlank()) {
+            return loadDirectory(Paths.get(dir));
+        }
+        List<String> pages = new ArrayList<>();
+        for (int i = 0; i < PAGES_PER_SIZE; i++) {
+            pages.add(buildSourcePage(new Random(SEED + i), sections(size)));
+        }
+        return pages;
+    }
+
+    /**
+     * 번역 완료(한국어) 문서 HTML. 편집기 저장 형태처럼 문단마다 data-paragraph-index가 붙어 있습니다.
+     */
+    public static List<String> translatedPages(String size) {
+        List<String> pages = new ArrayList<>();
+        for (int i = 0; i < PAGES_PER_SIZE; i++) {
+            pages.add(buildTranslatedPage(new Random(SEED + 100 + i), sections(size)));
+        }
+        return pages;
+    }
+
+    /**
+     * DeepL 응답 한 건에 해당하는 한국어 문단 텍스트
+     */
+    public static List<String> translatedTexts(String size) {
+        Random random = new Random(SEED + 200);
+        int count = sections(size) * 6;
+        List<String> texts = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            texts.add(koreanParagraph(random, 2 + random.nextInt(6)));
+        }
+        return texts;
+    }
+
+    /**
+     * 용어집 항목 (KO 쪽 용어 일부는 번역 문서에 실제로 등장)
+     */
+    public static List<TermDictionary> glossaryTerms(int count) {
+        Random random = new Random(SEED + 300);
+        List<TermDictionary> terms = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            String target = i < KO_PHRASES.length
+                    ? KO_PHRASES[i].split(" ")[0]
+                    : KO_PHRASES[random.nextInt(KO_PHRASES.length)].split(" ")[0] + "용어" + i;
+            terms.add(TermDictionary.builder()
+                    .sourceTerm(EN_WORDS[random.nextInt(EN_WORDS.length)] + " term " + i)
+                    .targetTerm(target)
+                    .sourceLang("EN")
+                    .targetLang("KO")
+                    .build());
+        }
+        return terms;
+    }
+
+    private static int sections(String size) {
+        switch (size) {
+            case "small":
+                return 4;
+            case "medium":
+                return 25;
+            case "large":
+                return 100;
+            default:
+                throw new IllegalArgumentException("알 수 없는 코퍼스 크기: " + size);
+        }
+    }
+
+    private static List<String> loadDirectory(Path dir) {
+        try (Stream<Path> files = Files.list(dir)) {
+            List<String> pages = files
+                    .filter(path -> path.getFileName().toString().endsWith(".html"))
+                    .sorted()
+                    .map(BenchmarkCorpus::read)
+                    .collect(Collectors.toList());
+            if (pages.isEmpty()) {
+                throw new IllegalStateException("코퍼스 디렉터리에 .html 파일이 없습니다: " + dir);
+            }
+            return pages;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String read(Path path) {
+        try {
+            return new String(Files.readAllBytes(path), StandardCharsets.UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static String buildSourcePage(Random random, int sections) {
+        StringBuilder sb = new StringBuilder(sections * 4096);
+        sb.append("<!DOCTYPE html><html lang=\"en\"><head><meta charset=\"utf-8\">")
+                .append("<title>").append(sentence(random, 8)).append("</title>");
+        for (int i = 0; i < 12; i++) {
+            sb.append("<link rel=\"stylesheet\" href=\"/assets/css/style-").append(i).append(".css\">");
+        }
+        sb.append("<link rel=\"preload\" as=\"script\" href=\"/assets/js/vendor.js\">")
+                .append("<link rel=\"manifest\" href=\"/manifest.json\">")
+                .append("<style>body{font-family:serif}.nav li{display:inline-block}</style>")
+                .append("<script>window.dataLayer=window.dataLayer||[];function gtag(){dataLayer.push(arguments);}</script>")
+                .append("</head><body class=\"single-post\" onload=\"init()\">");
+
+        sb.append("<header id=\"masthead\"><div class=\"wrap\"><nav class=\"nav\"><ul>");
+        for (int i = 0; i < 30; i++) {
+            sb.append("<li class=\"menu-item\"><a href=\"/category/").append(i).append("\" onclick=\"track(")
+                    .append(i).append(")\">").append(capitalize(word(random))).append("</a></li>");
+        }
+        sb.append("</ul></nav></div></header>");
+
+        sb.append("<div id=\"content\"><div id=\"root\" data-reactroot=\"\"><article class=\"post\">")
+                .append("<h1 class=\"entry-title\">").append(sentence(random, 10)).append("</h1>")
+                .append("<div class=\"byline\"><span>By ").append(capitalize(word(random))).append(" ")
+                .append(capitalize(word(random))).append("</span> <span>2024-06-01</span></div>");
+
+        for (int s = 0; s < sections; s++) {
+            sb.append("<section><h2>").append(sentence(random, 6)).append("</h2>");
+            int paragraphs = 3 + random.nextInt(4);
+            for (int p = 0; p < paragraphs; p++) {
+                sb.append("<p>").append(sentence(random, 18))
+                        .append(" <a href=\"https://example.org/ref/").append(s).append('-').append(p).append("\">")
+                        .append(sentence(random, 3)).append("</a> ")
+                        .append("<strong>").append(sentence(random, 4)).append("</strong> ")
+                        .append(sentence(random, 22)).append(" <em>").append(sentence(random, 3)).append("</em>. ")
+                        .append(sentence(random, 14)).append("</p>");
+            }
+            if (s % 2 == 0) {
+                sb.append("<figure class=\"wp-block-image\"><img src=\"/wp-content/uploads/img-").append(s)
+                        .append(".jpg\" srcset=\"/img-").append(s).append("-300.jpg 300w\" alt=\"\" loading=\"lazy\">")
+                        .append("<figcaption>").append(sentence(random, 9)).append("</figcaption></figure>");
+            }
+            if (s % 3 == 0) {
+                sb.append("<blockquote><p>").append(sentence(random, 25)).append("</p></blockquote>");
+            }
+            if (s % 4 == 1) {
+                sb.append("<ul>");
+                for (int i = 0; i < 5; i++) {
+                    sb.append("<li>").append(sentence(random, 8)).append("</li>");
+                }
+                sb.append("</ul>");
+            }
+            if (s % 5 == 2) {
+                sb.append("<table><thead><tr><th>Sample</th><th>Layer</th><th>Result</th></tr></thead><tbody>");
+                for (int i = 0; i < 6; i++) {
+                    sb.append("<tr><td>").append(1000 + i).append("</td><td>").append(sentence(random, 2))
+                            .append("</td><td>").append(sentence(random, 5)).append("</td></tr>");
+                }
+                sb.append("</tbody></table>");
+            }
+            sb.append("<div class=\"ad-slot\"><div><span></span></div></div>");
+            sb.append("</section>");
+        }
+        sb.append("<p>Contact: editor@example.org</p><p>https://example.org/about</p></article>");
+
+        sb.append("</div><aside class=\"sidebar\">");
+        for (int i = 0; i < 10; i++) {
+            sb.append("<div class=\"widget\"><h3>").append(sentence(random, 3)).append("</h3><div><div><span>")
+                    .append(sentence(random, 12)).append("</span></div></div></div>");
+        }
+        sb.append("</aside></div><iframe src=\"https://ads.example.org/frame\"></iframe>")
+                .append("<footer><p>&copy; 2024 ").append(sentence(random, 4)).append("</p></footer>");
+        for (int i = 0; i < 8; i++) {
+            sb.append("<script src=\"/assets/js/chunk-").append(i).append(".js\"></script>");
+        }
+        sb.append("<noscript><img src=\"/pixel.gif\"></noscript></body></html>");
+        return sb.toString();
+    }
+
+    private static String buildTranslatedPage(Random random, int sections) {
+        StringBuilder sb = new StringBuilder(sections * 4096);
+        sb.append("<html><head></head><body><div class=\"translated-content\">");
+        int index = 0;
+        for (int s = 0; s < sections; s++) {
+            sb.append("<h2 data-paragraph-index=\"").append(index++).append("\">")
+                    .append(koreanParagraph(random, 1)).append("</h2>");
+            int paragraphs = 3 + random.nextInt(4);
+            for (int p = 0; p < paragraphs; p++) {
+                sb.append("<p data-paragraph-index=\"").append(index++).append("\">")
+                        .append(koreanParagraph(random, 3)).append(" <a href=\"https://example.org/ref/")
+                        .append(s).append("\">").append(koreanParagraph(random, 1)).append("</a> ")
+                        .append(koreanParagraph(random, 2)).append("</p>");
+            }
+            if (s % 2 == 0) {
+                sb.append("<figure data-paragraph-index=\"").append(index++).append("\"><img src=\"/img-").append(s)
+                        .append(".jpg\"><figcaption>").append(koreanParagraph(random, 1)).append("</figcaption></figure>");
+            }
+        }
+        sb.append("</div><script>console.log('x')</script></body></html>");
+        return sb.toString();
+    }
+
+    private static String koreanParagraph(Random random, int sentences) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < sentences; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            int words = 4 + random.nextInt(6);
+            for (int w = 0; w < words; w++) {
+                sb.append(KO_PHRASES[random.nextInt(KO_PHRASES.length)]).append(' ');
+            }
+            sb.append(KO_PHRASES[random.nextInt(KO_PHRASES.length)])
+                    .append(KO_ENDINGS[random.nextInt(KO_ENDINGS.length)]);
+        }
+        return sb.toString();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            sb.append(i == 0 ? capitalize(word(random)) : word(random));
+        }
+        return sb.toString();
+    }
+
+    private static String word(Random random) {
+        return EN_WORDS[random.nextInt(EN_WORDS.length)];
+    }
+
+    private static String capitalize(String word) {
+        return Character.toUpperCase(word.charAt(0)) + word.substring(1);
+    }
+}
@@ -0,0 +1,27 @@
+package com.project.Transflow.benchmark;
+
+import com.project.Transflow.translate.service.KoreanStylePostProcessor;
+import com.project.Transflow.translate.service.TranslationService;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * DeepL을 호출하지 않는 TranslationService. 입력을 그대로 돌려주므로 HTML 처리 비용만 측정됩니다.
+ */
+public class StubTranslationService extends TranslationService {
+
+    public StubTranslationService() {
+        super("http://localhost", null, new KoreanStylePostProcessor(), null);
+    }
+
+    @Override
+    public String translate(String text, String targetLang, String sourceLang, String glossaryId) {
+        return text;
+    }
+
+    @Override
+    public List<String> translateBatch(List<String> texts, String targetLang, String sourceLang, String glossaryId) {
+        return texts == null ? new ArrayList<>() : new ArrayList<>(texts);
+    }
+}
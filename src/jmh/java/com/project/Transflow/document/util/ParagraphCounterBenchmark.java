@@ -0,0 +1,52 @@
+package com.project.Transflow.document.util;
+
+import com.project.Transflow.benchmark.BenchmarkCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ParagraphCounter.countParagraphs
+ * - crawled: data-paragraph-index가 없는 원문 (블록 요소 텍스트 검사 경로)
+ * - indexed: 편집기에서 저장된 번역문 (data-paragraph-index 경로)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class ParagraphCounterBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private List<String> crawledPages;
+    private List<String> indexedPages;
+
+    @Setup
+    public void setUp() {
+        crawledPages = BenchmarkCorpus.sourcePages(size);
+        indexedPages = BenchmarkCorpus.translatedPages(size);
+    }
+
+    @Benchmark
+    public void countCrawled(Blackhole bh) {
+        for (String html : crawledPages) {
+            bh.consume(ParagraphCounter.countParagraphs(html));
+        }
+    }
+
+    @Benchmark
+    public void countIndexed(Blackhole bh) {
+        for (String html : indexedPages) {
+            bh.consume(ParagraphCounter.countParagraphs(html));
+        }
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.Transflow.publish.service;
+
+import com.project.Transflow.benchmark.BenchmarkCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * CreationKrPublishHtmlSanitizer.sanitize (게시 미리보기·업로드 직전 정리)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class CreationKrPublishHtmlSanitizerBenchmark {
+
+    private static final String BASE_URL = "https://example.org/2024/06/article";
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private CreationKrPublishHtmlSanitizer sanitizer;
+    private List<String> sourcePages;
+    private List<String> translatedPages;
+
+    @Setup
+    public void setUp() {
+        sanitizer = new CreationKrPublishHtmlSanitizer();
+        sourcePages = BenchmarkCorpus.sourcePages(size);
+        translatedPages = BenchmarkCorpus.translatedPages(size);
+    }
+
+    @Benchmark
+    public void sanitizeCrawledPage(Blackhole bh) {
+        for (String html : sourcePages) {
+            bh.consume(sanitizer.sanitize(html, BASE_URL));
+        }
+    }
+
+    @Benchmark
+    public void sanitizeTranslatedDocument(Blackhole bh) {
+        for (String html : translatedPages) {
+            bh.consume(sanitizer.sanitize(html, BASE_URL));
+        }
+    }
+}
@@ -0,0 +1,73 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.benchmark.BenchmarkCorpus;
+import com.project.Transflow.term.entity.TermDictionary;
+import com.project.Transflow.term.repository.TermDictionaryRepository;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * GlossaryHighlightService.annotate (용어집 조회는 메모리 스텁)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class GlossaryHighlightBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    @Param({"50", "500"})
+    public int terms;
+
+    private GlossaryHighlightService service;
+    private List<String> pages;
+
+    @Setup
+    public void setUp() {
+        service = new GlossaryHighlightService(stubRepository(BenchmarkCorpus.glossaryTerms(terms)));
+        pages = BenchmarkCorpus.translatedPages(size);
+    }
+
+    @Benchmark
+    public void annotate(Blackhole bh) {
+        for (String html : pages) {
+            bh.consume(service.annotate(html, "EN", "KO"));
+        }
+    }
+
+    /**
+     * annotate가 결과 목록을 정렬하므로 호출마다 새 목록을 돌려줍니다.
+     */
+    private static TermDictionaryRepository stubRepository(List<TermDictionary> glossary) {
+        return (TermDictionaryRepository) Proxy.newProxyInstance(
+                TermDictionaryRepository.class.getClassLoader(),
+                new Class<?>[]{TermDictionaryRepository.class},
+                (proxy, method, args) -> {
+                    switch (method.getName()) {
+                        case "findBySourceLangAndTargetLang":
+                            return new ArrayList<>(glossary);
+                        case "hashCode":
+                            return System.identityHashCode(proxy);
+                        case "equals":
+                            return proxy == args[0];
+                        case "toString":
+                            return "StubTermDictionaryRepository";
+                        default:
+                            throw new UnsupportedOperationException(method.getName());
+                    }
+                });
+    }
+}
@@ -0,0 +1,71 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.benchmark.BenchmarkCorpus;
+import com.project.Transflow.benchmark.StubTranslationService;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * HtmlTranslationService 텍스트 노드 수집·문맥 그룹화 (DeepL 호출 제외)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class HtmlTranslationBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private HtmlTranslationService service;
+    private List<String> pages;
+    private List<Document> documents;
+    private List<List<HtmlTranslationService.TranslatableText>> collected;
+
+    @Setup
+    public void setUp() {
+        service = new HtmlTranslationService(new StubTranslationService());
+        pages = BenchmarkCorpus.sourcePages(size);
+        documents = new ArrayList<>();
+        collected = new ArrayList<>();
+        for (String html : pages) {
+            Document doc = Jsoup.parse(html);
+            documents.add(doc);
+            collected.add(service.collectTranslatableTexts(doc));
+        }
+    }
+
+    @Benchmark
+    public void collectTranslatableTexts(Blackhole bh) {
+        for (Document doc : documents) {
+            bh.consume(service.collectTranslatableTexts(doc));
+        }
+    }
+
+    @Benchmark
+    public void groupByContext(Blackhole bh) {
+        for (List<HtmlTranslationService.TranslatableText> texts : collected) {
+            bh.consume(service.groupByContext(texts));
+        }
+    }
+
+    @Benchmark
+    public void parseCollectAndGroup(Blackhole bh) {
+        for (String html : pages) {
+            Document doc = Jsoup.parse(html);
+            bh.consume(service.groupByContext(service.collectTranslatableTexts(doc)));
+        }
+    }
+}
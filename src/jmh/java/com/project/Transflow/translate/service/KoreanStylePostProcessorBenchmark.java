@@ -0,0 +1,43 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.benchmark.BenchmarkCorpus;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * KoreanStylePostProcessor.toPlainStyle (문서 한 건 분량의 DeepL 응답 문단)
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class KoreanStylePostProcessorBenchmark {
+
+    @Param({"small", "medium", "large"})
+    public String size;
+
+    private KoreanStylePostProcessor processor;
+    private List<String> texts;
+
+    @Setup
+    public void setUp() {
+        processor = new KoreanStylePostProcessor();
+        texts = BenchmarkCorpus.translatedTexts(size);
+    }
+
+    @Benchmark
+    public void toPlainStyle(Blackhole bh) {
+        for (String text : texts) {
+            bh.consume(processor.toPlainStyle(text));
+        }
+    }
+}
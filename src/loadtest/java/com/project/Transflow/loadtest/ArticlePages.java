@@ -0,0 +1,122 @@
+package com.project.Transflow.loadtest;
+
+import java.util.Random;
+
+/**
+ * 크롤링 대상 기사 페이지와 번역 본문을 고정 시드로 생성 (같은 번호는 항상 같은 페이지)
+ */
+final class ArticlePages {
+
+    private static final String[] WORDS = {
+            "the", "evidence", "suggests", "that", "researchers", "observed", "a", "remarkable", "pattern",
+            "in", "fossil", "record", "published", "by", "journal", "of", "geology", "scientists", "argue",
+            "discovery", "challenges", "assumptions", "about", "rock", "layers", "sediment", "deposited",
+            "rapidly", "during", "catastrophic", "flood", "across", "continents", "samples", "canyon",
+            "soft", "tissue", "preserved", "within", "dinosaur", "bones", "carbon", "dating", "results"
+    };
+
+    private static final String[] KO_SENTENCES = {
+            "연구진은 화석 기록에서 놀라운 패턴을 관찰했습니다.",
+            "퇴적물은 격변적인 홍수 기간 동안 빠르게 퇴적되었습니다.",
+            "협곡에서 채취한 표본은 공룡 뼈 안에 연부 조직이 보존되어 있음을 보여줍니다.",
+            "탄소 연대 측정 결과는 많은 전문가에게 예상 밖이었습니다.",
+            "과학자들은 이 발견이 기존의 가정에 도전한다고 주장합니다."
+    };
+
+    static final int SECTIONS = 12;
+
+    private ArticlePages() {
+    }
+
+    static String title(int id) {
+        return sentence(new Random(id), 7);
+    }
+
+    /**
+     * 크롤링 대상 원문 페이지 (스크립트·내비게이션·사이드바 포함, 약 25KB)
+     */
+    static String sourcePage(int id) {
+        Random random = new Random(id);
+        StringBuilder sb = new StringBuilder(48 * 1024);
+        sb.append("<!DOCTYPE html><html lang=\"en\"><head><meta charset=\"utf-8\"><title>")
+                .append(title(id)).append("</title>")
+                .append("<style>body{font-family:serif;max-width:760px;margin:auto}</style>")
+                .append("<script>window.dataLayer=[];</script></head><body>")
+                .append("<header><nav><ul>");
+        for (int i = 0; i < 20; i++) {
+            sb.append("<li><a href=\"/category/").append(i).append("\">").append(word(random)).append("</a></li>");
+        }
+        sb.append("</ul></nav></header><main><article><h1>").append(title(id)).append("</h1>");
+        sb.append(articleBody(random));
+        sb.append("</article></main><aside>");
+        for (int i = 0; i < 6; i++) {
+            sb.append("<div class=\"widget\"><h3>").append(sentence(random, 3)).append("</h3><p>")
+                    .append(sentence(random, 15)).append("</p></div>");
+        }
+        sb.append("</aside><footer><p>&copy; 2024 example.org</p></footer>")
+                .append("<script src=\"/assets/app.js\"></script></body></html>");
+        return sb.toString();
+    }
+
+    /**
+     * 번역 화면에서 선택 영역을 바로 번역할 때 보내는 HTML 조각 (섹션 하나)
+     */
+    static String htmlFragment(Random random) {
+        StringBuilder sb = new StringBuilder(4096);
+        sb.append("<section><h2>").append(sentence(random, 6)).append("</h2>");
+        for (int p = 0; p < 3; p++) {
+            sb.append("<p>").append(sentence(random, 25)).append(" <strong>").append(sentence(random, 4))
+                    .append("</strong> ").append(sentence(random, 20)).append(".</p>");
+        }
+        sb.append("</section>");
+        return sb.toString();
+    }
+
+    /**
+     * 편집기가 임시 저장하는 번역 본문 (문단마다 data-paragraph-index)
+     */
+    static String translatedContent(Random random, int paragraphs) {
+        StringBuilder sb = new StringBuilder(paragraphs * 300);
+        for (int i = 0; i < paragraphs; i++) {
+            sb.append("<p data-paragraph-index=\"").append(i).append("\">");
+            for (int s = 0; s < 3; s++) {
+                sb.append(KO_SENTENCES[random.nextInt(KO_SENTENCES.length)]).append(' ');
+            }
+            sb.append("</p>");
+        }
+        return sb.toString();
+    }
+
+    private static String articleBody(Random random) {
+        StringBuilder sb = new StringBuilder(32 * 1024);
+        for (int s = 0; s < SECTIONS; s++) {
+            sb.append("<h2>").append(sentence(random, 6)).append("</h2>");
+            for (int p = 0; p < 4; p++) {
+                sb.append("<p>").append(sentence(random, 30)).append(" <a href=\"https://example.org/ref/")
+                        .append(s).append("\">").append(sentence(random, 3)).append("</a> ")
+                        .append(sentence(random, 20)).append(".</p>");
+            }
+            if (s % 3 == 0) {
+                sb.append("<figure><img src=\"/img/").append(s).append(".jpg\" alt=\"\"><figcaption>")
+                        .append(sentence(random, 8)).append("</figcaption></figure>");
+            }
+        }
+        return sb.toString();
+    }
+
+    private static String sentence(Random random, int words) {
+        StringBuilder sb = new StringBuilder(words * 8);
+        for (int i = 0; i < words; i++) {
+            if (i > 0) {
+                sb.append(' ');
+            }
+            String word = word(random);
+            sb.append(i == 0 ? Character.toUpperCase(word.charAt(0)) + word.substring(1) : word);
+        }
+        return sb.toString();
+    }
+
+    private static String word(Random random) {
+        return WORDS[random.nextInt(WORDS.length)];
+    }
+}
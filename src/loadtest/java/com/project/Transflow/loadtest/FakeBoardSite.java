@@ -0,0 +1,160 @@
+package com.project.Transflow.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * creation.kr 게시판 대역. CreationKrBrowserClient가 기대하는 흐름만 흉내 냅니다.
+ * - 글쓰기(?bmode=write): 로그인 쿠키가 없으면 /?mode=login&back_url=(base64 경로)로 이동
+ * - 로그인 폼(uid/passwd) 제출 시 세션 쿠키 발급 후 back_url로 이동
+ * - 글쓰기 폼: #post_subject, #post_body .fr-element(contenteditable), .fr-counter, button._save_post
+ * - 등록 시 ?bmode=view&idx=N 으로 이동
+ */
+class FakeBoardSite extends FakeHttpServer {
+
+    private static final String SESSION_COOKIE = "fake_board_session";
+
+    private final int latencyMs;
+    private final Map<String, Boolean> sessions = new ConcurrentHashMap<>();
+
+    final AtomicLong logins = new AtomicLong();
+    final AtomicLong posts = new AtomicLong();
+
+    FakeBoardSite(LoadTestConfig config) {
+        super("fake-board-site");
+        this.latencyMs = config.boardLatencyMs;
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange) throws IOException {
+        pause(latencyMs);
+        String method = exchange.getRequestMethod();
+        String path = exchange.getRequestURI().getPath();
+        Map<String, List<String>> query = parseForm(exchange.getRequestURI().getRawQuery());
+
+        if ("POST".equals(method) && "/login".equals(path)) {
+            handleLogin(exchange);
+        } else if ("POST".equals(method) && "/post".equals(path)) {
+            handlePost(exchange, query);
+        } else if ("login".equals(first(query, "mode"))) {
+            send(exchange, 200, "text/html", loginPage(first(query, "back_url")));
+        } else if ("write".equals(first(query, "bmode"))) {
+            if (!isLoggedIn(exchange)) {
+                String back = path + "?" + exchange.getRequestURI().getRawQuery();
+                String encoded = Base64.getEncoder().encodeToString(back.getBytes(StandardCharsets.UTF_8));
+                redirect(exchange, "/?mode=login&back_url=" + URLEncoder.encode(encoded, StandardCharsets.UTF_8));
+                return;
+            }
+            send(exchange, 200, "text/html", writePage(path, first(query, "board")));
+        } else if ("view".equals(first(query, "bmode"))) {
+            send(exchange, 200, "text/html", page("<h1>게시 완료</h1><p>글 번호 " + first(query, "idx") + "</p>",
+                    isLoggedIn(exchange)));
+        } else {
+            send(exchange, 200, "text/html", page("<h1>Fake board</h1>", isLoggedIn(exchange)));
+        }
+    }
+
+    private void handleLogin(HttpExchange exchange) throws IOException {
+        Map<String, List<String>> form = parseForm(readBody(exchange));
+        String uid = first(form, "uid");
+        String passwd = first(form, "passwd");
+        if (uid == null || uid.isBlank() || passwd == null || passwd.isBlank()) {
+            send(exchange, 200, "text/html", loginPage(first(form, "back_url"))
+                    .replace("<form", "<div class=\"alert-danger\">아이디 또는 비밀번호를 확인하세요.</div><form"));
+            return;
+        }
+        String sessionId = UUID.randomUUID().toString();
+        sessions.put(sessionId, Boolean.TRUE);
+        logins.incrementAndGet();
+        exchange.getResponseHeaders().add("Set-Cookie", SESSION_COOKIE + "=" + sessionId + "; Path=/");
+
+        String backUrl = first(form, "back_url");
+        String target = "/";
+        if (backUrl != null && !backUrl.isBlank()) {
+            target = new String(Base64.getDecoder().decode(backUrl), StandardCharsets.UTF_8);
+        }
+        redirect(exchange, target);
+    }
+
+    private void handlePost(HttpExchange exchange, Map<String, List<String>> query) throws IOException {
+        Map<String, List<String>> form = parseForm(readBody(exchange));
+        if (!isLoggedIn(exchange)) {
+            send(exchange, 403, "text/html", page("<div class=\"alert-danger\">로그인이 필요합니다.</div>", false));
+            return;
+        }
+        String subject = first(form, "subject");
+        String body = first(form, "body");
+        if (subject == null || subject.isBlank() || body == null || body.isBlank()) {
+            send(exchange, 200, "text/html", page("<div class=\"alert-danger\">제목과 내용을 입력하세요.</div>", true));
+            return;
+        }
+        long idx = posts.incrementAndGet();
+        String sitePath = first(query, "path");
+        redirect(exchange, (sitePath != null ? sitePath : "/") + "?board=" + first(query, "board")
+                + "&bmode=view&idx=" + idx);
+    }
+
+    private boolean isLoggedIn(HttpExchange exchange) {
+        List<String> cookies = exchange.getRequestHeaders().get("Cookie");
+        if (cookies == null) {
+            return false;
+        }
+        for (String header : cookies) {
+            for (String cookie : header.split(";")) {
+                String trimmed = cookie.trim();
+                if (trimmed.startsWith(SESSION_COOKIE + "=")
+                        && sessions.containsKey(trimmed.substring(SESSION_COOKIE.length() + 1))) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private static String loginPage(String backUrl) {
+        return page("<form method=\"post\" action=\"/login\">"
+                + "<input type=\"email\" name=\"uid\" title=\"이메일\">"
+                + "<input type=\"password\" name=\"passwd\" title=\"비밀번호\">"
+                + "<input type=\"hidden\" name=\"back_url\" value=\"" + (backUrl != null ? backUrl : "") + "\">"
+                + "<button type=\"submit\" class=\"btn btn-primary btn-block\">로그인</button>"
+                + "</form>", false);
+    }
+
+    private static String writePage(String sitePath, String board) {
+        String action = "/post?path=" + URLEncoder.encode(sitePath, StandardCharsets.UTF_8)
+                + "&board=" + URLEncoder.encode(board != null ? board : "", StandardCharsets.UTF_8);
+        return page("<form id=\"writeForm\" method=\"post\" action=\"" + action + "\">"
+                + "<input id=\"post_subject\" name=\"subject\">"
+                + "<div id=\"post_body\"><div class=\"fr-box\"><div class=\"fr-wrapper show-placeholder\">"
+                + "<div class=\"fr-element fr-view\" contenteditable=\"true\"></div></div>"
+                + "<span class=\"fr-counter\">Characters : 0</span></div></div>"
+                + "<input type=\"hidden\" name=\"body\">"
+                + "<button type=\"button\" class=\"_save_post\">작성</button>"
+                + "</form>"
+                + "<script>"
+                + "const el = document.querySelector('#post_body .fr-element');"
+                + "const counter = document.querySelector('.fr-counter');"
+                + "el.addEventListener('input', () => { counter.textContent = 'Characters : ' + el.textContent.length; });"
+                + "document.querySelector('._save_post').addEventListener('click', () => {"
+                + "  const form = document.getElementById('writeForm');"
+                + "  form.body.value = el.innerHTML;"
+                + "  form.submit();"
+                + "});"
+                + "</script>", true);
+    }
+
+    private static String page(String content, boolean loggedIn) {
+        return "<!DOCTYPE html><html><head><meta charset=\"utf-8\"><title>Fake board</title></head><body>"
+                + (loggedIn ? "<a href=\"/logout\">로그아웃</a>" : "")
+                + content + "</body></html>";
+    }
+}
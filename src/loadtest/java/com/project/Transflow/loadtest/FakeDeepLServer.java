@@ -0,0 +1,100 @@
+package com.project.Transflow.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * DeepL /v2/translate 대역. 지연(latency ± jitter)과 429 비율을 설정할 수 있고,
+ * 입력 문장을 한국어 평서문 형태로 감싸 돌려주므로 후처리(KoreanStylePostProcessor)도 함께 실행됩니다.
+ */
+class FakeDeepLServer extends FakeHttpServer {
+
+    private final int latencyMs;
+    private final int jitterMs;
+    private final double rateLimitRatio;
+
+    final AtomicLong requests = new AtomicLong();
+    final AtomicLong rateLimited = new AtomicLong();
+    final AtomicLong characters = new AtomicLong();
+
+    FakeDeepLServer(LoadTestConfig config) {
+        super("fake-deepl");
+        this.latencyMs = config.deeplLatencyMs;
+        this.jitterMs = config.deeplJitterMs;
+        this.rateLimitRatio = config.deeplRateLimitRatio;
+    }
+
+    String translateUrl() {
+        return baseUrl() + "/v2/translate";
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange) throws IOException {
+        String body = readBody(exchange);
+        requests.incrementAndGet();
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        pause(latencyMs + (jitterMs > 0 ? random.nextInt(jitterMs + 1) : 0));
+
+        if (!"POST".equals(exchange.getRequestMethod()) || !exchange.getRequestURI().getPath().endsWith("/translate")) {
+            send(exchange, 404, "application/json", "{\"message\":\"Not found\"}");
+            return;
+        }
+        if (random.nextDouble() < rateLimitRatio) {
+            rateLimited.incrementAndGet();
+            send(exchange, 429, "application/json", "{\"message\":\"Too many requests\"}");
+            return;
+        }
+
+        Map<String, List<String>> form = parseForm(body);
+        List<String> texts = form.getOrDefault("text", List.of());
+        StringBuilder json = new StringBuilder("{\"translations\":[");
+        for (int i = 0; i < texts.size(); i++) {
+            String text = texts.get(i);
+            characters.addAndGet(text.length());
+            if (i > 0) {
+                json.append(',');
+            }
+            json.append("{\"detected_source_language\":\"EN\",\"text\":\"")
+                    .append(escapeJson("번역문: " + text + " 입니다."))
+                    .append("\"}");
+        }
+        json.append("]}");
+        send(exchange, 200, "application/json", json.toString());
+    }
+
+    private static String escapeJson(String value) {
+        StringBuilder sb = new StringBuilder(value.length() + 16);
+        for (int i = 0; i < value.length(); i++) {
+            char c = value.charAt(i);
+            switch (c) {
+                case '"':
+                    sb.append("\\\"");
+                    break;
+                case '\\':
+                    sb.append("\\\\");
+                    break;
+                case '\n':
+                    sb.append("\\n");
+                    break;
+                case '\r':
+                    sb.append("\\r");
+                    break;
+                case '\t':
+                    sb.append("\\t");
+                    break;
+                default:
+                    if (c < 0x20) {
+                        sb.append(String.format("\\u%04x", (int) c));
+                    } else {
+                        sb.append(c);
+                    }
+            }
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,94 @@
+package com.project.Transflow.loadtest;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 요청 종류별 응답 시간 기록과 p50/p95/p99·처리량 보고
+ */
+class LatencyRecorder {
+
+    private final Map<String, Series> series = new ConcurrentHashMap<>();
+    private volatile boolean recording;
+
+    void startRecording() {
+        series.clear();
+        recording = true;
+    }
+
+    void stopRecording() {
+        recording = false;
+    }
+
+    void record(String operation, long elapsedNanos, boolean success) {
+        if (!recording) {
+            return;
+        }
+        Series target = series.computeIfAbsent(operation, key -> new Series());
+        target.latencies.add(elapsedNanos);
+        if (!success) {
+            target.errors.incrementAndGet();
+        }
+    }
+
+    String report(double elapsedSeconds) {
+        StringBuilder sb = new StringBuilder();
+        sb.append(String.format(Locale.ROOT, "%-28s %8s %7s %9s %9s %9s %9s %9s%n",
+                "operation", "count", "errors", "req/s", "p50(ms)", "p95(ms)", "p99(ms)", "max(ms)"));
+
+        List<Long> all = new ArrayList<>();
+        long totalErrors = 0;
+        for (Map.Entry<String, Series> entry : new TreeMap<>(series).entrySet()) {
+            long[] sorted = entry.getValue().sorted();
+            long errors = entry.getValue().errors.get();
+            totalErrors += errors;
+            for (long value : sorted) {
+                all.add(value);
+            }
+            appendRow(sb, entry.getKey(), sorted, errors, elapsedSeconds);
+        }
+        long[] total = all.stream().mapToLong(Long::longValue).sorted().toArray();
+        appendRow(sb, "TOTAL", total, totalErrors, elapsedSeconds);
+        return sb.toString();
+    }
+
+    private static void appendRow(StringBuilder sb, String name, long[] sorted, long errors, double elapsedSeconds) {
+        sb.append(String.format(Locale.ROOT, "%-28s %8d %7d %9.1f %9.1f %9.1f %9.1f %9.1f%n",
+                name, sorted.length, errors, sorted.length / elapsedSeconds,
+                millis(percentile(sorted, 50)), millis(percentile(sorted, 95)),
+                millis(percentile(sorted, 99)), millis(sorted.length == 0 ? 0 : sorted[sorted.length - 1])));
+    }
+
+    /**
+     * nearest-rank 백분위수
+     */
+    private static long percentile(long[] sorted, double percentile) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        int rank = (int) Math.ceil(percentile / 100.0 * sorted.length);
+        return sorted[Math.max(0, Math.min(sorted.length - 1, rank - 1))];
+    }
+
+    private static double millis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+
+    private static final class Series {
+        private final ConcurrentLinkedQueue<Long> latencies = new ConcurrentLinkedQueue<>();
+        private final AtomicLong errors = new AtomicLong();
+
+        private long[] sorted() {
+            long[] values = latencies.stream().mapToLong(Long::longValue).toArray();
+            Arrays.sort(values);
+            return values;
+        }
+    }
+}
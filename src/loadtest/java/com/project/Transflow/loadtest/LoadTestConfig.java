@@ -0,0 +1,62 @@
+package com.project.Transflow.loadtest;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * 부하 테스트 설정. 모든 값은 -Ploadtest.xxx=값 (Gradle) 또는 -Dloadtest.xxx=값 으로 바꿀 수 있습니다.
+ */
+public class LoadTestConfig {
+
+    /** 동시 가상 사용자 수 (각자 요청을 끝내면 바로 다음 요청을 보냄) */
+    final int users = intProperty("users", 20);
+    final int warmupSeconds = intProperty("warmupSeconds", 10);
+    final int durationSeconds = intProperty("durationSeconds", 60);
+    /** 사용자별 요청 사이 대기 (0이면 최대 부하) */
+    final int thinkTimeMs = intProperty("thinkTimeMs", 0);
+    /** 시드 문서 수 (절반은 번역 완료 → 검토 대기 리뷰 생성) */
+    final int documents = intProperty("documents", 60);
+
+    final int deeplLatencyMs = intProperty("deeplLatencyMs", 150);
+    final int deeplJitterMs = intProperty("deeplJitterMs", 100);
+    /** DeepL 가짜 서버가 429를 돌려줄 확률 (0.0 ~ 1.0) */
+    final double deeplRateLimitRatio = doubleProperty("deeplRateLimitRatio", 0.05);
+
+    final int pageLatencyMs = intProperty("pageLatencyMs", 50);
+    final int boardLatencyMs = intProperty("boardLatencyMs", 100);
+
+    /** 게시 대기열이 비기를 기다리는 최대 시간 */
+    final int publishDrainSeconds = intProperty("publishDrainSeconds", 60);
+
+    /**
+     * 요청 종류별 가중치. crawl·publish는 Playwright(Chromium)를 사용하므로 브라우저가 없는 환경에서는 0으로 둡니다.
+     */
+    final Map<String, Integer> mix = new LinkedHashMap<>();
+
+    LoadTestConfig() {
+        mix.put(Workload.TRANSLATE, intProperty("mix.translate", 8));
+        mix.put(Workload.CRAWL, intProperty("mix.crawl", 2));
+        mix.put(Workload.LIST, intProperty("mix.list", 40));
+        mix.put(Workload.AUTOSAVE, intProperty("mix.autosave", 35));
+        mix.put(Workload.REVIEW, intProperty("mix.review", 13));
+        mix.put(Workload.PUBLISH, intProperty("mix.publish", 2));
+    }
+
+    @Override
+    public String toString() {
+        return "users=" + users + ", warmup=" + warmupSeconds + "s, duration=" + durationSeconds + "s"
+                + ", thinkTime=" + thinkTimeMs + "ms, documents=" + documents
+                + ", deepl=" + deeplLatencyMs + "±" + deeplJitterMs + "ms (429 " + deeplRateLimitRatio + ")"
+                + ", mix=" + mix;
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : Integer.parseInt(value.trim());
+    }
+
+    private static double doubleProperty(String name, double defaultValue) {
+        String value = System.getProperty("loadtest." + name);
+        return value == null || value.isBlank() ? defaultValue : Double.parseDouble(value.trim());
+    }
+}
@@ -0,0 +1,224 @@
+package com.project.Transflow.loadtest;
+
+import com.project.Transflow.TransflowApplication;
+import com.project.Transflow.auth.util.JwtUtil;
+import com.project.Transflow.publish.config.CreationKrProperties;
+import com.project.Transflow.settings.dto.ApiKeyRequest;
+import com.project.Transflow.settings.dto.CreationKrCredentialRequest;
+import com.project.Transflow.settings.service.ApiKeyService;
+import com.project.Transflow.user.entity.User;
+import com.project.Transflow.user.repository.UserRepository;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TimeZone;
+import java.util.TreeMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 로컬 부하 테스트 진입점 (./gradlew loadTest).
+ * H2 메모리 DB로 애플리케이션을 띄우고 DeepL·크롤링 대상·creation.kr을 로컬 대역으로 바꾼 뒤,
+ * 가상 사용자들이 번역·목록·임시 저장·리뷰·게시 요청을 섞어 보내고 요청별 p50/p95/p99와 처리량을 출력합니다.
+ */
+public class LoadTestMain {
+
+    private static final String REPORT_FILE = System.getProperty("loadtest.reportFile",
+            "build/reports/loadtest/summary.txt");
+
+    public static void main(String[] args) throws Exception {
+        TimeZone.setDefault(TimeZone.getTimeZone("Asia/Seoul"));
+        LoadTestConfig config = new LoadTestConfig();
+        System.out.println("[loadtest] " + config);
+
+        FakeDeepLServer deepL = new FakeDeepLServer(config);
+        StaticSiteServer staticSite = new StaticSiteServer(config);
+        FakeBoardSite boardSite = new FakeBoardSite(config);
+        deepL.start();
+        staticSite.start();
+        boardSite.start();
+
+        ConfigurableApplicationContext context = null;
+        int exitCode = 0;
+        try {
+            context = new SpringApplicationBuilder(TransflowApplication.class)
+                    .properties(applicationProperties(deepL, boardSite))
+                    .run(args);
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            String appUrl = "http://127.0.0.1:" + port;
+            System.out.println("[loadtest] application started at " + appUrl);
+
+            LatencyRecorder recorder = new LatencyRecorder();
+            Workload workload = prepareWorkload(context, config, appUrl, staticSite, recorder);
+            workload.seed();
+            System.out.println("[loadtest] seeded " + config.documents + " documents");
+
+            long postsBefore = boardSite.posts.get();
+            run(workload, recorder, config);
+            long runPosts = awaitPublishDrain(boardSite, config) - postsBefore;
+
+            String report = buildReport(config, recorder, deepL, staticSite, boardSite, runPosts);
+            System.out.println(report);
+            writeReport(report);
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            if (context != null) {
+                context.close();
+            }
+            deepL.stop();
+            staticSite.stop();
+            boardSite.stop();
+        }
+        System.exit(exitCode);
+    }
+
+    private static Map<String, Object> applicationProperties(FakeDeepLServer deepL, FakeBoardSite boardSite) {
+        Map<String, Object> properties = new HashMap<>();
+        properties.put("server.port", 0);
+        properties.put("spring.datasource.url",
+                "jdbc:h2:mem:loadtest;MODE=MariaDB;DATABASE_TO_LOWER=TRUE;NON_KEYWORDS=USER,VALUE;DB_CLOSE_DELAY=-1");
+        properties.put("spring.datasource.driver-class-name", "org.h2.Driver");
+        properties.put("spring.datasource.username", "sa");
+        properties.put("spring.datasource.password", "");
+        properties.put("spring.jpa.hibernate.ddl-auto", "create-drop");
+        properties.put("spring.jpa.show-sql", false);
+        properties.put("spring.jpa.properties.hibernate.dialect", "org.hibernate.dialect.H2Dialect");
+        properties.put("spring.jpa.properties.hibernate.format_sql", false);
+        // 알림 메일은 닫힌 포트로 보내 즉시 실패 → 아웃박스 재시도 대기 (발송 부하는 측정 대상 아님)
+        properties.put("spring.mail.host", "127.0.0.1");
+        properties.put("spring.mail.port", 1);
+        properties.put("encryption.secret.key", "loadtest-encryption-secret-key-32");
+        properties.put("deepl.api.url", deepL.translateUrl());
+        properties.put("creation-kr.base-url", boardSite.baseUrl());
+        properties.put("creation-kr.timeout-ms", 30000);
+        properties.put("logging.level.com.project.Transflow", "WARN");
+        properties.put("logging.level.org.springframework.security", "WARN");
+        properties.put("logging.level.org.hibernate", "WARN");
+        return properties;
+    }
+
+    /**
+     * 관리자 1명·번역봉사자 여러 명과 DeepL 키, creation.kr 계정을 등록합니다.
+     */
+    private static Workload prepareWorkload(ConfigurableApplicationContext context, LoadTestConfig config,
+                                            String appUrl, StaticSiteServer staticSite, LatencyRecorder recorder) {
+        UserRepository userRepository = context.getBean(UserRepository.class);
+        JwtUtil jwtUtil = context.getBean(JwtUtil.class);
+        ApiKeyService apiKeyService = context.getBean(ApiKeyService.class);
+        CreationKrProperties creationKrProperties = context.getBean(CreationKrProperties.class);
+
+        User admin = userRepository.save(User.builder()
+                .email("loadtest-admin@example.org")
+                .name("loadtest admin")
+                .roleLevel(1)
+                .build());
+        String adminToken = jwtUtil.generateToken(admin.getEmail(), admin.getId(), admin.getRoleLevel());
+
+        List<String> volunteerTokens = new ArrayList<>();
+        int volunteers = Math.max(1, config.users);
+        for (int i = 0; i < volunteers; i++) {
+            User volunteer = userRepository.save(User.builder()
+                    .email("loadtest-volunteer-" + i + "@example.org")
+                    .name("volunteer " + i)
+                    .roleLevel(3)
+                    .build());
+            volunteerTokens.add(jwtUtil.generateToken(volunteer.getEmail(), volunteer.getId(), volunteer.getRoleLevel()));
+        }
+
+        apiKeyService.saveDeepLApiKey(new ApiKeyRequest("loadtest-deepl-key:fx"), admin.getId());
+        apiKeyService.saveCreationKrCredentials(
+                new CreationKrCredentialRequest("loadtest-publisher@example.org", "loadtest-password"), admin.getId());
+
+        Map<String, String> publishTarget = new LinkedHashMap<>();
+        new TreeMap<>(creationKrProperties.getBoardMappings()).entrySet().stream().findFirst().ifPresent(entry -> {
+            publishTarget.put("sitePath", entry.getKey());
+            publishTarget.put("boardId", entry.getValue());
+        });
+
+        return new Workload(config, appUrl, staticSite, recorder, adminToken, volunteerTokens, publishTarget);
+    }
+
+    private static void run(Workload workload, LatencyRecorder recorder, LoadTestConfig config)
+            throws InterruptedException {
+        ExecutorService users = Executors.newFixedThreadPool(config.users, runnable -> {
+            Thread thread = new Thread(runnable, "loadtest-user");
+            thread.setDaemon(true);
+            return thread;
+        });
+        long warmupEnd = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.warmupSeconds);
+        long end = warmupEnd + TimeUnit.SECONDS.toNanos(config.durationSeconds);
+
+        for (int i = 0; i < config.users; i++) {
+            users.execute(() -> {
+                while (System.nanoTime() < end && !Thread.currentThread().isInterrupted()) {
+                    workload.runOne();
+                    if (config.thinkTimeMs > 0) {
+                        FakeHttpServer.pause(config.thinkTimeMs);
+                    }
+                }
+            });
+        }
+
+        System.out.println("[loadtest] warming up for " + config.warmupSeconds + "s");
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, warmupEnd - System.nanoTime()));
+        recorder.startRecording();
+        System.out.println("[loadtest] measuring for " + config.durationSeconds + "s with " + config.users + " users");
+        TimeUnit.NANOSECONDS.sleep(Math.max(0, end - System.nanoTime()));
+        recorder.stopRecording();
+
+        users.shutdown();
+        if (!users.awaitTermination(5, TimeUnit.MINUTES)) {
+            users.shutdownNow();
+        }
+    }
+
+    /**
+     * 게시판 대역이 받은 글 수가 6초간 늘지 않거나 제한 시간이 지날 때까지 기다립니다 (게시 대기열 소진 대기).
+     */
+    private static long awaitPublishDrain(FakeBoardSite boardSite, LoadTestConfig config) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(config.publishDrainSeconds);
+        long lastCount = -1;
+        int stableRounds = 0;
+        while (System.nanoTime() < deadline && stableRounds < 3) {
+            long count = boardSite.posts.get();
+            stableRounds = count == lastCount ? stableRounds + 1 : 0;
+            lastCount = count;
+            TimeUnit.SECONDS.sleep(2);
+        }
+        return boardSite.posts.get();
+    }
+
+    private static String buildReport(LoadTestConfig config, LatencyRecorder recorder, FakeDeepLServer deepL,
+                                      StaticSiteServer staticSite, FakeBoardSite boardSite, long posts) {
+        return "[loadtest] " + config + System.lineSeparator()
+                + recorder.report(config.durationSeconds)
+                + "fake DeepL: requests=" + deepL.requests.get() + ", 429=" + deepL.rateLimited.get()
+                + ", characters=" + deepL.characters.get() + System.lineSeparator()
+                + "static site: requests=" + staticSite.requests.get() + System.lineSeparator()
+                + "fake board: logins=" + boardSite.logins.get() + ", posts(during run)=" + posts
+                + System.lineSeparator();
+    }
+
+    private static void writeReport(String report) throws IOException {
+        Path path = Paths.get(REPORT_FILE);
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        Files.write(path, report.getBytes(StandardCharsets.UTF_8));
+        System.out.println("[loadtest] report written to " + path.toAbsolutePath());
+    }
+}
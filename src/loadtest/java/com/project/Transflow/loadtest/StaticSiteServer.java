@@ -0,0 +1,43 @@
+package com.project.Transflow.loadtest;
+
+import com.sun.net.httpserver.HttpExchange;
+
+import java.io.IOException;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 크롤링 대상 정적 사이트. /articles/{n}.html 로 ArticlePages.sourcePage(n)을 돌려줍니다.
+ */
+class StaticSiteServer extends FakeHttpServer {
+
+    private final int latencyMs;
+
+    final AtomicLong requests = new AtomicLong();
+
+    StaticSiteServer(LoadTestConfig config) {
+        super("fake-static-site");
+        this.latencyMs = config.pageLatencyMs;
+    }
+
+    String articleUrl(int id) {
+        return baseUrl() + "/articles/" + id + ".html";
+    }
+
+    @Override
+    protected void handle(HttpExchange exchange) throws IOException {
+        requests.incrementAndGet();
+        pause(latencyMs);
+        String path = exchange.getRequestURI().getPath();
+        if (path.startsWith("/articles/") && path.endsWith(".html")) {
+            try {
+                int id = Integer.parseInt(path.substring("/articles/".length(), path.length() - ".html".length()));
+                send(exchange, 200, "text/html", ArticlePages.sourcePage(id));
+                return;
+            } catch (NumberFormatException ignored) {
+                // 아래 404
+            }
+        }
+        // 스타일시트·이미지·스크립트 등 부가 리소스
+        send(exchange, 404, "text/plain", "");
+    }
+}
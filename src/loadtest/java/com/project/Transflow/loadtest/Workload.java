@@ -0,0 +1,310 @@
+package com.project.Transflow.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 가상 사용자가 보내는 요청 묶음. 실제 화면 흐름과 같은 REST API만 사용합니다.
+ * - translate: 선택 영역 HTML 번역 (DeepL)
+ * - crawl: URL 크롤링 + 번역 (Playwright + DeepL)
+ * - list: 문서 목록·대시보드
+ * - autosave: 번역 임시 저장
+ * - review: 리뷰 목록·상세·게시 미리보기
+ * - publish: 번역 완료 → 승인 → 게시 대기열 등록 (게시판 대역으로 발송)
+ */
+class Workload {
+
+    static final String TRANSLATE = "translate";
+    static final String CRAWL = "crawl";
+    static final String LIST = "list";
+    static final String AUTOSAVE = "autosave";
+    static final String REVIEW = "review";
+    static final String PUBLISH = "publish";
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofMinutes(5);
+
+    private final LoadTestConfig config;
+    private final String appUrl;
+    private final StaticSiteServer staticSite;
+    private final LatencyRecorder recorder;
+    private final String adminToken;
+    private final List<String> volunteerTokens;
+    private final Map<String, String> publishTarget;
+
+    private final HttpClient client = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(10))
+            .build();
+    private final ObjectMapper objectMapper = new ObjectMapper();
+
+    /** 번역 진행 중(임시 저장 대상) 문서 */
+    private final List<Long> inProgressDocuments = new CopyOnWriteArrayList<>();
+    private final List<Long> reviewIds = new CopyOnWriteArrayList<>();
+    private final ConcurrentLinkedQueue<Long> pendingReviews = new ConcurrentLinkedQueue<>();
+
+    private final List<String> operations = new ArrayList<>();
+    private final List<Integer> cumulativeWeights = new ArrayList<>();
+    private int totalWeight;
+
+    Workload(LoadTestConfig config, String appUrl, StaticSiteServer staticSite, LatencyRecorder recorder,
+             String adminToken, List<String> volunteerTokens, Map<String, String> publishTarget) {
+        this.config = config;
+        this.appUrl = appUrl;
+        this.staticSite = staticSite;
+        this.recorder = recorder;
+        this.adminToken = adminToken;
+        this.volunteerTokens = volunteerTokens;
+        this.publishTarget = publishTarget;
+        for (Map.Entry<String, Integer> entry : config.mix.entrySet()) {
+            if (entry.getValue() > 0) {
+                totalWeight += entry.getValue();
+                operations.add(entry.getKey());
+                cumulativeWeights.add(totalWeight);
+            }
+        }
+        if (totalWeight == 0) {
+            throw new IllegalArgumentException("요청 가중치(loadtest.mix.*)가 모두 0입니다.");
+        }
+    }
+
+    /**
+     * 문서를 만들고 한 번씩 임시 저장한 뒤, 절반은 번역 완료 처리해 검토 대기 리뷰를 만듭니다.
+     */
+    void seed() throws IOException, InterruptedException {
+        Random random = new Random(7);
+        for (int i = 0; i < config.documents; i++) {
+            Map<String, Object> request = new LinkedHashMap<>();
+            request.put("title", ArticlePages.title(i));
+            request.put("originalUrl", staticSite.articleUrl(i));
+            request.put("sourceLang", "EN");
+            request.put("targetLang", "KO");
+            request.put("estimatedLength", 30000);
+            JsonNode created = expectJson(send("seed.document", "POST", "/api/documents", adminToken, request));
+            long documentId = created.path("id").asLong();
+
+            expectJson(send("seed.autosave", "PUT", "/api/documents/" + documentId + "/translation",
+                    adminToken, autosaveBody(random)));
+            if (i % 2 == 0) {
+                inProgressDocuments.add(documentId);
+            } else {
+                completeAndQueueReview(documentId, random);
+            }
+        }
+    }
+
+    void runOne() {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String operation = pick(random.nextInt(totalWeight));
+        try {
+            switch (operation) {
+                case TRANSLATE:
+                    translate(random);
+                    break;
+                case CRAWL:
+                    crawl(random);
+                    break;
+                case LIST:
+                    list(random);
+                    break;
+                case AUTOSAVE:
+                    autosave(random);
+                    break;
+                case REVIEW:
+                    review(random);
+                    break;
+                case PUBLISH:
+                    publish(random);
+                    break;
+                default:
+                    throw new IllegalStateException("알 수 없는 요청 종류: " + operation);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } catch (Exception e) {
+            // 응답 시간과 오류는 send()에서 이미 기록됨
+        }
+    }
+
+    private void translate(Random random) throws IOException, InterruptedException {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("html", ArticlePages.htmlFragment(random));
+        request.put("targetLang", "KO");
+        request.put("sourceLang", "EN");
+        send("translate.html", "POST", "/api/translate/html", volunteerToken(random), request);
+    }
+
+    private void crawl(Random random) throws IOException, InterruptedException {
+        Map<String, Object> request = new LinkedHashMap<>();
+        request.put("url", staticSite.articleUrl(random.nextInt(Math.max(1, config.documents))));
+        request.put("targetLang", "KO");
+        request.put("sourceLang", "EN");
+        send("translate.webpage", "POST", "/api/translate/webpage", volunteerToken(random), request);
+    }
+
+    private void list(Random random) throws IOException, InterruptedException {
+        switch (random.nextInt(3)) {
+            case 0:
+                send("list.documents", "GET", "/api/documents?excludePendingTranslation=true",
+                        volunteerToken(random), null);
+                break;
+            case 1:
+                send("list.sources", "GET", "/api/documents?sourcesOnly=true", volunteerToken(random), null);
+                break;
+            default:
+                send("list.dashboard", "GET", "/api/documents/dashboard-summary", volunteerToken(random), null);
+        }
+    }
+
+    private void autosave(Random random) throws IOException, InterruptedException {
+        Long documentId = randomElement(inProgressDocuments, random);
+        if (documentId == null) {
+            return;
+        }
+        send("autosave", "PUT", "/api/documents/" + documentId + "/translation",
+                volunteerToken(random), autosaveBody(random));
+    }
+
+    private void review(Random random) throws IOException, InterruptedException {
+        Long reviewId = randomElement(reviewIds, random);
+        int choice = reviewId == null ? 0 : random.nextInt(3);
+        switch (choice) {
+            case 0:
+                send("review.list", "GET", "/api/reviews?status=PENDING", adminToken, null);
+                break;
+            case 1:
+                send("review.get", "GET", "/api/reviews/" + reviewId, adminToken, null);
+                break;
+            default:
+                send("review.preview", "GET", "/api/reviews/" + reviewId + "/publish-preview", adminToken, null);
+        }
+    }
+
+    /**
+     * 검토 대기 리뷰가 없으면 진행 중 문서 하나를 번역 완료 처리해 새 리뷰를 만든 뒤 승인·게시합니다.
+     */
+    private void publish(Random random) throws IOException, InterruptedException {
+        Long reviewId = pendingReviews.poll();
+        if (reviewId == null) {
+            Long documentId = randomElement(inProgressDocuments, random);
+            if (documentId == null || !inProgressDocuments.remove(documentId)) {
+                return;
+            }
+            completeAndQueueReview(documentId, random);
+            reviewId = pendingReviews.poll();
+            if (reviewId == null) {
+                return;
+            }
+        }
+        HttpResponse<String> approved = send("publish.approve", "POST", "/api/reviews/" + reviewId + "/approve",
+                adminToken, null);
+        if (approved.statusCode() / 100 == 2) {
+            send("publish.enqueue", "POST", "/api/reviews/" + reviewId + "/publish", adminToken, publishTarget);
+        }
+    }
+
+    private void completeAndQueueReview(long documentId, Random random) throws IOException, InterruptedException {
+        HttpResponse<String> completed = send("complete", "POST", "/api/documents/" + documentId + "/complete",
+                volunteerToken(random), autosaveBody(random));
+        if (completed.statusCode() / 100 != 2) {
+            return;
+        }
+        JsonNode reviews = expectJson(send("review.byDocument", "GET", "/api/reviews?documentId=" + documentId,
+                adminToken, null));
+        for (JsonNode review : reviews) {
+            long reviewId = review.path("id").asLong();
+            if (reviewId > 0 && !reviewIds.contains(reviewId)) {
+                reviewIds.add(reviewId);
+                if ("PENDING".equals(review.path("status").asText())) {
+                    pendingReviews.add(reviewId);
+                }
+            }
+        }
+    }
+
+    private Map<String, Object> autosaveBody(Random random) {
+        int paragraphs = 20 + random.nextInt(40);
+        List<Integer> completed = new ArrayList<>();
+        for (int i = 0; i < paragraphs / 2; i++) {
+            completed.add(i);
+        }
+        Map<String, Object> body = new LinkedHashMap<>();
+        body.put("content", ArticlePages.translatedContent(random, paragraphs));
+        body.put("completedParagraphs", completed);
+        return body;
+    }
+
+    private HttpResponse<String> send(String name, String method, String path, String token, Object body)
+            throws IOException, InterruptedException {
+        HttpRequest.Builder builder = HttpRequest.newBuilder(URI.create(appUrl + path))
+                .timeout(REQUEST_TIMEOUT)
+                .header("Accept", "application/json");
+        if (token != null) {
+            builder.header("Authorization", "Bearer " + token);
+        }
+        if (body != null) {
+            builder.header("Content-Type", "application/json")
+                    .method(method, HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+        } else if ("GET".equals(method)) {
+            builder.GET();
+        } else {
+            builder.method(method, HttpRequest.BodyPublishers.noBody());
+        }
+
+        long started = System.nanoTime();
+        try {
+            HttpResponse<String> response = client.send(builder.build(), HttpResponse.BodyHandlers.ofString());
+            recorder.record(name, System.nanoTime() - started, response.statusCode() / 100 == 2);
+            return response;
+        } catch (IOException e) {
+            recorder.record(name, System.nanoTime() - started, false);
+            throw e;
+        }
+    }
+
+    private JsonNode expectJson(HttpResponse<String> response) throws IOException {
+        if (response.statusCode() / 100 != 2) {
+            throw new IllegalStateException("시드 요청 실패 (" + response.statusCode() + "): "
+                    + response.uri() + " " + response.body());
+        }
+        return objectMapper.readTree(response.body());
+    }
+
+    private String pick(int value) {
+        for (int i = 0; i < cumulativeWeights.size(); i++) {
+            if (value < cumulativeWeights.get(i)) {
+                return operations.get(i);
+            }
+        }
+        return operations.get(operations.size() - 1);
+    }
+
+    private String volunteerToken(Random random) {
+        return volunteerTokens.get(random.nextInt(volunteerTokens.size()));
+    }
+
+    private static <T> T randomElement(List<T> values, Random random) {
+        int size = values.size();
+        if (size == 0) {
+            return null;
+        }
+        try {
+            return values.get(random.nextInt(size));
+        } catch (IndexOutOfBoundsException e) {
+            return null;
+        }
+    }
+}
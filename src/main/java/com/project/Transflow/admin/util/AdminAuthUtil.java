@@ -1,12 +1,19 @@
 package com.project.Transflow.admin.util;
 
+import com.project.Transflow.auth.principal.JwtPrincipal;
 import com.project.Transflow.auth.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 
+import java.util.Optional;
+
 /**
- * 관리자 권한 체크 유틸리티
+ * 관리자 권한 체크 유틸리티.
+ * JwtAuthenticationFilter가 SecurityContext에 넣어 둔 JwtPrincipal을 읽으며,
+ * 필터를 거치지 않은 경우(비동기 스레드 등)에만 토큰을 직접 파싱합니다.
  */
 @Slf4j
 @Component
@@ -16,57 +23,48 @@ public class AdminAuthUtil {
     private final JwtUtil jwtUtil;
 
     /**
-     * JWT 토큰에서 roleLevel 추출
+     * Authorization 헤더에 해당하는 인증 정보
      */
-    public Integer getRoleLevelFromToken(String authHeader) {
+    public Optional<JwtPrincipal> getPrincipal(String authHeader) {
         if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            return null;
+            return Optional.empty();
         }
-        try {
-            String token = authHeader.substring(7);
-            if (!jwtUtil.validateToken(token)) {
-                return null;
+        String token = authHeader.substring(7);
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.getPrincipal() instanceof JwtPrincipal) {
+            JwtPrincipal principal = (JwtPrincipal) authentication.getPrincipal();
+            if (principal.isIssuedFor(token)) {
+                return Optional.of(principal);
             }
-            return jwtUtil.extractRoleLevel(token);
-        } catch (Exception e) {
-            log.error("토큰에서 roleLevel 추출 실패", e);
-            return null;
         }
+        return jwtUtil.parse(token);
+    }
+
+    /**
+     * JWT 토큰에서 roleLevel 추출
+     */
+    public Integer getRoleLevelFromToken(String authHeader) {
+        return getPrincipal(authHeader).map(JwtPrincipal::getRoleLevel).orElse(null);
     }
 
     /**
      * 최고관리자 권한 체크 (roleLevel == 1)
      */
     public boolean isSuperAdmin(String authHeader) {
-        Integer roleLevel = getRoleLevelFromToken(authHeader);
-        return roleLevel != null && roleLevel == 1;
+        return getPrincipal(authHeader).map(JwtPrincipal::isSuperAdmin).orElse(false);
     }
 
     /**
      * 관리자 이상 권한 체크 (roleLevel == 1 or 2)
      */
     public boolean isAdminOrAbove(String authHeader) {
-        Integer roleLevel = getRoleLevelFromToken(authHeader);
-        return roleLevel != null && (roleLevel == 1 || roleLevel == 2);
+        return getPrincipal(authHeader).map(JwtPrincipal::isAdminOrAbove).orElse(false);
     }
 
     /**
      * JWT 토큰에서 userId 추출
      */
     public Long getUserIdFromToken(String authHeader) {
-        if (authHeader == null || !authHeader.startsWith("Bearer ")) {
-            return null;
-        }
-        try {
-            String token = authHeader.substring(7);
-            if (!jwtUtil.validateToken(token)) {
-                return null;
-            }
-            return jwtUtil.extractUserId(token);
-        } catch (Exception e) {
-            log.error("토큰에서 userId 추출 실패", e);
-            return null;
-        }
+        return getPrincipal(authHeader).map(JwtPrincipal::getUserId).orElse(null);
     }
 }
-
@@ -1,10 +1,11 @@
 package com.project.Transflow.auth.controller;
 
+import com.project.Transflow.admin.util.AdminAuthUtil;
 import com.project.Transflow.auth.dto.LoginSuccessResponse;
+import com.project.Transflow.auth.principal.JwtPrincipal;
 import com.project.Transflow.auth.dto.UserResponse;
 import com.project.Transflow.user.entity.User;
 import com.project.Transflow.user.repository.UserRepository;
-import com.project.Transflow.auth.util.JwtUtil;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -29,7 +30,7 @@ import java.util.Optional;
 public class AuthController {
 
     private final UserRepository userRepository;
-    private final JwtUtil jwtUtil;
+    private final AdminAuthUtil adminAuthUtil;
 
     @Operation(
             summary = "로그인 성공",
@@ -102,13 +103,14 @@ public class AuthController {
     public ResponseEntity<Map<String, Object>> getCurrentUser(
             @Parameter(hidden = true) @RequestHeader("Authorization") String authHeader) {
         try {
-            String token = authHeader.replace("Bearer ", "");
-            
-            if (!jwtUtil.validateToken(token)) {
+            String bearer = authHeader.startsWith("Bearer ") ? authHeader : "Bearer " + authHeader;
+            Optional<JwtPrincipal> principal = adminAuthUtil.getPrincipal(bearer);
+
+            if (principal.isEmpty()) {
                 return ResponseEntity.status(401).body(Map.of("error", "Invalid or expired token"));
             }
 
-            Long userId = jwtUtil.extractUserId(token);
+            Long userId = principal.get().getUserId();
             Optional<User> userOpt = userRepository.findById(userId);
 
             if (userOpt.isEmpty()) {
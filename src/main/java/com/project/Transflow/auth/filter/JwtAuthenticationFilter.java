@@ -1,5 +1,6 @@
 package com.project.Transflow.auth.filter;
 
+import com.project.Transflow.auth.principal.JwtPrincipal;
 import com.project.Transflow.auth.util.JwtUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -16,6 +17,7 @@ import javax.servlet.http.HttpServletRequest;
 import javax.servlet.http.HttpServletResponse;
 import java.io.IOException;
 import java.util.Collections;
+import java.util.Optional;
 
 @Slf4j
 @Component
@@ -33,33 +35,30 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         if (authHeader != null && authHeader.startsWith("Bearer ")) {
             String token = authHeader.substring(7);
 
-            try {
-                if (jwtUtil.validateToken(token)) {
-                    String email = jwtUtil.extractEmail(token);
-                    Integer roleLevel = jwtUtil.extractRoleLevel(token);
-
-                    String role = "ROLE_USER";
-                    if (roleLevel == 1) {
-                        role = "ROLE_SUPER_ADMIN";
-                    } else if (roleLevel == 2) {
-                        role = "ROLE_ADMIN";
-                    }
-
-                    UsernamePasswordAuthenticationToken authentication =
-                            new UsernamePasswordAuthenticationToken(
-                                    email,
-                                    null,
-                                    Collections.singletonList(new SimpleGrantedAuthority(role))
-                            );
-                    authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
-                    SecurityContextHolder.getContext().setAuthentication(authentication);
+            // 요청당 한 번만 파싱·서명 검증하고, 이후에는 SecurityContext의 JwtPrincipal을 사용
+            Optional<JwtPrincipal> parsed = jwtUtil.parse(token);
+            if (parsed.isPresent()) {
+                JwtPrincipal principal = parsed.get();
+                String role = "ROLE_USER";
+                if (principal.isSuperAdmin()) {
+                    role = "ROLE_SUPER_ADMIN";
+                } else if (principal.isAdminOrAbove()) {
+                    role = "ROLE_ADMIN";
                 }
-            } catch (Exception e) {
-                log.error("JWT 토큰 검증 실패", e);
+
+                UsernamePasswordAuthenticationToken authentication =
+                        new UsernamePasswordAuthenticationToken(
+                                principal,
+                                null,
+                                Collections.singletonList(new SimpleGrantedAuthority(role))
+                        );
+                authentication.setDetails(new WebAuthenticationDetailsSource().buildDetails(request));
+                SecurityContextHolder.getContext().setAuthentication(authentication);
+            } else {
+                log.debug("JWT 토큰 검증 실패: {}", request.getRequestURI());
             }
         }
 
         filterChain.doFilter(request, response);
     }
 }
-
@@ -0,0 +1,59 @@
+package com.project.Transflow.auth.principal;
+
+import java.security.Principal;
+import java.util.Objects;
+
+/**
+ * JWT에서 한 번 파싱한 인증 정보 (불변). JwtAuthenticationFilter가 SecurityContext에 넣고,
+ * AdminAuthUtil·컨트롤러는 토큰을 다시 파싱하지 않고 이 값을 읽습니다.
+ */
+public final class JwtPrincipal implements Principal {
+
+    private final Long userId;
+    private final String email;
+    private final Integer roleLevel;
+    /** 요청 헤더와 동일 토큰인지 확인용 (외부 노출 없음) */
+    private final String token;
+
+    public JwtPrincipal(Long userId, String email, Integer roleLevel, String token) {
+        this.userId = userId;
+        this.email = email;
+        this.roleLevel = roleLevel;
+        this.token = token;
+    }
+
+    public Long getUserId() {
+        return userId;
+    }
+
+    public String getEmail() {
+        return email;
+    }
+
+    public Integer getRoleLevel() {
+        return roleLevel;
+    }
+
+    public boolean isSuperAdmin() {
+        return roleLevel != null && roleLevel == 1;
+    }
+
+    public boolean isAdminOrAbove() {
+        return roleLevel != null && (roleLevel == 1 || roleLevel == 2);
+    }
+
+    public boolean isIssuedFor(String token) {
+        return Objects.equals(this.token, token);
+    }
+
+    /** Authentication#getName() 호환 (기존 principal은 이메일 문자열) */
+    @Override
+    public String getName() {
+        return email;
+    }
+
+    @Override
+    public String toString() {
+        return "JwtPrincipal{userId=" + userId + ", email=" + email + ", roleLevel=" + roleLevel + "}";
+    }
+}
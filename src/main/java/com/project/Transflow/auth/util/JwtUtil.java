@@ -1,5 +1,6 @@
 package com.project.Transflow.auth.util;
 
+import com.project.Transflow.auth.principal.JwtPrincipal;
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
@@ -12,6 +13,7 @@ import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Component
 public class JwtUtil {
@@ -48,6 +50,25 @@ public class JwtUtil {
                 .compact();
     }
 
+    /**
+     * 서명·만료를 한 번만 검증하고 userId/email/roleLevel을 꺼냅니다. 유효하지 않으면 empty.
+     */
+    public Optional<JwtPrincipal> parse(String token) {
+        if (token == null || token.isBlank()) {
+            return Optional.empty();
+        }
+        try {
+            Claims claims = extractClaims(token);
+            return Optional.of(new JwtPrincipal(
+                    toLong(claims.get("userId")),
+                    claims.getSubject(),
+                    toInteger(claims.get("roleLevel")),
+                    token));
+        } catch (Exception e) {
+            return Optional.empty();
+        }
+    }
+
     public Claims extractClaims(String token) {
         return Jwts.parserBuilder()
                 .setSigningKey(key)
@@ -61,7 +82,14 @@ public class JwtUtil {
     }
 
     public Long extractUserId(String token) {
-        Object v = extractClaims(token).get("userId");
+        return toLong(extractClaims(token).get("userId"));
+    }
+
+    public Integer extractRoleLevel(String token) {
+        return toInteger(extractClaims(token).get("roleLevel"));
+    }
+
+    private static Long toLong(Object v) {
         if (v instanceof Number) {
             return ((Number) v).longValue();
         }
@@ -75,8 +103,7 @@ public class JwtUtil {
         return null;
     }
 
-    public Integer extractRoleLevel(String token) {
-        Object v = extractClaims(token).get("roleLevel");
+    private static Integer toInteger(Object v) {
         if (v instanceof Number) {
             return ((Number) v).intValue();
         }
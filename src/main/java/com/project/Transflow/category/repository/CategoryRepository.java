@@ -1,13 +1,24 @@
 package com.project.Transflow.category.repository;
 
 import com.project.Transflow.category.entity.Category;
+import com.project.Transflow.config.CacheConfig;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface CategoryRepository extends JpaRepository<Category, Long> {
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = CacheConfig.QUERY_REFERENCE_DATA)
+    })
+    @Override
+    List<Category> findAll();
+
     Optional<Category> findByName(String name);
 
     Optional<Category> findByCode(String code);
@@ -5,8 +5,10 @@ import com.project.Transflow.category.dto.CreateCategoryRequest;
 import com.project.Transflow.category.dto.UpdateCategoryRequest;
 import com.project.Transflow.category.entity.Category;
 import com.project.Transflow.category.repository.CategoryRepository;
+import com.project.Transflow.config.CacheConfig;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -21,6 +23,7 @@ public class CategoryService {
 
     private final CategoryRepository categoryRepository;
 
+    @CacheEvict(cacheNames = CacheConfig.CREATION_KR_BOARD_CATALOG, allEntries = true)
     @Transactional
     public CategoryResponse createCategory(CreateCategoryRequest request) {
         // 중복 체크 (code 기준)
@@ -52,12 +55,14 @@ public class CategoryService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
+    // 생성·수정 직후 상세 조회에 쓰이므로 복제 지연 없이 기본 DB에서 읽음
+    @Transactional
     public Optional<CategoryResponse> findById(Long id) {
         return categoryRepository.findById(id)
                 .map(this::toResponse);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CREATION_KR_BOARD_CATALOG, allEntries = true)
     @Transactional
     public CategoryResponse updateCategory(Long id, UpdateCategoryRequest request) {
         Category category = categoryRepository.findById(id)
@@ -95,6 +100,7 @@ public class CategoryService {
         return toResponse(saved);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.CREATION_KR_BOARD_CATALOG, allEntries = true)
     @Transactional
     public void deleteCategory(Long id) {
         Category category = categoryRepository.findById(id)
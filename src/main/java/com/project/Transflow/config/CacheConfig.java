@@ -0,0 +1,112 @@
+package com.project.Transflow.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+import java.time.Duration;
+
+/**
+ * 로컬(Caffeine) 캐시 설정.
+ * transactionAware: 트랜잭션 안에서의 put/evict는 커밋 이후에 반영되어, 커밋 전 값이 다시 캐시되는 일을 막습니다.
+ */
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    /** 대시보드 요약 (userId, isAdmin 단위). 문서·리뷰 상태 전이 시 전체 무효화 */
+    public static final String DASHBOARD_SUMMARY = "dashboardSummary";
+
+    /** 문의 배지 미확인 건수 (조회자 userId 단위). 답변·읽음 상태 변경 시 무효화 */
+    public static final String INQUIRY_UNREAD_COUNTS = "inquiryUnreadCounts";
+
+    /** 복호화된 외부 서비스 자격 증명 (serviceName 단위). 설정 API로 저장 시 무효화 */
+    public static final String DECRYPTED_SECRETS = "decryptedSecrets";
+
+    /** 게시 미리보기용 sanitize 결과 (reviewId 단위, 버전·본문 해시·정리 규칙 버전으로 검증). 리뷰 버전 변경 시 무효화 */
+    public static final String PUBLISH_PREVIEW_HTML = "publishPreviewHtml";
+
+    /** creation.kr 게시판 목록 스냅샷 (단일 키). 카테고리 생성·수정·삭제 시 무효화 */
+    public static final String CREATION_KR_BOARD_CATALOG = "creationKrBoardCatalog";
+
+    /** 확장자 없는 URL에 PDF를 응답한 적 있는지 (호스트 단위). 크롤링 분기 힌트 */
+    public static final String PDF_HOST_HINTS = "pdfHostHints";
+
+    /** 문단 단위 작업본의 골격·문단 HTML (버전 ID 단위). 문단 저장·작업본 확정 시 갱신/무효화 */
+    public static final String PARAGRAPH_DRAFTS = "paragraphDrafts";
+
+    /** 버전 비교 결과 ((기준, 비교) 버전 ID 쌍 단위). 본문이 바뀌는 문단 작업본은 두 본문 해시로 검증해 다시 계산 */
+    public static final String VERSION_DIFFS = "versionDiffs";
+
+    /** 관리자 번역 세션 소유자 표시 정보 (userId 단위, 이메일·이름). 세션 시작 시 갱신 */
+    public static final String ADMIN_SESSION_USERS = "adminSessionUsers";
+
+    // Hibernate 2차 캐시 영역 (JCache/Caffeine). 크기·TTL은 resources/application.conf의 caffeine.jcache에서 설정.
+    // 엔티티 변경은 Hibernate가 커밋 시 영역에 반영하고, 쿼리 결과는 해당 테이블이 변경되면 무효화됩니다.
+    // 변경이 곧바로 반영돼야 하는 사용자(권한)·외부 서비스 키는 캐시하지 않습니다.
+
+    /** 카테고리 엔티티 */
+    public static final String ENTITY_CATEGORY = "category";
+
+    /** 용어집 엔티티 */
+    public static final String ENTITY_TERM_DICTIONARY = "term-dictionary";
+
+    /** 언어 쌍별 용어집 조회 결과 (용어 ID 목록) */
+    public static final String QUERY_TERMS_BY_LANG_PAIR = "term-dictionary-by-lang-pair";
+
+    /** 그 밖의 참조 데이터 조회 결과 (카테고리 목록) */
+    public static final String QUERY_REFERENCE_DATA = "reference-data-queries";
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        cacheManager.setTransactionAware(true);
+        cacheManager.setAllowNullValues(false);
+        cacheManager.registerCustomCache(DASHBOARD_SUMMARY, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(30))
+                .maximumSize(1_000)
+                .build());
+        cacheManager.registerCustomCache(INQUIRY_UNREAD_COUNTS, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofSeconds(15))
+                .maximumSize(10_000)
+                .build());
+        // 다른 인스턴스에서 변경된 키도 일정 시간 뒤에는 반영되도록 TTL을 둠
+        cacheManager.registerCustomCache(DECRYPTED_SECRETS, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .maximumSize(16)
+                .build());
+        // 항목 하나가 수 MB일 수 있어 건수를 작게 두고, 보지 않는 미리보기는 빨리 비움
+        cacheManager.registerCustomCache(PUBLISH_PREVIEW_HTML, Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .maximumSize(200)
+                .build());
+        // 다른 인스턴스의 카테고리 변경도 일정 시간 뒤에는 반영되도록 TTL을 둠
+        cacheManager.registerCustomCache(CREATION_KR_BOARD_CATALOG, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .maximumSize(1)
+                .build());
+        cacheManager.registerCustomCache(PDF_HOST_HINTS, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofHours(6))
+                .maximumSize(1_000)
+                .build());
+        // 편집 중인 문서 수만큼만 필요. 항목이 수 MB일 수 있어 건수를 작게 두고 쉬는 작업본은 빨리 비움
+        cacheManager.registerCustomCache(PARAGRAPH_DRAFTS, Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .maximumSize(200)
+                .build());
+        // 리뷰 중인 비교만 다시 보게 되므로 보지 않는 결과는 빨리 비움
+        cacheManager.registerCustomCache(VERSION_DIFFS, Caffeine.newBuilder()
+                .expireAfterAccess(Duration.ofMinutes(30))
+                .maximumSize(500)
+                .build());
+        // 이름·이메일 변경도 일정 시간 뒤에는 반영되도록 TTL을 둠
+        cacheManager.registerCustomCache(ADMIN_SESSION_USERS, Caffeine.newBuilder()
+                .expireAfterWrite(Duration.ofMinutes(10))
+                .maximumSize(1_000)
+                .build());
+        return cacheManager;
+    }
+}
@@ -0,0 +1,89 @@
+package com.project.Transflow.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.util.StringUtils;
+
+import javax.sql.DataSource;
+
+/**
+ * 읽기/쓰기 DataSource 분리 (read-replica.enabled=true일 때만).
+ * 목록·대시보드·버전 이력·검색·용어집·문의 요약처럼 @Transactional(readOnly = true)인 조회는 복제본으로,
+ * 쓰기 트랜잭션과 readOnly 트랜잭션 밖 조회는 기본 DB로 갑니다.
+ * 쓰기 트랜잭션 안에서 호출된 readOnly 메서드는 바깥 트랜잭션에 참여하므로 기본 DB를 그대로 씁니다.
+ * 복제 지연이 있으므로 방금 쓴 값을 반드시 읽어야 하는 조회는 readOnly로 두지 않고,
+ * Hibernate 2차/쿼리 캐시도 복제본 조회 결과로는 채우지 않습니다.
+ * 비활성화 시 이 설정은 빠지고 Spring Boot 기본 DataSource(spring.datasource)가 그대로 사용됩니다.
+ */
+@Slf4j
+@Configuration
+@ConditionalOnProperty(name = "read-replica.enabled", havingValue = "true")
+public class DataSourceRoutingConfig {
+
+    @Bean
+    @ConfigurationProperties(prefix = "spring.datasource.hikari")
+    public HikariDataSource primaryDataSource(DataSourceProperties properties) {
+        HikariDataSource dataSource = properties.initializeDataSourceBuilder()
+                .type(HikariDataSource.class)
+                .build();
+        dataSource.setPoolName("primary");
+        return dataSource;
+    }
+
+    @Bean
+    public HikariDataSource replicaDataSource(DataSourceProperties primaryProperties,
+                                              ReadReplicaProperties replicaProperties) {
+        if (!StringUtils.hasText(replicaProperties.getUrl())) {
+            throw new IllegalStateException("read-replica.enabled=true 이지만 read-replica.url이 비어 있습니다.");
+        }
+        HikariDataSource dataSource = new HikariDataSource();
+        dataSource.setPoolName("replica");
+        dataSource.setJdbcUrl(replicaProperties.getUrl());
+        dataSource.setUsername(StringUtils.hasText(replicaProperties.getUsername())
+                ? replicaProperties.getUsername() : primaryProperties.determineUsername());
+        dataSource.setPassword(StringUtils.hasText(replicaProperties.getPassword())
+                ? replicaProperties.getPassword() : primaryProperties.determinePassword());
+        dataSource.setMaximumPoolSize(replicaProperties.getMaximumPoolSize());
+        dataSource.setConnectionTimeout(replicaProperties.getConnectionTimeoutMs());
+        dataSource.setReadOnly(true);
+        // 복제본이 내려가 있어도 기동·첫 조회가 예외로 끝나지 않고 커넥션 대기 후 기본 DB로 대체되도록 (이후는 backoff 동안 바로 기본 DB)
+        dataSource.setInitializationFailTimeout(-1);
+        log.info("읽기 복제본 라우팅 활성화: {}", replicaProperties.getUrl());
+        return dataSource;
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(@Qualifier("primaryDataSource") DataSource primaryDataSource,
+                                 @Qualifier("replicaDataSource") DataSource replicaDataSource,
+                                 ReadReplicaProperties replicaProperties) {
+        ReadWriteRoutingDataSource routingDataSource = new ReadWriteRoutingDataSource(
+                primaryDataSource, replicaDataSource, replicaProperties.getFailureBackoffMs());
+        routingDataSource.afterPropertiesSet();
+        return new LazyConnectionDataSourceProxy(routingDataSource);
+    }
+
+    // 복제본에서 읽은 이전 값이 2차/쿼리 캐시에 들어가지 않도록 readOnly 트랜잭션은 캐시 읽기 전용
+    @Bean
+    public static BeanPostProcessor primaryOnlyCachePutPostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof LocalContainerEntityManagerFactoryBean) {
+                    ((LocalContainerEntityManagerFactoryBean) bean).setJpaDialect(new PrimaryOnlyCachePutJpaDialect());
+                }
+                return bean;
+            }
+        };
+    }
+}
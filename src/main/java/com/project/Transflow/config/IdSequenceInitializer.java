@@ -0,0 +1,80 @@
+package com.project.Transflow.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import javax.annotation.PostConstruct;
+import javax.persistence.EntityManagerFactory;
+import javax.sql.DataSource;
+import java.util.List;
+
+/**
+ * SEQUENCE ID 테이블(&lt;테이블&gt;_seq)을 기존 행의 최대 ID 위로 맞춥니다.
+ * MariaDBDialect는 시퀀스를 지원하지 않아 ddl-auto가 next_val=1인 테이블을 만들기 때문에,
+ * 그대로 두면 AUTO_INCREMENT로 쌓인 기존 행과 PK가 겹칩니다.
+ * EntityManagerFactory(스키마 갱신) 다음, 요청·스케줄러가 시작되기 전에 실행되며 값은 올리기만 합니다.
+ */
+@Slf4j
+@Component
+public class IdSequenceInitializer {
+
+    /** 엔티티 @SequenceGenerator의 allocationSize와 같아야 함 */
+    static final int ALLOCATION_SIZE = 50;
+
+    /** SEQUENCE ID를 쓰는 테이블 (시퀀스 테이블은 &lt;테이블&gt;_seq) */
+    private static final List<String> TABLES = List.of(
+            "document_version",
+            "document_version_paragraph",
+            "handover_history",
+            "translation_task",
+            "term_dictionary");
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // entityManagerFactory는 스키마 갱신 이후에 실행되도록 의존성으로만 받음
+    public IdSequenceInitializer(DataSource dataSource, EntityManagerFactory entityManagerFactory) {
+        this.jdbcTemplate = new JdbcTemplate(dataSource);
+    }
+
+    @PostConstruct
+    public void alignSequences() {
+        for (String table : TABLES) {
+            align(table);
+        }
+    }
+
+    /**
+     * pooled 최적화에서 다음 블록의 첫 ID는 next_val - (ALLOCATION_SIZE - 1) 이므로
+     * next_val을 max(id) + ALLOCATION_SIZE 이상으로 올립니다. 여러 인스턴스가 동시에 떠도 조건부 UPDATE라 내려가지 않음
+     */
+    void align(String table) {
+        String sequenceTable = table + "_seq";
+        long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM " + table, Long.class);
+        long required = maxId + ALLOCATION_SIZE;
+
+        List<Long> current;
+        try {
+            current = jdbcTemplate.queryForList("SELECT next_val FROM " + sequenceTable, Long.class);
+        } catch (DataAccessException e) {
+            throw new IllegalStateException("ID 시퀀스 테이블을 읽을 수 없습니다: " + sequenceTable, e);
+        }
+
+        if (current.isEmpty()) {
+            jdbcTemplate.update("INSERT INTO " + sequenceTable + " (next_val) VALUES (?)", required);
+            log.info("ID 시퀀스 생성: {} next_val={} (max id {})", sequenceTable, required, maxId);
+            return;
+        }
+        if (current.size() > 1) {
+            throw new IllegalStateException("ID 시퀀스 테이블에 행이 여러 개입니다: " + sequenceTable);
+        }
+        if (current.get(0) >= required) {
+            return;
+        }
+
+        jdbcTemplate.update("UPDATE " + sequenceTable + " SET next_val = ? WHERE next_val < ?", required, required);
+        log.warn("ID 시퀀스를 기존 최대 ID 위로 조정: {} next_val {} -> {} (max id {})",
+                sequenceTable, current.get(0), required, maxId);
+    }
+}
@@ -0,0 +1,54 @@
+package com.project.Transflow.config;
+
+import org.hibernate.CacheMode;
+import org.hibernate.Session;
+import org.springframework.lang.Nullable;
+import org.springframework.orm.jpa.vendor.HibernateJpaDialect;
+import org.springframework.transaction.TransactionDefinition;
+
+import javax.persistence.EntityManager;
+import javax.persistence.PersistenceException;
+import java.sql.SQLException;
+
+/**
+ * readOnly 트랜잭션(복제본 조회)에서는 2차/쿼리 캐시를 읽기만 하고 채우지 않는 JPA 방언.
+ * 복제 지연 중에 읽은 이전 값이 캐시에 들어가면 TTL 동안 계속 보이므로, 캐시는 기본 DB 조회로만 채웁니다.
+ */
+class PrimaryOnlyCachePutJpaDialect extends HibernateJpaDialect {
+
+    @Override
+    public Object beginTransaction(EntityManager entityManager, TransactionDefinition definition)
+            throws PersistenceException, SQLException {
+        Object transactionData = super.beginTransaction(entityManager, definition);
+        if (!definition.isReadOnly()) {
+            return transactionData;
+        }
+        Session session = entityManager.unwrap(Session.class);
+        CacheMode previousCacheMode = session.getCacheMode();
+        session.setCacheMode(CacheMode.GET);
+        return new ReadOnlyTransactionData(transactionData, session, previousCacheMode);
+    }
+
+    @Override
+    public void cleanupTransaction(@Nullable Object transactionData) {
+        if (transactionData instanceof ReadOnlyTransactionData) {
+            ReadOnlyTransactionData readOnlyData = (ReadOnlyTransactionData) transactionData;
+            readOnlyData.session.setCacheMode(readOnlyData.previousCacheMode);
+            super.cleanupTransaction(readOnlyData.delegate);
+            return;
+        }
+        super.cleanupTransaction(transactionData);
+    }
+
+    private static final class ReadOnlyTransactionData {
+        private final Object delegate;
+        private final Session session;
+        private final CacheMode previousCacheMode;
+
+        private ReadOnlyTransactionData(Object delegate, Session session, CacheMode previousCacheMode) {
+            this.delegate = delegate;
+            this.session = session;
+            this.previousCacheMode = previousCacheMode;
+        }
+    }
+}
@@ -0,0 +1,31 @@
+package com.project.Transflow.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+/**
+ * 읽기 전용 복제본 DB 설정. enabled=false(기본)이면 모든 쿼리가 spring.datasource(기본 DB)로 갑니다.
+ */
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "read-replica")
+public class ReadReplicaProperties {
+
+    /** true일 때만 readOnly 트랜잭션을 복제본으로 보냄 */
+    private boolean enabled = false;
+    /** 복제본 JDBC URL */
+    private String url;
+    /** 비어 있으면 spring.datasource.username 사용 */
+    private String username;
+    /** 비어 있으면 spring.datasource.password 사용 */
+    private String password;
+    /** 복제본 커넥션 풀 최대 크기 */
+    private int maximumPoolSize = 10;
+    /** 복제본 커넥션 획득 대기 (ms). 초과하면 기본 DB로 대신 조회 */
+    private long connectionTimeoutMs = 1000;
+    /** 복제본 커넥션 실패 후 복제본을 다시 시도하기까지 (ms). 그동안 readOnly 조회도 바로 기본 DB로 */
+    private long failureBackoffMs = 30000;
+}
@@ -0,0 +1,58 @@
+package com.project.Transflow.config;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.util.Map;
+
+/**
+ * readOnly 트랜잭션은 복제본, 그 밖(쓰기·트랜잭션 밖 조회)은 기본 DB로 보내는 DataSource.
+ * 트랜잭션의 readOnly 여부가 정해진 뒤 커넥션을 얻어야 하므로 LazyConnectionDataSourceProxy로 감싸서 사용합니다.
+ * 복제본 커넥션을 얻지 못하면 기본 DB로 대신 조회하고, 대기 시간(backoff) 동안은 복제본을 시도하지 않고 바로 기본 DB로 보냅니다.
+ */
+@Slf4j
+class ReadWriteRoutingDataSource extends AbstractRoutingDataSource {
+
+    static final String PRIMARY = "primary";
+    static final String REPLICA = "replica";
+
+    private final DataSource primary;
+    private final long failureBackoffMs;
+
+    /** 이 시각(epoch ms) 전까지는 복제본이 내려간 것으로 보고 기본 DB로 보냄 */
+    private volatile long replicaRetryAt;
+
+    ReadWriteRoutingDataSource(DataSource primary, DataSource replica, long failureBackoffMs) {
+        this.primary = primary;
+        this.failureBackoffMs = failureBackoffMs;
+        setTargetDataSources(Map.of(PRIMARY, primary, REPLICA, replica));
+        setDefaultTargetDataSource(primary);
+    }
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            return PRIMARY;
+        }
+        return System.currentTimeMillis() < replicaRetryAt ? PRIMARY : REPLICA;
+    }
+
+    @Override
+    public Connection getConnection() throws SQLException {
+        Object lookupKey = determineCurrentLookupKey();
+        try {
+            return super.getConnection();
+        } catch (SQLException e) {
+            if (!REPLICA.equals(lookupKey)) {
+                throw e;
+            }
+            replicaRetryAt = System.currentTimeMillis() + failureBackoffMs;
+            log.warn("복제본 커넥션 획득 실패, {}ms 동안 기본 DB로 조회: {}", failureBackoffMs, e.getMessage());
+            return primary.getConnection();
+        }
+    }
+}
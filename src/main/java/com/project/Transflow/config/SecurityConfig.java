@@ -6,11 +6,14 @@ import com.project.Transflow.user.service.CustomOAuth2UserService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.http.HttpStatus;
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
 import org.springframework.security.web.SecurityFilterChain;
+import org.springframework.security.web.authentication.HttpStatusEntryPoint;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
 import org.springframework.web.cors.CorsConfiguration;
 import org.springframework.web.cors.CorsConfigurationSource;
 import org.springframework.web.cors.UrlBasedCorsConfigurationSource;
@@ -37,9 +40,19 @@ public class SecurityConfig {
                 .sessionCreationPolicy(SessionCreationPolicy.STATELESS)
             .and()
             // 개발 단계: 모든 요청 허용 (인증 체크 비활성화)
+            // 단, 메트릭(/actuator/metrics, /actuator/prometheus)은 요청 경로·처리량이 드러나므로 관리자 JWT 필요
             .authorizeRequests()
+                .antMatchers("/actuator/health", "/actuator/health/**", "/actuator/info").permitAll()
+                .antMatchers("/actuator/**").hasAnyRole("ADMIN", "SUPER_ADMIN")
                 .anyRequest().permitAll()
             .and()
+            // 인가 판단 전에 JWT의 역할이 SecurityContext에 있어야 하므로 보안 필터 체인 안에서 실행
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // actuator는 OAuth2 로그인 페이지로 보내지 않고 401
+            .exceptionHandling()
+                .defaultAuthenticationEntryPointFor(new HttpStatusEntryPoint(HttpStatus.UNAUTHORIZED),
+                        new AntPathRequestMatcher("/actuator/**"))
+            .and()
             // OAuth2 로그인 설정은 유지 (OAuth2 엔드포인트 작동을 위해 필요)
             .oauth2Login()
                 .userInfoEndpoint()
@@ -64,7 +77,7 @@ public class SecurityConfig {
     public CorsConfigurationSource corsConfigurationSource() {
         CorsConfiguration configuration = new CorsConfiguration();
         configuration.setAllowedOrigins(List.of("http://localhost:3000", "http://localhost:8080")); // 프론트엔드 URL 추가 필요
-        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "DELETE", "OPTIONS"));
+        configuration.setAllowedMethods(Arrays.asList("GET", "POST", "PUT", "PATCH", "DELETE", "OPTIONS"));
         configuration.setAllowedHeaders(List.of("*"));
         configuration.setAllowCredentials(true);
         configuration.setMaxAge(3600L);
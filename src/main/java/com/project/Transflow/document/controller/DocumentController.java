@@ -8,13 +8,15 @@ import com.project.Transflow.document.dto.CreateDocumentVersionRequest;
 import com.project.Transflow.document.dto.DocumentResponse;
 import com.project.Transflow.document.dto.DocumentVersionResponse;
 import com.project.Transflow.document.dto.HandoverRequest;
+import com.project.Transflow.document.dto.ParagraphPatchRequest;
+import com.project.Transflow.document.dto.ParagraphPatchResponse;
 import com.project.Transflow.document.dto.SourceListEnrichmentRequest;
 import com.project.Transflow.document.dto.SourceListEnrichmentResponse;
 import com.project.Transflow.document.dto.UpdateDocumentRequest;
+import com.project.Transflow.document.service.DocumentParagraphService;
 import com.project.Transflow.document.service.DocumentService;
 import com.project.Transflow.document.service.HandoverHistoryService;
 import com.project.Transflow.document.service.DocumentVersionService;
-import com.project.Transflow.notification.service.TranslationNotificationMailService;
 import com.project.Transflow.review.service.ReviewService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -48,10 +50,10 @@ public class DocumentController {
 
     private final DocumentService documentService;
     private final DocumentVersionService versionService;
+    private final DocumentParagraphService documentParagraphService;
     private final HandoverHistoryService handoverHistoryService;
     private final AdminAuthUtil adminAuthUtil;
     private final UserRepository userRepository;
-    private final TranslationNotificationMailService translationNotificationMailService;
     private final ReviewService reviewService;
 
     @Operation(
@@ -508,15 +510,6 @@ public class DocumentController {
                     "message", e.getMessage() != null ? e.getMessage() : "번역 완료 처리에 실패했습니다."));
         }
 
-        String documentTitle = documentService.findById(documentId)
-                .map(DocumentResponse::getTitle)
-                .orElse("(제목 없음)");
-        try {
-            translationNotificationMailService.sendTranslationCompletedToAdmins(documentId, documentTitle);
-        } catch (Exception e) {
-            log.error("번역 완료 알림 메일 발송 실패: documentId={}", documentId, e);
-        }
-
         return ResponseEntity.ok(Map.of("success", true, "message", "번역이 완료되었습니다.", "status", "PENDING_REVIEW"));
     }
 
@@ -570,6 +563,54 @@ public class DocumentController {
         return ResponseEntity.ok(Map.of("success", true, "message", "저장되었습니다."));
     }
 
+    @Operation(
+            summary = "문단 단위 임시 저장",
+            description = "바뀐 문단만 보내 저장합니다. baseVersionId는 편집을 시작한 최신 버전 ID이며, " +
+                    "같은 사용자의 연속 저장은 새 버전 없이 해당 문단 행만 갱신합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "저장 성공"),
+            @ApiResponse(responseCode = "400", description = "잘못된 문단 인덱스 또는 HTML"),
+            @ApiResponse(responseCode = "401", description = "인증 필요"),
+            @ApiResponse(responseCode = "409", description = "baseVersionId가 최신 버전이 아님 (다시 불러온 뒤 저장)")
+    })
+    @PatchMapping("/{documentId}/translation/paragraphs")
+    public ResponseEntity<Map<String, Object>> patchTranslationParagraphs(
+            @Parameter(hidden = true) @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @Parameter(description = "문서 ID", required = true) @PathVariable Long documentId,
+            @Valid @RequestBody ParagraphPatchRequest request) {
+
+        Long userId = null;
+        if (authHeader != null && !authHeader.isEmpty()) {
+            try {
+                userId = adminAuthUtil.getUserIdFromToken(authHeader);
+            } catch (Exception e) {
+                log.warn("토큰에서 사용자 ID 추출 실패: {}", e.getMessage());
+            }
+        }
+        if (userId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+        Integer roleLevel = adminAuthUtil.getRoleLevelFromToken(authHeader);
+        documentService.assertVolunteerCanEditTranslation(documentId, userId, roleLevel);
+
+        ParagraphPatchResponse result;
+        try {
+            result = documentParagraphService.patchParagraphs(documentId, request, userId);
+        } catch (IllegalStateException e) {
+            return ResponseEntity.status(HttpStatus.CONFLICT).body(Map.of("success", false, "message", e.getMessage()));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.badRequest().body(Map.of("success", false, "message", e.getMessage()));
+        }
+
+        if (request.getCompletedParagraphs() != null) {
+            UpdateDocumentRequest updateRequest = new UpdateDocumentRequest();
+            updateRequest.setCompletedParagraphs(request.getCompletedParagraphs());
+            documentService.updateDocument(documentId, updateRequest, userId);
+        }
+        return ResponseEntity.ok(Map.of("success", true, "message", "저장되었습니다.", "result", result));
+    }
+
     @Operation(
             summary = "인계 요청",
             description = "번역 중인 문서에 인계 메모를 남깁니다. 인계 요청 문서 목록에 표시됩니다."
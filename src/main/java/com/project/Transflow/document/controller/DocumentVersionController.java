@@ -3,6 +3,8 @@ package com.project.Transflow.document.controller;
 import com.project.Transflow.admin.util.AdminAuthUtil;
 import com.project.Transflow.document.dto.CreateDocumentVersionRequest;
 import com.project.Transflow.document.dto.DocumentVersionResponse;
+import com.project.Transflow.document.dto.VersionDiffResponse;
+import com.project.Transflow.document.service.DocumentVersionDiffService;
 import com.project.Transflow.document.service.DocumentVersionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -14,12 +16,16 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
 import javax.validation.Valid;
 import java.util.List;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @RestController
@@ -29,7 +35,11 @@ import java.util.Map;
 @SecurityRequirement(name = "JWT")
 public class DocumentVersionController {
 
+    /** 인증된 사용자 전용 응답이라 공유 캐시에는 두지 않고, 브라우저는 매번 If-None-Match로 재검증 */
+    private static final CacheControl REVALIDATE = CacheControl.noCache().cachePrivate();
+
     private final DocumentVersionService documentVersionService;
+    private final DocumentVersionDiffService documentVersionDiffService;
     private final AdminAuthUtil adminAuthUtil;
 
     @Operation(
@@ -66,18 +76,29 @@ public class DocumentVersionController {
 
     @Operation(
             summary = "문서 버전 목록 조회",
-            description = "문서의 모든 버전 목록을 조회합니다. (버전 번호 순서)"
+            description = "문서의 모든 버전 목록을 조회합니다. (버전 번호 순서) If-None-Match가 현재 ETag와 같으면 본문 없이 304를 반환합니다."
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "조회 성공")
+            @ApiResponse(responseCode = "200", description = "조회 성공"),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)")
     })
     @GetMapping
     public ResponseEntity<List<DocumentVersionResponse>> getAllVersions(
             @Parameter(description = "문서 ID", required = true, example = "1")
-            @PathVariable Long documentId) {
+            @PathVariable Long documentId,
+            @Parameter(hidden = true) WebRequest webRequest) {
+
+        // 본문(LONGTEXT)을 읽기 전에 ID·해시만으로 재검증
+        Optional<String> etag = documentVersionService.findVersionListEtag(documentId);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
 
         List<DocumentVersionResponse> versions = documentVersionService.findAllByDocumentId(documentId);
-        return ResponseEntity.ok(versions);
+        return ResponseEntity.ok()
+                .eTag(DocumentVersionService.versionListEtag(versions))
+                .cacheControl(REVALIDATE)
+                .body(versions);
     }
 
     @Operation(
@@ -141,11 +162,12 @@ public class DocumentVersionController {
 
     @Operation(
             summary = "버전 상세 조회",
-            description = "버전 ID로 버전 상세 정보를 조회합니다."
+            description = "버전 ID로 버전 상세 정보를 조회합니다. 버전 본문은 바뀌지 않으므로 If-None-Match가 일치하면 본문 없이 304를 반환합니다."
     )
     @ApiResponses({
             @ApiResponse(responseCode = "200", description = "조회 성공",
                     content = @Content(schema = @Schema(implementation = DocumentVersionResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
             @ApiResponse(responseCode = "404", description = "버전을 찾을 수 없음")
     })
     @GetMapping("/{versionId}")
@@ -153,14 +175,65 @@ public class DocumentVersionController {
             @Parameter(description = "문서 ID", required = true, example = "1")
             @PathVariable Long documentId,
             @Parameter(description = "버전 ID", required = true, example = "1")
-            @PathVariable Long versionId) {
+            @PathVariable Long versionId,
+            @Parameter(hidden = true) WebRequest webRequest) {
+
+        Optional<String> etag = documentVersionService.findVersionEtag(documentId, versionId);
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
 
         return documentVersionService.findById(versionId)
                 .filter(version -> version.getDocumentId().equals(documentId))
-                .map(ResponseEntity::ok)
+                .map(version -> ResponseEntity.ok()
+                        .eTag(DocumentVersionService.versionEtag(version))
+                        .cacheControl(REVALIDATE)
+                        .body(version))
                 .orElse(ResponseEntity.notFound().build());
     }
 
+    @Operation(
+            summary = "버전 비교",
+            description = "두 버전을 문단 단위로 맞춰 비교하고, 수정된 문단은 단어 단위 변경 구간을 반환합니다. " +
+                    "두 버전 본문을 모두 내려받지 않고 비교 결과만 받습니다. If-None-Match가 일치하면 본문 없이 304를 반환합니다."
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "비교 성공",
+                    content = @Content(schema = @Schema(implementation = VersionDiffResponse.class))),
+            @ApiResponse(responseCode = "304", description = "변경 없음 (If-None-Match 일치)"),
+            @ApiResponse(responseCode = "404", description = "버전을 찾을 수 없음")
+    })
+    @GetMapping("/diff")
+    public ResponseEntity<VersionDiffResponse> diffVersions(
+            @Parameter(description = "문서 ID", required = true, example = "1")
+            @PathVariable Long documentId,
+            @Parameter(description = "기준(이전) 버전 ID", required = true, example = "10")
+            @RequestParam Long from,
+            @Parameter(description = "비교(이후) 버전 ID", required = true, example = "12")
+            @RequestParam Long to,
+            @Parameter(description = "변경 없는 문단 포함 여부 (false면 요약 건수만)", example = "true")
+            @RequestParam(required = false, defaultValue = "true") Boolean includeUnchanged,
+            @Parameter(hidden = true) WebRequest webRequest) {
+
+        // 본문을 읽기 전에 두 버전의 해시만으로 재검증 (구한 지문은 비교 캐시 확인에 다시 씀)
+        Optional<String> diffEtag = documentVersionDiffService.findDiffEtag(documentId, from, to);
+        Optional<String> etag = diffEtag.map(tag -> Boolean.TRUE.equals(includeUnchanged) ? tag : tag + "-changed");
+        if (etag.isPresent() && webRequest.checkNotModified(etag.get())) {
+            return ResponseEntity.status(HttpStatus.NOT_MODIFIED).cacheControl(REVALIDATE).build();
+        }
+
+        VersionDiffResponse response;
+        try {
+            response = documentVersionDiffService.diff(documentId, from, to, Boolean.TRUE.equals(includeUnchanged),
+                    diffEtag.orElse(null));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+        ResponseEntity.BodyBuilder builder = ResponseEntity.ok().cacheControl(REVALIDATE);
+        etag.ifPresent(builder::eTag);
+        return builder.body(response);
+    }
+
     @Operation(
             summary = "현재 버전 설정",
             description = "특정 버전을 현재 활성 버전으로 설정합니다."
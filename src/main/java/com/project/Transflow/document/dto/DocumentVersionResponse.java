@@ -35,6 +35,9 @@ public class DocumentVersionResponse {
     @Schema(description = "최종 버전 여부", example = "false")
     private Boolean isFinal;
 
+    @Schema(description = "내용 SHA-256 (hex)")
+    private String contentHash;
+
     @Schema(description = "생성자 정보")
     private CreatorInfo createdBy;
 
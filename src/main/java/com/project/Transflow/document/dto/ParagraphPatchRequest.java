@@ -0,0 +1,46 @@
+package com.project.Transflow.document.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotNull;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "문단 단위 임시 저장 요청 (바뀐 문단만 전송)")
+public class ParagraphPatchRequest {
+
+    @Schema(description = "편집기가 불러온(또는 직전 저장 응답의) 버전 ID. 문서 최신 버전과 다르면 409", example = "42")
+    @NotNull(message = "기준 버전 ID는 필수입니다.")
+    private Long baseVersionId;
+
+    @Schema(description = "바뀐 문단 목록")
+    @NotNull(message = "문단 목록은 필수입니다.")
+    @Valid
+    private List<ParagraphChange> paragraphs;
+
+    @Schema(description = "완료된 문단 ID 배열", example = "[1, 2, 3]")
+    private List<Integer> completedParagraphs;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "바뀐 문단")
+    public static class ParagraphChange {
+        @Schema(description = "문단 인덱스 (data-paragraph-index)", example = "3")
+        @NotNull(message = "문단 인덱스는 필수입니다.")
+        private Integer index;
+
+        @Schema(description = "문단 요소 HTML (data-paragraph-index 포함)", example = "<p data-paragraph-index=\"3\">번역문</p>")
+        @NotNull(message = "문단 HTML은 필수입니다.")
+        private String html;
+    }
+}
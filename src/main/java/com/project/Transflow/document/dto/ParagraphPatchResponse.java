@@ -0,0 +1,32 @@
+package com.project.Transflow.document.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "문단 단위 임시 저장 응답")
+public class ParagraphPatchResponse {
+
+    @Schema(description = "저장된 작업본 버전 ID (다음 저장의 baseVersionId)", example = "43")
+    private Long versionId;
+
+    @Schema(description = "작업본 버전 번호", example = "5")
+    private Integer versionNumber;
+
+    @Schema(description = "이번 저장으로 새 작업본 버전을 만들었는지 여부")
+    private boolean createdVersion;
+
+    @Schema(description = "반영된 문단 수", example = "1")
+    private int updatedParagraphs;
+
+    @Schema(description = "합쳐진 본문 SHA-256 (버전 ETag와 같은 기준)")
+    private String contentHash;
+}
@@ -0,0 +1,92 @@
+package com.project.Transflow.document.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 두 버전의 문단 단위 비교 결과. 캐시에 그대로 보관되므로 setter를 두지 않음
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder(toBuilder = true)
+@Schema(description = "버전 비교 결과 (문단 정렬 + 단어 단위 변경)")
+public class VersionDiffResponse {
+
+    @Schema(description = "문서 ID", example = "1")
+    private Long documentId;
+
+    @Schema(description = "기준(이전) 버전 ID", example = "10")
+    private Long fromVersionId;
+
+    @Schema(description = "기준(이전) 버전 번호", example = "1")
+    private Integer fromVersionNumber;
+
+    @Schema(description = "비교(이후) 버전 ID", example = "12")
+    private Long toVersionId;
+
+    @Schema(description = "비교(이후) 버전 번호", example = "3")
+    private Integer toVersionNumber;
+
+    @Schema(description = "변경 없는 문단 수", example = "40")
+    private int unchangedCount;
+
+    @Schema(description = "수정된 문단 수", example = "3")
+    private int modifiedCount;
+
+    @Schema(description = "추가된 문단 수", example = "1")
+    private int addedCount;
+
+    @Schema(description = "삭제된 문단 수", example = "0")
+    private int removedCount;
+
+    @Schema(description = "문단별 비교 결과 (비교 버전의 문단 순서)")
+    private List<ParagraphDiff> paragraphs;
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "문단 비교 결과")
+    public static class ParagraphDiff {
+
+        @Schema(description = "UNCHANGED, MODIFIED, ADDED, REMOVED", example = "MODIFIED")
+        private String type;
+
+        @Schema(description = "기준 버전에서의 문단 순번 (0부터, 추가된 문단이면 null)", example = "4")
+        private Integer fromPosition;
+
+        @Schema(description = "비교 버전에서의 문단 순번 (0부터, 삭제된 문단이면 null)", example = "4")
+        private Integer toPosition;
+
+        @Schema(description = "data-paragraph-index 값 (있는 경우)", example = "4")
+        private Integer paragraphIndex;
+
+        @Schema(description = "문단 요소 태그", example = "p")
+        private String tag;
+
+        @Schema(description = "문단 HTML. 삭제된 문단은 기준 버전, 그 외는 비교 버전의 HTML")
+        private String html;
+
+        @Schema(description = "단어 단위 변경 (MODIFIED만)")
+        private List<Segment> segments;
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "단어 단위 변경 구간")
+    public static class Segment {
+
+        @Schema(description = "EQUAL, INSERT, DELETE", example = "INSERT")
+        private String op;
+
+        @Schema(description = "구간 텍스트", example = "새로운 문장")
+        private String text;
+    }
+}
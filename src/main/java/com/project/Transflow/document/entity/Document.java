@@ -9,7 +9,9 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "document")
+@Table(name = "document", indexes = {
+        @Index(name = "idx_document_status_updated_at", columnList = "status, updated_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,5 +1,6 @@
 package com.project.Transflow.document.entity;
 
+import com.project.Transflow.document.util.ContentHash;
 import com.project.Transflow.user.entity.User;
 import lombok.*;
 import org.hibernate.annotations.CreationTimestamp;
@@ -17,7 +18,8 @@ import java.time.LocalDateTime;
 public class DocumentVersion {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "document_version_seq")
+    @SequenceGenerator(name = "document_version_seq", sequenceName = "document_version_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -33,6 +35,13 @@ public class DocumentVersion {
     @Column(nullable = false, columnDefinition = "LONGTEXT")
     private String content; // 원문 또는 번역된 HTML 내용
 
+    @Column(length = 64)
+    private String contentHash; // 본문 SHA-256 (ETag용). 이전 버전은 null일 수 있음
+
+    // 문단 단위 저장 중인 작업본이면 true: 최신 본문은 document_version_paragraph에 있고 content는 마지막으로 합친 시점의 본문
+    // 작업본이 닫히면(다른 버전 생성·리뷰 등록) 합쳐서 content에 반영하고 false로 돌림
+    private Boolean paragraphBacked;
+
     @Column(nullable = false)
     @Builder.Default
     private Boolean isFinal = false; // 최종 버전 여부
@@ -44,5 +53,12 @@ public class DocumentVersion {
     @CreationTimestamp
     @Column(nullable = false, updatable = false)
     private LocalDateTime createdAt;
+
+    @PrePersist
+    void computeContentHash() {
+        if (content != null) {
+            contentHash = ContentHash.sha256Hex(content);
+        }
+    }
 }
 
@@ -0,0 +1,45 @@
+package com.project.Transflow.document.entity;
+
+import lombok.*;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 문단 단위로 저장 중인 번역 버전(DocumentVersion.paragraphBacked)의 문단 HTML.
+ * paragraphIndex -1 행은 문단 자리표시가 들어간 골격 HTML입니다.
+ */
+@Entity
+@Table(name = "document_version_paragraph",
+        uniqueConstraints = @UniqueConstraint(name = "uk_document_version_paragraph",
+                columnNames = {"document_version_id", "paragraph_index"}))
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DocumentVersionParagraph {
+
+    /** 골격 HTML 행의 paragraphIndex */
+    public static final int SKELETON_INDEX = -1;
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "document_version_paragraph_seq")
+    @SequenceGenerator(name = "document_version_paragraph_seq", sequenceName = "document_version_paragraph_seq", allocationSize = 50)
+    private Long id;
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "document_version_id", nullable = false)
+    private DocumentVersion documentVersion;
+
+    @Column(name = "paragraph_index", nullable = false)
+    private Integer paragraphIndex;
+
+    @Column(nullable = false, columnDefinition = "LONGTEXT")
+    private String content;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -17,7 +17,8 @@ import java.time.LocalDateTime;
 public class HandoverHistory {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "handover_history_seq")
+    @SequenceGenerator(name = "handover_history_seq", sequenceName = "handover_history_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
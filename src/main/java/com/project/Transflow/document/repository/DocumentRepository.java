@@ -3,15 +3,26 @@ package com.project.Transflow.document.repository;
 import com.project.Transflow.document.entity.Document;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.LockModeType;
+
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface DocumentRepository extends JpaRepository<Document, Long> {
+
+    /** 문서 단위로 저장을 직렬화할 때 사용 (SELECT ... FOR UPDATE) */
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT d FROM Document d WHERE d.id = :id")
+    Optional<Document> findByIdForUpdate(@Param("id") Long id);
+
     List<Document> findByStatus(String status);
     List<Document> findByCategoryId(Long categoryId);
     List<Document> findByCreatedBy_Id(Long createdById);
@@ -33,6 +44,17 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
            "AND d2.status IN ('APPROVED', 'PUBLISHED'))")
     List<Document> findPendingTranslationSourcesNotFinalized();
 
+    /** 관리자 번역 세션 컬럼만 조회 (copyDocumentId, userId, at) */
+    @Query("SELECT d.adminSessionCopyDocumentId, d.adminSessionUserId, d.adminSessionAt FROM Document d WHERE d.id = :id")
+    List<Object[]> findAdminSessionColumnsById(@Param("id") Long id);
+
+    /** 관리자 세션 하트비트 기록 — 마지막 기록이 threshold 이전일 때만 갱신 (updatedAt 미변경) */
+    @Modifying
+    @Query("UPDATE Document d SET d.adminSessionAt = :at WHERE d.id = :id "
+            + "AND d.adminSessionCopyDocumentId IS NOT NULL "
+            + "AND (d.adminSessionAt IS NULL OR d.adminSessionAt < :threshold)")
+    int touchAdminSessionAt(@Param("id") Long id, @Param("at") LocalDateTime at, @Param("threshold") LocalDateTime threshold);
+
     /** 원문 문서 ID로 복사본 목록 조회 (다른 사람 작업물) */
     List<Document> findBySourceDocument_IdOrderByCreatedAtDesc(Long sourceDocumentId);
 
@@ -52,6 +74,12 @@ public interface DocumentRepository extends JpaRepository<Document, Long> {
 
     long countByStatus(String status);
 
+    /** 대시보드 승인 카드용: APPROVED 리뷰가 없는 APPROVED/PUBLISHED 문서 (리뷰 기반 카드와 겹치지 않음) */
+    @Query("SELECT d FROM Document d WHERE d.status IN ('APPROVED', 'PUBLISHED') "
+            + "AND NOT EXISTS (SELECT 1 FROM Review r WHERE r.document = d AND r.status = 'APPROVED') "
+            + "ORDER BY d.updatedAt DESC")
+    List<Document> findTopApprovedOrPublishedWithoutApprovedReview(Pageable pageable);
+
     @Query("SELECT d FROM Document d LEFT JOIN FETCH d.createdBy cb LEFT JOIN FETCH d.lastModifiedBy lmb "
             + "WHERE d.status = 'IN_TRANSLATION' AND (cb.id = :userId OR lmb.id = :userId) ORDER BY d.updatedAt DESC")
     List<Document> findInTranslationForUser(@Param("userId") Long userId, Pageable pageable);
@@ -0,0 +1,24 @@
+package com.project.Transflow.document.repository;
+
+import com.project.Transflow.document.entity.DocumentVersionParagraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.List;
+
+@Repository
+public interface DocumentVersionParagraphRepository extends JpaRepository<DocumentVersionParagraph, Long> {
+    List<DocumentVersionParagraph> findByDocumentVersion_Id(Long documentVersionId);
+
+    @Modifying
+    @Query("DELETE FROM DocumentVersionParagraph p WHERE p.documentVersion.id = :versionId")
+    int deleteByVersionId(@Param("versionId") Long versionId);
+
+    @Modifying
+    @Query("DELETE FROM DocumentVersionParagraph p WHERE p.documentVersion.id IN "
+            + "(SELECT v.id FROM DocumentVersion v WHERE v.document.id = :documentId)")
+    int deleteByDocumentId(@Param("documentId") Long documentId);
+}
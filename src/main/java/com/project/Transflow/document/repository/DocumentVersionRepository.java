@@ -1,7 +1,9 @@
 package com.project.Transflow.document.repository;
 
 import com.project.Transflow.document.entity.DocumentVersion;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -15,8 +17,10 @@ public interface DocumentVersionRepository extends JpaRepository<DocumentVersion
     Optional<DocumentVersion> findByDocument_IdAndVersionNumber(Long documentId, Integer versionNumber);
     Optional<DocumentVersion> findByDocument_IdAndIsFinalTrue(Long documentId);
     Optional<DocumentVersion> findFirstByDocument_IdOrderByVersionNumberDesc(Long documentId);
+    Optional<DocumentVersion> findFirstByDocument_IdAndVersionTypeOrderByVersionNumberDesc(Long documentId, String versionType);
     List<DocumentVersion> findByDocument_Id(Long documentId);
     long countByDocument_Id(Long documentId);
+    List<DocumentVersion> findByDocument_IdAndParagraphBackedTrue(Long documentId);
     void deleteByDocument_Id(Long documentId);
 
     /**
@@ -31,6 +35,24 @@ public interface DocumentVersionRepository extends JpaRepository<DocumentVersion
     @Query("SELECT dv.document.id, dv.content FROM DocumentVersion dv WHERE dv.document.id IN :documentIds AND dv.versionType = 'ORIGINAL'")
     List<Object[]> findOriginalContentByDocumentIds(@Param("documentIds") List<Long> documentIds);
 
+    /** ETag 계산용: 본문 없이 (id, contentHash, isFinal)만 조회 */
+    @Query("SELECT dv.id, dv.contentHash, dv.isFinal FROM DocumentVersion dv WHERE dv.id = :id AND dv.document.id = :documentId")
+    List<Object[]> findEtagColumnsById(@Param("documentId") Long documentId, @Param("id") Long id);
+
+    /** ETag 계산용: 문서의 전체 버전 (id, contentHash, isFinal) 조회 */
+    @Query("SELECT dv.id, dv.contentHash, dv.isFinal FROM DocumentVersion dv WHERE dv.document.id = :documentId")
+    List<Object[]> findEtagColumnsByDocumentId(@Param("documentId") Long documentId);
+
+    /** content_hash 도입 이전 버전 (해시 채우기용). 문단 작업본은 content가 최신 본문이 아니므로 제외 */
+    @Query("SELECT dv FROM DocumentVersion dv WHERE dv.contentHash IS NULL "
+            + "AND (dv.paragraphBacked IS NULL OR dv.paragraphBacked = false) ORDER BY dv.id ASC")
+    List<DocumentVersion> findWithoutContentHash(Pageable pageable);
+
+    /** 해시가 비어 있을 때만 기록 (다른 인스턴스가 먼저 채웠으면 0) */
+    @Modifying
+    @Query("UPDATE DocumentVersion dv SET dv.contentHash = :contentHash WHERE dv.id = :id AND dv.contentHash IS NULL")
+    int fillContentHash(@Param("id") Long id, @Param("contentHash") String contentHash);
+
     /** 문서 ID별 버전 개수 배치 조회 (목록용) */
     @Query("SELECT dv.document.id, COUNT(dv) FROM DocumentVersion dv WHERE dv.document.id IN :documentIds GROUP BY dv.document.id")
     List<Object[]> countVersionsGroupedByDocumentId(@Param("documentIds") List<Long> documentIds);
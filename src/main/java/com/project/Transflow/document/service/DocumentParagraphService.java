@@ -0,0 +1,283 @@
+package com.project.Transflow.document.service;
+
+import com.project.Transflow.config.CacheConfig;
+import com.project.Transflow.document.dto.ParagraphPatchRequest;
+import com.project.Transflow.document.dto.ParagraphPatchResponse;
+import com.project.Transflow.document.entity.Document;
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.entity.DocumentVersionParagraph;
+import com.project.Transflow.document.repository.DocumentRepository;
+import com.project.Transflow.document.repository.DocumentVersionParagraphRepository;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.document.util.ContentHash;
+import com.project.Transflow.document.util.ParagraphHtml;
+import com.project.Transflow.user.entity.User;
+import com.project.Transflow.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * 문단 단위 번역 저장.
+ * 사용자의 작업본(paragraphBacked 수동 번역 버전)은 문단별 행으로 저장되어, 임시 저장 시 바뀐 문단 행만 갱신합니다.
+ * 전체 HTML은 읽을 때 골격 + 문단으로 합치며, 합친 결과의 재료는 PARAGRAPH_DRAFTS 캐시에 둡니다.
+ * 작업본은 다른 버전이 생기거나 리뷰에 올라가면 확정(materialize)되어 content에 반영된 일반 버전이 됩니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentParagraphService {
+
+    private final DocumentRepository documentRepository;
+    private final DocumentVersionRepository documentVersionRepository;
+    private final DocumentVersionParagraphRepository paragraphRepository;
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    /**
+     * 바뀐 문단만 저장합니다. 최신 버전이 이 사용자의 작업본이면 그 문단 행만 갱신하고,
+     * 아니면 최신 버전 본문을 문단으로 나눠 새 작업본 버전을 만듭니다.
+     * 같은 문서의 저장은 문서 행 잠금(PESSIMISTIC_WRITE)으로 순서대로 처리하고, 작업본은 캐시가 아닌 문단 행에서 읽습니다.
+     *
+     * @throws IllegalStateException    baseVersionId가 문서의 최신 버전이 아닌 경우 (다른 저장이 먼저 반영됨)
+     * @throws IllegalArgumentException 문서·버전이 없거나 문단 인덱스·HTML이 잘못된 경우
+     */
+    @Transactional
+    public ParagraphPatchResponse patchParagraphs(Long documentId, ParagraphPatchRequest request, Long userId) {
+        // 동시에 들어온 저장이 같은 작업본을 기준으로 덮어쓰지 않도록 문서 단위로 직렬화
+        Document document = documentRepository.findByIdForUpdate(documentId)
+                .orElseThrow(() -> new IllegalArgumentException("문서를 찾을 수 없습니다: " + documentId));
+        DocumentVersion latest = documentVersionRepository.findFirstByDocument_IdOrderByVersionNumberDesc(documentId)
+                .orElseThrow(() -> new IllegalArgumentException("저장된 버전이 없어 문단 단위로 저장할 수 없습니다."));
+        if (!latest.getId().equals(request.getBaseVersionId())) {
+            throw new IllegalStateException("다른 저장이 먼저 반영되었습니다. 최신 버전(ID " + latest.getId() + ")을 다시 불러오세요.");
+        }
+
+        boolean createVersion = !isWorkingDraft(latest, userId);
+        if (createVersion) {
+            // 다른 사용자의 작업본이면 확정한 뒤 그 본문을 기준으로 새 작업본을 만듦
+            materializeDrafts(documentId);
+        }
+        Map<Integer, DocumentVersionParagraph> rows = createVersion
+                ? Collections.emptyMap() : readRows(latest);
+        ParagraphDraft base = createVersion ? splitDraft(latest) : toDraft(latest, rows.values());
+
+        Map<Integer, String> changes = new LinkedHashMap<>();
+        for (ParagraphPatchRequest.ParagraphChange change : request.getParagraphs()) {
+            int index = change.getIndex();
+            if (!base.paragraphs.containsKey(index)) {
+                throw new IllegalArgumentException("존재하지 않는 문단 인덱스입니다: " + index);
+            }
+            ParagraphHtml.requireParagraphElement(index, change.getHtml());
+            if (!change.getHtml().equals(base.paragraphs.get(index))) {
+                changes.put(index, change.getHtml());
+            }
+        }
+
+        DocumentVersion draft;
+        ParagraphDraft saved;
+        if (createVersion) {
+            Map<Integer, String> paragraphs = new HashMap<>(base.paragraphs);
+            paragraphs.putAll(changes);
+            String html = ParagraphHtml.assemble(base.skeleton, paragraphs);
+            draft = createDraftVersion(document, latest, userId, html);
+            List<DocumentVersionParagraph> newRows = new ArrayList<>(paragraphs.size() + 1);
+            newRows.add(row(draft, DocumentVersionParagraph.SKELETON_INDEX, base.skeleton));
+            paragraphs.forEach((index, paragraphHtml) -> newRows.add(row(draft, index, paragraphHtml)));
+            paragraphRepository.saveAll(newRows);
+            saved = new ParagraphDraft(base.skeleton, paragraphs, null);
+        } else {
+            draft = latest;
+            changes.forEach((index, paragraphHtml) -> rows.get(index).setContent(paragraphHtml));
+            // 해시와 캐시 값은 갱신된 문단 행 기준으로 계산
+            saved = toDraft(draft, rows.values());
+        }
+        String contentHash = ContentHash.sha256Hex(saved.html());
+        if (!contentHash.equals(draft.getContentHash())) {
+            draft.setContentHash(contentHash);
+        }
+
+        // 트랜잭션 인식 캐시라 커밋 후 반영됨
+        Cache cache = cacheManager.getCache(CacheConfig.PARAGRAPH_DRAFTS);
+        if (cache != null) {
+            cache.put(draft.getId(), new ParagraphDraft(saved.skeleton, saved.paragraphs, contentHash));
+        }
+
+        log.debug("문단 저장: documentId={}, versionId={}, 새 작업본={}, 변경 문단={}",
+                documentId, draft.getId(), createVersion, changes.size());
+        return ParagraphPatchResponse.builder()
+                .versionId(draft.getId())
+                .versionNumber(draft.getVersionNumber())
+                .createdVersion(createVersion)
+                .updatedParagraphs(changes.size())
+                .contentHash(contentHash)
+                .build();
+    }
+
+    /**
+     * 버전의 최신 본문. 작업본이면 문단을 합친 HTML, 아니면 content 그대로.
+     */
+    @Transactional(readOnly = true)
+    public String resolveContent(DocumentVersion version) {
+        if (!Boolean.TRUE.equals(version.getParagraphBacked())) {
+            return version.getContent();
+        }
+        return loadDraft(version).html();
+    }
+
+    /**
+     * 문서의 작업본을 모두 확정합니다 (새 버전 생성 전 호출).
+     */
+    @Transactional
+    public void materializeDrafts(Long documentId) {
+        for (DocumentVersion version : documentVersionRepository.findByDocument_IdAndParagraphBackedTrue(documentId)) {
+            materialize(version);
+        }
+    }
+
+    /**
+     * 작업본이면 문단을 합쳐 content에 반영하고 문단 행을 지웁니다 (리뷰 등록 등 본문이 고정되어야 할 때).
+     */
+    @Transactional
+    public void materializeIfDraft(DocumentVersion version) {
+        if (Boolean.TRUE.equals(version.getParagraphBacked())) {
+            materialize(version);
+        }
+    }
+
+    /** 문서 삭제·버전 전체 삭제 전에 문단 행 제거 (document_version FK) */
+    @Transactional
+    public void deleteByDocumentId(Long documentId) {
+        paragraphRepository.deleteByDocumentId(documentId);
+    }
+
+    private void materialize(DocumentVersion version) {
+        String html = loadDraft(version).html();
+        version.setContent(html);
+        version.setContentHash(ContentHash.sha256Hex(html));
+        version.setParagraphBacked(false);
+        paragraphRepository.deleteByVersionId(version.getId());
+        Cache cache = cacheManager.getCache(CacheConfig.PARAGRAPH_DRAFTS);
+        if (cache != null) {
+            cache.evict(version.getId());
+        }
+        log.info("문단 작업본 확정: documentId={}, versionId={}", version.getDocument().getId(), version.getId());
+    }
+
+    private boolean isWorkingDraft(DocumentVersion version, Long userId) {
+        return Boolean.TRUE.equals(version.getParagraphBacked())
+                && "MANUAL_TRANSLATION".equals(version.getVersionType())
+                && !Boolean.TRUE.equals(version.getIsFinal())
+                && version.getCreatedBy() != null
+                && version.getCreatedBy().getId().equals(userId);
+    }
+
+    private DocumentVersion createDraftVersion(Document document, DocumentVersion latest, Long userId, String html) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("사용자를 찾을 수 없습니다: " + userId));
+        DocumentVersion draft = documentVersionRepository.save(DocumentVersion.builder()
+                .document(document)
+                .versionNumber(latest.getVersionNumber() + 1)
+                .versionType("MANUAL_TRANSLATION")
+                .content(html)
+                .isFinal(false)
+                .paragraphBacked(true)
+                .createdBy(user)
+                .build());
+        document.setCurrentVersionId(draft.getId());
+        log.info("문단 작업본 생성: documentId={}, versionId={}, 기준 버전 ID={}",
+                document.getId(), draft.getId(), latest.getId());
+        return draft;
+    }
+
+    private ParagraphDraft splitDraft(DocumentVersion version) {
+        ParagraphHtml.Split split = ParagraphHtml.split(version.getContent());
+        return new ParagraphDraft(split.getSkeleton(), split.getParagraphs(), version.getContentHash());
+    }
+
+    /**
+     * 캐시의 작업본이 DB의 본문 해시와 같으면 그대로 쓰고, 아니면(다른 인스턴스에서 저장 등) 문단 행에서 다시 읽습니다.
+     */
+    private ParagraphDraft loadDraft(DocumentVersion version) {
+        Cache cache = cacheManager.getCache(CacheConfig.PARAGRAPH_DRAFTS);
+        ParagraphDraft cached = cache != null ? cache.get(version.getId(), ParagraphDraft.class) : null;
+        if (cached != null && Objects.equals(cached.contentHash, version.getContentHash())) {
+            return cached;
+        }
+
+        ParagraphDraft draft = toDraft(version, paragraphRepository.findByDocumentVersion_Id(version.getId()));
+        if (cache != null) {
+            cache.put(version.getId(), draft);
+        }
+        return draft;
+    }
+
+    private Map<Integer, DocumentVersionParagraph> readRows(DocumentVersion version) {
+        Map<Integer, DocumentVersionParagraph> rows = new HashMap<>();
+        for (DocumentVersionParagraph row : paragraphRepository.findByDocumentVersion_Id(version.getId())) {
+            rows.put(row.getParagraphIndex(), row);
+        }
+        return rows;
+    }
+
+    private static ParagraphDraft toDraft(DocumentVersion version, Collection<DocumentVersionParagraph> rows) {
+        String skeleton = null;
+        Map<Integer, String> paragraphs = new HashMap<>();
+        for (DocumentVersionParagraph row : rows) {
+            if (row.getParagraphIndex() == DocumentVersionParagraph.SKELETON_INDEX) {
+                skeleton = row.getContent();
+            } else {
+                paragraphs.put(row.getParagraphIndex(), row.getContent());
+            }
+        }
+        if (skeleton == null) {
+            throw new IllegalStateException("문단 작업본의 골격 HTML이 없습니다: versionId=" + version.getId());
+        }
+        return new ParagraphDraft(skeleton, paragraphs, version.getContentHash());
+    }
+
+    private static DocumentVersionParagraph row(DocumentVersion version, int index, String content) {
+        return DocumentVersionParagraph.builder()
+                .documentVersion(version)
+                .paragraphIndex(index)
+                .content(content)
+                .build();
+    }
+
+    /**
+     * 캐시 값: 골격 + 문단 HTML + 그 시점의 본문 해시. 합친 HTML은 처음 읽을 때 한 번 만듦
+     */
+    private static final class ParagraphDraft {
+        private final String skeleton;
+        private final Map<Integer, String> paragraphs;
+        private final String contentHash;
+        private volatile String html;
+
+        private ParagraphDraft(String skeleton, Map<Integer, String> paragraphs, String contentHash) {
+            this.skeleton = skeleton;
+            this.paragraphs = Collections.unmodifiableMap(paragraphs);
+            this.contentHash = contentHash;
+        }
+
+        private String html() {
+            String assembled = html;
+            if (assembled == null) {
+                assembled = ParagraphHtml.assemble(skeleton, paragraphs);
+                html = assembled;
+            }
+            return assembled;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package com.project.Transflow.document.service;
 
+import com.project.Transflow.config.CacheConfig;
 import com.project.Transflow.document.dto.DashboardDocumentCardDto;
 import com.project.Transflow.document.dto.DashboardSummaryResponse;
 import com.project.Transflow.document.dto.CompleteTranslationRequest;
@@ -22,6 +23,9 @@ import com.project.Transflow.task.entity.TranslationTask;
 import com.project.Transflow.task.repository.TranslationTaskRepository;
 import com.project.Transflow.document.repository.DocumentFavoriteRepository;
 import com.project.Transflow.document.repository.HandoverHistoryRepository;
+import com.project.Transflow.document.session.AdminTranslationSession;
+import com.project.Transflow.document.session.AdminTranslationSessionRegistry;
+import com.project.Transflow.notification.service.TranslationNotificationMailService;
 import com.project.Transflow.review.repository.ReviewRepository;
 import com.project.Transflow.review.entity.Review;
 import com.project.Transflow.review.service.ReviewService;
@@ -31,10 +35,13 @@ import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
 import org.springframework.web.server.ResponseStatusException;
 
 import java.util.Comparator;
@@ -46,6 +53,7 @@ import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -56,6 +64,9 @@ public class DocumentService {
     /** 관리자 번역 세션 하트비트 TTL (분). 이 시간 동안 갱신 없으면 비활성으로 간주 */
     public static final int ADMIN_SESSION_TTL_MINUTES = 5;
 
+    /** 대시보드 카드 섹션별 최대 개수 */
+    private static final int DASHBOARD_CARD_LIMIT = 3;
+
     private final DocumentRepository documentRepository;
     private final DocumentVersionRepository documentVersionRepository;
     private final UserRepository userRepository;
@@ -66,8 +77,12 @@ public class DocumentService {
     private final ReviewRepository reviewRepository;
     private final ReviewService reviewService;
     private final DocumentVersionService documentVersionService;
+    private final DocumentParagraphService documentParagraphService;
+    private final AdminTranslationSessionRegistry adminSessionRegistry;
+    private final TranslationNotificationMailService translationNotificationMailService;
     private final ObjectMapper objectMapper = new com.fasterxml.jackson.databind.ObjectMapper();
 
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public DocumentResponse createDocument(CreateDocumentRequest request, Long createdById) {
         // 개발 단계: createdById가 null이면 첫 번째 사용자 사용 (또는 기본 사용자)
@@ -110,7 +125,8 @@ public class DocumentService {
         return toResponse(document);
     }
 
-    @Transactional(readOnly = true)
+    // 생성·수정 직후 상세 조회에 쓰이므로 복제 지연 없이 기본 DB에서 읽음
+    @Transactional
     public Optional<DocumentResponse> findById(Long id) {
         return documentRepository.findById(id)
                 .map(this::toResponse);
@@ -121,7 +137,8 @@ public class DocumentService {
      * @param url 검사할 URL (trim 적용 권장)
      * @return 존재 여부 및 문서 개수
      */
-    @Transactional(readOnly = true)
+    // 등록 직전 중복 검사라 복제 지연 없이 기본 DB에서 읽음
+    @Transactional
     public boolean existsByOriginalUrl(String url) {
         if (url == null || url.isBlank()) return false;
         List<Document> docs = documentRepository.findByOriginalUrl(url.trim());
@@ -134,7 +151,8 @@ public class DocumentService {
      * @param userId 현재 사용자 ID
      * @return 해당 사용자의 복사본이 있으면 Optional에 담아 반환, 없으면 empty
      */
-    @Transactional(readOnly = true)
+    // 복사본 생성 직후·생성 전 확인에 쓰이므로 복제 지연 없이 기본 DB에서 읽음
+    @Transactional
     public Optional<DocumentResponse> findMyCopyBySourceId(Long sourceDocumentId, Long userId) {
         if (sourceDocumentId == null || userId == null) return Optional.empty();
         return documentRepository.findBySourceDocument_IdAndCreatedBy_Id(sourceDocumentId, userId)
@@ -245,19 +263,21 @@ public class DocumentService {
 
     /**
      * 대시보드용 단일 응답 — 상태별 전체 목록·개별 문서 조회 대신 카드에 필요한 필드만 반환.
+     * 카드별 top-N 쿼리(LIMIT)로 조회하며, 결과는 짧은 TTL로 캐시되고 문서·리뷰 상태 전이 시 무효화됩니다.
      */
+    @Cacheable(cacheNames = CacheConfig.DASHBOARD_SUMMARY)
     @Transactional(readOnly = true)
     public DashboardSummaryResponse getDashboardSummary(Long userId, boolean isAdmin) {
         DashboardSummaryResponse response = DashboardSummaryResponse.builder().build();
 
         List<Document> pending = documentRepository.findTopByStatusWithUsers(
-                "PENDING_TRANSLATION", PageRequest.of(0, 3));
+                "PENDING_TRANSLATION", PageRequest.of(0, DASHBOARD_CARD_LIMIT));
         response.setPendingDocuments(
                 pending.stream().map(this::toDashboardCard).collect(Collectors.toList()));
 
         List<DashboardDocumentCardDto> working = new ArrayList<>();
         if (userId != null) {
-            working = documentRepository.findInTranslationForUser(userId, PageRequest.of(0, 3)).stream()
+            working = documentRepository.findInTranslationForUser(userId, PageRequest.of(0, DASHBOARD_CARD_LIMIT)).stream()
                     .map(this::toDashboardCard)
                     .collect(Collectors.toList());
         }
@@ -284,53 +304,70 @@ public class DocumentService {
             response.setLatestReviewDocument(latestCard);
         }
 
-        Map<Long, DashboardDocumentCardDto> approvedByDocId = new HashMap<>();
-        for (Document doc : documentRepository.findByStatusWithUsers("APPROVED")) {
-            approvedByDocId.putIfAbsent(doc.getId(), toDashboardCard(doc));
-        }
-        for (Document doc : documentRepository.findByStatusWithUsers("PUBLISHED")) {
-            approvedByDocId.putIfAbsent(doc.getId(), toDashboardCard(doc));
-        }
-        for (Review review : reviewRepository.findByStatusWithDocumentAndReviewer("APPROVED")) {
-            Document doc = review.getDocument();
-            if (doc == null) {
-                continue;
-            }
-            DashboardDocumentCardDto card = toDashboardCard(doc);
-            card.setApprovedReviewId(review.getId());
-            card.setPublishedUrl(firstNonBlank(review.getPublishedUrl(), doc.getPublishedUrl()));
-            card.setPublishStatus(review.getPublishStatus());
-            card.setPublishError(review.getPublishError());
-            card.setDisplayAt(firstNonNull(review.getFinalApprovalAt(), doc.getUpdatedAt()));
-            approvedByDocId.put(doc.getId(), card);
-        }
-        List<DashboardDocumentCardDto> approved = approvedByDocId.values().stream()
-                .sorted(byDisplayAtDesc())
-                .limit(3)
-                .collect(Collectors.toList());
-        response.setApprovedDocuments(approved);
-
-        List<Review> rejectedReviews = reviewRepository.findByStatusWithDocumentAndReviewer("REJECTED");
-        rejectedReviews.sort(Comparator.comparing(
-                (Review r) -> firstNonNull(r.getReviewedAt(), r.getUpdatedAt()),
-                Comparator.nullsLast(Comparator.naturalOrder())).reversed());
-        List<DashboardDocumentCardDto> rejected = new ArrayList<>();
-        java.util.Set<Long> seenRejected = new HashSet<>();
-        for (Review review : rejectedReviews) {
-            Document doc = review.getDocument();
-            if (doc == null || !seenRejected.add(doc.getId())) {
-                continue;
+        List<DashboardDocumentCardDto> approved = collectDistinctDocumentCards(
+                reviewRepository::findApprovedWithDocumentOrderByDisplayAtDesc,
+                this::toApprovedReviewCard,
+                DASHBOARD_CARD_LIMIT);
+        documentRepository.findTopApprovedOrPublishedWithoutApprovedReview(PageRequest.of(0, DASHBOARD_CARD_LIMIT))
+                .forEach(doc -> approved.add(toDashboardCard(doc)));
+        approved.sort(byDisplayAtDesc());
+        response.setApprovedDocuments(approved.stream()
+                .limit(DASHBOARD_CARD_LIMIT)
+                .collect(Collectors.toList()));
+
+        response.setRejectedDocuments(collectDistinctDocumentCards(
+                reviewRepository::findRejectedWithDocumentOrderByReviewedAtDesc,
+                this::toRejectedReviewCard,
+                DASHBOARD_CARD_LIMIT));
+
+        return response;
+    }
+
+    /**
+     * 정렬된 리뷰 페이지를 순서대로 읽어 문서당 첫 리뷰만 카드로 만듭니다 (limit개 모이면 중단).
+     * 한 문서에 리뷰가 여러 개여도 전체 이력을 읽지 않도록 limit의 몇 배 단위로 페이지를 가져옵니다.
+     */
+    private List<DashboardDocumentCardDto> collectDistinctDocumentCards(
+            Function<Pageable, List<Review>> pageLoader,
+            Function<Review, DashboardDocumentCardDto> cardMapper,
+            int limit) {
+        int pageSize = limit * 3;
+        List<DashboardDocumentCardDto> cards = new ArrayList<>();
+        java.util.Set<Long> seenDocumentIds = new HashSet<>();
+        for (int page = 0; cards.size() < limit; page++) {
+            List<Review> reviews = pageLoader.apply(PageRequest.of(page, pageSize));
+            for (Review review : reviews) {
+                Document doc = review.getDocument();
+                if (doc == null || !seenDocumentIds.add(doc.getId())) {
+                    continue;
+                }
+                cards.add(cardMapper.apply(review));
+                if (cards.size() >= limit) {
+                    break;
+                }
             }
-            DashboardDocumentCardDto card = toDashboardCard(doc);
-            card.setDisplayAt(review.getReviewedAt());
-            rejected.add(card);
-            if (rejected.size() >= 3) {
+            if (reviews.size() < pageSize) {
                 break;
             }
         }
-        response.setRejectedDocuments(rejected);
+        return cards;
+    }
 
-        return response;
+    private DashboardDocumentCardDto toApprovedReviewCard(Review review) {
+        Document doc = review.getDocument();
+        DashboardDocumentCardDto card = toDashboardCard(doc);
+        card.setApprovedReviewId(review.getId());
+        card.setPublishedUrl(firstNonBlank(review.getPublishedUrl(), doc.getPublishedUrl()));
+        card.setPublishStatus(review.getPublishStatus());
+        card.setPublishError(review.getPublishError());
+        card.setDisplayAt(firstNonNull(review.getFinalApprovalAt(), doc.getUpdatedAt()));
+        return card;
+    }
+
+    private DashboardDocumentCardDto toRejectedReviewCard(Review review) {
+        DashboardDocumentCardDto card = toDashboardCard(review.getDocument());
+        card.setDisplayAt(review.getReviewedAt());
+        return card;
     }
 
     private Comparator<DashboardDocumentCardDto> byDisplayAtDesc() {
@@ -674,6 +711,7 @@ public class DocumentService {
                 .collect(Collectors.toList());
     }
 
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true, condition = "#request.status != null")
     @Transactional
     public DocumentResponse updateDocument(Long id, UpdateDocumentRequest request, Long modifiedById) {
         Document document = documentRepository.findById(id)
@@ -725,6 +763,7 @@ public class DocumentService {
      * 봉사자: 원문 문서에서 번역용 복사본을 생성하고 작업을 시작합니다.
      * 복사본에는 원문의 ORIGINAL, AI_DRAFT 버전이 복사되며, 새 문서는 IN_TRANSLATION 상태로 생성됩니다.
      */
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public DocumentResponse createCopyForTranslation(Long sourceDocumentId, Long userId) {
         Document source = documentRepository.findById(sourceDocumentId)
@@ -756,16 +795,16 @@ public class DocumentService {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST,
                     "원문에 ORIGINAL 또는 AI_DRAFT 버전이 없어 번역 복사본을 만들 수 없습니다.");
         }
+        List<DocumentVersion> copiedVersions = new ArrayList<>(sourceVersions.size() + 1);
         for (DocumentVersion sv : sourceVersions) {
-            DocumentVersion cv = DocumentVersion.builder()
+            copiedVersions.add(DocumentVersion.builder()
                     .document(copy)
                     .versionNumber(sv.getVersionNumber())
                     .versionType(sv.getVersionType())
                     .content(sv.getContent())
                     .isFinal(sv.getIsFinal())
                     .createdBy(user)
-                    .build();
-            documentVersionRepository.save(cv);
+                    .build());
         }
 
         // 사람 번역 레이어(v2): 초벌(v1) 기준으로 복사본을 열면 현재 버전은 수동 번역부터 (저장 전에도 v2로 표시)
@@ -794,8 +833,10 @@ public class DocumentService {
                 .isFinal(false)
                 .createdBy(user)
                 .build();
-        DocumentVersion savedManual = documentVersionRepository.save(initialManual);
-        copy.setCurrentVersionId(savedManual.getId());
+        copiedVersions.add(initialManual);
+        // 복사 버전 + 초기 수동 버전을 한 번에 저장 (시퀀스 ID라 JDBC 배치 insert로 묶임)
+        documentVersionRepository.saveAll(copiedVersions);
+        copy.setCurrentVersionId(initialManual.getId());
         documentRepository.save(copy);
 
         TranslationTask task = TranslationTask.builder()
@@ -815,6 +856,7 @@ public class DocumentService {
      * 관리자: 다른 문서의 작업을 이어받아 새 복사본을 생성합니다.
      * 복사본에는 원문의 ORIGINAL/AI_DRAFT와, 이어받을 문서의 최신 내용이 MANUAL_TRANSLATION으로 복사됩니다.
      */
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public DocumentResponse createCopyForContinuation(Long fromDocumentId, Long userId) {
         Document fromDoc = documentRepository.findById(fromDocumentId)
@@ -842,16 +884,16 @@ public class DocumentService {
                 .findByDocument_IdOrderByVersionNumberAsc(sourceId).stream()
                 .filter(v -> "ORIGINAL".equals(v.getVersionType()) || "AI_DRAFT".equals(v.getVersionType()))
                 .collect(Collectors.toList());
+        List<DocumentVersion> copiedVersions = new ArrayList<>(sourceVersions.size() + 1);
         for (DocumentVersion sv : sourceVersions) {
-            DocumentVersion cv = DocumentVersion.builder()
+            copiedVersions.add(DocumentVersion.builder()
                     .document(copy)
                     .versionNumber(sv.getVersionNumber())
                     .versionType(sv.getVersionType())
                     .content(sv.getContent())
                     .isFinal(false)
                     .createdBy(user)
-                    .build();
-            documentVersionRepository.save(cv);
+                    .build());
         }
 
         Optional<DocumentVersion> fromLatest = documentVersionRepository.findFirstByDocument_IdOrderByVersionNumberDesc(fromDocumentId);
@@ -861,14 +903,15 @@ public class DocumentService {
                     .document(copy)
                     .versionNumber(nextVersionNum)
                     .versionType("MANUAL_TRANSLATION")
-                    .content(fromLatest.get().getContent())
+                    .content(documentParagraphService.resolveContent(fromLatest.get()))
                     .isFinal(false)
                     .createdBy(user)
                     .build();
-            documentVersionRepository.save(continued);
+            copiedVersions.add(continued);
         }
 
-        List<DocumentVersion> copiedVersions = documentVersionRepository.findByDocument_IdOrderByVersionNumberAsc(copy.getId());
+        // 버전 번호 오름차순으로 쌓았으므로 마지막 항목이 현재 버전
+        documentVersionRepository.saveAll(copiedVersions);
         if (!copiedVersions.isEmpty()) {
             copy.setCurrentVersionId(copiedVersions.get(copiedVersions.size() - 1).getId());
             documentRepository.save(copy);
@@ -908,6 +951,7 @@ public class DocumentService {
         return max + 1;
     }
 
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public void deleteDocument(Long id) {
         Document document = documentRepository.findById(id)
@@ -948,6 +992,7 @@ public class DocumentService {
         reviewRepository.deleteByDocument_Id(documentId);
 
         // 버전 삭제 + currentVersionId 초기화
+        documentParagraphService.deleteByDocumentId(documentId);
         List<DocumentVersion> versions = documentVersionRepository.findByDocument_Id(documentId);
         if (!versions.isEmpty()) {
             documentVersionRepository.deleteAll(versions);
@@ -1104,32 +1149,63 @@ public class DocumentService {
     }
 
     public boolean isAdminTranslationSessionActive(Document source) {
+        return findActiveAdminSession(source).isPresent();
+    }
+
+    /**
+     * 원문의 활성 관리자 세션. 소유 정보(컬럼)가 비어 있으면 종료된 것으로 보고,
+     * 레지스트리에 없으면(재기동 등) 시작 시 저장된 시각이 TTL 이내일 때만 복원합니다.
+     */
+    private Optional<AdminTranslationSession> findActiveAdminSession(Document source) {
         if (source == null
                 || source.getAdminSessionCopyDocumentId() == null
-                || source.getAdminSessionAt() == null) {
-            return false;
-        }
-        return source.getAdminSessionAt().isAfter(LocalDateTime.now().minusMinutes(ADMIN_SESSION_TTL_MINUTES));
+                || source.getAdminSessionUserId() == null) {
+            return Optional.empty();
+        }
+        Optional<AdminTranslationSession> active = adminSessionRegistry.findActive(source.getId())
+                .filter(session -> source.getAdminSessionCopyDocumentId().equals(session.getCopyDocumentId())
+                        && source.getAdminSessionUserId().equals(session.getUserId()));
+        if (active.isPresent()) {
+            return active;
+        }
+        LocalDateTime startedAt = source.getAdminSessionAt();
+        if (startedAt == null
+                || !startedAt.isAfter(LocalDateTime.now().minusMinutes(ADMIN_SESSION_TTL_MINUTES))) {
+            return Optional.empty();
+        }
+        AdminTranslationSession restored = newAdminSession(
+                source.getId(), source.getAdminSessionCopyDocumentId(), source.getAdminSessionUserId(), startedAt);
+        adminSessionRegistry.register(restored);
+        return Optional.of(restored);
+    }
+
+    private AdminTranslationSession newAdminSession(
+            Long sourceDocumentId, Long copyDocumentId, Long userId, LocalDateTime at) {
+        AdminTranslationSession.AdminTranslationSessionBuilder builder = AdminTranslationSession.builder()
+                .sourceDocumentId(sourceDocumentId)
+                .copyDocumentId(copyDocumentId)
+                .userId(userId)
+                .lastHeartbeatAt(at);
+        userRepository.findById(userId).ifPresent(u -> builder.userEmail(u.getEmail()).userName(u.getName()));
+        return builder.build();
     }
 
     private void enrichAdminSession(Document document, DocumentResponse.DocumentResponseBuilder builder) {
-        Document source = getSourceRoot(document);
-        if (!isAdminTranslationSessionActive(source)) {
+        Optional<AdminTranslationSession> session = findActiveAdminSession(getSourceRoot(document));
+        if (session.isEmpty()) {
             builder.adminTranslationSessionActive(false)
                     .adminSessionCopyDocumentId(null)
                     .adminSessionUser(null);
             return;
         }
+        AdminTranslationSession active = session.get();
         builder.adminTranslationSessionActive(true)
-                .adminSessionCopyDocumentId(source.getAdminSessionCopyDocumentId());
-        Long uid = source.getAdminSessionUserId();
-        if (uid != null) {
-            userRepository.findById(uid).ifPresent(u -> builder.adminSessionUser(DocumentResponse.CreatorInfo.builder()
-                    .id(u.getId())
-                    .email(u.getEmail())
-                    .name(u.getName())
-                    .build()));
-        }
+                .adminSessionCopyDocumentId(active.getCopyDocumentId())
+                .adminSessionUser(DocumentResponse.CreatorInfo.builder()
+                        .id(active.getUserId())
+                        .email(active.getUserEmail())
+                        .name(active.getUserName())
+                        .build());
     }
 
     /**
@@ -1140,11 +1216,11 @@ public class DocumentService {
     public void assertVolunteerCanEditTranslation(Long documentId, Long userId, Integer roleLevel) {
         Document doc = documentRepository.findById(documentId)
                 .orElseThrow(() -> new ResponseStatusException(HttpStatus.NOT_FOUND, "문서를 찾을 수 없습니다."));
-        Document source = getSourceRoot(doc);
-        if (!isAdminTranslationSessionActive(source)) {
+        Optional<AdminTranslationSession> session = findActiveAdminSession(getSourceRoot(doc));
+        if (session.isEmpty()) {
             return;
         }
-        Long sessionOwnerId = source.getAdminSessionUserId();
+        Long sessionOwnerId = session.get().getUserId();
         if (sessionOwnerId != null && sessionOwnerId.equals(userId)) {
             return;
         }
@@ -1161,13 +1237,18 @@ public class DocumentService {
                     "원문 문서에는 관리자 번역 세션을 연결할 수 없습니다. 복사본 문서에서 시작하세요.");
         }
         Document source = getSourceRoot(copy);
+        LocalDateTime now = LocalDateTime.now();
         source.setAdminSessionCopyDocumentId(copy.getId());
         source.setAdminSessionUserId(adminUserId);
-        source.setAdminSessionAt(LocalDateTime.now());
+        source.setAdminSessionAt(now);
         documentRepository.save(source);
+        adminSessionRegistry.register(newAdminSession(source.getId(), copy.getId(), adminUserId, now));
         log.info("관리자 번역 세션 시작: sourceId={}, copyId={}, adminUserId={}", source.getId(), copy.getId(), adminUserId);
     }
 
+    /**
+     * 하트비트는 레지스트리만 갱신합니다 (DB 쓰기 없음). 소유 검증은 시작 시 저장된 컬럼 기준입니다.
+     */
     @Transactional
     public void heartbeatAdminTranslationSession(Long copyDocumentId, Long adminUserId) {
         Document copy = documentRepository.findById(copyDocumentId)
@@ -1182,8 +1263,10 @@ public class DocumentService {
         if (!copy.getId().equals(source.getAdminSessionCopyDocumentId())) {
             throw new ResponseStatusException(HttpStatus.CONFLICT, "원문에 다른 복사본이 관리자 세션으로 등록되어 있습니다.");
         }
-        source.setAdminSessionAt(LocalDateTime.now());
-        documentRepository.save(source);
+        LocalDateTime now = LocalDateTime.now();
+        if (!adminSessionRegistry.touch(source.getId(), now)) {
+            adminSessionRegistry.register(newAdminSession(source.getId(), copy.getId(), adminUserId, now));
+        }
     }
 
     @Transactional
@@ -1201,12 +1284,14 @@ public class DocumentService {
         source.setAdminSessionUserId(null);
         source.setAdminSessionAt(null);
         documentRepository.save(source);
+        adminSessionRegistry.remove(source.getId());
         log.info("관리자 번역 세션 종료: copyId={}, adminUserId={}", copyDocumentId, adminUserId);
     }
 
     /**
-     * 번역 완료: 버전 생성, 문서 상태·리뷰·작업 제출·관리자 세션 해제를 한 트랜잭션으로 처리합니다.
+     * 번역 완료: 버전 생성, 문서 상태·리뷰·작업 제출·관리자 세션 해제·완료 알림 메일 기록을 한 트랜잭션으로 처리합니다.
      */
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public DocumentVersionResponse completeTranslation(
             Long documentId,
@@ -1233,6 +1318,10 @@ public class DocumentService {
 
         clearAdminTranslationSessionIfEditingCopy(documentId);
 
+        String documentTitle = documentRepository.findById(documentId).map(Document::getTitle).orElse(null);
+        translationNotificationMailService.enqueueTranslationCompletedToAdmins(
+                documentId, createdVersion.getId(), documentTitle);
+
         return createdVersion;
     }
 
@@ -1240,6 +1329,7 @@ public class DocumentService {
         List<TranslationTask> inProgressTasks =
                 translationTaskRepository.findByDocument_IdAndStatus(documentId, "IN_PROGRESS");
         LocalDateTime now = LocalDateTime.now();
+        List<TranslationTask> submitted = new ArrayList<>();
         for (TranslationTask task : inProgressTasks) {
             if (task.getTranslator() == null || !task.getTranslator().getId().equals(userId)) {
                 continue;
@@ -1247,9 +1337,10 @@ public class DocumentService {
             task.setStatus("SUBMITTED");
             task.setSubmittedAt(now);
             task.setLastActivityAt(now);
-            translationTaskRepository.save(task);
+            submitted.add(task);
             log.info("번역 완료로 작업 제출 처리: taskId={}, documentId={}", task.getId(), documentId);
         }
+        translationTaskRepository.saveAll(submitted);
     }
 
     /**
@@ -1267,6 +1358,7 @@ public class DocumentService {
             source.setAdminSessionUserId(null);
             source.setAdminSessionAt(null);
             documentRepository.save(source);
+            adminSessionRegistry.remove(source.getId());
             log.info("번역 완료로 관리자 세션 해제: copyId={}", documentId);
         }
     }
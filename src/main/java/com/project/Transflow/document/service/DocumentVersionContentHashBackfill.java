@@ -0,0 +1,62 @@
+package com.project.Transflow.document.service;
+
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.document.util.ContentHash;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.List;
+
+/**
+ * content_hash 도입 이전 버전의 본문 해시를 조금씩 채웁니다.
+ * 채워지기 전까지는 비교·ETag가 요청마다 본문으로 해시를 계산하므로, 다 채우면 그 비용이 사라집니다.
+ * 남은 버전이 없으면 이후 실행은 바로 끝납니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DocumentVersionContentHashBackfill {
+
+    /** 한 번에 읽는 버전 수. 본문이 LONGTEXT라 작게 둠 */
+    private static final int BATCH_SIZE = 20;
+
+    private final DocumentVersionRepository documentVersionRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private volatile boolean completed;
+
+    @Scheduled(fixedDelayString = "${document.content-hash-backfill.interval-ms:5000}",
+            initialDelayString = "${document.content-hash-backfill.interval-ms:5000}")
+    public void backfill() {
+        if (completed) {
+            return;
+        }
+        Integer filled = new TransactionTemplate(transactionManager).execute(status -> fillBatch());
+        if (filled == null || filled == 0) {
+            completed = true;
+            log.info("이전 버전 본문 해시 채우기 완료");
+        }
+    }
+
+    /**
+     * @return 이번에 읽은 버전 수 (0이면 남은 버전 없음)
+     */
+    int fillBatch() {
+        List<DocumentVersion> versions = documentVersionRepository.findWithoutContentHash(PageRequest.of(0, BATCH_SIZE));
+        for (DocumentVersion version : versions) {
+            String content = version.getContent() != null ? version.getContent() : "";
+            documentVersionRepository.fillContentHash(version.getId(), ContentHash.sha256Hex(content));
+        }
+        if (!versions.isEmpty()) {
+            log.debug("이전 버전 본문 해시 채움: {}건 (마지막 versionId={})",
+                    versions.size(), versions.get(versions.size() - 1).getId());
+        }
+        return versions.size();
+    }
+}
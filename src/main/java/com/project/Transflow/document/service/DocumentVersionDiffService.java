@@ -0,0 +1,165 @@
+package com.project.Transflow.document.service;
+
+import com.project.Transflow.config.CacheConfig;
+import com.project.Transflow.document.dto.VersionDiffResponse;
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.document.util.ContentHash;
+import com.project.Transflow.document.util.HtmlDiff;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * 두 버전의 서버 측 비교 (문단 정렬 + 단어 단위 변경).
+ * 결과는 (기준, 비교) 버전 ID 쌍으로 캐시하고, 두 본문 해시와 비교 규칙 버전으로 만든 지문이 같을 때만 재사용합니다.
+ * 버전 본문은 불변이지만 문단 작업본은 저장할 때마다 본문 해시가 바뀌므로 지문으로 걸러집니다.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DocumentVersionDiffService {
+
+    private final DocumentVersionRepository documentVersionRepository;
+    private final DocumentParagraphService documentParagraphService;
+    private final CacheManager cacheManager;
+
+    /**
+     * 비교 결과의 ETag(지문)를 계산합니다. 본문 해시가 있으면 본문을 읽지 않습니다.
+     * 본문 해시가 없는 이전 버전은 본문을 읽어 해시를 계산하므로 ETag와 캐시 재사용이 그대로 동작합니다
+     * (DocumentVersionContentHashBackfill이 채우기 전까지만). 결과는 diff에 넘겨 같은 요청에서 다시 계산하지 않습니다.
+     * 두 버전 중 하나라도 없으면 empty.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findDiffEtag(Long documentId, Long fromVersionId, Long toVersionId) {
+        Optional<String> fromHash = findContentHash(documentId, fromVersionId);
+        Optional<String> toHash = findContentHash(documentId, toVersionId);
+        if (fromHash.isEmpty() || toHash.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(diffTag(fromVersionId, fromHash.get(), toVersionId, toHash.get()));
+    }
+
+    /**
+     * @param includeUnchanged false면 UNCHANGED 문단을 빼고 반환 (요약 건수는 그대로)
+     * @param diffEtag 같은 요청에서 findDiffEtag로 구한 지문 (없으면 null). 캐시 확인과 저장에 그대로 사용
+     * @throws IllegalArgumentException 버전이 없거나 다른 문서의 버전인 경우
+     */
+    @Transactional(readOnly = true)
+    public VersionDiffResponse diff(Long documentId, Long fromVersionId, Long toVersionId, boolean includeUnchanged,
+                                    String diffEtag) {
+        VersionDiffResponse response = diff(documentId, fromVersionId, toVersionId, diffEtag);
+        if (includeUnchanged) {
+            return response;
+        }
+        return response.toBuilder()
+                .paragraphs(response.getParagraphs().stream()
+                        .filter(paragraph -> !HtmlDiff.UNCHANGED.equals(paragraph.getType()))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    private VersionDiffResponse diff(Long documentId, Long fromVersionId, Long toVersionId, String diffEtag) {
+        // 일치 여부를 값으로 확인해야 해서 @Cacheable 대신 Cache를 직접 사용
+        Cache cache = cacheManager.getCache(CacheConfig.VERSION_DIFFS);
+        String key = fromVersionId + ":" + toVersionId;
+        if (diffEtag != null && cache != null) {
+            CachedDiff cached = cache.get(key, CachedDiff.class);
+            if (cached != null && cached.fingerprint.equals(diffEtag)) {
+                return cached.response;
+            }
+        }
+
+        DocumentVersion from = findVersion(documentId, fromVersionId);
+        DocumentVersion to = findVersion(documentId, toVersionId);
+        String fromContent = documentParagraphService.resolveContent(from);
+        String toContent = documentParagraphService.resolveContent(to);
+
+        long started = System.nanoTime();
+        List<VersionDiffResponse.ParagraphDiff> paragraphs = HtmlDiff.diff(fromContent, toContent);
+        VersionDiffResponse response = VersionDiffResponse.builder()
+                .documentId(documentId)
+                .fromVersionId(from.getId())
+                .fromVersionNumber(from.getVersionNumber())
+                .toVersionId(to.getId())
+                .toVersionNumber(to.getVersionNumber())
+                .unchangedCount(count(paragraphs, HtmlDiff.UNCHANGED))
+                .modifiedCount(count(paragraphs, HtmlDiff.MODIFIED))
+                .addedCount(count(paragraphs, HtmlDiff.ADDED))
+                .removedCount(count(paragraphs, HtmlDiff.REMOVED))
+                .paragraphs(paragraphs)
+                .build();
+        log.debug("버전 비교: documentId={}, {} -> {}, 문단 {}개, {}ms", documentId, fromVersionId, toVersionId,
+                paragraphs.size(), (System.nanoTime() - started) / 1_000_000);
+
+        if (cache != null) {
+            cache.put(key, new CachedDiff(fingerprint(from, fromContent, to, toContent, diffEtag), response));
+        }
+        return response;
+    }
+
+    private Optional<String> findContentHash(Long documentId, Long versionId) {
+        List<Object[]> rows = documentVersionRepository.findEtagColumnsById(documentId, versionId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        if (rows.get(0)[1] != null) {
+            return Optional.of((String) rows.get(0)[1]);
+        }
+        // content_hash 도입 이전 버전: 본문으로 계산 (같은 트랜잭션의 diff에서는 1차 캐시의 엔티티를 다시 씀)
+        DocumentVersion version = findVersion(documentId, versionId);
+        return Optional.of(contentHash(version, documentParagraphService.resolveContent(version)));
+    }
+
+    private DocumentVersion findVersion(Long documentId, Long versionId) {
+        return documentVersionRepository.findById(versionId)
+                .filter(version -> version.getDocument().getId().equals(documentId))
+                .orElseThrow(() -> new IllegalArgumentException("버전을 찾을 수 없습니다: " + versionId));
+    }
+
+    /**
+     * 캐시 지문. 두 버전에 저장된 해시가 있으면 그것으로 (그 사이 문단 저장으로 바뀌었어도 읽은 본문과 맞음),
+     * 해시가 없는 이전 버전(본문 불변)은 넘겨받은 지문을 그대로 써서 본문 해시를 다시 계산하지 않음
+     */
+    private static String fingerprint(DocumentVersion from, String fromContent, DocumentVersion to, String toContent,
+                                      String diffEtag) {
+        if ((from.getContentHash() == null || to.getContentHash() == null) && diffEtag != null) {
+            return diffEtag;
+        }
+        return diffTag(from.getId(), contentHash(from, fromContent), to.getId(), contentHash(to, toContent));
+    }
+
+    private static String contentHash(DocumentVersion version, String content) {
+        if (version.getContentHash() != null) {
+            return version.getContentHash();
+        }
+        return ContentHash.sha256Hex(content != null ? content : "");
+    }
+
+    /** 비교 결과 지문: 두 버전 ID·본문 해시 + 비교 규칙 버전 */
+    private static String diffTag(Long fromVersionId, String fromHash, Long toVersionId, String toHash) {
+        return "diff-" + ContentHash.sha256Hex(fromVersionId + "-" + fromHash + ":" + toVersionId + "-" + toHash
+                + ":" + HtmlDiff.VERSION);
+    }
+
+    private static int count(List<VersionDiffResponse.ParagraphDiff> paragraphs, String type) {
+        return (int) paragraphs.stream().filter(paragraph -> type.equals(paragraph.getType())).count();
+    }
+
+    private static final class CachedDiff {
+        private final String fingerprint;
+        private final VersionDiffResponse response;
+
+        private CachedDiff(String fingerprint, VersionDiffResponse response) {
+            this.fingerprint = fingerprint;
+            this.response = response;
+        }
+    }
+}
@@ -6,6 +6,7 @@ import com.project.Transflow.document.entity.Document;
 import com.project.Transflow.document.entity.DocumentVersion;
 import com.project.Transflow.document.repository.DocumentRepository;
 import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.document.util.ContentHash;
 import com.project.Transflow.review.repository.ReviewRepository;
 import com.project.Transflow.user.entity.User;
 import com.project.Transflow.user.repository.UserRepository;
@@ -14,6 +15,8 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.ArrayList;
+import java.util.Comparator;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Collectors;
@@ -27,6 +30,7 @@ public class DocumentVersionService {
     private final DocumentRepository documentRepository;
     private final UserRepository userRepository;
     private final ReviewRepository reviewRepository;
+    private final DocumentParagraphService documentParagraphService;
 
     @Transactional
     public DocumentVersionResponse createVersion(Long documentId, CreateDocumentVersionRequest request, Long createdById) {
@@ -49,6 +53,9 @@ public class DocumentVersionService {
             log.warn("Authorization 헤더가 없어 기본 사용자 사용: {}", createdBy.getId());
         }
 
+        // 문단 단위 작업본이 있으면 확정 (새 버전이 최신이 되므로 작업본은 더 이상 갱신되지 않음)
+        documentParagraphService.materializeDrafts(documentId);
+
         // 다음 버전 번호 계산
         Integer nextVersionNumber = calculateNextVersionNumber(documentId, request.getVersionType());
 
@@ -86,7 +93,8 @@ public class DocumentVersionService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
+    // 버전 저장 직후 상세 조회에 쓰이므로 복제 지연 없이 기본 DB에서 읽음
+    @Transactional
     public Optional<DocumentVersionResponse> findById(Long id) {
         return documentVersionRepository.findById(id)
                 .map(this::toResponse);
@@ -110,6 +118,58 @@ public class DocumentVersionService {
                 .map(this::toResponse);
     }
 
+    /**
+     * 본문을 읽지 않고 버전 상세의 ETag를 계산합니다 (If-None-Match 확인용).
+     * 본문 해시가 없는 이전 버전이면 empty (본문을 읽어 계산해야 함).
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findVersionEtag(Long documentId, Long versionId) {
+        List<Object[]> rows = documentVersionRepository.findEtagColumnsById(documentId, versionId);
+        if (rows.isEmpty() || rows.get(0)[1] == null) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        return Optional.of(versionTag((Long) row[0], (String) row[1], (Boolean) row[2]));
+    }
+
+    /**
+     * 본문을 읽지 않고 버전 목록의 ETag를 계산합니다. 해시가 없는 버전이 하나라도 있으면 empty.
+     */
+    @Transactional(readOnly = true)
+    public Optional<String> findVersionListEtag(Long documentId) {
+        List<Object[]> rows = documentVersionRepository.findEtagColumnsByDocumentId(documentId);
+        List<String> tags = new ArrayList<>(rows.size());
+        for (Object[] row : rows) {
+            if (row[1] == null) {
+                return Optional.empty();
+            }
+            tags.add(versionTag((Long) row[0], (String) row[1], (Boolean) row[2]));
+        }
+        return Optional.of(listTag(tags));
+    }
+
+    /** 버전 ETag: 버전 ID + 본문 해시 + 최종 여부 (본문은 불변, 최종 여부만 바뀔 수 있음) */
+    public static String versionEtag(DocumentVersionResponse version) {
+        return versionTag(version.getId(), version.getContentHash(), version.getIsFinal());
+    }
+
+    public static String versionListEtag(List<DocumentVersionResponse> versions) {
+        return listTag(versions.stream()
+                .map(DocumentVersionService::versionEtag)
+                .collect(Collectors.toList()));
+    }
+
+    private static String versionTag(Long id, String contentHash, Boolean isFinal) {
+        return id + "-" + contentHash + (Boolean.TRUE.equals(isFinal) ? "-final" : "");
+    }
+
+    /** 조회 순서와 무관하도록 버전 ID 순으로 정렬해 묶음 */
+    private static String listTag(List<String> versionTags) {
+        List<String> sorted = new ArrayList<>(versionTags);
+        sorted.sort(Comparator.comparingLong(tag -> Long.parseLong(tag.substring(0, tag.indexOf('-')))));
+        return "list-" + ContentHash.sha256Hex(String.join(",", sorted));
+    }
+
     @Transactional
     public DocumentVersionResponse setAsCurrentVersion(Long documentId, Long versionId) {
         Document document = documentRepository.findById(documentId)
@@ -134,6 +194,7 @@ public class DocumentVersionService {
         List<DocumentVersion> versions = documentVersionRepository.findByDocument_Id(documentId);
         if (!versions.isEmpty()) {
             reviewRepository.deleteByDocument_Id(documentId);
+            documentParagraphService.deleteByDocumentId(documentId);
             documentVersionRepository.deleteAll(versions);
             log.info("문서의 모든 버전 삭제: 문서 ID {}, 삭제된 버전 수 {}", documentId, versions.size());
             
@@ -174,13 +235,16 @@ public class DocumentVersionService {
     }
 
     private DocumentVersionResponse toResponse(DocumentVersion version) {
+        String content = documentParagraphService.resolveContent(version);
         DocumentVersionResponse.DocumentVersionResponseBuilder builder = DocumentVersionResponse.builder()
                 .id(version.getId())
                 .documentId(version.getDocument().getId())
                 .versionNumber(version.getVersionNumber())
                 .versionType(version.getVersionType())
-                .content(version.getContent())
+                .content(content)
                 .isFinal(version.getIsFinal())
+                .contentHash(version.getContentHash() != null || content == null
+                        ? version.getContentHash() : ContentHash.sha256Hex(content))
                 .createdAt(version.getCreatedAt());
 
         if (version.getCreatedBy() != null) {
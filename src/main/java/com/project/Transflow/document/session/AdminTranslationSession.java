@@ -0,0 +1,29 @@
+package com.project.Transflow.document.session;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+
+/**
+ * 원문 단위 관리자 번역 세션 (불변). 세션 사용자 표시 정보를 함께 들고 있어 응답 조립 시 사용자 조회가 필요 없습니다.
+ */
+@Getter
+@Builder(toBuilder = true)
+public class AdminTranslationSession {
+
+    private final Long sourceDocumentId;
+    private final Long copyDocumentId;
+    private final Long userId;
+    private final String userEmail;
+    private final String userName;
+    private final LocalDateTime lastHeartbeatAt;
+
+    public boolean isActiveAt(LocalDateTime now, int ttlMinutes) {
+        return lastHeartbeatAt != null && lastHeartbeatAt.isAfter(now.minusMinutes(ttlMinutes));
+    }
+
+    public AdminTranslationSession withLastHeartbeatAt(LocalDateTime at) {
+        return toBuilder().lastHeartbeatAt(at).build();
+    }
+}
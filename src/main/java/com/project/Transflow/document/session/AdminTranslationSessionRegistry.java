@@ -0,0 +1,24 @@
+package com.project.Transflow.document.session;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+/**
+ * 관리자 번역 세션의 생존(하트비트) 상태 저장소.
+ * 세션 소유 정보(복사본·사용자)는 시작/종료 시에만 document 테이블에 저장되고,
+ * 하트비트는 이 레지스트리만 갱신합니다.
+ *
+ * 구현 선택: admin-session.registry = memory(기본, 단일 노드) | database(다중 노드 공유)
+ */
+public interface AdminTranslationSessionRegistry {
+
+    /** TTL 이내에 하트비트가 있었던 세션만 반환 */
+    Optional<AdminTranslationSession> findActive(Long sourceDocumentId);
+
+    void register(AdminTranslationSession session);
+
+    /** 하트비트 갱신. 등록된 세션이 없으면 false */
+    boolean touch(Long sourceDocumentId, LocalDateTime at);
+
+    void remove(Long sourceDocumentId);
+}
@@ -0,0 +1,110 @@
+package com.project.Transflow.document.session;
+
+import com.project.Transflow.config.CacheConfig;
+import com.project.Transflow.document.repository.DocumentRepository;
+import com.project.Transflow.document.service.DocumentService;
+import com.project.Transflow.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * 다중 노드용 공유 구현. document.admin_session_* 컬럼을 공유 저장소로 사용하되,
+ * 하트비트 쓰기는 HEARTBEAT_WRITE_INTERVAL_SECONDS 간격으로 합치고 엔티티 저장 대신 단일 UPDATE로 처리합니다
+ * (updatedAt 미변경). 세션 사용자 표시 정보는 노드 로컬 캐시(CacheConfig.ADMIN_SESSION_USERS, 크기·TTL 제한)에 둡니다.
+ */
+@Component
+@RequiredArgsConstructor
+@ConditionalOnProperty(name = "admin-session.registry", havingValue = "database")
+public class DatabaseAdminTranslationSessionRegistry implements AdminTranslationSessionRegistry {
+
+    /** TTL(5분)보다 충분히 짧아야 세션이 만료로 오판되지 않음 */
+    private static final long HEARTBEAT_WRITE_INTERVAL_SECONDS = 60;
+
+    private final DocumentRepository documentRepository;
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    @Override
+    // 다른 관리자의 편집 여부 판단용이라 복제 지연 없이 기본 DB에서 읽음 (readOnly면 복제본으로 라우팅됨)
+    @Transactional
+    public Optional<AdminTranslationSession> findActive(Long sourceDocumentId) {
+        List<Object[]> rows = documentRepository.findAdminSessionColumnsById(sourceDocumentId);
+        if (rows.isEmpty()) {
+            return Optional.empty();
+        }
+        Object[] row = rows.get(0);
+        Long copyDocumentId = (Long) row[0];
+        Long userId = (Long) row[1];
+        LocalDateTime at = (LocalDateTime) row[2];
+        if (copyDocumentId == null || userId == null) {
+            return Optional.empty();
+        }
+        UserDisplay display = userDisplay(userId);
+        AdminTranslationSession session = AdminTranslationSession.builder()
+                .sourceDocumentId(sourceDocumentId)
+                .copyDocumentId(copyDocumentId)
+                .userId(userId)
+                .userEmail(display.email)
+                .userName(display.name)
+                .lastHeartbeatAt(at)
+                .build();
+        if (!session.isActiveAt(LocalDateTime.now(), DocumentService.ADMIN_SESSION_TTL_MINUTES)) {
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    @Override
+    public void register(AdminTranslationSession session) {
+        // 소유 정보는 세션 시작 시 DocumentService가 저장함. 표시 정보만 캐시
+        Cache cache = cacheManager.getCache(CacheConfig.ADMIN_SESSION_USERS);
+        if (cache != null) {
+            cache.put(session.getUserId(), new UserDisplay(session.getUserEmail(), session.getUserName()));
+        }
+    }
+
+    @Override
+    @Transactional
+    public boolean touch(Long sourceDocumentId, LocalDateTime at) {
+        documentRepository.touchAdminSessionAt(
+                sourceDocumentId, at, at.minusSeconds(HEARTBEAT_WRITE_INTERVAL_SECONDS));
+        return true;
+    }
+
+    @Override
+    public void remove(Long sourceDocumentId) {
+        // 종료 시 DocumentService가 컬럼을 비움
+    }
+
+    private UserDisplay userDisplay(Long userId) {
+        Cache cache = cacheManager.getCache(CacheConfig.ADMIN_SESSION_USERS);
+        if (cache == null) {
+            return loadUserDisplay(userId);
+        }
+        return cache.get(userId, () -> loadUserDisplay(userId));
+    }
+
+    private UserDisplay loadUserDisplay(Long userId) {
+        return userRepository.findById(userId)
+                .map(u -> new UserDisplay(u.getEmail(), u.getName()))
+                .orElse(new UserDisplay(null, null));
+    }
+
+    private static final class UserDisplay {
+        private final String email;
+        private final String name;
+
+        private UserDisplay(String email, String name) {
+            this.email = email;
+            this.name = name;
+        }
+    }
+}
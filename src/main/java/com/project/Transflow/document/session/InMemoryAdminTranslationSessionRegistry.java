@@ -0,0 +1,48 @@
+package com.project.Transflow.document.session;
+
+import com.project.Transflow.document.service.DocumentService;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * 단일 노드용 기본 구현. 하트비트마다 DB 쓰기 없이 메모리에서만 갱신하며, 만료된 세션은 조회 시 제거합니다.
+ */
+@Component
+@ConditionalOnProperty(name = "admin-session.registry", havingValue = "memory", matchIfMissing = true)
+public class InMemoryAdminTranslationSessionRegistry implements AdminTranslationSessionRegistry {
+
+    private final Map<Long, AdminTranslationSession> sessions = new ConcurrentHashMap<>();
+
+    @Override
+    public Optional<AdminTranslationSession> findActive(Long sourceDocumentId) {
+        AdminTranslationSession session = sessions.get(sourceDocumentId);
+        if (session == null) {
+            return Optional.empty();
+        }
+        if (!session.isActiveAt(LocalDateTime.now(), DocumentService.ADMIN_SESSION_TTL_MINUTES)) {
+            sessions.remove(sourceDocumentId, session);
+            return Optional.empty();
+        }
+        return Optional.of(session);
+    }
+
+    @Override
+    public void register(AdminTranslationSession session) {
+        sessions.put(session.getSourceDocumentId(), session);
+    }
+
+    @Override
+    public boolean touch(Long sourceDocumentId, LocalDateTime at) {
+        return sessions.computeIfPresent(sourceDocumentId, (id, session) -> session.withLastHeartbeatAt(at)) != null;
+    }
+
+    @Override
+    public void remove(Long sourceDocumentId) {
+        sessions.remove(sourceDocumentId);
+    }
+}
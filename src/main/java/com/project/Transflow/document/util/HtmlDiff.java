@@ -0,0 +1,319 @@
+package com.project.Transflow.document.util;
+
+import com.project.Transflow.document.dto.VersionDiffResponse.ParagraphDiff;
+import com.project.Transflow.document.dto.VersionDiffResponse.Segment;
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.select.Evaluator;
+import org.jsoup.select.QueryParser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * 두 HTML 본문의 구조 비교.
+ * 본문을 문단(안에 다른 블록 요소가 없는 블록 요소) 단위로 나눠 텍스트 기준 LCS로 맞추고,
+ * 그 사이에 남은 삭제·추가 문단은 순서대로 짝지어 단어 단위로 다시 비교합니다.
+ */
+public final class HtmlDiff {
+
+    /** 비교 규칙이 바뀌면 올려서 캐시된 결과를 무효화 */
+    public static final int VERSION = 1;
+
+    public static final String UNCHANGED = "UNCHANGED";
+    public static final String MODIFIED = "MODIFIED";
+    public static final String ADDED = "ADDED";
+    public static final String REMOVED = "REMOVED";
+
+    public static final String EQUAL = "EQUAL";
+    public static final String INSERT = "INSERT";
+    public static final String DELETE = "DELETE";
+
+    private static final String INDEX_ATTR = "data-paragraph-index";
+
+    // 요소마다 다시 파싱하지 않도록 선택자를 미리 컴파일
+    private static final Evaluator BLOCKS = QueryParser.parse(
+            "p, h1, h2, h3, h4, h5, h6, li, blockquote, pre, td, th, dt, dd, figcaption, div, section, article");
+    private static final Evaluator MEDIA = QueryParser.parse("img, video, iframe");
+    private static final Evaluator INDEXED = QueryParser.parse("[" + INDEX_ATTR + "]");
+
+    /** 단어·공백·그 밖의 문자 하나 단위 토큰 (한글 어절은 단어로 묶임) */
+    private static final Pattern TOKEN = Pattern.compile("[\\p{L}\\p{N}]+|\\s+|.", Pattern.DOTALL);
+
+    /** LCS 표 크기 상한 (셀 수, 약 16MB). 넘는 구간은 전체 삭제 후 추가로 처리 */
+    private static final long MAX_TABLE_CELLS = 4_000_000L;
+
+    /** 짝지은 두 문단의 단어 일치 비율이 이보다 낮으면 수정이 아니라 삭제 + 추가로 표시 */
+    private static final double MIN_MODIFIED_SIMILARITY = 0.3;
+
+    private HtmlDiff() {
+    }
+
+    /**
+     * 비교 버전의 문단 순서로 정렬된 문단별 비교 결과. 삭제된 문단은 원래 있던 자리에 들어갑니다.
+     */
+    public static List<ParagraphDiff> diff(String fromHtml, String toHtml) {
+        List<Block> from = blocks(fromHtml);
+        List<Block> to = blocks(toHtml);
+        List<String> fromKeys = new ArrayList<>(from.size());
+        List<String> toKeys = new ArrayList<>(to.size());
+        from.forEach(block -> fromKeys.add(block.key));
+        to.forEach(block -> toKeys.add(block.key));
+
+        List<ParagraphDiff> result = new ArrayList<>(Math.max(from.size(), to.size()));
+        List<int[]> script = editScript(fromKeys, toKeys);
+        List<Integer> removed = new ArrayList<>();
+        List<Integer> added = new ArrayList<>();
+        for (int[] step : script) {
+            if (step[0] >= 0 && step[1] >= 0) {
+                flushChanges(from, to, removed, added, result);
+                result.add(same(from.get(step[0]), step[0], to.get(step[1]), step[1]));
+            } else if (step[0] >= 0) {
+                removed.add(step[0]);
+            } else {
+                added.add(step[1]);
+            }
+        }
+        flushChanges(from, to, removed, added, result);
+        return result;
+    }
+
+    /**
+     * 두 텍스트의 단어 단위 변경 구간. 같은 종류의 연속 토큰은 한 구간으로 합침
+     */
+    public static List<Segment> wordDiff(String fromText, String toText) {
+        List<String> fromTokens = tokens(fromText);
+        List<String> toTokens = tokens(toText);
+        List<Segment> segments = new ArrayList<>();
+        StringBuilder text = new StringBuilder();
+        String op = null;
+        for (int[] step : editScript(fromTokens, toTokens)) {
+            String stepOp = step[0] >= 0 && step[1] >= 0 ? EQUAL : step[0] >= 0 ? DELETE : INSERT;
+            String token = step[0] >= 0 ? fromTokens.get(step[0]) : toTokens.get(step[1]);
+            if (op != null && !op.equals(stepOp)) {
+                segments.add(new Segment(op, text.toString()));
+                text.setLength(0);
+            }
+            op = stepOp;
+            text.append(token);
+        }
+        if (op != null) {
+            segments.add(new Segment(op, text.toString()));
+        }
+        return segments;
+    }
+
+    /**
+     * 일치 구간 사이의 삭제·추가 문단을 순서대로 짝지어 수정으로, 남거나 너무 다른 것은 삭제·추가로 넣음
+     */
+    private static void flushChanges(List<Block> from, List<Block> to, List<Integer> removed, List<Integer> added,
+                                     List<ParagraphDiff> result) {
+        int pairs = Math.min(removed.size(), added.size());
+        for (int k = 0; k < pairs; k++) {
+            Block fromBlock = from.get(removed.get(k));
+            Block toBlock = to.get(added.get(k));
+            List<Segment> segments = wordDiff(fromBlock.text, toBlock.text);
+            boolean sameParagraph = fromBlock.paragraphIndex != null
+                    && fromBlock.paragraphIndex.equals(toBlock.paragraphIndex);
+            if (sameParagraph || similarity(segments) >= MIN_MODIFIED_SIMILARITY) {
+                result.add(ParagraphDiff.builder()
+                        .type(MODIFIED)
+                        .fromPosition(removed.get(k))
+                        .toPosition(added.get(k))
+                        .paragraphIndex(toBlock.paragraphIndex)
+                        .tag(toBlock.tag)
+                        .html(toBlock.html)
+                        .segments(segments)
+                        .build());
+            } else {
+                result.add(removed(fromBlock, removed.get(k)));
+                result.add(added(toBlock, added.get(k)));
+            }
+        }
+        for (int k = pairs; k < removed.size(); k++) {
+            result.add(removed(from.get(removed.get(k)), removed.get(k)));
+        }
+        for (int k = pairs; k < added.size(); k++) {
+            result.add(added(to.get(added.get(k)), added.get(k)));
+        }
+        removed.clear();
+        added.clear();
+    }
+
+    /** 텍스트가 같은 문단. HTML(서식·링크)까지 같으면 UNCHANGED, 아니면 텍스트 변경 없는 MODIFIED */
+    private static ParagraphDiff same(Block fromBlock, int fromPosition, Block toBlock, int toPosition) {
+        boolean unchanged = fromBlock.html.equals(toBlock.html);
+        return ParagraphDiff.builder()
+                .type(unchanged ? UNCHANGED : MODIFIED)
+                .fromPosition(fromPosition)
+                .toPosition(toPosition)
+                .paragraphIndex(toBlock.paragraphIndex)
+                .tag(toBlock.tag)
+                .html(toBlock.html)
+                .segments(unchanged ? null : Collections.singletonList(new Segment(EQUAL, toBlock.text)))
+                .build();
+    }
+
+    private static ParagraphDiff removed(Block block, int position) {
+        return ParagraphDiff.builder()
+                .type(REMOVED)
+                .fromPosition(position)
+                .paragraphIndex(block.paragraphIndex)
+                .tag(block.tag)
+                .html(block.html)
+                .build();
+    }
+
+    private static ParagraphDiff added(Block block, int position) {
+        return ParagraphDiff.builder()
+                .type(ADDED)
+                .toPosition(position)
+                .paragraphIndex(block.paragraphIndex)
+                .tag(block.tag)
+                .html(block.html)
+                .build();
+    }
+
+    /** 공백을 뺀 글자 수 기준 일치 비율 (0~1): 2 × 같은 글자 / (이전 글자 + 이후 글자) */
+    private static double similarity(List<Segment> segments) {
+        int equal = 0;
+        int changed = 0;
+        for (Segment segment : segments) {
+            int length = segment.getText().replaceAll("\\s+", "").length();
+            if (EQUAL.equals(segment.getOp())) {
+                equal += length;
+            } else {
+                changed += length;
+            }
+        }
+        return equal + changed == 0 ? 1.0 : 2.0 * equal / (2.0 * equal + changed);
+    }
+
+    /**
+     * a → b 편집 순서 (LCS). 각 항목은 {a 위치, b 위치}이며 삭제는 b 위치가, 추가는 a 위치가 -1.
+     * 공통 앞뒤 구간을 먼저 잘라 내므로 일부만 바뀐 본문은 표가 작음
+     */
+    private static List<int[]> editScript(List<String> a, List<String> b) {
+        int n = a.size();
+        int m = b.size();
+        int prefix = 0;
+        while (prefix < n && prefix < m && a.get(prefix).equals(b.get(prefix))) {
+            prefix++;
+        }
+        int suffix = 0;
+        while (suffix < n - prefix && suffix < m - prefix
+                && a.get(n - 1 - suffix).equals(b.get(m - 1 - suffix))) {
+            suffix++;
+        }
+
+        List<int[]> script = new ArrayList<>(Math.max(n, m));
+        for (int i = 0; i < prefix; i++) {
+            script.add(new int[]{i, i});
+        }
+        int rows = n - prefix - suffix;
+        int cols = m - prefix - suffix;
+        if ((long) (rows + 1) * (cols + 1) > MAX_TABLE_CELLS) {
+            for (int i = 0; i < rows; i++) {
+                script.add(new int[]{prefix + i, -1});
+            }
+            for (int j = 0; j < cols; j++) {
+                script.add(new int[]{-1, prefix + j});
+            }
+        } else {
+            int[][] lcs = new int[rows + 1][cols + 1];
+            for (int i = rows - 1; i >= 0; i--) {
+                for (int j = cols - 1; j >= 0; j--) {
+                    lcs[i][j] = a.get(prefix + i).equals(b.get(prefix + j))
+                            ? lcs[i + 1][j + 1] + 1
+                            : Math.max(lcs[i + 1][j], lcs[i][j + 1]);
+                }
+            }
+            int i = 0;
+            int j = 0;
+            while (i < rows && j < cols) {
+                if (a.get(prefix + i).equals(b.get(prefix + j))) {
+                    script.add(new int[]{prefix + i++, prefix + j++});
+                } else if (lcs[i + 1][j] >= lcs[i][j + 1]) {
+                    script.add(new int[]{prefix + i++, -1});
+                } else {
+                    script.add(new int[]{-1, prefix + j++});
+                }
+            }
+            while (i < rows) {
+                script.add(new int[]{prefix + i++, -1});
+            }
+            while (j < cols) {
+                script.add(new int[]{-1, prefix + j++});
+            }
+        }
+        for (int k = 0; k < suffix; k++) {
+            script.add(new int[]{n - suffix + k, m - suffix + k});
+        }
+        return script;
+    }
+
+    private static List<String> tokens(String text) {
+        List<String> tokens = new ArrayList<>();
+        Matcher matcher = TOKEN.matcher(text);
+        while (matcher.find()) {
+            tokens.add(matcher.group());
+        }
+        return tokens;
+    }
+
+    /**
+     * 안에 다른 블록 요소가 없는 블록 요소를 문서 순서대로 모음. 텍스트도 이미지도 없는 빈 블록은 제외
+     */
+    private static List<Block> blocks(String html) {
+        Document doc = Jsoup.parseBodyFragment(html != null ? html : "");
+        doc.outputSettings().prettyPrint(false);
+        List<Block> blocks = new ArrayList<>();
+        for (Element element : doc.body().select(BLOCKS)) {
+            if (element.select(BLOCKS).size() > 1) {
+                continue;
+            }
+            String text = element.text();
+            if (text.isEmpty() && element.selectFirst(MEDIA) == null) {
+                continue;
+            }
+            blocks.add(new Block(element.tagName(), text, element.outerHtml(), paragraphIndex(element)));
+        }
+        if (blocks.isEmpty() && !doc.body().text().isEmpty()) {
+            blocks.add(new Block("body", doc.body().text(), doc.body().html(), null));
+        }
+        return blocks;
+    }
+
+    private static Integer paragraphIndex(Element element) {
+        Element indexed = element.closest(INDEXED);
+        if (indexed == null) {
+            return null;
+        }
+        try {
+            return Integer.parseInt(indexed.attr(INDEX_ATTR).trim());
+        } catch (NumberFormatException e) {
+            return null;
+        }
+    }
+
+    private static final class Block {
+        private final String tag;
+        private final String text;
+        private final String html;
+        private final Integer paragraphIndex;
+        /** 정렬 기준. 텍스트가 없는 블록(이미지 등)은 HTML로 비교 */
+        private final String key;
+
+        private Block(String tag, String text, String html, Integer paragraphIndex) {
+            this.tag = tag;
+            this.text = text;
+            this.html = html;
+            this.paragraphIndex = paragraphIndex;
+            this.key = text.isEmpty() ? html : text;
+        }
+    }
+}
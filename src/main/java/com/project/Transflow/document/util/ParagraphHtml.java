@@ -0,0 +1,144 @@
+package com.project.Transflow.document.util;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Comment;
+import org.jsoup.nodes.Document;
+import org.jsoup.nodes.Element;
+import org.jsoup.nodes.TextNode;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * 번역 HTML을 문단(data-paragraph-index 요소) 단위로 나누고 다시 합칩니다.
+ * 문단 요소 자리에는 자리표시 주석(&lt;!--tf-paragraph:N--&gt;)을 남긴 골격 HTML을 함께 보관하므로,
+ * 문단 사이의 제목·이미지 등 인덱스 없는 요소도 그대로 복원됩니다.
+ * 전체 문서(doctype, &lt;html lang&gt;, &lt;head&gt;, body 속성 포함)로 저장된 번역은 문서 전체를 골격으로 두고
+ * body 안의 문단만 나누므로, 합친 결과도 같은 문서 구조를 유지합니다.
+ */
+public final class ParagraphHtml {
+
+    private static final String INDEX_ATTR = "data-paragraph-index";
+    private static final String MARKER_PREFIX = "<!--tf-paragraph:";
+    private static final String MARKER_SUFFIX = "-->";
+    private static final Pattern DOCUMENT_MARKUP = Pattern.compile("<(?:!doctype|html|head|body)[\\s>]",
+            Pattern.CASE_INSENSITIVE);
+
+    private ParagraphHtml() {
+    }
+
+    /**
+     * body 안의 최상위 문단 요소(다른 문단 요소 안에 있지 않은 것)를 인덱스별로 분리합니다.
+     * 골격은 입력이 전체 문서면 문서 전체(outerHtml), body 조각이면 body 내용입니다.
+     *
+     * @throws IllegalArgumentException 문단 인덱스가 없거나 잘못되었거나 중복된 경우
+     */
+    public static Split split(String html) {
+        String source = html != null ? html : "";
+        Document doc = Jsoup.parse(source);
+        doc.outputSettings().prettyPrint(false);
+
+        Map<Integer, String> paragraphs = new LinkedHashMap<>();
+        for (Element element : doc.body().select("[" + INDEX_ATTR + "]")) {
+            if (hasIndexedAncestor(element)) {
+                continue;
+            }
+            int index;
+            try {
+                index = Integer.parseInt(element.attr(INDEX_ATTR).trim());
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("잘못된 문단 인덱스입니다: " + element.attr(INDEX_ATTR));
+            }
+            if (index < 0 || paragraphs.containsKey(index)) {
+                throw new IllegalArgumentException("문단 인덱스가 음수이거나 중복되었습니다: " + index);
+            }
+            paragraphs.put(index, element.outerHtml());
+            element.replaceWith(new Comment("tf-paragraph:" + index));
+        }
+        if (paragraphs.isEmpty()) {
+            throw new IllegalArgumentException("문단 인덱스(data-paragraph-index)가 없는 본문은 문단 단위로 저장할 수 없습니다.");
+        }
+        String skeleton = DOCUMENT_MARKUP.matcher(source).find() ? doc.outerHtml() : doc.body().html();
+        return new Split(skeleton, paragraphs);
+    }
+
+    /**
+     * 저장할 문단 HTML이 해당 인덱스를 가진 요소 하나인지 확인합니다 (이후 다시 나눌 수 있도록).
+     *
+     * @throws IllegalArgumentException 요소가 하나가 아니거나 인덱스가 다른 경우
+     */
+    public static void requireParagraphElement(int index, String paragraphHtml) {
+        Document doc = Jsoup.parseBodyFragment(paragraphHtml != null ? paragraphHtml : "");
+        Element body = doc.body();
+        if (body.childrenSize() != 1 || !body.textNodes().stream().allMatch(TextNode::isBlank)
+                || !String.valueOf(index).equals(body.child(0).attr(INDEX_ATTR).trim())) {
+            throw new IllegalArgumentException(
+                    "문단 " + index + "의 HTML은 data-paragraph-index=\"" + index + "\"인 요소 하나여야 합니다.");
+        }
+    }
+
+    /**
+     * 골격의 자리표시를 문단 HTML로 바꿔 전체 HTML을 만듭니다. 없는 문단 자리는 비워 둡니다.
+     */
+    public static String assemble(String skeleton, Map<Integer, String> paragraphs) {
+        int estimated = skeleton.length();
+        for (String paragraph : paragraphs.values()) {
+            estimated += paragraph.length();
+        }
+        StringBuilder sb = new StringBuilder(estimated);
+        int position = 0;
+        while (true) {
+            int start = skeleton.indexOf(MARKER_PREFIX, position);
+            if (start < 0) {
+                break;
+            }
+            int end = skeleton.indexOf(MARKER_SUFFIX, start + MARKER_PREFIX.length());
+            if (end < 0) {
+                break;
+            }
+            sb.append(skeleton, position, start);
+            String paragraph = null;
+            try {
+                paragraph = paragraphs.get(Integer.parseInt(skeleton.substring(start + MARKER_PREFIX.length(), end)));
+            } catch (NumberFormatException ignored) {
+                // 자리표시가 아닌 주석은 그대로 둠
+                sb.append(skeleton, start, end + MARKER_SUFFIX.length());
+            }
+            if (paragraph != null) {
+                sb.append(paragraph);
+            }
+            position = end + MARKER_SUFFIX.length();
+        }
+        sb.append(skeleton, position, skeleton.length());
+        return sb.toString();
+    }
+
+    private static boolean hasIndexedAncestor(Element element) {
+        for (Element parent = element.parent(); parent != null; parent = parent.parent()) {
+            if (parent.hasAttr(INDEX_ATTR)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    public static final class Split {
+        private final String skeleton;
+        private final Map<Integer, String> paragraphs;
+
+        private Split(String skeleton, Map<Integer, String> paragraphs) {
+            this.skeleton = skeleton;
+            this.paragraphs = Collections.unmodifiableMap(paragraphs);
+        }
+
+        public String getSkeleton() {
+            return skeleton;
+        }
+
+        public Map<Integer, String> getParagraphs() {
+            return paragraphs;
+        }
+    }
+}
@@ -5,6 +5,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import java.util.List;
@@ -22,4 +23,21 @@ public interface InquiryRepository extends JpaRepository<Inquiry, Long> {
     @Query("SELECT COUNT(i) FROM Inquiry i WHERE NOT EXISTS (" +
             "SELECT 1 FROM InquiryReply r WHERE r.inquiry = i AND r.deletedAt IS NULL)")
     long countUnanswered();
+
+    /**
+     * 조회자 기준 미확인 문의 건수 (본인 작성 제외) — 문의·읽음 상태·답변을 한 번에 조인해 집계.
+     * [0] 아직 열람하지 않은 문의 수, [1] 열람 이후 새 답변이 달린 문의 수
+     */
+    @Query(value = "SELECT "
+            + "COALESCE(SUM(CASE WHEN t.read_state_id IS NULL THEN 1 ELSE 0 END), 0), "
+            + "COALESCE(SUM(CASE WHEN t.read_state_id IS NOT NULL AND t.new_reply_count > 0 THEN 1 ELSE 0 END), 0) "
+            + "FROM (SELECT i.id AS inquiry_id, s.id AS read_state_id, COUNT(r.id) AS new_reply_count "
+            + "      FROM inquiry i "
+            + "      LEFT JOIN inquiry_user_read_state s ON s.inquiry_id = i.id AND s.user_id = :userId "
+            + "      LEFT JOIN inquiry_reply r ON r.inquiry_id = i.id AND r.deleted_at IS NULL "
+            + "           AND r.created_at > s.last_read_at "
+            + "      WHERE i.author_id <> :userId "
+            + "      GROUP BY i.id, s.id) t",
+            nativeQuery = true)
+    List<Object[]> countUnreadThreadsSplit(@Param("userId") Long userId);
 }
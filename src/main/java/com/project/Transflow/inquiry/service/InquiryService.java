@@ -18,7 +18,6 @@ import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Service
@@ -30,6 +29,7 @@ public class InquiryService {
     private final InquiryUserReadStateRepository readStateRepository;
     private final UserRepository userRepository;
     private final AdminAuthUtil adminAuthUtil;
+    private final InquiryUnreadCounter inquiryUnreadCounter;
 
     @Transactional(readOnly = true)
     public Page<InquirySummaryResponse> list(Pageable pageable, Long authorIdFilter, Long viewerUserId) {
@@ -81,6 +81,7 @@ public class InquiryService {
                 .author(author)
                 .build();
         inquiry = inquiryRepository.save(inquiry);
+        inquiryUnreadCounter.evictAll();
         return getDetail(inquiry.getId(), authorId, false);
     }
 
@@ -114,6 +115,7 @@ public class InquiryService {
         inquiryReplyRepository.deleteByInquiryId(inquiryId);
         readStateRepository.deleteAll(readStateRepository.findAllByInquiryId(inquiryId));
         inquiryRepository.delete(inquiry);
+        inquiryUnreadCounter.evictAll();
     }
 
     @Transactional
@@ -128,6 +130,7 @@ public class InquiryService {
                 .content(request.getContent().trim())
                 .build();
         reply = inquiryReplyRepository.save(reply);
+        inquiryUnreadCounter.evictAll();
         return toReplyResponse(reply);
     }
 
@@ -164,6 +167,7 @@ public class InquiryService {
         }
         reply.setDeletedAt(LocalDateTime.now());
         inquiryReplyRepository.save(reply);
+        inquiryUnreadCounter.evictAll();
     }
 
     @Transactional(readOnly = true)
@@ -177,56 +181,19 @@ public class InquiryService {
                     .userUnreadInquiryAfterReadCount(0)
                     .build();
         }
-        UnreadInquirySplit split = countUnreadInquiryThreadsSplit(userId);
+        InquiryUnreadCounter.UnreadInquiryCounts split = inquiryUnreadCounter.count(userId);
         long adminUnanswered = 0;
         if (adminAuthUtil.isAdminOrAbove(authHeader)) {
             adminUnanswered = inquiryRepository.countUnanswered();
         }
         return InquiryBadgeCountsResponse.builder()
                 .adminUnansweredCount(adminUnanswered)
-                .userNewReplyCount(split.beforeOpen + split.afterRead)
-                .userUnreadInquiryBeforeOpenCount(split.beforeOpen)
-                .userUnreadInquiryAfterReadCount(split.afterRead)
+                .userNewReplyCount(split.getBeforeOpen() + split.getAfterRead())
+                .userUnreadInquiryBeforeOpenCount(split.getBeforeOpen())
+                .userUnreadInquiryAfterReadCount(split.getAfterRead())
                 .build();
     }
 
-    /**
-     * 일반 회원 기준(본인 작성 문의 제외):
-     * - beforeOpen: 남이 작성한 문의를 아직 한 번도 상세 열람하지 않은 문의 건수
-     * - afterRead: 상세 열람 후, 그 이후에 새 답변이 달린 문의 건수
-     */
-    private UnreadInquirySplit countUnreadInquiryThreadsSplit(Long viewerUserId) {
-        List<Inquiry> inquiries = inquiryRepository.findAll();
-        long beforeOpen = 0;
-        long afterRead = 0;
-        for (Inquiry inq : inquiries) {
-            if (inq.getAuthor().getId().equals(viewerUserId)) {
-                continue;
-            }
-            Optional<InquiryUserReadState> opt = readStateRepository.findByInquiryAndUserIds(inq.getId(), viewerUserId);
-            long unread = opt.map(state -> inquiryReplyRepository.countByInquiryIdAndDeletedAtIsNullAndCreatedAtAfter(
-                            inq.getId(), state.getLastReadAt()))
-                    .orElse(0L);
-
-            if (opt.isEmpty()) {
-                beforeOpen++;
-            } else if (unread > 0) {
-                afterRead++;
-            }
-        }
-        return new UnreadInquirySplit(beforeOpen, afterRead);
-    }
-
-    private static final class UnreadInquirySplit {
-        final long beforeOpen;
-        final long afterRead;
-
-        UnreadInquirySplit(long beforeOpen, long afterRead) {
-            this.beforeOpen = beforeOpen;
-            this.afterRead = afterRead;
-        }
-    }
-
     private long countUnreadRepliesForInquiry(Long inquiryId, Long viewerUserId) {
         return readStateRepository.findByInquiryAndUserIds(inquiryId, viewerUserId)
                 .map(state -> inquiryReplyRepository.countByInquiryIdAndDeletedAtIsNullAndCreatedAtAfter(
@@ -253,6 +220,7 @@ public class InquiryService {
             state.setLastReadAt(now);
         }
         readStateRepository.save(state);
+        inquiryUnreadCounter.evictViewer(viewerUserId);
     }
 
     private boolean hasActiveReply(Long inquiryId) {
@@ -0,0 +1,66 @@
+package com.project.Transflow.inquiry.service;
+
+import com.project.Transflow.config.CacheConfig;
+import com.project.Transflow.inquiry.repository.InquiryRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 문의 배지용 미확인 건수 (조회자 단위 캐시).
+ * 답변 추가/삭제·문의 추가/삭제 시 전체, 조회자의 읽음 상태 변경 시 해당 조회자만 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class InquiryUnreadCounter {
+
+    private final InquiryRepository inquiryRepository;
+
+    /**
+     * 일반 회원 기준(본인 작성 문의 제외):
+     * - beforeOpen: 남이 작성한 문의를 아직 한 번도 상세 열람하지 않은 문의 건수
+     * - afterRead: 상세 열람 후, 그 이후에 새 답변이 달린 문의 건수
+     */
+    @Cacheable(cacheNames = CacheConfig.INQUIRY_UNREAD_COUNTS, key = "#viewerUserId")
+    public UnreadInquiryCounts count(Long viewerUserId) {
+        List<Object[]> rows = inquiryRepository.countUnreadThreadsSplit(viewerUserId);
+        if (rows.isEmpty()) {
+            return new UnreadInquiryCounts(0, 0);
+        }
+        Object[] row = rows.get(0);
+        return new UnreadInquiryCounts(toLong(row[0]), toLong(row[1]));
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.INQUIRY_UNREAD_COUNTS, key = "#viewerUserId")
+    public void evictViewer(Long viewerUserId) {
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.INQUIRY_UNREAD_COUNTS, allEntries = true)
+    public void evictAll() {
+    }
+
+    private static long toLong(Object value) {
+        return value != null ? ((Number) value).longValue() : 0L;
+    }
+
+    public static final class UnreadInquiryCounts {
+        private final long beforeOpen;
+        private final long afterRead;
+
+        UnreadInquiryCounts(long beforeOpen, long afterRead) {
+            this.beforeOpen = beforeOpen;
+            this.afterRead = afterRead;
+        }
+
+        public long getBeforeOpen() {
+            return beforeOpen;
+        }
+
+        public long getAfterRead() {
+            return afterRead;
+        }
+    }
+}
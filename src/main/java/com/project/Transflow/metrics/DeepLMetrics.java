@@ -0,0 +1,62 @@
+package com.project.Transflow.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+
+import java.util.function.Supplier;
+
+/**
+ * DeepL API 호출 지표.
+ * - deepl.requests: 호출 지연 (operation, outcome=success|rate_limited|error)
+ * - deepl.characters.sent: 전송 글자 수
+ * - deepl.rate_limited: 429 응답 수
+ * - deepl.retries: 재시도 수
+ */
+@Component
+@RequiredArgsConstructor
+public class DeepLMetrics {
+
+    private final MeterRegistry meterRegistry;
+
+    public <T> T record(String operation, int characters, Supplier<T> call) {
+        meterRegistry.counter("deepl.characters.sent", "operation", operation).increment(characters);
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = call.get();
+            outcome = "success";
+            return result;
+        } catch (RuntimeException e) {
+            if (isRateLimited(e)) {
+                outcome = "rate_limited";
+                meterRegistry.counter("deepl.rate_limited", "operation", operation).increment();
+            }
+            throw e;
+        } finally {
+            sample.stop(Timer.builder("deepl.requests")
+                    .tag("operation", operation)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    public void retry(String operation) {
+        meterRegistry.counter("deepl.retries", "operation", operation).increment();
+    }
+
+    /**
+     * HTTP 상태로만 판단. block()이 감싼 예외도 있어 원인 체인에서 WebClientResponseException을 찾음
+     */
+    static boolean isRateLimited(Throwable e) {
+        for (Throwable cause = e; cause != null; cause = cause.getCause() == cause ? null : cause.getCause()) {
+            if (cause instanceof WebClientResponseException) {
+                return ((WebClientResponseException) cause).getRawStatusCode() == 429;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,64 @@
+package com.project.Transflow.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Tags;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Supplier;
+
+/**
+ * Playwright 브라우저 지표 (client=crawler|creation_kr).
+ * - playwright.browser.launch: 브라우저 실행 시간
+ * - playwright.page.load: 페이지 이동(navigate) 시간
+ * - playwright.browsers.active: 열려 있는 브라우저 수
+ */
+@Component
+@RequiredArgsConstructor
+public class PlaywrightMetrics {
+
+    public static final String CLIENT_CRAWLER = "crawler";
+    public static final String CLIENT_CREATION_KR = "creation_kr";
+
+    private final MeterRegistry meterRegistry;
+    private final Map<String, AtomicInteger> activeBrowsers = new ConcurrentHashMap<>();
+
+    public <T> T launch(String client, Supplier<T> launcher) {
+        T browser = time("playwright.browser.launch", client, launcher);
+        active(client).incrementAndGet();
+        return browser;
+    }
+
+    public void closed(String client) {
+        active(client).decrementAndGet();
+    }
+
+    public <T> T pageLoad(String client, Supplier<T> navigation) {
+        return time("playwright.page.load", client, navigation);
+    }
+
+    private <T> T time(String name, String client, Supplier<T> action) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            T result = action.get();
+            outcome = "success";
+            return result;
+        } finally {
+            sample.stop(Timer.builder(name)
+                    .tag("client", client)
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+        }
+    }
+
+    private AtomicInteger active(String client) {
+        return activeBrowsers.computeIfAbsent(client, key ->
+                meterRegistry.gauge("playwright.browsers.active", Tags.of("client", key), new AtomicInteger()));
+    }
+}
@@ -0,0 +1,28 @@
+package com.project.Transflow.notification.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.stereotype.Component;
+
+@Getter
+@Setter
+@Component
+@ConfigurationProperties(prefix = "notification.mail-outbox")
+public class MailOutboxProperties {
+
+    /** 한 번에 꺼내 하나의 SMTP 연결로 보내는 아웃박스 건수 */
+    private int batchSize = 20;
+    /** 메일 한 통에 넣는 최대 수신자 수 (초과 시 여러 통으로 분할) */
+    private int recipientsPerMessage = 50;
+    /** SMTP 실패 포함 최대 시도 횟수 */
+    private int maxAttempts = 5;
+    /** 재시도 대기 (초). 시도마다 2배 */
+    private long retryBackoffSeconds = 60;
+    /** 아웃박스 폴링 주기 (ms) */
+    private long pollIntervalMs = 10000;
+    /** SENDING 상태로 이 시간 이상 멈춘 메일은 다시 대기열로 (분) */
+    private long staleAfterMinutes = 10;
+    /** 같은 문서의 번역 완료 알림을 한 번만 보내는 구간 (분). 구간 안의 재완료(다시 제출)는 알림을 다시 기록하지 않음 */
+    private long translationCompletedWindowMinutes = 30;
+}
@@ -0,0 +1,76 @@
+package com.project.Transflow.notification.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * 알림 메일 아웃박스. 업무 트랜잭션 안에서 QUEUED로 기록되고,
+ * 백그라운드 발송기가 QUEUED → SENDING → SENT/FAILED 로 처리합니다.
+ * dedupKey가 같은 알림은 한 번만 기록됩니다.
+ */
+@Entity
+@Table(name = "mail_outbox", indexes = {
+        @Index(name = "idx_mail_outbox_status_next_attempt_at", columnList = "status, next_attempt_at")
+}, uniqueConstraints = {
+        @UniqueConstraint(name = "uk_mail_outbox_dedup_key", columnNames = "dedup_key")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class MailOutbox {
+
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_SENDING = "SENDING";
+    public static final String STATUS_SENT = "SENT";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "dedup_key", nullable = false, length = 150)
+    private String dedupKey; // 예: translation-completed:{documentId}:{완료 구간 번호}
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String recipients; // 아직 발송되지 않은 수신자 (쉼표 구분)
+
+    @Column(nullable = false)
+    private String subject;
+
+    @Column(nullable = false, columnDefinition = "TEXT")
+    private String body;
+
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private String status = STATUS_QUEUED; // QUEUED, SENDING, SENT, FAILED
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column
+    private LocalDateTime startedAt; // 마지막 SENDING 전환 시각 (중단된 발송 회수용)
+
+    @Column
+    private LocalDateTime sentAt;
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
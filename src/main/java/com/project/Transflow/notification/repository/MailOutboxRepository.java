@@ -0,0 +1,37 @@
+package com.project.Transflow.notification.repository;
+
+import com.project.Transflow.notification.entity.MailOutbox;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface MailOutboxRepository extends JpaRepository<MailOutbox, Long> {
+
+    boolean existsByDedupKey(String dedupKey);
+
+    @Query("SELECT m FROM MailOutbox m WHERE m.status = 'QUEUED' AND m.nextAttemptAt <= :now ORDER BY m.nextAttemptAt ASC, m.id ASC")
+    List<MailOutbox> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    /**
+     * QUEUED → SENDING 선점. 다른 인스턴스가 먼저 가져갔으면 0
+     */
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = 'SENDING', m.startedAt = :now, m.attempts = m.attempts + 1 "
+            + "WHERE m.id = :id AND m.status = 'QUEUED'")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 프로세스 종료 등으로 SENDING에 멈춘 메일을 다시 대기열로
+     */
+    @Modifying
+    @Query("UPDATE MailOutbox m SET m.status = 'QUEUED', m.nextAttemptAt = :now "
+            + "WHERE m.status = 'SENDING' AND m.startedAt < :staleBefore")
+    int requeueStale(@Param("staleBefore") LocalDateTime staleBefore, @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,17 @@
+package com.project.Transflow.notification.service;
+
+/**
+ * 알림 메일이 아웃박스에 기록되었음을 발송기에 알림 (커밋 후 즉시 발송용)
+ */
+public class MailOutboxEnqueuedEvent {
+
+    private final Long outboxId;
+
+    public MailOutboxEnqueuedEvent(Long outboxId) {
+        this.outboxId = outboxId;
+    }
+
+    public Long getOutboxId() {
+        return outboxId;
+    }
+}
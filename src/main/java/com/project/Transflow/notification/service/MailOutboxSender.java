@@ -0,0 +1,248 @@
+package com.project.Transflow.notification.service;
+
+import com.project.Transflow.notification.config.MailOutboxProperties;
+import com.project.Transflow.notification.entity.MailOutbox;
+import com.project.Transflow.notification.repository.MailOutboxRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.Collectors;
+
+/**
+ * mail_outbox 발송기.
+ * 대기 중인 메일을 batch-size 건씩 꺼내 수신자를 recipients-per-message 단위로 나누고, 하나의 SMTP 연결로 보냅니다.
+ * SMTP 실패는 지수 백오프로 재시도하며, 일부 메일만 실패하면 실패한 수신자만 남겨 다시 보내므로 중복 발송되지 않습니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class MailOutboxSender {
+
+    private final MailOutboxRepository mailOutboxRepository;
+    private final JavaMailSender mailSender;
+    private final MailOutboxProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicBoolean drainScheduled = new AtomicBoolean();
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void init() {
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "mail-outbox-sender");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdown();
+        try {
+            if (!executor.awaitTermination(10, TimeUnit.SECONDS)) {
+                executor.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            executor.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 알림 기록 커밋 직후 발송 예약 (요청 스레드는 SMTP를 기다리지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnqueued(MailOutboxEnqueuedEvent event) {
+        scheduleDrain();
+    }
+
+    @Scheduled(fixedDelayString = "${notification.mail-outbox.poll-interval-ms:10000}",
+            initialDelayString = "${notification.mail-outbox.poll-interval-ms:10000}")
+    public void poll() {
+        scheduleDrain();
+    }
+
+    private void scheduleDrain() {
+        if (drainScheduled.compareAndSet(false, true)) {
+            executor.execute(this::drain);
+        }
+    }
+
+    private void drain() {
+        drainScheduled.set(false);
+        try {
+            int batchSize = Math.max(1, properties.getBatchSize());
+            while (sendDueBatch(batchSize) >= batchSize) {
+                // 가득 찬 배치였으면 남은 메일이 있을 수 있으므로 이어서 처리
+            }
+        } catch (Exception e) {
+            log.error("메일 아웃박스 발송 실패", e);
+        }
+    }
+
+    private int sendDueBatch(int batchSize) {
+        TransactionTemplate tx = newRequiresNewTemplate();
+        LocalDateTime now = LocalDateTime.now();
+        Integer requeued = tx.execute(status -> mailOutboxRepository.requeueStale(
+                now.minusMinutes(properties.getStaleAfterMinutes()), now));
+        if (requeued != null && requeued > 0) {
+            log.warn("중단된 메일 발송 {}건을 대기열로 되돌림", requeued);
+        }
+
+        List<MailOutbox> due = tx.execute(status -> mailOutboxRepository.findDue(now, PageRequest.of(0, batchSize)));
+        List<MailOutbox> claimed = new ArrayList<>();
+        for (MailOutbox mail : due != null ? due : Collections.<MailOutbox>emptyList()) {
+            Integer updated = tx.execute(status -> mailOutboxRepository.claim(mail.getId(), now));
+            if (updated != null && updated > 0) {
+                claimed.add(mail);
+            }
+        }
+        if (claimed.isEmpty()) {
+            return 0;
+        }
+
+        List<Chunk> chunks = new ArrayList<>();
+        for (MailOutbox mail : claimed) {
+            List<String> recipients = splitRecipients(mail.getRecipients());
+            int size = Math.max(1, properties.getRecipientsPerMessage());
+            for (int from = 0; from < recipients.size(); from += size) {
+                chunks.add(new Chunk(mail, recipients.subList(from, Math.min(from + size, recipients.size()))));
+            }
+        }
+
+        try {
+            mailSender.send(chunks.stream().map(chunk -> chunk.message).toArray(SimpleMailMessage[]::new));
+            claimed.forEach(mail -> markSent(mail.getId()));
+            log.info("알림 메일 발송 완료 - {}건 ({}통)", claimed.size(), chunks.size());
+        } catch (MailSendException e) {
+            handlePartialFailure(claimed, chunks, e);
+        } catch (Exception e) {
+            log.warn("알림 메일 발송 실패 - {}건: {}", claimed.size(), e.getMessage());
+            claimed.forEach(mail -> scheduleRetryOrFail(mail, mail.getRecipients(), e.getMessage()));
+        }
+        return claimed.size();
+    }
+
+    /**
+     * 실패한 메일의 수신자만 남겨 재시도. 연결 실패처럼 실패 목록이 없으면 전체 재시도
+     */
+    private void handlePartialFailure(List<MailOutbox> claimed, List<Chunk> chunks, MailSendException e) {
+        Set<Object> failed = Collections.newSetFromMap(new IdentityHashMap<>());
+        failed.addAll(e.getFailedMessages().keySet());
+
+        Map<Long, Set<String>> remaining = new LinkedHashMap<>();
+        for (Chunk chunk : chunks) {
+            if (failed.isEmpty() || failed.contains(chunk.message)) {
+                remaining.computeIfAbsent(chunk.mail.getId(), id -> new LinkedHashSet<>()).addAll(chunk.recipients);
+            }
+        }
+
+        for (MailOutbox mail : claimed) {
+            Set<String> left = remaining.get(mail.getId());
+            if (left == null) {
+                markSent(mail.getId());
+            } else {
+                scheduleRetryOrFail(mail, String.join(",", left), e.getMessage());
+            }
+        }
+        log.warn("알림 메일 일부 발송 실패 - 재시도 대상 {}/{}건: {}", remaining.size(), claimed.size(), e.getMessage());
+    }
+
+    private void scheduleRetryOrFail(MailOutbox mail, String recipients, String error) {
+        int attempt = (mail.getAttempts() != null ? mail.getAttempts() : 0) + 1;
+        boolean giveUp = attempt >= properties.getMaxAttempts();
+        LocalDateTime nextAttemptAt = LocalDateTime.now()
+                .plusSeconds(properties.getRetryBackoffSeconds() * (1L << Math.min(attempt - 1, 16)));
+        try {
+            newRequiresNewTemplate().executeWithoutResult(status ->
+                    mailOutboxRepository.findById(mail.getId()).ifPresent(row -> {
+                        row.setRecipients(recipients);
+                        row.setLastError(error);
+                        if (giveUp) {
+                            row.setStatus(MailOutbox.STATUS_FAILED);
+                        } else {
+                            row.setStatus(MailOutbox.STATUS_QUEUED);
+                            row.setNextAttemptAt(nextAttemptAt);
+                        }
+                        mailOutboxRepository.save(row);
+                    }));
+        } catch (Exception e) {
+            log.warn("메일 아웃박스 상태 저장 실패 - id: {}: {}", mail.getId(), e.getMessage());
+        }
+        if (giveUp) {
+            log.error("알림 메일 발송 포기 - id: {}, 시도 {}회: {}", mail.getId(), attempt, error);
+        }
+    }
+
+    private void markSent(Long id) {
+        try {
+            newRequiresNewTemplate().executeWithoutResult(status ->
+                    mailOutboxRepository.findById(id).ifPresent(row -> {
+                        row.setStatus(MailOutbox.STATUS_SENT);
+                        row.setSentAt(LocalDateTime.now());
+                        row.setLastError(null);
+                        mailOutboxRepository.save(row);
+                    }));
+        } catch (Exception e) {
+            log.warn("메일 아웃박스 상태 저장 실패 - id: {}: {}", id, e.getMessage());
+        }
+    }
+
+    private static List<String> splitRecipients(String recipients) {
+        if (recipients == null || recipients.isBlank()) {
+            return Collections.emptyList();
+        }
+        return Arrays.stream(recipients.split(","))
+                .map(String::trim)
+                .filter(email -> !email.isEmpty())
+                .distinct()
+                .collect(Collectors.toList());
+    }
+
+    private TransactionTemplate newRequiresNewTemplate() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+
+    private static final class Chunk {
+        private final MailOutbox mail;
+        private final List<String> recipients;
+        private final SimpleMailMessage message;
+
+        private Chunk(MailOutbox mail, List<String> recipients) {
+            this.mail = mail;
+            this.recipients = recipients;
+            this.message = new SimpleMailMessage();
+            this.message.setTo(recipients.toArray(new String[0]));
+            this.message.setSubject(mail.getSubject());
+            this.message.setText(mail.getBody());
+        }
+    }
+}
@@ -1,32 +1,59 @@
 package com.project.Transflow.notification.service;
 
+import com.project.Transflow.notification.config.MailOutboxProperties;
+import com.project.Transflow.notification.entity.MailOutbox;
+import com.project.Transflow.notification.repository.MailOutboxRepository;
 import com.project.Transflow.user.entity.User;
 import com.project.Transflow.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
-import org.springframework.mail.SimpleMailMessage;
-import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
 
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
 import java.util.List;
 import java.util.stream.Collectors;
 
+/**
+ * 번역 완료 알림 메일을 아웃박스에 기록합니다. 실제 발송은 MailOutboxSender가 커밋 이후 백그라운드에서 처리합니다.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class TranslationNotificationMailService {
 
-    private final JavaMailSender mailSender;
     private final UserRepository userRepository;
+    private final MailOutboxRepository mailOutboxRepository;
+    private final ApplicationEventPublisher eventPublisher;
+    private final MailOutboxProperties properties;
 
     @Value("${app.reviews.url:https://lb.walab.info/reviews}")
     private String reviewsUrl;
 
-    public void sendTranslationCompletedToAdmins(Long documentId, String documentTitle) {
+    /**
+     * 호출한 트랜잭션과 함께 커밋됩니다. 완료할 때마다 새 버전이 생기므로 버전이 아니라 문서와 완료 구간으로 묶어,
+     * 같은 문서를 구간 안에서 다시 완료해도 알림은 한 번만 기록됩니다.
+     */
+    @Transactional
+    public void enqueueTranslationCompletedToAdmins(Long documentId, Long versionId, String documentTitle) {
+        enqueueTranslationCompletedToAdmins(documentId, versionId, documentTitle, LocalDateTime.now());
+    }
+
+    void enqueueTranslationCompletedToAdmins(
+            Long documentId, Long versionId, String documentTitle, LocalDateTime completedAt) {
+        String dedupKey = translationCompletedDedupKey(documentId, completedAt);
+        if (mailOutboxRepository.existsByDedupKey(dedupKey)) {
+            log.info("번역 완료 알림 메일 중복 요청 스킵: {} (versionId={})", dedupKey, versionId);
+            return;
+        }
+
         List<String> recipients = userRepository.findByRoleLevelLessThanEqual(2).stream()
                 .map(User::getEmail)
                 .filter(email -> email != null && !email.isBlank())
+                .map(String::trim)
                 .distinct()
                 .collect(Collectors.toList());
 
@@ -37,18 +64,29 @@ public class TranslationNotificationMailService {
 
         String safeTitle = (documentTitle == null || documentTitle.isBlank()) ? "(제목 없음)" : documentTitle;
 
-        SimpleMailMessage message = new SimpleMailMessage();
-        message.setTo(recipients.toArray(new String[0]));
-        message.setSubject("[LangBridge] 번역 완료 알림");
-        message.setText(
-                "번역이 완료되었습니다.\n\n"
+        MailOutbox saved = mailOutboxRepository.save(MailOutbox.builder()
+                .dedupKey(dedupKey)
+                .recipients(String.join(",", recipients))
+                .subject("[LangBridge] 번역 완료 알림")
+                .body("번역이 완료되었습니다.\n\n"
                         + "- 문서 ID: " + documentId + "\n"
                         + "- 문서명: " + safeTitle + "\n\n"
                         + "아래 리뷰 페이지에서 확인해 주세요.\n"
-                        + reviewsUrl
-        );
+                        + reviewsUrl)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+
+        eventPublisher.publishEvent(new MailOutboxEnqueuedEvent(saved.getId()));
+        log.info("번역 완료 알림 메일 대기열 등록: documentId={}, versionId={}, recipients={}",
+                documentId, versionId, recipients.size());
+    }
 
-        mailSender.send(message);
-        log.info("번역 완료 알림 메일 발송 완료: documentId={}, recipients={}", documentId, recipients.size());
+    /**
+     * translation-completed:{documentId}:{완료 구간 번호}. 구간 번호는 완료 시각(UTC 기준 분)을 구간 길이로 나눈 값
+     */
+    String translationCompletedDedupKey(Long documentId, LocalDateTime completedAt) {
+        long windowMinutes = Math.max(1, properties.getTranslationCompletedWindowMinutes());
+        long epochMinute = completedAt.toEpochSecond(ZoneOffset.UTC) / 60;
+        return "translation-completed:" + documentId + ":" + (epochMinute / windowMinutes);
     }
 }
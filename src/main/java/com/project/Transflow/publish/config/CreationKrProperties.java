@@ -19,6 +19,12 @@ public class CreationKrProperties {
     private int timeoutMs = 60000;
     private boolean headless = true;
 
+    /** 로그인 후 storage state(쿠키·localStorage)를 암호화 저장해 다음 게시에 재사용 */
+    private boolean sessionReuseEnabled = true;
+
+    /** 저장된 로그인 세션 재사용 기간 (분). 지나면 전체 로그인 */
+    private long sessionTtlMinutes = 360;
+
     /** 시작 시 board-mappings 기준 Category 시드 (creationKr 필드 동기화) */
     private boolean seedCategories = true;
 
@@ -30,6 +36,8 @@ public class CreationKrProperties {
 
     private Selectors selectors = new Selectors();
 
+    private Queue queue = new Queue();
+
     @Getter
     @Setter
     public static class Selectors {
@@ -43,6 +51,24 @@ public class CreationKrProperties {
         private String loggedInIndicator = "a[href*='logout'], a[href*='Logout'], .member_info";
     }
 
+    @Getter
+    @Setter
+    public static class Queue {
+        /** 동시에 실행할 브라우저 게시 워커 수 */
+        private int workers = 1;
+        /** 일시적 실패 포함 최대 시도 횟수 */
+        private int maxAttempts = 3;
+        /** 재시도 대기 (초). 시도마다 2배 */
+        private long retryBackoffSeconds = 30;
+        /** 대기열 폴링 주기 (ms) */
+        private long pollIntervalMs = 5000;
+        /**
+         * RUNNING 상태로 이 시간 이상 멈춘 작업은 다시 대기열로 (분).
+         * 일괄 게시는 항목마다 갱신되므로 글 1건 최악 소요 시간보다 길어야 하며, 짧으면 워커가 하한으로 올려 사용
+         */
+        private long staleAfterMinutes = 30;
+    }
+
     public String resolveBoardId(String sitePath) {
         if (sitePath == null || sitePath.isBlank()) {
             return null;
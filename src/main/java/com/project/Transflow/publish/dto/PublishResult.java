@@ -15,6 +15,9 @@ public class PublishResult {
     private String publishedUrl;
     private String errorMessage;
 
+    /** 일시적 실패(타임아웃·브라우저 오류 등, 등록 버튼 클릭 전) — 게시 큐에서 재시도 대상 */
+    private boolean retryable;
+
     public static PublishResult success(String publishedUrl) {
         return PublishResult.builder()
                 .success(true)
@@ -28,4 +31,12 @@ public class PublishResult {
                 .errorMessage(errorMessage)
                 .build();
     }
+
+    public static PublishResult transientFailure(String errorMessage) {
+        return PublishResult.builder()
+                .success(false)
+                .errorMessage(errorMessage)
+                .retryable(true)
+                .build();
+    }
 }
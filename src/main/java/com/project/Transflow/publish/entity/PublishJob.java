@@ -0,0 +1,79 @@
+package com.project.Transflow.publish.entity;
+
+import lombok.*;
+import org.hibernate.annotations.CreationTimestamp;
+import org.hibernate.annotations.UpdateTimestamp;
+
+import javax.persistence.*;
+import java.time.LocalDateTime;
+
+/**
+ * creation.kr 게시 대기열 항목. 워커가 QUEUED → RUNNING → DONE/FAILED 로 처리하며,
+ * 일시적 실패는 nextAttemptAt 이후 다시 QUEUED 상태에서 재시도됩니다.
+ * RUNNING에서 멈춘 작업은 등록 클릭 전이고 시도가 남았을 때만 다시 QUEUED, 아니면 FAILED로 끝냅니다.
+ */
+@Entity
+@Table(name = "publish_job", indexes = {
+        @Index(name = "idx_publish_job_status_next_attempt_at", columnList = "status, next_attempt_at"),
+        @Index(name = "idx_publish_job_review_id", columnList = "review_id"),
+        @Index(name = "idx_publish_job_batch_id", columnList = "batch_id")
+})
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class PublishJob {
+
+    public static final String STATUS_QUEUED = "QUEUED";
+    public static final String STATUS_RUNNING = "RUNNING";
+    public static final String STATUS_DONE = "DONE";
+    public static final String STATUS_FAILED = "FAILED";
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "review_id", nullable = false)
+    private Long reviewId;
+
+    @Column(length = 100)
+    private String sitePath; // 수동 선택 게시판 (없으면 카테고리 매핑)
+
+    @Column(length = 100)
+    private String boardId;
+
+    @Column
+    private Long requestedBy; // 게시 요청한 관리자 ID
+
+    @Column(name = "batch_id", length = 36)
+    private String batchId; // 일괄 게시 묶음 ID (같은 브라우저 세션에서 함께 처리)
+
+    @Column(nullable = false, length = 20)
+    @Builder.Default
+    private String status = STATUS_QUEUED; // QUEUED, RUNNING, DONE, FAILED
+
+    @Column(nullable = false)
+    @Builder.Default
+    private Integer attempts = 0;
+
+    @Column(name = "next_attempt_at", nullable = false)
+    private LocalDateTime nextAttemptAt;
+
+    @Column
+    private LocalDateTime startedAt; // 마지막 RUNNING 전환 시각 (중단된 작업 회수용)
+
+    @Column
+    private LocalDateTime submittedAt; // 등록 버튼 클릭 직전 기록. 이후 중단되면 이미 게시됐을 수 있어 자동 재시도하지 않음
+
+    @Column(columnDefinition = "TEXT")
+    private String lastError;
+
+    @CreationTimestamp
+    @Column(nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    @UpdateTimestamp
+    @Column(nullable = false)
+    private LocalDateTime updatedAt;
+}
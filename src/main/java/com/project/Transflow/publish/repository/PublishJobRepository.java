@@ -0,0 +1,95 @@
+package com.project.Transflow.publish.repository;
+
+import com.project.Transflow.publish.entity.PublishJob;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+@Repository
+public interface PublishJobRepository extends JpaRepository<PublishJob, Long> {
+
+    @Query("SELECT j FROM PublishJob j WHERE j.status = 'QUEUED' AND j.nextAttemptAt <= :now ORDER BY j.nextAttemptAt ASC, j.id ASC")
+    List<PublishJob> findDue(@Param("now") LocalDateTime now, Pageable pageable);
+
+    @Query("SELECT j FROM PublishJob j WHERE j.batchId = :batchId AND j.status = 'QUEUED' AND j.nextAttemptAt <= :now ORDER BY j.id ASC")
+    List<PublishJob> findDueInBatch(@Param("batchId") String batchId, @Param("now") LocalDateTime now);
+
+    List<PublishJob> findByBatchIdOrderByIdAsc(String batchId);
+
+    /**
+     * QUEUED → RUNNING 선점. 다른 워커(인스턴스)가 먼저 가져갔으면 0
+     */
+    @Modifying
+    @Query("UPDATE PublishJob j SET j.status = 'RUNNING', j.startedAt = :now, j.attempts = j.attempts + 1 "
+            + "WHERE j.id = :id AND j.status = 'QUEUED'")
+    int claim(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중인 작업의 종료 기록. 같은 시도(attempts)로 RUNNING인 경우에만 반영하므로
+     * 그 사이 재등록·재선점된 작업을 덮어쓰지 않습니다 (반영되지 않으면 0)
+     */
+    @Modifying
+    @Query("UPDATE PublishJob j SET j.status = :status, j.lastError = :error, j.updatedAt = :now "
+            + "WHERE j.id = :id AND j.status = 'RUNNING' AND j.attempts = :attempt")
+    int finish(@Param("id") Long id, @Param("attempt") int attempt, @Param("status") String status,
+               @Param("error") String error, @Param("now") LocalDateTime now);
+
+    /**
+     * 실행 중인 작업을 재시도 대기로 되돌림. 조건은 finish와 동일
+     */
+    @Modifying
+    @Query("UPDATE PublishJob j SET j.status = 'QUEUED', j.nextAttemptAt = :nextAttemptAt, j.lastError = :error, "
+            + "j.updatedAt = :now WHERE j.id = :id AND j.status = 'RUNNING' AND j.attempts = :attempt")
+    int retry(@Param("id") Long id, @Param("attempt") int attempt, @Param("nextAttemptAt") LocalDateTime nextAttemptAt,
+              @Param("error") String error, @Param("now") LocalDateTime now);
+
+    /**
+     * 일괄 게시 진행 중 남은 항목의 startedAt 갱신 (stale 판정에서 제외되도록)
+     */
+    @Modifying
+    @Query("UPDATE PublishJob j SET j.startedAt = :now WHERE j.id IN :ids AND j.status = 'RUNNING'")
+    int touch(@Param("ids") Collection<Long> ids, @Param("now") LocalDateTime now);
+
+    /**
+     * 등록 버튼 클릭 직전 표시. 같은 시도로 RUNNING일 때만 반영 (0이면 다른 시도가 가져간 작업이므로 등록하지 않아야 함)
+     */
+    @Modifying
+    @Query("UPDATE PublishJob j SET j.submittedAt = :now "
+            + "WHERE j.id = :id AND j.status = 'RUNNING' AND j.attempts = :attempt")
+    int markSubmitted(@Param("id") Long id, @Param("attempt") int attempt, @Param("now") LocalDateTime now);
+
+    /**
+     * 프로세스 종료 등으로 RUNNING에 멈춘 작업 (startedAt이 기준보다 오래됨)
+     */
+    @Query("SELECT j FROM PublishJob j WHERE j.status = 'RUNNING' AND j.startedAt < :staleBefore ORDER BY j.id ASC")
+    List<PublishJob> findStale(@Param("staleBefore") LocalDateTime staleBefore);
+
+    /**
+     * 멈춘 작업 중 등록 클릭 전이고 시도가 남은 것만 다시 대기열로.
+     * 조회 이후 갱신(touch)·종료·재선점된 작업은 조건에서 빠지므로 0
+     */
+    @Modifying
+    @Query("UPDATE PublishJob j SET j.status = 'QUEUED', j.nextAttemptAt = :now, j.updatedAt = :now "
+            + "WHERE j.id = :id AND j.status = 'RUNNING' AND j.attempts = :attempt AND j.startedAt < :staleBefore "
+            + "AND j.submittedAt IS NULL AND j.attempts < :maxAttempts")
+    int requeueStale(@Param("id") Long id, @Param("attempt") int attempt,
+                     @Param("staleBefore") LocalDateTime staleBefore, @Param("maxAttempts") int maxAttempts,
+                     @Param("now") LocalDateTime now);
+
+    /**
+     * 멈춘 작업을 FAILED로 종료 (등록 클릭 이후 중단 또는 시도 소진). 조건은 requeueStale과 동일
+     */
+    @Modifying
+    @Query("UPDATE PublishJob j SET j.status = 'FAILED', j.lastError = :error, j.updatedAt = :now "
+            + "WHERE j.id = :id AND j.status = 'RUNNING' AND j.attempts = :attempt AND j.startedAt < :staleBefore")
+    int failStale(@Param("id") Long id, @Param("attempt") int attempt,
+                  @Param("staleBefore") LocalDateTime staleBefore, @Param("error") String error,
+                  @Param("now") LocalDateTime now);
+}
@@ -0,0 +1,127 @@
+package com.project.Transflow.publish.service;
+
+import com.project.Transflow.category.entity.Category;
+import com.project.Transflow.category.repository.CategoryRepository;
+import com.project.Transflow.config.CacheConfig;
+import com.project.Transflow.publish.config.CreationKrProperties;
+import com.project.Transflow.publish.dto.CreationKrBoardOption;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * creation.kr 게시판 목록 스냅샷 (카테고리 매핑 + 설정 board-mappings).
+ * 불변 스냅샷을 캐시해 두고, CategoryService에서 카테고리가 바뀌면 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class CreationKrBoardCatalog {
+
+    private final CategoryRepository categoryRepository;
+    private final CreationKrProperties properties;
+    private final CreationKrCategoryResolver categoryResolver;
+
+    @Cacheable(cacheNames = CacheConfig.CREATION_KR_BOARD_CATALOG, key = "'all'")
+    @Transactional(readOnly = true)
+    public Snapshot snapshot() {
+        Map<String, CreationKrBoardOption> bySitePath = new LinkedHashMap<>();
+
+        for (Category category : categoryRepository.findAll()) {
+            categoryResolver.resolveFromCategory(category).ifPresent(mapping -> {
+                if (mapping.hasBoardId()) {
+                    String label = buildLabel(category.getName(), mapping.getSitePath());
+                    bySitePath.putIfAbsent(
+                            mapping.getSitePath(),
+                            CreationKrBoardOption.builder()
+                                    .sitePath(mapping.getSitePath())
+                                    .boardId(mapping.getBoardId())
+                                    .label(label)
+                                    .majorCategory(extractMajorCategory(label))
+                                    .source("CATEGORY")
+                                    .build()
+                    );
+                }
+            });
+        }
+
+        if (properties.getBoardMappings() != null) {
+            for (Map.Entry<String, String> entry : properties.getBoardMappings().entrySet()) {
+                String sitePath = entry.getKey();
+                String boardId = entry.getValue();
+                if (sitePath == null || sitePath.isBlank() || boardId == null || boardId.isBlank()) {
+                    continue;
+                }
+                String trimmedPath = sitePath.trim();
+                String label = properties.resolveBoardLabel(trimmedPath);
+                bySitePath.putIfAbsent(
+                        trimmedPath,
+                        CreationKrBoardOption.builder()
+                                .sitePath(trimmedPath)
+                                .boardId(boardId.trim())
+                                .label(label)
+                                .majorCategory(extractMajorCategory(label))
+                                .source("CONFIG")
+                                .build()
+                );
+            }
+        }
+
+        List<CreationKrBoardOption> boards = new ArrayList<>(bySitePath.values());
+        boards.sort(Comparator
+                .comparing(
+                        (CreationKrBoardOption b) -> b.getMajorCategory() != null ? b.getMajorCategory() : "",
+                        String.CASE_INSENSITIVE_ORDER
+                )
+                .thenComparing(CreationKrBoardOption::getLabel, String.CASE_INSENSITIVE_ORDER));
+
+        return new Snapshot(boards, bySitePath);
+    }
+
+    private String buildLabel(String categoryName, String sitePath) {
+        if (categoryName != null && !categoryName.isBlank()) {
+            return categoryName.trim();
+        }
+        return properties.resolveBoardLabel(sitePath);
+    }
+
+    static String extractMajorCategory(String label) {
+        if (label == null || label.isBlank()) {
+            return null;
+        }
+        int i = label.indexOf('-');
+        if (i > 0) {
+            return label.substring(0, i).trim();
+        }
+        return label.trim();
+    }
+
+    /**
+     * 정렬된 게시판 목록과 sitePath 색인. 생성 후 변경되지 않습니다.
+     */
+    public static final class Snapshot {
+        private final List<CreationKrBoardOption> boards;
+        private final Map<String, CreationKrBoardOption> bySitePath;
+
+        private Snapshot(List<CreationKrBoardOption> boards, Map<String, CreationKrBoardOption> bySitePath) {
+            this.boards = Collections.unmodifiableList(new ArrayList<>(boards));
+            this.bySitePath = Map.copyOf(bySitePath);
+        }
+
+        public List<CreationKrBoardOption> getBoards() {
+            return boards;
+        }
+
+        public Optional<CreationKrBoardOption> findBySitePath(String sitePath) {
+            return Optional.ofNullable(bySitePath.get(sitePath));
+        }
+    }
+}
@@ -8,7 +8,10 @@ import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
 import com.microsoft.playwright.options.LoadState;
 import com.microsoft.playwright.options.WaitForSelectorState;
+import com.microsoft.playwright.options.WaitUntilState;
+import com.project.Transflow.metrics.PlaywrightMetrics;
 import com.project.Transflow.publish.config.CreationKrProperties;
+import com.project.Transflow.publish.dto.PublishRequest;
 import com.project.Transflow.publish.dto.PublishResult;
 import com.project.Transflow.publish.exception.CreationKrPublishException;
 import com.project.Transflow.settings.dto.CreationKrCredentials;
@@ -21,9 +24,15 @@ import java.net.URI;
 import java.net.URLDecoder;
 import java.net.URLEncoder;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Base64;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
 import java.util.regex.Pattern;
 
 @Slf4j
@@ -33,6 +42,32 @@ public class CreationKrBrowserClient {
 
     private static final int MIN_BODY_HTML_LENGTH = 50;
 
+    /** 있을 수도 없을 수도 있는 요소 확인용 짧은 대기 */
+    private static final long PROBE_TIMEOUT_MS = 5000L;
+    /** 등록 클릭 후 이동 또는 확인 dialog 표시까지 */
+    private static final long SUBMIT_REACTION_TIMEOUT_MS = 2000L;
+    /** Froala 에디터 초기화(contenteditable) 대기 */
+    private static final long EDITOR_READY_TIMEOUT_MS = 10000L;
+    /** 본문 입력 후 글자 수 카운터 반영 대기 */
+    private static final long BODY_SYNC_TIMEOUT_MS = 3000L;
+
+    private static final String EDITOR_READY_SCRIPT =
+            "() => {"
+                    + " const el = document.querySelector('#post_body .fr-element');"
+                    + " if (!el) { return false; }"
+                    + " const box = el.closest('.fr-box');"
+                    + " return el.isContentEditable && !(box && box.classList.contains('fr-disabled'));"
+                    + " }";
+
+    private static final String BODY_SYNCED_SCRIPT =
+            "(minLength) => {"
+                    + " const el = document.querySelector('#post_body .fr-element.fr-view')"
+                    + "   || document.querySelector('#post_body .fr-element');"
+                    + " const counter = document.querySelector('.fr-counter')?.textContent?.trim() || '';"
+                    + " const htmlLength = el?.innerHTML?.length || 0;"
+                    + " return htmlLength >= minLength && counter.length > 0 && !(/:\\\\s*0\\\\s*$/.test(counter));"
+                    + " }";
+
     private static final String FROALA_FILL_SCRIPT =
             "(el, html) => {"
                     + " el.focus();"
@@ -64,25 +99,50 @@ public class CreationKrBrowserClient {
                     + " }";
 
     private final CreationKrProperties properties;
+    private final CreationKrSessionStore sessionStore;
+    private final PlaywrightMetrics playwrightMetrics;
 
-    private Playwright playwright;
+    /**
+     * Playwright 인스턴스는 스레드 안전하지 않으므로 게시 워커 스레드마다 하나씩 재사용.
+     * 재사용은 게시 워커가 runOnQueueWorker로 명시한 구간에서만 하고,
+     * 그 밖의 호출(요청 스레드의 로그인 테스트 등)은 호출마다 만들고 브라우저와 함께 닫음
+     */
+    private final ThreadLocal<Playwright> playwright = new ThreadLocal<>();
+    /** 현재 스레드가 runOnQueueWorker 구간 안인지 */
+    private final ThreadLocal<Boolean> queueWorkerScope = ThreadLocal.withInitial(() -> Boolean.FALSE);
+    private final Set<Playwright> allPlaywrights = ConcurrentHashMap.newKeySet();
+    /** 호출 단위로 만든 Playwright (브라우저 종료 시 함께 닫음) */
+    private final Map<Browser, Playwright> perCallPlaywrights = new ConcurrentHashMap<>();
 
-    private Playwright getPlaywright() {
-        if (playwright == null) {
-            playwright = Playwright.create();
+    private Playwright getWorkerPlaywright() {
+        Playwright instance = playwright.get();
+        if (instance == null) {
+            instance = Playwright.create();
+            playwright.set(instance);
+            allPlaywrights.add(instance);
+        }
+        return instance;
+    }
+
+    /**
+     * 게시 워커 전용: task 동안 이 스레드의 Playwright를 만들어 두고 다음 작업에서도 재사용합니다.
+     * 스레드마다 Playwright가 하나씩 남으므로 수가 고정된 워커 스레드에서만 호출해야 합니다 (종료 시 cleanup에서 닫음).
+     */
+    public void runOnQueueWorker(Runnable task) {
+        queueWorkerScope.set(Boolean.TRUE);
+        try {
+            task.run();
+        } finally {
+            queueWorkerScope.remove();
         }
-        return playwright;
     }
 
     @PreDestroy
     public void cleanup() {
-        if (playwright != null) {
-            try {
-                playwright.close();
-            } catch (Exception e) {
-                log.warn("Playwright 종료 중 오류: {}", e.getMessage());
-            }
-        }
+        allPlaywrights.forEach(this::closePlaywright);
+        allPlaywrights.clear();
+        perCallPlaywrights.values().forEach(this::closePlaywright);
+        perCallPlaywrights.clear();
     }
 
     /**
@@ -92,17 +152,28 @@ public class CreationKrBrowserClient {
         Browser browser = null;
         try {
             browser = launchBrowser();
-            BrowserContext context = newBrowserContext(browser);
+            String storedState = sessionStore.load(credentials.getEmail()).orElse(null);
+            BrowserContext context = newBrowserContext(browser, storedState);
             Page page = context.newPage();
             page.setDefaultTimeout(properties.getTimeoutMs());
 
-            page.navigate(properties.getBaseUrl());
+            navigate(page, properties.getBaseUrl());
             page.waitForLoadState(LoadState.DOMCONTENTLOADED);
 
+            if (storedState != null) {
+                if (isLoggedIn(page)) {
+                    log.info("creation.kr 저장 세션으로 로그인 상태 확인");
+                    return PublishResult.success(page.url());
+                }
+                log.info("creation.kr 저장 세션 무효 — 전체 로그인으로 전환");
+                sessionStore.invalidate();
+            }
+
             boolean loggedIn = performLoginAndReachTarget(page, credentials, properties.getBaseUrl());
             if (!loggedIn) {
                 return PublishResult.failure("creation.kr 로그인에 실패했습니다. 계정 정보 또는 사이트 UI를 확인해주세요.");
             }
+            saveSessionState(context, credentials);
             return PublishResult.success(page.url());
         } catch (Exception e) {
             log.error("creation.kr 로그인 테스트 실패", e);
@@ -117,26 +188,113 @@ public class CreationKrBrowserClient {
      */
     public PublishResult publishPost(CreationKrCredentials credentials, String sitePath, String boardId,
                                    String title, String htmlContent) {
+        return publishPost(credentials, sitePath, boardId, title, htmlContent, () -> { });
+    }
+
+    /**
+     * publishPost와 같으며, 등록 버튼을 누르기 직전에 beforeSubmit을 호출합니다.
+     * beforeSubmit이 예외를 던지면 등록하지 않고 재시도 가능한 실패로 끝납니다.
+     */
+    public PublishResult publishPost(CreationKrCredentials credentials, String sitePath, String boardId,
+                                   String title, String htmlContent, Runnable beforeSubmit) {
         if (!properties.isEnabled()) {
             return PublishResult.failure("creation.kr 자동 게시 기능이 비활성화되어 있습니다.");
         }
-        if (boardId == null || boardId.isBlank()) {
-            return PublishResult.failure("boardId가 설정되지 않았습니다. sitePath: " + sitePath);
+
+        Browser browser = null;
+        try {
+            browser = launchBrowser();
+            String storedState = sessionStore.load(credentials.getEmail()).orElse(null);
+            BrowserContext context = newBrowserContext(browser, storedState);
+            return publishInContext(context, credentials, storedState != null, sitePath, boardId, title, htmlContent,
+                    beforeSubmit);
+        } catch (Exception e) {
+            log.error("creation.kr 브라우저 시작 실패 - sitePath: {}, boardId: {}", sitePath, boardId, e);
+            return PublishResult.transientFailure("게시 중 오류: " + e.getMessage());
+        } finally {
+            closeBrowser(browser);
+        }
+    }
+
+    /**
+     * 여러 글을 하나의 로그인된 브라우저 컨텍스트에서 순서대로 등록 (로그인 1회).
+     * 결과는 posts와 같은 순서. 각 PublishRequest의 boardId·htmlContent는 확정·sanitize된 값이어야 합니다.
+     */
+    public List<PublishResult> publishPosts(CreationKrCredentials credentials, List<PublishRequest> posts) {
+        return publishPosts(credentials, posts, index -> { }, (index, result) -> { });
+    }
+
+    /**
+     * publishPosts와 같으며, 글 1건의 등록 버튼을 누르기 직전에 beforeSubmit(posts 내 순번)을,
+     * 글 1건이 끝날 때마다 onResult(posts 내 순번, 결과)를 호출합니다.
+     * 게시 큐가 묶음 전체를 기다리지 않고 항목별로 완료 처리할 수 있도록 사용합니다.
+     */
+    public List<PublishResult> publishPosts(CreationKrCredentials credentials, List<PublishRequest> posts,
+                                            IntConsumer beforeSubmit, BiConsumer<Integer, PublishResult> onResult) {
+        List<PublishResult> results = new ArrayList<>(posts.size());
+        if (!properties.isEnabled()) {
+            posts.forEach(post -> addResult(results, PublishResult.failure("creation.kr 자동 게시 기능이 비활성화되어 있습니다."), onResult));
+            return results;
         }
 
         Browser browser = null;
         try {
             browser = launchBrowser();
-            BrowserContext context = newBrowserContext(browser);
-            Page page = context.newPage();
+            String storedState = sessionStore.load(credentials.getEmail()).orElse(null);
+            BrowserContext context = newBrowserContext(browser, storedState);
+            boolean sessionEstablished = storedState != null;
+            for (PublishRequest post : posts) {
+                int index = results.size();
+                PublishResult result = publishInContext(context, credentials, sessionEstablished,
+                        post.getSitePath(), post.getBoardId(), post.getTitle(), post.getHtmlContent(),
+                        () -> beforeSubmit.accept(index));
+                addResult(results, result, onResult);
+                // 한 번이라도 글쓰기 페이지까지 도달했다면 이후 글은 같은 세션(쿠키)으로 진행
+                sessionEstablished = sessionEstablished || result.isSuccess();
+            }
+        } catch (Exception e) {
+            log.error("creation.kr 일괄 게시 중 브라우저 오류 - 완료 {}/{}", results.size(), posts.size(), e);
+            while (results.size() < posts.size()) {
+                addResult(results, PublishResult.transientFailure("게시 중 오류: " + e.getMessage()), onResult);
+            }
+        } finally {
+            closeBrowser(browser);
+        }
+        return results;
+    }
+
+    private static void addResult(List<PublishResult> results, PublishResult result,
+                                  BiConsumer<Integer, PublishResult> onResult) {
+        results.add(result);
+        onResult.accept(results.size() - 1, result);
+    }
+
+    /**
+     * 주어진 컨텍스트에서 새 탭을 열어 글 1건 등록
+     */
+    private PublishResult publishInContext(BrowserContext context, CreationKrCredentials credentials,
+                                           boolean usingStoredSession, String sitePath, String boardId,
+                                           String title, String htmlContent, Runnable beforeSubmit) {
+        if (boardId == null || boardId.isBlank()) {
+            return PublishResult.failure("boardId가 설정되지 않았습니다. sitePath: " + sitePath);
+        }
+
+        Page page = null;
+        boolean submitted = false;
+        try {
+            page = context.newPage();
             page.setDefaultTimeout(properties.getTimeoutMs());
 
             String writeUrl = properties.buildWriteUrl(sitePath, boardId);
-            log.info("creation.kr 글쓰기 페이지 이동: {}", writeUrl);
-            navigateToWritePage(page, writeUrl, credentials);
+            log.info("creation.kr 글쓰기 페이지 이동: {} (저장 세션 사용: {})", writeUrl, usingStoredSession);
+            if (navigateToWritePage(page, writeUrl, credentials, usingStoredSession)) {
+                saveSessionState(context, credentials);
+            }
 
             fillTitle(page, title);
             fillContent(page, htmlContent);
+            beforeSubmit.run();
+            submitted = true;
             submitPost(page);
             waitForPostSubmitNavigation(page);
 
@@ -161,33 +319,46 @@ public class CreationKrBrowserClient {
             return PublishResult.failure("게시 중 오류: " + e.getMessage());
         } catch (Exception e) {
             log.error("creation.kr 게시 실패 - sitePath: {}, boardId: {}", sitePath, boardId, e);
-            return PublishResult.failure("게시 중 오류: " + e.getMessage());
+            // 등록 클릭 이후 오류는 중복 게시 위험이 있어 재시도하지 않음
+            return submitted
+                    ? PublishResult.failure("게시 중 오류: " + e.getMessage())
+                    : PublishResult.transientFailure("게시 중 오류: " + e.getMessage());
         } finally {
-            closeBrowser(browser);
+            closePage(page);
         }
     }
 
-    private void navigateToWritePage(Page page, String writeUrl, CreationKrCredentials credentials) {
-        page.navigate(writeUrl);
+    /**
+     * 글쓰기 페이지까지 이동. 이번 호출에서 로그인을 새로 했으면 true (세션 저장 대상)
+     */
+    private boolean navigateToWritePage(Page page, String writeUrl, CreationKrCredentials credentials,
+                                        boolean usingStoredSession) {
+        navigate(page, writeUrl);
         page.waitForLoadState(LoadState.DOMCONTENTLOADED);
 
+        boolean loggedInNow = false;
         for (int attempt = 0; attempt < 2; attempt++) {
             if (hasWriteForm(page)) {
                 waitForWriteForm(page);
-                return;
+                return loggedInNow;
             }
 
             if (needsAuthentication(page)) {
+                if (usingStoredSession && !loggedInNow) {
+                    log.info("저장된 creation.kr 세션이 만료됨 (로그인 리다이렉트) — 전체 로그인으로 전환");
+                    sessionStore.invalidate();
+                }
                 log.info("로그인 필요 — 시도 {}/2, URL: {}", attempt + 1, page.url());
                 if (!performLoginAndReachTarget(page, credentials, writeUrl)) {
                     throw new CreationKrPublishException("creation.kr 로그인에 실패했습니다.");
                 }
+                loggedInNow = true;
             }
 
             if (!hasWriteForm(page)) {
                 String targetUrl = resolvePostLoginTarget(page, writeUrl);
                 log.info("글쓰기 페이지 재이동: {}", targetUrl);
-                page.navigate(targetUrl);
+                navigate(page, targetUrl);
                 page.waitForLoadState(LoadState.DOMCONTENTLOADED);
             }
         }
@@ -198,6 +369,19 @@ public class CreationKrBrowserClient {
         }
 
         waitForWriteForm(page);
+        return loggedInNow;
+    }
+
+    private void saveSessionState(BrowserContext context, CreationKrCredentials credentials) {
+        if (!properties.isSessionReuseEnabled()) {
+            return;
+        }
+        try {
+            sessionStore.save(credentials.getEmail(), context.storageState());
+            log.info("creation.kr 로그인 세션 저장 완료");
+        } catch (Exception e) {
+            log.warn("creation.kr storage state 추출 실패: {}", e.getMessage());
+        }
     }
 
     private void waitForWriteForm(Page page) {
@@ -207,12 +391,19 @@ public class CreationKrBrowserClient {
             throw new CreationKrPublishException(
                     "글쓰기 폼을 찾을 수 없습니다. 제목 필드(#post_subject)가 표시되지 않습니다. URL: " + page.url());
         }
+        waitForEditorReady(page);
+    }
+
+    /**
+     * Froala가 본문 영역을 contenteditable로 초기화할 때까지 대기 (Froala가 아닌 폼이면 그대로 진행)
+     */
+    private void waitForEditorReady(Page page) {
         try {
-            page.waitForLoadState(LoadState.NETWORKIDLE);
+            page.waitForFunction(EDITOR_READY_SCRIPT, null,
+                    new Page.WaitForFunctionOptions().setTimeout(EDITOR_READY_TIMEOUT_MS));
         } catch (Exception e) {
-            log.debug("NETWORKIDLE 대기 스킵: {}", e.getMessage());
+            log.debug("Froala 초기화 대기 스킵: {}", e.getMessage());
         }
-        waitBriefly();
     }
 
     private boolean performLoginAndReachTarget(Page page, CreationKrCredentials credentials, String targetUrl) {
@@ -242,7 +433,7 @@ public class CreationKrBrowserClient {
         }
 
         waitForPostLoginNavigation(page, resolvePostLoginTarget(page, targetUrl));
-        waitMillis(1000);
+        waitForDomContentLoaded(page);
 
         if (detectLoginFailure(page)) {
             String loginError = extractLoginErrorMessage(page);
@@ -254,46 +445,37 @@ public class CreationKrBrowserClient {
     }
 
     private void ensureLoginFormVisible(Page page, String targetUrl) {
-        if (waitForAnySelector(page, properties.getSelectors().getPasswordInput())) {
+        // 로그인 페이지면 폼이 뜰 때까지 충분히, 아니면 짧게만 확인하고 로그인 링크/URL로 이동
+        long formTimeout = isLoginPage(page) ? properties.getTimeoutMs() : PROBE_TIMEOUT_MS;
+        if (waitForAnySelector(page, properties.getSelectors().getPasswordInput(), formTimeout)) {
             return;
         }
 
-        if (isLoginPage(page)) {
-            waitBriefly();
-            if (waitForAnySelector(page, properties.getSelectors().getPasswordInput())) {
-                return;
-            }
-        }
-
         tryClickLoginLink(page, properties.getSelectors().getLoginLink());
-        if (waitForAnySelector(page, properties.getSelectors().getPasswordInput())) {
+        if (waitForAnySelector(page, properties.getSelectors().getPasswordInput(), PROBE_TIMEOUT_MS)) {
             return;
         }
 
         String loginUrl = buildLoginUrlWithBackUrl(targetUrl);
         log.info("로그인 페이지로 이동: {}", loginUrl);
-        page.navigate(loginUrl);
+        navigate(page, loginUrl);
         page.waitForLoadState(LoadState.DOMCONTENTLOADED);
         waitForAnySelector(page, properties.getSelectors().getPasswordInput());
     }
 
     private void waitForPostLoginNavigation(Page page, String targetUrl) {
-        long deadline = System.currentTimeMillis() + Math.min(properties.getTimeoutMs(), 30000L);
-        while (System.currentTimeMillis() < deadline) {
-            if (hasWriteForm(page)) {
-                return;
-            }
-            if (verifyLoginSuccess(page) && !isLoginPage(page)) {
-                return;
-            }
-            waitMillis(500);
+        // 글쓰기 폼 또는 로그인 상태 표시가 보일 때까지 (실패 시 마감 시간까지 대기 후 아래에서 처리)
+        CreationKrProperties.Selectors selectors = properties.getSelectors();
+        String loggedInMarkers = selectors.getWriteTitle() + ", " + selectors.getLoggedInIndicator()
+                + ", a[href*='logout'], a[href*='Logout']";
+        if (waitForAnySelector(page, loggedInMarkers, Math.min(properties.getTimeoutMs(), 30000L))) {
+            waitForDomContentLoaded(page);
         }
 
         if (needsAuthentication(page) || isLoginPage(page)) {
             log.info("로그인 후 대상 페이지로 이동: {}", targetUrl);
-            page.navigate(targetUrl);
+            navigate(page, targetUrl);
             page.waitForLoadState(LoadState.DOMCONTENTLOADED);
-            waitBriefly();
         }
     }
 
@@ -369,23 +551,46 @@ public class CreationKrBrowserClient {
     }
 
     private Browser launchBrowser() {
-        BrowserType browserType = getPlaywright().chromium();
-        return browserType.launch(new BrowserType.LaunchOptions()
+        if (queueWorkerScope.get()) {
+            return launchBrowser(getWorkerPlaywright());
+        }
+        Playwright perCall = Playwright.create();
+        try {
+            Browser browser = launchBrowser(perCall);
+            perCallPlaywrights.put(browser, perCall);
+            return browser;
+        } catch (RuntimeException e) {
+            closePlaywright(perCall);
+            throw e;
+        }
+    }
+
+    private Browser launchBrowser(Playwright instance) {
+        BrowserType browserType = instance.chromium();
+        return playwrightMetrics.launch(PlaywrightMetrics.CLIENT_CREATION_KR, () -> browserType.launch(new BrowserType.LaunchOptions()
                 .setHeadless(properties.isHeadless())
                 .setTimeout(properties.getTimeoutMs())
                 .setArgs(Arrays.asList(
                         "--disable-blink-features=AutomationControlled",
                         "--disable-dev-shm-usage",
                         "--no-sandbox"
-                )));
+                ))));
+    }
+
+    private void navigate(Page page, String url) {
+        playwrightMetrics.pageLoad(PlaywrightMetrics.CLIENT_CREATION_KR, () -> page.navigate(url));
     }
 
-    private BrowserContext newBrowserContext(Browser browser) {
-        return browser.newContext(new Browser.NewContextOptions()
+    private BrowserContext newBrowserContext(Browser browser, String storageState) {
+        Browser.NewContextOptions options = new Browser.NewContextOptions()
                 .setUserAgent("Mozilla/5.0 (Macintosh; Intel Mac OS X 10_15_7) AppleWebKit/537.36 (KHTML, like Gecko) Chrome/120.0.0.0 Safari/537.36")
                 .setViewportSize(1920, 1080)
                 .setLocale("ko-KR")
-                .setTimezoneId("Asia/Seoul"));
+                .setTimezoneId("Asia/Seoul");
+        if (storageState != null) {
+            options.setStorageState(storageState);
+        }
+        return browser.newContext(options);
     }
 
     private void closeBrowser(Browser browser) {
@@ -394,6 +599,30 @@ public class CreationKrBrowserClient {
                 browser.close();
             } catch (Exception e) {
                 log.warn("브라우저 종료 실패: {}", e.getMessage());
+            } finally {
+                playwrightMetrics.closed(PlaywrightMetrics.CLIENT_CREATION_KR);
+                Playwright perCall = perCallPlaywrights.remove(browser);
+                if (perCall != null) {
+                    closePlaywright(perCall);
+                }
+            }
+        }
+    }
+
+    private void closePlaywright(Playwright instance) {
+        try {
+            instance.close();
+        } catch (Exception e) {
+            log.warn("Playwright 종료 중 오류: {}", e.getMessage());
+        }
+    }
+
+    private void closePage(Page page) {
+        if (page != null) {
+            try {
+                page.close();
+            } catch (Exception e) {
+                log.debug("페이지 종료 실패: {}", e.getMessage());
             }
         }
     }
@@ -404,7 +633,6 @@ public class CreationKrBrowserClient {
             try {
                 loginLink.click();
                 page.waitForLoadState(LoadState.DOMCONTENTLOADED);
-                waitBriefly();
             } catch (Exception e) {
                 log.debug("로그인 링크 클릭 실패: {}", e.getMessage());
             }
@@ -428,14 +656,13 @@ public class CreationKrBrowserClient {
     }
 
     private boolean fillFroalaContent(Page page, String htmlContent) {
-        Locator editor = waitForVisibleLocator(page, "#post_body .fr-element.fr-view");
-        if (editor == null) {
-            editor = waitForVisibleLocator(page, properties.getSelectors().getWriteBody());
-        }
+        Locator editor = waitForVisibleLocator(page,
+                "#post_body .fr-element.fr-view, " + properties.getSelectors().getWriteBody());
         if (editor == null) {
             log.warn("Froala editor element를 찾을 수 없습니다.");
             return false;
         }
+        waitForEditorReady(page);
 
         try {
             Object result = editor.evaluate(FROALA_FILL_SCRIPT, htmlContent);
@@ -462,6 +689,12 @@ public class CreationKrBrowserClient {
     }
 
     private void verifyBodyContent(Page page) {
+        try {
+            page.waitForFunction(BODY_SYNCED_SCRIPT, MIN_BODY_HTML_LENGTH,
+                    new Page.WaitForFunctionOptions().setTimeout(BODY_SYNC_TIMEOUT_MS));
+        } catch (Exception e) {
+            log.debug("본문 동기화 대기 시간 초과: {}", e.getMessage());
+        }
         BodyContentStats stats = readBodyContentStats(page);
         if (stats.htmlLength() >= MIN_BODY_HTML_LENGTH && stats.counterSynced()) {
             return;
@@ -533,18 +766,23 @@ public class CreationKrBrowserClient {
             throw new CreationKrPublishException("등록 버튼을 찾을 수 없습니다.");
         }
         submitButton.click();
-        waitMillis(800);
-        tryClickConfirmDialog(page);
+        // 바로 이동하면 확인 dialog 없음. 글쓰기 페이지에 머물러 있을 때만 dialog 확인
+        if (!waitForUrlLeaving(page, "bmode=write", SUBMIT_REACTION_TIMEOUT_MS)) {
+            tryClickConfirmDialog(page);
+        }
     }
 
     private void tryClickConfirmDialog(Page page) {
+        String confirmSelectors = "text=확인, button:has-text('확인'), text=등록";
+        if (!waitForAnySelector(page, confirmSelectors, SUBMIT_REACTION_TIMEOUT_MS)) {
+            return;
+        }
         for (String selector : List.of("text=확인", "button:has-text('확인')", "text=등록")) {
             Locator confirmButton = firstVisibleLocator(page, selector);
             if (confirmButton != null) {
                 try {
                     confirmButton.click();
                     log.info("게시 확인 dialog 클릭: {}", selector);
-                    waitMillis(800);
                     return;
                 } catch (Exception e) {
                     log.debug("확인 dialog 클릭 실패 ({}): {}", selector, e.getMessage());
@@ -554,17 +792,9 @@ public class CreationKrBrowserClient {
     }
 
     private void waitForPostSubmitNavigation(Page page) {
-        long deadline = System.currentTimeMillis() + Math.min(properties.getTimeoutMs(), 45000L);
-        while (System.currentTimeMillis() < deadline) {
-            try {
-                page.waitForLoadState(LoadState.DOMCONTENTLOADED);
-            } catch (Exception e) {
-                log.debug("DOMCONTENTLOADED 대기 스킵: {}", e.getMessage());
-            }
-            if (!page.url().contains("bmode=write")) {
-                return;
-            }
-            waitMillis(500);
+        if (waitForUrlLeaving(page, "bmode=write", Math.min(properties.getTimeoutMs(), 45000L))) {
+            waitForDomContentLoaded(page);
+            return;
         }
         try {
             page.waitForLoadState(LoadState.NETWORKIDLE);
@@ -665,33 +895,60 @@ public class CreationKrBrowserClient {
     }
 
     private boolean waitForAnySelector(Page page, String combinedSelectors) {
-        List<String> selectors = Arrays.asList(combinedSelectors.split(","));
-        long perSelectorTimeout = Math.max(5000L, properties.getTimeoutMs() / selectors.size());
-        for (String raw : selectors) {
+        return waitForAnySelector(page, combinedSelectors, properties.getTimeoutMs());
+    }
+
+    /**
+     * 쉼표로 나열된 selector 중 하나라도 보일 때까지 한 번의 대기로 기다림 (selector별 순차 대기 없음)
+     */
+    private boolean waitForAnySelector(Page page, String combinedSelectors, long timeoutMs) {
+        Locator anyVisible = null;
+        for (String raw : combinedSelectors.split(",")) {
             String selector = raw.trim();
             if (selector.isEmpty()) {
                 continue;
             }
-            try {
-                if (selector.startsWith("text=")) {
-                    page.getByText(Pattern.compile(selector.substring(5).trim()))
-                            .first()
-                            .waitFor(new Locator.WaitForOptions()
-                                    .setState(WaitForSelectorState.VISIBLE)
-                                    .setTimeout(perSelectorTimeout));
-                    return true;
-                }
-                page.locator(selector)
-                        .first()
-                        .waitFor(new Locator.WaitForOptions()
-                                .setState(WaitForSelectorState.VISIBLE)
-                                .setTimeout(perSelectorTimeout));
-                return true;
-            } catch (Exception e) {
-                log.debug("selector 대기 실패: {} - {}", selector, e.getMessage());
-            }
+            Locator locator = selector.startsWith("text=")
+                    ? page.getByText(Pattern.compile(selector.substring(5).trim()))
+                    : page.locator(selector);
+            locator = locator.locator("visible=true");
+            anyVisible = anyVisible == null ? locator : anyVisible.or(locator);
+        }
+        if (anyVisible == null) {
+            return false;
+        }
+        try {
+            anyVisible.first().waitFor(new Locator.WaitForOptions()
+                    .setState(WaitForSelectorState.VISIBLE)
+                    .setTimeout(timeoutMs));
+            return true;
+        } catch (Exception e) {
+            log.debug("selector 대기 실패: {} - {}", combinedSelectors, e.getMessage());
+            return false;
+        }
+    }
+
+    /**
+     * URL에 marker가 빠질 때까지(페이지 이동 커밋) 대기. 시간 내 이동하지 않으면 false
+     */
+    private boolean waitForUrlLeaving(Page page, String marker, long timeoutMs) {
+        try {
+            page.waitForURL(url -> !url.contains(marker), new Page.WaitForURLOptions()
+                    .setWaitUntil(WaitUntilState.COMMIT)
+                    .setTimeout(timeoutMs));
+            return true;
+        } catch (Exception e) {
+            log.debug("페이지 이동 대기 시간 초과 ({}): {}", marker, e.getMessage());
+            return false;
+        }
+    }
+
+    private void waitForDomContentLoaded(Page page) {
+        try {
+            page.waitForLoadState(LoadState.DOMCONTENTLOADED);
+        } catch (Exception e) {
+            log.debug("DOMCONTENTLOADED 대기 스킵: {}", e.getMessage());
         }
-        return false;
     }
 
     private Locator firstVisibleLocator(Page page, String combinedSelectors) {
@@ -717,16 +974,4 @@ public class CreationKrBrowserClient {
         }
         return null;
     }
-
-    private void waitBriefly() {
-        waitMillis(1500);
-    }
-
-    private void waitMillis(long millis) {
-        try {
-            Thread.sleep(millis);
-        } catch (InterruptedException e) {
-            Thread.currentThread().interrupt();
-        }
-    }
 }
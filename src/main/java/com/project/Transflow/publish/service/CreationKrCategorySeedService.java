@@ -2,11 +2,13 @@ package com.project.Transflow.publish.service;
 
 import com.project.Transflow.category.entity.Category;
 import com.project.Transflow.category.repository.CategoryRepository;
+import com.project.Transflow.config.CacheConfig;
 import com.project.Transflow.publish.config.CreationKrProperties;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.boot.ApplicationArguments;
 import org.springframework.boot.ApplicationRunner;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,6 +30,7 @@ public class CreationKrCategorySeedService implements ApplicationRunner {
     private final CategoryRepository categoryRepository;
 
     @Override
+    @CacheEvict(cacheNames = CacheConfig.CREATION_KR_BOARD_CATALOG, allEntries = true)
     @Transactional
     public void run(ApplicationArguments args) {
         if (!properties.isSeedCategories()) {
@@ -2,13 +2,17 @@ package com.project.Transflow.publish.service;
 
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
+import org.jsoup.nodes.CDataNode;
 import org.jsoup.nodes.Document;
 import org.jsoup.nodes.Element;
-import org.jsoup.select.Elements;
+import org.jsoup.nodes.Node;
+import org.jsoup.nodes.TextNode;
 import org.springframework.stereotype.Component;
 
 import java.net.URI;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
+import java.util.Deque;
 import java.util.List;
 import java.util.Locale;
 import java.util.Set;
@@ -17,6 +21,9 @@ import java.util.Set;
 @Component
 public class CreationKrPublishHtmlSanitizer {
 
+    /** 정리 규칙 버전. 허용 태그·속성 등 출력이 바뀌는 수정 시 올려서 캐시된 미리보기를 무효화합니다. */
+    public static final int CONFIG_VERSION = 2;
+
     private static final List<String> CONTENT_ROOT_SELECTORS = List.of(
             "#contentPost article",
             "#content article",
@@ -40,6 +47,14 @@ public class CreationKrPublishHtmlSanitizer {
             "figure", "figcaption", "div", "section", "iframe"
     );
 
+    /** 내용이 비면 제거하는 컨테이너 */
+    private static final Set<String> CONTAINER_TAGS = Set.of("div", "section", "span");
+
+    /** 텍스트가 없어도 컨테이너를 유지시키는 요소 */
+    private static final Set<String> MEDIA_TAGS = Set.of(
+            "img", "iframe", "table", "ul", "ol", "blockquote", "pre", "hr"
+    );
+
     private static final Set<String> STRIP_ATTRIBUTES = Set.of(
             "contenteditable", "data-paragraph-id", "data-paragraph-index", "data-transflow-id",
             "data-component-editable", "data-mce-type", "data-mce-style", "data-mce-bogus",
@@ -58,10 +73,7 @@ public class CreationKrPublishHtmlSanitizer {
         try {
             Document doc = Jsoup.parse(html);
             Element root = selectContentRoot(doc);
-            removeUnwantedNodes(root);
-            unwrapDisallowedTags(root);
-            normalizeAttributes(root, baseUrl);
-            removeEmptyContainers(root);
+            sanitizeTree(root, baseUrl);
 
             String result = root.html().trim();
             log.info("creation.kr HTML sanitize: {} -> {} chars", html.length(), result.length());
@@ -87,79 +99,159 @@ public class CreationKrPublishHtmlSanitizer {
         return (text != null && text.trim().length() > 20) || !element.select("img").isEmpty();
     }
 
-    private void removeUnwantedNodes(Element root) {
-        root.select(String.join(", ", REMOVED_TAGS)).remove();
-        root.select("span.mce_SELRES_start, [data-mce-type=bookmark]").remove();
-        root.select("iframe[data-disabled=true]").remove();
+    /**
+     * 한 번의 후위(bottom-up) 순회로 불필요 노드 제거, 비허용 태그 unwrap, 속성 정리, 빈 컨테이너 제거를 처리.
+     * 자식 처리 결과(텍스트·미디어 포함 여부)를 부모로 올려 보내므로 요소마다 text()/select()를 다시 계산하지 않습니다.
+     * 깊게 중첩된 마크업에서도 스택 오버플로가 나지 않도록 명시적 스택을 사용합니다.
+     */
+    private void sanitizeTree(Element root, String baseUrl) {
+        if (isUnwantedNode(root)) {
+            // 본문 루트 자체가 제거 대상이면 문서에서 분리한 채 내용만 정리 (기존 select().remove() 동작과 동일)
+            root.remove();
+        }
+
+        Deque<Frame> stack = new ArrayDeque<>();
+        stack.push(new Frame(root));
 
-        Elements iframes = root.select("iframe");
-        for (Element iframe : iframes) {
-            if (iframe.attr("src").isBlank() && iframe.text().isBlank()) {
-                iframe.remove();
+        while (!stack.isEmpty()) {
+            Frame frame = stack.peek();
+            if (frame.next < frame.children.size()) {
+                Node child = frame.children.get(frame.next++);
+                if (child instanceof TextNode) {
+                    if (!frame.hasText && hasVisibleText((TextNode) child, root)) {
+                        frame.hasText = true;
+                    }
+                } else if (child instanceof Element) {
+                    Element element = (Element) child;
+                    if (isUnwantedNode(element)) {
+                        element.remove();
+                    } else {
+                        stack.push(new Frame(element));
+                    }
+                }
+                continue;
             }
-        }
-    }
 
-    private void unwrapDisallowedTags(Element root) {
-        List<Element> elements = new ArrayList<>(root.getAllElements());
-        for (int i = elements.size() - 1; i >= 0; i--) {
-            Element element = elements.get(i);
+            stack.pop();
+            Element element = frame.element;
             if (element == root) {
-                continue;
+                break;
             }
+
+            Frame parent = stack.peek();
             String tag = element.tagName().toLowerCase(Locale.ROOT);
-            if (REMOVED_TAGS.contains(tag)) {
-                element.remove();
-            } else if (!ALLOWED_TAGS.contains(tag)) {
+            if (!ALLOWED_TAGS.contains(tag)) {
                 element.unwrap();
+                parent.hasText |= frame.hasText;
+                parent.hasMedia |= frame.hasMedia;
+            } else if (CONTAINER_TAGS.contains(tag) && !frame.hasText && !frame.hasMedia) {
+                element.remove();
+            } else {
+                normalizeAttributes(element, tag, baseUrl);
+                parent.hasText |= frame.hasText;
+                parent.hasMedia |= frame.hasMedia || MEDIA_TAGS.contains(tag);
             }
         }
     }
 
-    private void normalizeAttributes(Element root, String baseUrl) {
-        for (Element element : root.getAllElements()) {
-            List<String> attributeNames = new ArrayList<>();
-            element.attributes().forEach(attr -> attributeNames.add(attr.getKey()));
-            for (String attr : attributeNames) {
-                if (STRIP_ATTRIBUTES.contains(attr) || attr.startsWith("data-")) {
-                    element.removeAttr(attr);
-                }
+    private boolean isUnwantedNode(Element element) {
+        String tag = element.tagName().toLowerCase(Locale.ROOT);
+        if (REMOVED_TAGS.contains(tag)) {
+            return true;
+        }
+        if ("span".equals(element.normalName()) && element.hasClass("mce_SELRES_start")) {
+            return true;
+        }
+        if (attrEquals(element, "data-mce-type", "bookmark")) {
+            return true;
+        }
+        if ("iframe".equals(element.normalName())) {
+            return attrEquals(element, "data-disabled", "true")
+                    || (element.attr("src").isBlank() && element.text().isBlank());
+        }
+        return false;
+    }
+
+    private boolean attrEquals(Element element, String key, String value) {
+        return element.hasAttr(key) && value.equalsIgnoreCase(element.attr(key).trim());
+    }
+
+    private void normalizeAttributes(Element element, String tag, String baseUrl) {
+        List<String> attributeNames = new ArrayList<>();
+        element.attributes().forEach(attr -> attributeNames.add(attr.getKey()));
+        for (String attr : attributeNames) {
+            if (STRIP_ATTRIBUTES.contains(attr) || attr.startsWith("data-")) {
+                element.removeAttr(attr);
             }
         }
 
-        for (Element img : root.select("img")) {
-            String src = img.attr("src");
+        if ("img".equals(tag)) {
+            String src = element.attr("src");
             if (!src.isBlank()) {
-                img.attr("src", toAbsoluteUrl(src, baseUrl));
+                element.attr("src", toAbsoluteUrl(src, baseUrl));
             }
+        } else if ("a".equals(tag) && element.hasAttr("href")) {
+            element.attr("href", toAbsoluteUrl(element.attr("href"), baseUrl));
         }
+    }
 
-        for (Element anchor : root.select("a[href]")) {
-            anchor.attr("href", toAbsoluteUrl(anchor.attr("href"), baseUrl));
+    /**
+     * Element.text().trim()이 비지 않게 만드는 텍스트인지 (Jsoup 공백 정규화 규칙과 동일하게 판단).
+     * nbsp·zero-width 문자만 있는 경우는 pre 등 공백 보존 영역에서만 텍스트로 취급됩니다.
+     */
+    private boolean hasVisibleText(TextNode textNode, Element root) {
+        String text = textNode.getWholeText();
+        boolean preservedOnly = false;
+        for (int i = 0; i < text.length(); i++) {
+            char c = text.charAt(i);
+            if (c == '\u00A0' || c == '\u200B' || c == '\u00AD') {
+                preservedOnly = true;
+            } else if (c > ' ') {
+                return true;
+            }
         }
+        return preservedOnly && (textNode instanceof CDataNode || preservesWhitespace(textNode.parent(), root));
     }
 
-    private void removeEmptyContainers(Element root) {
-        boolean changed = true;
-        while (changed) {
-            changed = false;
-            for (Element element : new ArrayList<>(root.select("div, section, span"))) {
-                if (element == root) {
-                    continue;
-                }
-                if (isEmptyContainer(element)) {
-                    element.remove();
-                    changed = true;
+    /**
+     * Jsoup과 같이 부모부터 6단계 조상까지 공백 보존 태그(pre 등)를 확인.
+     * 최종 트리 기준이어야 하므로 이후 unwrap될 조상은 건너뜁니다.
+     */
+    private boolean preservesWhitespace(Node parent, Element root) {
+        if (!(parent instanceof Element)) {
+            return false;
+        }
+        Element element = (Element) parent;
+        boolean insideRoot = true;
+        int checked = 0;
+        while (element != null && checked < 6) {
+            boolean unwrapped = insideRoot && element != root
+                    && !ALLOWED_TAGS.contains(element.tagName().toLowerCase(Locale.ROOT));
+            if (element == root) {
+                insideRoot = false;
+            }
+            if (!unwrapped) {
+                if (element.tag().preserveWhitespace()) {
+                    return true;
                 }
+                checked++;
             }
+            element = element.parent();
         }
+        return false;
     }
 
-    private boolean isEmptyContainer(Element element) {
-        if (!element.text().trim().isEmpty()) {
-            return false;
+    private static final class Frame {
+        private final Element element;
+        private final List<Node> children;
+        private int next;
+        private boolean hasText;
+        private boolean hasMedia;
+
+        private Frame(Element element) {
+            this.element = element;
+            this.children = new ArrayList<>(element.childNodes());
         }
-        return element.select("img, iframe, table, ul, ol, blockquote, pre, hr").isEmpty();
     }
 
     private String toAbsoluteUrl(String url, String baseUrl) {
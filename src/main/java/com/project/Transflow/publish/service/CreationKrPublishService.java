@@ -13,6 +13,15 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -36,36 +45,25 @@ public class CreationKrPublishService {
      * creation.kr 게시판에 글 등록 (POC)
      */
     public PublishResult publish(PublishRequest request) {
-        CreationKrCredentials credentials = requireCredentials();
+        return publish(request, () -> { });
+    }
 
-        String boardId = request.getBoardId();
-        if (boardId == null || boardId.isBlank()) {
-            boardId = properties.resolveBoardId(request.getSitePath());
-        }
-        if (boardId == null || boardId.isBlank()) {
-            return PublishResult.failure(
-                    "boardId를 찾을 수 없습니다. request.boardId 또는 creation-kr.board-mappings에 "
-                            + request.getSitePath() + " 매핑을 추가해주세요."
-            );
-        }
+    private PublishResult publish(PublishRequest request, Runnable beforeSubmit) {
+        CreationKrCredentials credentials = requireCredentials();
 
-        String sanitizedHtml = htmlSanitizer.sanitize(
-                request.getHtmlContent(),
-                request.getOriginalUrl()
-        );
-        if (sanitizedHtml == null || sanitizedHtml.isBlank()) {
-            return PublishResult.failure("게시할 본문 HTML이 비어 있습니다.");
+        PreparedPost prepared = prepare(request);
+        if (prepared.failure != null) {
+            return prepared.failure;
         }
-
-        log.info("creation.kr 게시 시작 - sitePath: {}, boardId: {}, title: {}, htmlLength: {}",
-                request.getSitePath(), boardId, request.getTitle(), sanitizedHtml.length());
+        PublishRequest post = prepared.request;
 
         return browserClient.publishPost(
                 credentials,
-                request.getSitePath(),
-                boardId,
-                request.getTitle(),
-                sanitizedHtml
+                post.getSitePath(),
+                post.getBoardId(),
+                post.getTitle(),
+                post.getHtmlContent(),
+                beforeSubmit
         );
     }
 
@@ -80,8 +78,79 @@ public class CreationKrPublishService {
      * 승인된 리뷰 기준 creation.kr 게시 (게시판 수동 선택)
      */
     public PublishResult publishFromReview(Review review, String sitePathOverride, String boardIdOverride) {
+        return publishFromReview(review, sitePathOverride, boardIdOverride, () -> { });
+    }
+
+    /**
+     * publishFromReview와 같으며, 등록 버튼을 누르기 직전에 beforeSubmit을 호출합니다 (게시 큐의 등록 표시용)
+     */
+    public PublishResult publishFromReview(Review review, String sitePathOverride, String boardIdOverride,
+                                           Runnable beforeSubmit) {
         requireCredentials();
 
+        PreparedPost target = resolveReviewRequest(review, sitePathOverride, boardIdOverride);
+        if (target.failure != null) {
+            return target.failure;
+        }
+        return publish(target.request, beforeSubmit);
+    }
+
+    /**
+     * 승인된 리뷰 여러 건을 하나의 로그인 세션으로 게시.
+     * 게시판(sitePath, boardId)별로 묶어 순차 등록하며, 결과는 targets와 같은 순서입니다.
+     */
+    public List<PublishResult> publishBatchFromReviews(List<ReviewPublishTarget> targets) {
+        return publishBatchFromReviews(targets, index -> { }, (index, result) -> { });
+    }
+
+    /**
+     * publishBatchFromReviews와 같으며, 항목의 등록 버튼을 누르기 직전에 beforeSubmit(targets 내 순번)을,
+     * 항목 결과가 정해질 때마다 onResult(targets 내 순번, 결과)를 호출합니다
+     */
+    public List<PublishResult> publishBatchFromReviews(List<ReviewPublishTarget> targets, IntConsumer beforeSubmit,
+                                                       BiConsumer<Integer, PublishResult> onResult) {
+        CreationKrCredentials credentials = requireCredentials();
+
+        PublishResult[] results = new PublishResult[targets.size()];
+        List<Integer> runnable = new ArrayList<>();
+        List<PublishRequest> posts = new ArrayList<>(targets.size());
+        for (int i = 0; i < targets.size(); i++) {
+            ReviewPublishTarget target = targets.get(i);
+            PreparedPost resolved = resolveReviewRequest(target.getReview(), target.getSitePath(), target.getBoardId());
+            PreparedPost prepared = resolved.failure != null ? resolved : prepare(resolved.request);
+            if (prepared.failure != null) {
+                results[i] = prepared.failure;
+                onResult.accept(i, prepared.failure);
+            } else {
+                runnable.add(i);
+                posts.add(prepared.request);
+            }
+        }
+
+        if (!posts.isEmpty()) {
+            List<Integer> order = IntStream.range(0, posts.size()).boxed()
+                    .sorted(Comparator.comparing((Integer idx) -> posts.get(idx).getSitePath())
+                            .thenComparing(idx -> posts.get(idx).getBoardId()))
+                    .collect(Collectors.toList());
+            List<PublishRequest> ordered = order.stream().map(posts::get).collect(Collectors.toList());
+
+            log.info("creation.kr 일괄 게시 시작 - {}건 (게시판 {}개)", ordered.size(),
+                    ordered.stream().map(PublishRequest::getBoardId).distinct().count());
+            browserClient.publishPosts(credentials, ordered,
+                    k -> beforeSubmit.accept(runnable.get(order.get(k))),
+                    (k, result) -> {
+                        int index = runnable.get(order.get(k));
+                        results[index] = result;
+                        onResult.accept(index, result);
+                    });
+        }
+        return Arrays.asList(results);
+    }
+
+    /**
+     * 리뷰의 문서·버전·카테고리 매핑으로 게시 요청 구성
+     */
+    private PreparedPost resolveReviewRequest(Review review, String sitePathOverride, String boardIdOverride) {
         Document document = review.getDocument();
         DocumentVersion version = review.getDocumentVersion();
 
@@ -92,7 +161,7 @@ public class CreationKrPublishService {
             SitePathBoard mapping = categoryResolver.resolve(document.getCategoryId())
                     .orElse(null);
             if (mapping == null || !mapping.hasBoardId()) {
-                return PublishResult.failure(
+                return PreparedPost.failed(
                         "creation.kr 게시판을 선택해주세요. 문서 카테고리에 매핑이 없습니다."
                 );
             }
@@ -105,23 +174,56 @@ public class CreationKrPublishService {
         }
 
         if (sitePath == null || sitePath.isBlank() || boardId == null || boardId.isBlank()) {
-            return PublishResult.failure("creation.kr 게시판(sitePath, boardId)이 필요합니다.");
+            return PreparedPost.failed("creation.kr 게시판(sitePath, boardId)이 필요합니다.");
         }
 
         String htmlContent = version.getContent();
         if (htmlContent == null || htmlContent.isBlank()) {
-            return PublishResult.failure("게시할 HTML 본문이 없습니다.");
+            return PreparedPost.failed("게시할 HTML 본문이 없습니다.");
         }
 
-        PublishRequest request = PublishRequest.builder()
+        return PreparedPost.of(PublishRequest.builder()
                 .title(document.getTitle())
                 .htmlContent(htmlContent)
                 .sitePath(sitePath.trim())
                 .boardId(boardId.trim())
                 .originalUrl(document.getOriginalUrl())
-                .build();
+                .build());
+    }
+
+    /**
+     * boardId 확정 + 본문 sanitize
+     */
+    private PreparedPost prepare(PublishRequest request) {
+        String boardId = request.getBoardId();
+        if (boardId == null || boardId.isBlank()) {
+            boardId = properties.resolveBoardId(request.getSitePath());
+        }
+        if (boardId == null || boardId.isBlank()) {
+            return PreparedPost.failed(
+                    "boardId를 찾을 수 없습니다. request.boardId 또는 creation-kr.board-mappings에 "
+                            + request.getSitePath() + " 매핑을 추가해주세요."
+            );
+        }
 
-        return publish(request);
+        String sanitizedHtml = htmlSanitizer.sanitize(
+                request.getHtmlContent(),
+                request.getOriginalUrl()
+        );
+        if (sanitizedHtml == null || sanitizedHtml.isBlank()) {
+            return PreparedPost.failed("게시할 본문 HTML이 비어 있습니다.");
+        }
+
+        log.info("creation.kr 게시 준비 - sitePath: {}, boardId: {}, title: {}, htmlLength: {}",
+                request.getSitePath(), boardId, request.getTitle(), sanitizedHtml.length());
+
+        return PreparedPost.of(PublishRequest.builder()
+                .title(request.getTitle())
+                .htmlContent(sanitizedHtml)
+                .sitePath(request.getSitePath())
+                .boardId(boardId)
+                .originalUrl(request.getOriginalUrl())
+                .build());
     }
 
     private CreationKrCredentials requireCredentials() {
@@ -133,4 +235,49 @@ public class CreationKrPublishService {
         }
         return credentials;
     }
+
+    /**
+     * 일괄 게시 대상 (게시판 수동 선택 시 sitePath, boardId 지정)
+     */
+    public static final class ReviewPublishTarget {
+        private final Review review;
+        private final String sitePath;
+        private final String boardId;
+
+        public ReviewPublishTarget(Review review, String sitePath, String boardId) {
+            this.review = review;
+            this.sitePath = sitePath;
+            this.boardId = boardId;
+        }
+
+        public Review getReview() {
+            return review;
+        }
+
+        public String getSitePath() {
+            return sitePath;
+        }
+
+        public String getBoardId() {
+            return boardId;
+        }
+    }
+
+    private static final class PreparedPost {
+        private final PublishRequest request;
+        private final PublishResult failure;
+
+        private PreparedPost(PublishRequest request, PublishResult failure) {
+            this.request = request;
+            this.failure = failure;
+        }
+
+        private static PreparedPost of(PublishRequest request) {
+            return new PreparedPost(request, null);
+        }
+
+        private static PreparedPost failed(String message) {
+            return new PreparedPost(null, PublishResult.failure(message));
+        }
+    }
 }
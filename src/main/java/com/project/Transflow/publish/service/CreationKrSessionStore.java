@@ -0,0 +1,128 @@
+package com.project.Transflow.publish.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.Transflow.publish.config.CreationKrProperties;
+import com.project.Transflow.settings.service.ApiKeyService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * creation.kr 로그인 세션(Playwright storage state) 보관.
+ * 암호화해 api_key 테이블에 저장하고, 복호화한 값은 메모리에 들고 있어 게시마다 DB를 읽지 않습니다.
+ * 계정 이메일이 다르거나 TTL이 지나면 없는 것으로 취급합니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CreationKrSessionStore {
+
+    private final ApiKeyService apiKeyService;
+    private final CreationKrProperties properties;
+    private final ObjectMapper objectMapper;
+
+    private volatile StoredSession cached;
+    private volatile boolean loadedFromDb;
+
+    /**
+     * 해당 계정으로 저장된 유효한 storage state JSON
+     */
+    public Optional<String> load(String accountEmail) {
+        if (!properties.isSessionReuseEnabled() || accountEmail == null) {
+            return Optional.empty();
+        }
+        StoredSession session = current();
+        if (session == null || !accountEmail.equalsIgnoreCase(session.email)) {
+            return Optional.empty();
+        }
+        if (session.savedAt.plus(Duration.ofMinutes(properties.getSessionTtlMinutes())).isBefore(Instant.now())) {
+            log.info("creation.kr 저장 세션 만료 (savedAt: {})", session.savedAt);
+            invalidate();
+            return Optional.empty();
+        }
+        return Optional.of(session.storageState);
+    }
+
+    /**
+     * 로그인 성공 직후 storage state 저장
+     */
+    public void save(String accountEmail, String storageState) {
+        if (!properties.isSessionReuseEnabled() || storageState == null || storageState.isBlank()) {
+            return;
+        }
+        StoredSession session = new StoredSession(accountEmail, Instant.now(), storageState);
+        try {
+            Map<String, String> payload = new HashMap<>();
+            payload.put("email", session.email);
+            payload.put("savedAt", session.savedAt.toString());
+            payload.put("storageState", session.storageState);
+            apiKeyService.saveCreationKrSessionState(objectMapper.writeValueAsString(payload));
+        } catch (Exception e) {
+            // 저장 실패해도 게시 자체는 진행 — 다음 게시에서 다시 로그인
+            log.warn("creation.kr 로그인 세션 저장 실패: {}", e.getMessage());
+        }
+        cached = session;
+        loadedFromDb = true;
+    }
+
+    /**
+     * 로그인 리다이렉트 등으로 세션이 무효해졌을 때
+     */
+    public void invalidate() {
+        cached = null;
+        loadedFromDb = true;
+        try {
+            apiKeyService.deleteCreationKrSessionState();
+        } catch (Exception e) {
+            log.warn("creation.kr 로그인 세션 삭제 실패: {}", e.getMessage());
+        }
+    }
+
+    private StoredSession current() {
+        if (!loadedFromDb) {
+            synchronized (this) {
+                if (!loadedFromDb) {
+                    cached = readFromDb();
+                    loadedFromDb = true;
+                }
+            }
+        }
+        return cached;
+    }
+
+    private StoredSession readFromDb() {
+        try {
+            String json = apiKeyService.getDecryptedCreationKrSessionState();
+            if (json == null) {
+                return null;
+            }
+            Map<String, String> map = objectMapper.readValue(json, new TypeReference<Map<String, String>>() {});
+            if (map.get("email") == null || map.get("savedAt") == null || map.get("storageState") == null) {
+                return null;
+            }
+            return new StoredSession(map.get("email"), Instant.parse(map.get("savedAt")), map.get("storageState"));
+        } catch (Exception e) {
+            log.warn("creation.kr 로그인 세션 읽기 실패: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    private static final class StoredSession {
+        private final String email;
+        private final Instant savedAt;
+        private final String storageState;
+
+        private StoredSession(String email, Instant savedAt, String storageState) {
+            this.email = email;
+            this.savedAt = savedAt;
+            this.storageState = storageState;
+        }
+    }
+}
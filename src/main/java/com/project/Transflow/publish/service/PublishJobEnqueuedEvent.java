@@ -0,0 +1,17 @@
+package com.project.Transflow.publish.service;
+
+/**
+ * 게시 작업이 대기열에 들어갔음을 워커에 알림 (커밋 후 즉시 디스패치용). 일괄 등록은 jobId 없이 한 번 발행
+ */
+public class PublishJobEnqueuedEvent {
+
+    private final Long jobId;
+
+    public PublishJobEnqueuedEvent(Long jobId) {
+        this.jobId = jobId;
+    }
+
+    public Long getJobId() {
+        return jobId;
+    }
+}
@@ -0,0 +1,347 @@
+package com.project.Transflow.publish.service;
+
+import com.project.Transflow.publish.config.CreationKrProperties;
+import com.project.Transflow.publish.dto.PublishResult;
+import com.project.Transflow.publish.entity.PublishJob;
+import com.project.Transflow.publish.repository.PublishJobRepository;
+import com.project.Transflow.review.service.ReviewService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+/**
+ * creation.kr 게시 대기열 처리.
+ * publish_job 테이블을 폴링해 creation-kr.queue.workers 개수만큼 브라우저 게시를 병렬 실행하고,
+ * 일시적 실패(retryable)는 지수 백오프로 재시도합니다. 결과는 Review.publishStatus로 반영됩니다.
+ * 같은 batchId 작업은 한 워커가 묶어서 하나의 브라우저 세션으로 처리하며, 항목이 끝날 때마다 바로 반영하고
+ * 남은 항목의 startedAt을 갱신해 긴 묶음이 stale로 재등록(중복 게시)되지 않게 합니다.
+ * 등록 버튼 클릭 직전에 submittedAt을 남기므로, 그 뒤 프로세스가 죽은 작업은 재시도하지 않고 FAILED로 끝냅니다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PublishQueueWorker {
+
+    private static final String WORKER_THREAD_PREFIX = "publish-worker-";
+
+    /** 로그인을 포함해 글 1건 게시 중 timeout-ms만큼 기다릴 수 있는 단계 수 상한 (stale 기준 하한 계산용) */
+    private static final int MAX_WAITS_PER_POST = 15;
+
+    private final PublishJobRepository publishJobRepository;
+    private final ReviewService reviewService;
+    private final CreationKrBrowserClient browserClient;
+    private final CreationKrProperties properties;
+    private final PlatformTransactionManager transactionManager;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private ExecutorService workers;
+
+    @PostConstruct
+    public void init() {
+        int size = workerCount();
+        AtomicInteger seq = new AtomicInteger();
+        this.workers = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, WORKER_THREAD_PREFIX + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        log.info("creation.kr 게시 워커 시작 - workers: {}, stale 기준 {}분", size, staleAfterMinutes());
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        workers.shutdown();
+        try {
+            if (!workers.awaitTermination(10, TimeUnit.SECONDS)) {
+                workers.shutdownNow();
+            }
+        } catch (InterruptedException e) {
+            workers.shutdownNow();
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    /**
+     * 게시 요청 커밋 직후 바로 디스패치 (폴링 주기를 기다리지 않음)
+     */
+    @TransactionalEventListener(fallbackExecution = true)
+    public void onEnqueued(PublishJobEnqueuedEvent event) {
+        dispatchDueJobs();
+    }
+
+    @Scheduled(fixedDelayString = "${creation-kr.queue.poll-interval-ms:5000}",
+            initialDelayString = "${creation-kr.queue.poll-interval-ms:5000}")
+    public void poll() {
+        dispatchDueJobs();
+    }
+
+    synchronized void dispatchDueJobs() {
+        try {
+            TransactionTemplate tx = newRequiresNewTemplate();
+            LocalDateTime now = LocalDateTime.now();
+            recoverStale(tx, now);
+
+            int capacity = workerCount() - inFlight.get();
+            if (capacity <= 0) {
+                return;
+            }
+
+            List<PublishJob> due = tx.execute(status ->
+                    publishJobRepository.findDue(now, PageRequest.of(0, capacity)));
+            for (PublishJob job : due != null ? due : Collections.<PublishJob>emptyList()) {
+                if (job.getBatchId() != null) {
+                    List<PublishJob> group = claimBatch(tx, job.getBatchId());
+                    if (group.isEmpty()) {
+                        continue;
+                    }
+                    inFlight.incrementAndGet();
+                    workers.execute(() -> browserClient.runOnQueueWorker(() -> runBatch(group)));
+                    continue;
+                }
+                Integer claimed = tx.execute(status -> publishJobRepository.claim(job.getId(), LocalDateTime.now()));
+                if (claimed == null || claimed == 0) {
+                    continue;
+                }
+                inFlight.incrementAndGet();
+                workers.execute(() -> browserClient.runOnQueueWorker(() -> run(job)));
+            }
+        } catch (Exception e) {
+            log.error("게시 대기열 디스패치 실패", e);
+        }
+    }
+
+    /**
+     * RUNNING에 멈춘 작업 회수. 등록 클릭 전이고 시도가 남았으면 다시 대기열로,
+     * 등록 클릭 이후 멈췄으면(이미 게시됐을 수 있음) 또는 시도를 모두 썼으면 FAILED로 끝내고 리뷰에 확인 요청을 남김
+     */
+    void recoverStale(TransactionTemplate tx, LocalDateTime now) {
+        LocalDateTime staleBefore = now.minusMinutes(staleAfterMinutes());
+        int maxAttempts = properties.getQueue().getMaxAttempts();
+        List<PublishJob> stale = tx.execute(status -> publishJobRepository.findStale(staleBefore));
+        for (PublishJob job : stale != null ? stale : Collections.<PublishJob>emptyList()) {
+            int attempt = job.getAttempts() != null ? job.getAttempts() : 0;
+            boolean submitted = job.getSubmittedAt() != null;
+            if (!submitted && attempt < maxAttempts) {
+                Integer requeued = tx.execute(status -> publishJobRepository.requeueStale(
+                        job.getId(), attempt, staleBefore, maxAttempts, now));
+                if (requeued != null && requeued > 0) {
+                    log.warn("중단된 게시 작업을 대기열로 되돌림 - jobId: {}, reviewId: {}, 시도 {}/{}",
+                            job.getId(), job.getReviewId(), attempt, maxAttempts);
+                }
+                continue;
+            }
+
+            String message = submitted
+                    ? "등록 버튼 클릭 후 게시 작업이 중단되었습니다. creation.kr에 글이 등록됐는지 확인한 뒤 필요하면 다시 게시해주세요."
+                    : "게시 작업이 " + attempt + "회 모두 중단되어 실패 처리했습니다.";
+            Integer failed = tx.execute(status -> publishJobRepository.failStale(
+                    job.getId(), attempt, staleBefore, message, now));
+            if (failed == null || failed == 0) {
+                continue;
+            }
+            log.error("중단된 게시 작업 실패 처리 - jobId: {}, reviewId: {}, 등록 클릭 여부: {}, 시도 {}/{}",
+                    job.getId(), job.getReviewId(), submitted, attempt, maxAttempts);
+            try {
+                reviewService.completePublish(job.getReviewId(), PublishResult.failure(message));
+            } catch (Exception e) {
+                log.warn("게시 실패 상태 반영 실패 - reviewId: {}: {}", job.getReviewId(), e.getMessage());
+            }
+        }
+    }
+
+    private List<PublishJob> claimBatch(TransactionTemplate tx, String batchId) {
+        LocalDateTime now = LocalDateTime.now();
+        List<PublishJob> candidates = tx.execute(status -> publishJobRepository.findDueInBatch(batchId, now));
+        List<PublishJob> claimed = new ArrayList<>();
+        for (PublishJob candidate : candidates != null ? candidates : Collections.<PublishJob>emptyList()) {
+            Integer updated = tx.execute(status -> publishJobRepository.claim(candidate.getId(), now));
+            if (updated != null && updated > 0) {
+                claimed.add(candidate);
+            }
+        }
+        return claimed;
+    }
+
+    private void run(PublishJob job) {
+        try {
+            log.info("creation.kr 게시 작업 실행 - jobId: {}, reviewId: {}, 시도 {}/{}",
+                    job.getId(), job.getReviewId(), attemptOf(job), properties.getQueue().getMaxAttempts());
+            PublishResult result = reviewService.executePublishAttempt(
+                    job.getReviewId(), job.getSitePath(), job.getBoardId(), () -> markSubmitted(job));
+            applyResult(job, result, LocalDateTime.now());
+        } catch (Exception e) {
+            failJob(job, e);
+        } finally {
+            inFlight.decrementAndGet();
+        }
+    }
+
+    private void runBatch(List<PublishJob> jobs) {
+        boolean[] handled = new boolean[jobs.size()];
+        // 재시도 항목은 다음에도 한 묶음으로 처리되도록 묶음이 끝난 뒤 같은 기준 시각으로 등록
+        Map<Integer, PublishResult> retries = new LinkedHashMap<>();
+        List<Long> jobIds = jobs.stream().map(PublishJob::getId).collect(Collectors.toList());
+        try {
+            log.info("creation.kr 일괄 게시 작업 실행 - batchId: {}, {}건", jobs.get(0).getBatchId(), jobs.size());
+            reviewService.executePublishBatchAttempt(jobs, i -> markSubmitted(jobs.get(i)), (i, result) -> {
+                handled[i] = true;
+                PublishJob job = jobs.get(i);
+                try {
+                    if (isRetry(job, result)) {
+                        retries.put(i, result);
+                    } else {
+                        applyResult(job, result, LocalDateTime.now());
+                    }
+                } catch (Exception e) {
+                    failJob(job, e);
+                }
+                touch(jobIds);
+            });
+        } catch (Exception e) {
+            for (int i = 0; i < jobs.size(); i++) {
+                if (!handled[i]) {
+                    failJob(jobs.get(i), e);
+                }
+            }
+        } finally {
+            try {
+                LocalDateTime now = LocalDateTime.now();
+                retries.forEach((i, result) -> {
+                    try {
+                        applyResult(jobs.get(i), result, now);
+                    } catch (Exception e) {
+                        failJob(jobs.get(i), e);
+                    }
+                });
+            } finally {
+                inFlight.decrementAndGet();
+            }
+        }
+    }
+
+    private void applyResult(PublishJob job, PublishResult result, LocalDateTime now) {
+        Long reviewId = job.getReviewId();
+        if (result == null) {
+            finishJob(job, PublishJob.STATUS_DONE, null);
+            return;
+        }
+
+        int attempt = attemptOf(job);
+        if (isRetry(job, result)) {
+            long delaySeconds = properties.getQueue().getRetryBackoffSeconds() * (1L << (attempt - 1));
+            if (!scheduleRetry(job, result.getErrorMessage(), now.plusSeconds(delaySeconds))) {
+                return;
+            }
+            reviewService.recordPublishRetry(reviewId,
+                    result.getErrorMessage() + " (재시도 예정 " + (attempt + 1) + "/"
+                            + properties.getQueue().getMaxAttempts() + ")");
+            log.warn("creation.kr 게시 일시 실패, {}초 후 재시도 - jobId: {}, reviewId: {}, message: {}",
+                    delaySeconds, job.getId(), reviewId, result.getErrorMessage());
+            return;
+        }
+
+        reviewService.completePublish(reviewId, result);
+        finishJob(job, result.isSuccess() ? PublishJob.STATUS_DONE : PublishJob.STATUS_FAILED,
+                result.getErrorMessage());
+    }
+
+    private boolean isRetry(PublishJob job, PublishResult result) {
+        return result != null && !result.isSuccess() && result.isRetryable()
+                && attemptOf(job) < properties.getQueue().getMaxAttempts();
+    }
+
+    private void failJob(PublishJob job, Exception e) {
+        log.error("creation.kr 게시 작업 처리 실패 - jobId: {}, reviewId: {}", job.getId(), job.getReviewId(), e);
+        try {
+            reviewService.completePublish(job.getReviewId(), PublishResult.failure(e.getMessage()));
+        } catch (Exception finalizeError) {
+            log.warn("게시 실패 상태 반영 실패 - reviewId: {}: {}", job.getReviewId(), finalizeError.getMessage());
+        }
+        finishJob(job, PublishJob.STATUS_FAILED, e.getMessage());
+    }
+
+    /** claim 시 증가하기 전 값으로 로드되므로 +1 */
+    private int attemptOf(PublishJob job) {
+        return (job.getAttempts() != null ? job.getAttempts() : 0) + 1;
+    }
+
+    private boolean scheduleRetry(PublishJob job, String error, LocalDateTime nextAttemptAt) {
+        Integer updated = newRequiresNewTemplate().execute(status -> publishJobRepository.retry(
+                job.getId(), attemptOf(job), nextAttemptAt, error, LocalDateTime.now()));
+        if (updated == null || updated == 0) {
+            log.warn("이미 다른 시도가 가져간 게시 작업이라 재시도 등록 생략 - jobId: {}", job.getId());
+            return false;
+        }
+        return true;
+    }
+
+    private void finishJob(PublishJob job, String status, String error) {
+        try {
+            Integer updated = newRequiresNewTemplate().execute(tx -> publishJobRepository.finish(
+                    job.getId(), attemptOf(job), status, error, LocalDateTime.now()));
+            if (updated == null || updated == 0) {
+                log.warn("이미 다른 시도가 가져간 게시 작업이라 상태 저장 생략 - jobId: {}, status: {}", job.getId(), status);
+            }
+        } catch (Exception e) {
+            log.warn("게시 작업 상태 저장 실패 - jobId: {}: {}", job.getId(), e.getMessage());
+        }
+    }
+
+    /**
+     * 등록 클릭 직전 기록을 먼저 커밋. 기록하지 못하면 예외로 등록을 막음 (중단 시 중복 게시 여부를 판단할 수 없으므로)
+     */
+    private void markSubmitted(PublishJob job) {
+        Integer updated = newRequiresNewTemplate().execute(status -> publishJobRepository.markSubmitted(
+                job.getId(), attemptOf(job), LocalDateTime.now()));
+        if (updated == null || updated == 0) {
+            throw new IllegalStateException("이미 다른 시도가 가져간 게시 작업이라 등록하지 않습니다 - jobId: " + job.getId());
+        }
+    }
+
+    private void touch(List<Long> jobIds) {
+        try {
+            newRequiresNewTemplate().execute(status -> publishJobRepository.touch(jobIds, LocalDateTime.now()));
+        } catch (Exception e) {
+            log.warn("일괄 게시 작업 시각 갱신 실패: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * 설정값과 글 1건의 최악 소요 시간(timeout-ms × 대기 단계 수) 중 큰 값.
+     * 일괄 게시는 항목마다 startedAt을 갱신하므로 글 1건보다만 길면 실행 중인 작업을 재등록하지 않음
+     */
+    private long staleAfterMinutes() {
+        long perPostMinutes = TimeUnit.MILLISECONDS.toMinutes(properties.getTimeoutMs() * (long) MAX_WAITS_PER_POST) + 1;
+        return Math.max(properties.getQueue().getStaleAfterMinutes(), perPostMinutes);
+    }
+
+    private int workerCount() {
+        return Math.max(1, properties.getQueue().getWorkers());
+    }
+
+    private TransactionTemplate newRequiresNewTemplate() {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        return template;
+    }
+}
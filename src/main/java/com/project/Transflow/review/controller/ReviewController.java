@@ -1,6 +1,8 @@
 package com.project.Transflow.review.controller;
 
 import com.project.Transflow.admin.util.AdminAuthUtil;
+import com.project.Transflow.review.dto.BatchPublishReviewRequest;
+import com.project.Transflow.review.dto.BatchPublishReviewResponse;
 import com.project.Transflow.review.dto.CreateReviewRequest;
 import com.project.Transflow.review.dto.PublishPreviewResponse;
 import com.project.Transflow.review.dto.PublishReviewRequest;
@@ -169,10 +171,10 @@ public class ReviewController {
 
     @Operation(
             summary = "리뷰 게시",
-            description = "승인된 리뷰를 게시합니다. (creation.kr) 권한: 관리자 이상 (roleLevel 1, 2)"
+            description = "승인된 리뷰를 creation.kr 게시 대기열에 등록합니다. 진행 상황은 publishStatus(PENDING → SUCCESS/FAILED)로 확인합니다. 권한: 관리자 이상 (roleLevel 1, 2)"
     )
     @ApiResponses({
-            @ApiResponse(responseCode = "200", description = "게시 성공",
+            @ApiResponse(responseCode = "202", description = "게시 대기열 등록",
                     content = @Content(schema = @Schema(implementation = ReviewResponse.class))),
             @ApiResponse(responseCode = "400", description = "잘못된 요청 (승인되지 않은 리뷰 등)"),
             @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 권한 필요)"),
@@ -200,6 +202,9 @@ public class ReviewController {
             if ("FAILED".equals(response.getPublishStatus())) {
                 return ResponseEntity.badRequest().body(response);
             }
+            if ("PENDING".equals(response.getPublishStatus())) {
+                return ResponseEntity.accepted().body(response);
+            }
             return ResponseEntity.ok(response);
         } catch (IllegalArgumentException e) {
             log.warn("리뷰 게시 거부: {}", e.getMessage());
@@ -207,6 +212,61 @@ public class ReviewController {
         }
     }
 
+    @Operation(
+            summary = "리뷰 일괄 게시",
+            description = "승인된 리뷰 여러 건을 하나의 creation.kr 로그인 세션으로 게시합니다. 게시판별로 순차 등록되며 항목별 결과를 반환합니다. 권한: 관리자 이상 (roleLevel 1, 2)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "202", description = "일괄 게시 대기열 등록 (항목별 accepted 확인)",
+                    content = @Content(schema = @Schema(implementation = BatchPublishReviewResponse.class))),
+            @ApiResponse(responseCode = "400", description = "잘못된 요청 (대상 없음 등)"),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 권한 필요)")
+    })
+    @PostMapping("/publish-batch")
+    public ResponseEntity<BatchPublishReviewResponse> publishReviewsBatch(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String authHeader,
+            @Valid @RequestBody BatchPublishReviewRequest request) {
+
+        if (!adminAuthUtil.isAdminOrAbove(authHeader)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        Long reviewerId = adminAuthUtil.getUserIdFromToken(authHeader);
+        if (reviewerId == null) {
+            return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+        }
+
+        BatchPublishReviewResponse response = reviewService.publishReviewsBatch(request, reviewerId);
+        return ResponseEntity.accepted().body(response);
+    }
+
+    @Operation(
+            summary = "리뷰 일괄 게시 진행 상황",
+            description = "일괄 게시의 항목별 publishStatus와 게시 URL을 조회합니다. 권한: 관리자 이상 (roleLevel 1, 2)"
+    )
+    @ApiResponses({
+            @ApiResponse(responseCode = "200", description = "조회 성공",
+                    content = @Content(schema = @Schema(implementation = BatchPublishReviewResponse.class))),
+            @ApiResponse(responseCode = "403", description = "권한 없음 (관리자 권한 필요)"),
+            @ApiResponse(responseCode = "404", description = "일괄 게시를 찾을 수 없음")
+    })
+    @GetMapping("/publish-batch/{batchId}")
+    public ResponseEntity<BatchPublishReviewResponse> getPublishBatch(
+            @Parameter(hidden = true) @RequestHeader("Authorization") String authHeader,
+            @Parameter(description = "일괄 게시 ID", required = true)
+            @PathVariable String batchId) {
+
+        if (!adminAuthUtil.isAdminOrAbove(authHeader)) {
+            return ResponseEntity.status(HttpStatus.FORBIDDEN).build();
+        }
+
+        try {
+            return ResponseEntity.ok(reviewService.getPublishBatch(batchId));
+        } catch (IllegalArgumentException e) {
+            return ResponseEntity.notFound().build();
+        }
+    }
+
     @Operation(
             summary = "리뷰 수정",
             description = "리뷰 정보를 수정합니다. (PENDING 상태만 가능) 권한: 관리자 이상 (roleLevel 1, 2)"
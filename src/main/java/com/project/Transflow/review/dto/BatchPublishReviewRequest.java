@@ -0,0 +1,45 @@
+package com.project.Transflow.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import javax.validation.Valid;
+import javax.validation.constraints.NotEmpty;
+import javax.validation.constraints.NotNull;
+import javax.validation.constraints.Size;
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Schema(description = "creation.kr 일괄 게시 요청")
+public class BatchPublishReviewRequest {
+
+    @NotEmpty(message = "게시할 리뷰를 선택해주세요.")
+    @Size(max = 100, message = "한 번에 최대 100건까지 게시할 수 있습니다.")
+    @Valid
+    @Schema(description = "게시 대상 목록 (요청 순서대로 결과 반환)")
+    private List<Item> items;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Schema(description = "일괄 게시 대상")
+    public static class Item {
+
+        @NotNull(message = "reviewId는 필수입니다.")
+        @Schema(description = "리뷰 ID", example = "1")
+        private Long reviewId;
+
+        @Schema(description = "creation.kr 사이트 경로 (없으면 카테고리 매핑)", example = "EvidenceofFlood")
+        private String sitePath;
+
+        @Schema(description = "creation.kr board ID (없으면 카테고리 매핑)", example = "b201810315bd97ecb8e054")
+        private String boardId;
+    }
+}
@@ -0,0 +1,49 @@
+package com.project.Transflow.review.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+import java.util.List;
+
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+@Schema(description = "creation.kr 일괄 게시 응답")
+public class BatchPublishReviewResponse {
+
+    @Schema(description = "일괄 게시 ID (진행 상황 조회용)", example = "3f1c2a4e-...")
+    private String batchId;
+
+    @Schema(description = "항목별 결과 (요청 순서)")
+    private List<ItemResult> items;
+
+    @Getter
+    @Setter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    @Builder
+    @Schema(description = "일괄 게시 항목 결과")
+    public static class ItemResult {
+
+        @Schema(description = "리뷰 ID", example = "1")
+        private Long reviewId;
+
+        @Schema(description = "대기열 등록 여부 (false면 검증 실패로 제외)")
+        private boolean accepted;
+
+        @Schema(description = "게시 상태", example = "PENDING", allowableValues = {"NONE", "PENDING", "SUCCESS", "FAILED"})
+        private String publishStatus;
+
+        @Schema(description = "creation.kr 게시글 URL")
+        private String publishedUrl;
+
+        @Schema(description = "실패·거부 사유")
+        private String error;
+    }
+}
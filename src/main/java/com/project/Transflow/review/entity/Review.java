@@ -11,7 +11,10 @@ import javax.persistence.*;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "review")
+@Table(name = "review", indexes = {
+        @Index(name = "idx_review_status_final_approval_at", columnList = "status, final_approval_at"),
+        @Index(name = "idx_review_status_reviewed_at", columnList = "status, reviewed_at")
+})
 @Getter
 @Setter
 @NoArgsConstructor
@@ -1,6 +1,7 @@
 package com.project.Transflow.review.repository;
 
 import com.project.Transflow.review.entity.Review;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
@@ -19,6 +20,16 @@ public interface ReviewRepository extends JpaRepository<Review, Long> {
     @Query("SELECT r FROM Review r JOIN FETCH r.document LEFT JOIN FETCH r.reviewer WHERE r.status = :status")
     List<Review> findByStatusWithDocumentAndReviewer(@Param("status") String status);
 
+    /** 대시보드 승인 카드용: 표시 시각(최종 승인, 없으면 문서 수정 시각) 내림차순 */
+    @Query("SELECT r FROM Review r JOIN FETCH r.document d WHERE r.status = 'APPROVED' "
+            + "ORDER BY COALESCE(r.finalApprovalAt, d.updatedAt) DESC, r.id DESC")
+    List<Review> findApprovedWithDocumentOrderByDisplayAtDesc(Pageable pageable);
+
+    /** 대시보드 반려 카드용: 반려 시각(없으면 리뷰 수정 시각) 내림차순 */
+    @Query("SELECT r FROM Review r JOIN FETCH r.document WHERE r.status = 'REJECTED' "
+            + "ORDER BY COALESCE(r.reviewedAt, r.updatedAt) DESC, r.id DESC")
+    List<Review> findRejectedWithDocumentOrderByReviewedAtDesc(Pageable pageable);
+
     @Query("SELECT r FROM Review r JOIN FETCH r.documentVersion dv LEFT JOIN FETCH dv.createdBy "
             + "WHERE r.document.id = :documentId AND r.status = 'PENDING'")
     List<Review> findPendingWithVersionAuthorByDocumentId(@Param("documentId") Long documentId);
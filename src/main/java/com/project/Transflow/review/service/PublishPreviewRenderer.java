@@ -0,0 +1,67 @@
+package com.project.Transflow.review.service;
+
+import com.project.Transflow.config.CacheConfig;
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.util.ContentHash;
+import com.project.Transflow.publish.service.CreationKrPublishHtmlSanitizer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.stereotype.Component;
+
+/**
+ * 게시 미리보기용 sanitize 결과 캐시 (리뷰 단위).
+ * 캐시 값에 (버전 ID, 저장된 본문 해시, 원문 URL, 정리 규칙 버전)을 함께 저장해 하나라도 다르면 다시 sanitize합니다.
+ * 리뷰의 검토 대상 버전이 바뀌면 ReviewService에서 해당 리뷰 항목을 무효화합니다.
+ */
+@Component
+@RequiredArgsConstructor
+public class PublishPreviewRenderer {
+
+    private final CreationKrPublishHtmlSanitizer htmlSanitizer;
+    private final CacheManager cacheManager;
+
+    public String render(Long reviewId, DocumentVersion version, String baseUrl) {
+        String content = version != null ? version.getContent() : null;
+        if (reviewId == null || content == null) {
+            return htmlSanitizer.sanitize(content, baseUrl);
+        }
+
+        // 일치 여부를 값으로 확인해야 해서 @Cacheable 대신 Cache를 직접 사용
+        Cache cache = cacheManager.getCache(CacheConfig.PUBLISH_PREVIEW_HTML);
+        String fingerprint = fingerprint(version, content, baseUrl);
+        RenderedPreview cached = cache != null ? cache.get(reviewId, RenderedPreview.class) : null;
+        if (cached != null && cached.fingerprint.equals(fingerprint)) {
+            return cached.html;
+        }
+
+        String sanitizedHtml = htmlSanitizer.sanitize(content, baseUrl);
+        if (cache != null && sanitizedHtml != null) {
+            cache.put(reviewId, new RenderedPreview(fingerprint, sanitizedHtml));
+        }
+        return sanitizedHtml;
+    }
+
+    @CacheEvict(cacheNames = CacheConfig.PUBLISH_PREVIEW_HTML, key = "#reviewId")
+    public void evict(Long reviewId) {
+    }
+
+    /** 본문 해시는 버전에 저장된 값을 쓰고, 해시가 없는 이전 버전만 본문으로 계산 */
+    private static String fingerprint(DocumentVersion version, String content, String baseUrl) {
+        String contentHash = version.getContentHash() != null
+                ? version.getContentHash() : ContentHash.sha256Hex(content);
+        return version.getId() + ":" + contentHash + ":" + (baseUrl != null ? baseUrl : "")
+                + ":" + CreationKrPublishHtmlSanitizer.CONFIG_VERSION;
+    }
+
+    private static final class RenderedPreview {
+        private final String fingerprint;
+        private final String html;
+
+        private RenderedPreview(String fingerprint, String html) {
+            this.fingerprint = fingerprint;
+            this.html = html;
+        }
+    }
+}
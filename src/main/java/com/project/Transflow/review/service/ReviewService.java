@@ -1,16 +1,23 @@
 package com.project.Transflow.review.service;
 
+import com.project.Transflow.config.CacheConfig;
 import com.project.Transflow.document.entity.Document;
 import com.project.Transflow.document.entity.DocumentVersion;
 import com.project.Transflow.document.repository.DocumentRepository;
 import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.document.service.DocumentParagraphService;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.project.Transflow.publish.dto.PublishResult;
+import com.project.Transflow.publish.entity.PublishJob;
+import com.project.Transflow.publish.repository.PublishJobRepository;
 import com.project.Transflow.publish.service.CreationKrBoardCatalogService;
-import com.project.Transflow.publish.service.CreationKrPublishHtmlSanitizer;
 import com.project.Transflow.publish.service.CreationKrPublishService;
+import com.project.Transflow.publish.service.CreationKrPublishService.ReviewPublishTarget;
+import com.project.Transflow.publish.service.PublishJobEnqueuedEvent;
+import com.project.Transflow.review.dto.BatchPublishReviewRequest;
+import com.project.Transflow.review.dto.BatchPublishReviewResponse;
 import com.project.Transflow.review.dto.CreateReviewRequest;
 import com.project.Transflow.review.dto.PublishPreviewResponse;
 import com.project.Transflow.review.dto.PublishReviewRequest;
@@ -22,6 +29,8 @@ import com.project.Transflow.user.entity.User;
 import com.project.Transflow.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.TransactionDefinition;
@@ -29,11 +38,16 @@ import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Comparator;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -47,7 +61,10 @@ public class ReviewService {
     private final UserRepository userRepository;
     private final CreationKrPublishService creationKrPublishService;
     private final CreationKrBoardCatalogService creationKrBoardCatalogService;
-    private final CreationKrPublishHtmlSanitizer htmlSanitizer;
+    private final PublishPreviewRenderer publishPreviewRenderer;
+    private final DocumentParagraphService documentParagraphService;
+    private final PublishJobRepository publishJobRepository;
+    private final ApplicationEventPublisher eventPublisher;
     private final PlatformTransactionManager transactionManager;
     private final ObjectMapper objectMapper = new ObjectMapper();
 
@@ -63,6 +80,8 @@ public class ReviewService {
         if (!documentVersion.getDocument().getId().equals(request.getDocumentId())) {
             throw new IllegalArgumentException("문서 버전이 해당 문서에 속하지 않습니다.");
         }
+        // 검토 대상 본문이 고정되도록 문단 작업본이면 확정
+        documentParagraphService.materializeIfDraft(documentVersion);
 
         User reviewer = userRepository.findById(reviewerId)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰어를 찾을 수 없습니다: " + reviewerId));
@@ -103,6 +122,7 @@ public class ReviewService {
      * 번역 완료 등으로 문서가 검토 대기 상태가 될 때 PENDING 리뷰를 자동 생성합니다.
      * 동일 문서·버전에 리뷰가 이미 있으면 기존 리뷰를 반환합니다.
      */
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public Optional<ReviewResponse> ensurePendingReviewForDocument(Long documentId, Long documentVersionId) {
         Document document = documentRepository.findById(documentId)
@@ -114,6 +134,7 @@ public class ReviewService {
         if (!documentVersion.getDocument().getId().equals(documentId)) {
             throw new IllegalArgumentException("문서 버전이 해당 문서에 속하지 않습니다.");
         }
+        documentParagraphService.materializeIfDraft(documentVersion);
 
         Optional<Review> versionReview = reviewRepository
                 .findByDocument_IdAndDocumentVersion_Id(documentId, documentVersionId);
@@ -136,6 +157,7 @@ public class ReviewService {
             pending.setDocumentVersion(documentVersion);
             pending.setIsComplete(true);
             Review saved = reviewRepository.save(pending);
+            publishPreviewRenderer.evict(saved.getId());
             log.info("기존 PENDING 리뷰 버전 갱신: 문서 ID {}, 버전 ID {}", documentId, documentVersionId);
             return Optional.of(toResponse(saved));
         }
@@ -160,7 +182,9 @@ public class ReviewService {
         review.setReviewedAt(null);
         review.setFinalApprovalAt(null);
         review.setIsComplete(true);
-        return reviewRepository.save(review);
+        Review saved = reviewRepository.save(review);
+        publishPreviewRenderer.evict(saved.getId());
+        return saved;
     }
 
     /**
@@ -180,6 +204,7 @@ public class ReviewService {
         return ensurePendingReviewForDocument(documentId, latestManualVersion.get().getId());
     }
 
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public ReviewResponse approveReview(Long reviewId, Long reviewerId) {
         Review review = reviewRepository.findById(reviewId)
@@ -224,6 +249,7 @@ public class ReviewService {
         return toResponse(saved);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public ReviewResponse rejectReview(Long reviewId, Long reviewerId) {
         Review review = reviewRepository.findById(reviewId)
@@ -248,30 +274,198 @@ public class ReviewService {
         return toResponse(saved);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public ReviewResponse publishReview(Long reviewId, Long adminUserId) {
         return publishReview(reviewId, adminUserId, null);
     }
 
+    /**
+     * 게시 요청을 검증하고 게시 대기열에 등록 (publishStatus = PENDING).
+     * 실제 브라우저 게시는 PublishQueueWorker가 수행하고 결과를 publishStatus로 반영합니다.
+     */
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     public ReviewResponse publishReview(Long reviewId, Long adminUserId, PublishReviewRequest request) {
-        PublishBoardSelection boardSelection = preparePublishInNewTransaction(reviewId, request);
+        return enqueuePublishInNewTransaction(reviewId, adminUserId, request, null, true);
+    }
+
+    /**
+     * 승인된 리뷰 여러 건을 하나의 일괄 게시로 대기열에 등록.
+     * 워커가 같은 batchId 항목을 한 브라우저 세션에서 게시판별 순차로 처리합니다. 검증 실패 항목은 accepted=false
+     */
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
+    public BatchPublishReviewResponse publishReviewsBatch(BatchPublishReviewRequest request, Long adminUserId) {
+        String batchId = UUID.randomUUID().toString();
+        List<BatchPublishReviewResponse.ItemResult> items = new ArrayList<>();
+
+        // 묶음 전체를 한 트랜잭션으로 등록해야 폴러가 일부만 커밋된 묶음을 먼저 가져가지 않음
+        newRequiresNewTemplate().executeWithoutResult(status -> {
+            for (BatchPublishReviewRequest.Item item : request.getItems()) {
+                try {
+                    ReviewResponse queued = enqueuePublish(item.getReviewId(), adminUserId,
+                            new PublishReviewRequest(item.getSitePath(), item.getBoardId()), batchId, false);
+                    items.add(BatchPublishReviewResponse.ItemResult.builder()
+                            .reviewId(item.getReviewId())
+                            .accepted(true)
+                            .publishStatus(queued.getPublishStatus())
+                            .build());
+                } catch (IllegalArgumentException e) {
+                    items.add(BatchPublishReviewResponse.ItemResult.builder()
+                            .reviewId(item.getReviewId())
+                            .accepted(false)
+                            .error(e.getMessage())
+                            .build());
+                }
+            }
+        });
+        boolean anyAccepted = items.stream().anyMatch(BatchPublishReviewResponse.ItemResult::isAccepted);
+
+        // 묶음 전체가 커밋된 뒤에 디스패치해야 한 세션으로 처리됨
+        if (anyAccepted) {
+            eventPublisher.publishEvent(new PublishJobEnqueuedEvent(null));
+        }
+        log.info("creation.kr 일괄 게시 등록: batchId {}, 요청 {}건", batchId, items.size());
+
+        return BatchPublishReviewResponse.builder()
+                .batchId(batchId)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * 일괄 게시 진행 상황 (항목별 publishStatus)
+     */
+    // 등록 직후부터 폴링하므로 복제 지연 없이 기본 DB에서 읽음
+    @Transactional
+    public BatchPublishReviewResponse getPublishBatch(String batchId) {
+        List<PublishJob> jobs = publishJobRepository.findByBatchIdOrderByIdAsc(batchId);
+        if (jobs.isEmpty()) {
+            throw new IllegalArgumentException("일괄 게시를 찾을 수 없습니다: " + batchId);
+        }
+
+        Map<Long, Review> reviews = reviewRepository.findAllById(
+                        jobs.stream().map(PublishJob::getReviewId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(Review::getId, r -> r));
+
+        List<BatchPublishReviewResponse.ItemResult> items = jobs.stream()
+                .map(job -> {
+                    Review review = reviews.get(job.getReviewId());
+                    return BatchPublishReviewResponse.ItemResult.builder()
+                            .reviewId(job.getReviewId())
+                            .accepted(true)
+                            .publishStatus(review != null ? review.getPublishStatus() : null)
+                            .publishedUrl(review != null ? review.getPublishedUrl() : null)
+                            .error(review != null ? review.getPublishError() : job.getLastError())
+                            .build();
+                })
+                .collect(Collectors.toList());
+
+        return BatchPublishReviewResponse.builder()
+                .batchId(batchId)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * 게시 큐 워커용: creation.kr 게시 1회 시도 (브라우저 작업은 트랜잭션 밖).
+     * 등록 버튼을 누르기 직전에 beforeSubmit을 호출합니다. 리뷰가 더 이상 게시 대기(PENDING) 상태가 아니면 null
+     */
+    public PublishResult executePublishAttempt(Long reviewId, String sitePath, String boardId, Runnable beforeSubmit) {
+        Review review = loadReviewForPublish(reviewId);
+        if (!"PENDING".equals(review.getPublishStatus())) {
+            log.info("게시 대기 상태가 아니므로 건너뜀 - reviewId: {}, publishStatus: {}", reviewId, review.getPublishStatus());
+            return null;
+        }
 
-        PublishResult result;
         try {
-            Review review = loadReviewForPublish(reviewId);
-            result = creationKrPublishService.publishFromReview(
-                    review, boardSelection.sitePath(), boardSelection.boardId());
+            return creationKrPublishService.publishFromReview(review, sitePath, boardId, beforeSubmit);
         } catch (IllegalStateException e) {
-            return finalizePublishInNewTransaction(reviewId, PublishResult.failure(e.getMessage()));
+            return PublishResult.failure(e.getMessage());
         } catch (Exception e) {
             log.error("creation.kr 게시 중 예외 - reviewId: {}", reviewId, e);
-            return finalizePublishInNewTransaction(reviewId, PublishResult.failure(e.getMessage()));
+            return PublishResult.transientFailure(e.getMessage());
+        }
+    }
+
+    /**
+     * 게시 큐 워커용: 일괄 게시 1회 시도 (한 브라우저 세션). 결과는 jobs 순서, 게시 대기 상태가 아닌 항목은 null.
+     * 항목의 등록 버튼을 누르기 직전에 beforeSubmit(jobs 내 순번)을, 항목 결과가 정해질 때마다 onResult(jobs 내 순번, 결과)를
+     * 호출하므로 워커가 묶음 전체를 기다리지 않고 반영할 수 있습니다
+     */
+    public List<PublishResult> executePublishBatchAttempt(List<PublishJob> jobs, IntConsumer beforeSubmit,
+                                                          BiConsumer<Integer, PublishResult> onResult) {
+        PublishResult[] results = new PublishResult[jobs.size()];
+        boolean[] reported = new boolean[jobs.size()];
+        BiConsumer<Integer, PublishResult> report = (i, result) -> {
+            results[i] = result;
+            reported[i] = true;
+            onResult.accept(i, result);
+        };
+
+        List<Integer> indexes = new ArrayList<>();
+        List<ReviewPublishTarget> targets = new ArrayList<>();
+        for (int i = 0; i < jobs.size(); i++) {
+            PublishJob job = jobs.get(i);
+            try {
+                Review review = loadReviewForPublish(job.getReviewId());
+                if (!"PENDING".equals(review.getPublishStatus())) {
+                    log.info("게시 대기 상태가 아니므로 건너뜀 - reviewId: {}", job.getReviewId());
+                    report.accept(i, null);
+                    continue;
+                }
+                indexes.add(i);
+                targets.add(new ReviewPublishTarget(review, job.getSitePath(), job.getBoardId()));
+            } catch (IllegalArgumentException e) {
+                report.accept(i, PublishResult.failure(e.getMessage()));
+            }
         }
 
+        if (!targets.isEmpty()) {
+            try {
+                creationKrPublishService.publishBatchFromReviews(targets,
+                        k -> beforeSubmit.accept(indexes.get(k)),
+                        (k, result) -> report.accept(indexes.get(k), result));
+            } catch (IllegalStateException e) {
+                reportRemaining(indexes, reported, PublishResult.failure(e.getMessage()), report);
+            } catch (Exception e) {
+                log.error("creation.kr 일괄 게시 중 예외 - {}건", targets.size(), e);
+                reportRemaining(indexes, reported, PublishResult.transientFailure(e.getMessage()), report);
+            }
+        }
+        return Arrays.asList(results);
+    }
+
+    private static void reportRemaining(List<Integer> indexes, boolean[] reported, PublishResult result,
+                                        BiConsumer<Integer, PublishResult> report) {
+        for (Integer index : indexes) {
+            if (!reported[index]) {
+                report.accept(index, result);
+            }
+        }
+    }
+
+    /**
+     * 게시 큐 워커용: 최종 결과(SUCCESS/FAILED) 반영
+     */
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
+    public ReviewResponse completePublish(Long reviewId, PublishResult result) {
         return finalizePublishInNewTransaction(reviewId, result);
     }
 
-    @Transactional(readOnly = true)
+    /**
+     * 게시 큐 워커용: 재시도 대기 중 마지막 오류 기록 (publishStatus는 PENDING 유지)
+     */
+    public void recordPublishRetry(Long reviewId, String message) {
+        newRequiresNewTemplate().executeWithoutResult(status ->
+                reviewRepository.findById(reviewId).ifPresent(review -> {
+                    review.setPublishError(message);
+                    reviewRepository.save(review);
+                }));
+    }
+
+    // 게시 요청·완료 직후 publishStatus를 보여주므로 복제 지연 없이 기본 DB에서 읽음
+    @Transactional
     public PublishPreviewResponse getPublishPreview(Long reviewId) {
         Review review = reviewRepository.findById(reviewId)
                 .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다: " + reviewId));
@@ -279,8 +473,7 @@ public class ReviewService {
         Document document = review.getDocument();
         DocumentVersion version = review.getDocumentVersion();
 
-        String htmlContent = version != null ? version.getContent() : null;
-        String sanitizedHtml = htmlSanitizer.sanitize(htmlContent, document.getOriginalUrl());
+        String sanitizedHtml = publishPreviewRenderer.render(review.getId(), version, document.getOriginalUrl());
 
         String publishStatus = review.getPublishStatus() != null ? review.getPublishStatus() : "NONE";
         boolean publishable = "APPROVED".equals(review.getStatus())
@@ -306,53 +499,76 @@ public class ReviewService {
                 .build();
     }
 
-    private PublishBoardSelection preparePublishInNewTransaction(Long reviewId, PublishReviewRequest request) {
+    private ReviewResponse enqueuePublishInNewTransaction(Long reviewId, Long adminUserId, PublishReviewRequest request,
+                                                          String batchId, boolean dispatchNow) {
         TransactionTemplate template = newRequiresNewTemplate();
-        return template.execute(status -> {
-            Review review = reviewRepository.findById(reviewId)
-                    .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다: " + reviewId));
+        return template.execute(status -> enqueuePublish(reviewId, adminUserId, request, batchId, dispatchNow));
+    }
 
-            if (!"APPROVED".equals(review.getStatus())) {
-                throw new IllegalArgumentException("승인된 리뷰만 게시할 수 있습니다. 현재 상태: " + review.getStatus());
-            }
+    /**
+     * 게시 요청 검증 후 리뷰를 PENDING으로 바꾸고 publish_job 등록. 호출하는 쪽의 트랜잭션 안에서 실행
+     */
+    private ReviewResponse enqueuePublish(Long reviewId, Long adminUserId, PublishReviewRequest request,
+                                          String batchId, boolean dispatchNow) {
+        Review review = reviewRepository.findById(reviewId)
+                .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다: " + reviewId));
 
-            if (Boolean.FALSE.equals(review.getIsComplete())) {
-                throw new IllegalArgumentException("완전 번역으로 승인된 문서만 creation.kr에 게시할 수 있습니다.");
-            }
+        if (!"APPROVED".equals(review.getStatus())) {
+            throw new IllegalArgumentException("승인된 리뷰만 게시할 수 있습니다. 현재 상태: " + review.getStatus());
+        }
 
-            Document document = review.getDocument();
-            if (!"APPROVED".equals(document.getStatus())) {
-                throw new IllegalArgumentException("문서 상태가 APPROVED가 아닙니다. 현재 상태: " + document.getStatus());
-            }
+        if (Boolean.FALSE.equals(review.getIsComplete())) {
+            throw new IllegalArgumentException("완전 번역으로 승인된 문서만 creation.kr에 게시할 수 있습니다.");
+        }
 
-            String currentPublishStatus = review.getPublishStatus() != null ? review.getPublishStatus() : "NONE";
-            if ("SUCCESS".equals(currentPublishStatus) && review.getPublishedUrl() != null && !review.getPublishedUrl().isBlank()) {
-                throw new IllegalArgumentException("이미 creation.kr에 게시된 문서입니다.");
-            }
-            if ("PENDING".equals(currentPublishStatus)) {
-                throw new IllegalArgumentException("게시가 진행 중입니다. 잠시 후 다시 시도해주세요.");
-            }
+        Document document = review.getDocument();
+        if (!"APPROVED".equals(document.getStatus())) {
+            throw new IllegalArgumentException("문서 상태가 APPROVED가 아닙니다. 현재 상태: " + document.getStatus());
+        }
 
-            String sitePath = request != null ? request.getSitePath() : null;
-            String boardId = request != null ? request.getBoardId() : null;
-            if (sitePath != null && !sitePath.isBlank() && boardId != null && !boardId.isBlank()) {
-                if (!creationKrBoardCatalogService.isValidBoard(sitePath, boardId)) {
-                    throw new IllegalArgumentException("선택한 creation.kr 게시판이 유효하지 않습니다.");
-                }
-            } else if ((sitePath != null && !sitePath.isBlank()) || (boardId != null && !boardId.isBlank())) {
-                throw new IllegalArgumentException("sitePath와 boardId를 함께 지정해주세요.");
+        String currentPublishStatus = review.getPublishStatus() != null ? review.getPublishStatus() : "NONE";
+        if ("SUCCESS".equals(currentPublishStatus) && review.getPublishedUrl() != null && !review.getPublishedUrl().isBlank()) {
+            throw new IllegalArgumentException("이미 creation.kr에 게시된 문서입니다.");
+        }
+        if ("PENDING".equals(currentPublishStatus)) {
+            throw new IllegalArgumentException("게시가 진행 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        String sitePath = request != null ? request.getSitePath() : null;
+        String boardId = request != null ? request.getBoardId() : null;
+        if (sitePath != null && !sitePath.isBlank() && boardId != null && !boardId.isBlank()) {
+            if (!creationKrBoardCatalogService.isValidBoard(sitePath, boardId)) {
+                throw new IllegalArgumentException("선택한 creation.kr 게시판이 유효하지 않습니다.");
             }
+        } else if ((sitePath != null && !sitePath.isBlank()) || (boardId != null && !boardId.isBlank())) {
+            throw new IllegalArgumentException("sitePath와 boardId를 함께 지정해주세요.");
+        }
 
-            review.setPublishStatus("PENDING");
-            review.setPublishError(null);
-            reviewRepository.saveAndFlush(review);
+        review.setPublishStatus("PENDING");
+        review.setPublishError(null);
+        Review saved = reviewRepository.saveAndFlush(review);
+
+        PublishJob job = publishJobRepository.save(PublishJob.builder()
+                .reviewId(reviewId)
+                .sitePath(sitePath != null && !sitePath.isBlank() ? sitePath.trim() : null)
+                .boardId(boardId != null && !boardId.isBlank() ? boardId.trim() : null)
+                .requestedBy(adminUserId)
+                .batchId(batchId)
+                .nextAttemptAt(LocalDateTime.now())
+                .build());
+        if (dispatchNow) {
+            eventPublisher.publishEvent(new PublishJobEnqueuedEvent(job.getId()));
+        }
+        log.info("creation.kr 게시 대기열 등록: 리뷰 ID {}, 작업 ID {}", reviewId, job.getId());
 
-            return new PublishBoardSelection(sitePath, boardId);
-        });
+        return toResponse(saved);
     }
 
+    /**
+     * 워커의 게시 전 확인. 방금 등록한 PENDING이 복제본에 아직 없으면 작업이 건너뛴 채 DONE이 되므로 기본 DB에서 읽음
+     */
     private Review loadReviewForPublish(Long reviewId) {
-        TransactionTemplate template = newReadOnlyTemplate();
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
         return template.execute(status -> {
             Review review = reviewRepository.findById(reviewId)
                     .orElseThrow(() -> new IllegalArgumentException("리뷰를 찾을 수 없습니다: " + reviewId));
@@ -397,30 +613,6 @@ public class ReviewService {
         return template;
     }
 
-    private TransactionTemplate newReadOnlyTemplate() {
-        TransactionTemplate template = new TransactionTemplate(transactionManager);
-        template.setReadOnly(true);
-        return template;
-    }
-
-    private static final class PublishBoardSelection {
-        private final String sitePath;
-        private final String boardId;
-
-        private PublishBoardSelection(String sitePath, String boardId) {
-            this.sitePath = sitePath;
-            this.boardId = boardId;
-        }
-
-        private String sitePath() {
-            return sitePath;
-        }
-
-        private String boardId() {
-            return boardId;
-        }
-    }
-
     @Transactional
     public ReviewResponse updateReview(Long reviewId, UpdateReviewRequest request, Long reviewerId) {
         Review review = reviewRepository.findById(reviewId)
@@ -487,7 +679,8 @@ public class ReviewService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
+    // 승인·반려·게시 요청 직후 상세 조회에 쓰이므로 복제 지연 없이 기본 DB에서 읽음
+    @Transactional
     public Optional<ReviewResponse> findById(Long id) {
         return reviewRepository.findById(id)
                 .map(this::toResponse);
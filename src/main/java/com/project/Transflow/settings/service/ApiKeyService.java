@@ -3,6 +3,7 @@ package com.project.Transflow.settings.service;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.Transflow.config.CacheConfig;
 import com.project.Transflow.settings.dto.ApiKeyRequest;
 import com.project.Transflow.settings.dto.ApiKeyResponse;
 import com.project.Transflow.settings.dto.CreationKrCredentialRequest;
@@ -13,6 +14,8 @@ import com.project.Transflow.settings.repository.ApiKeyRepository;
 import com.project.Transflow.settings.util.EncryptionUtil;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -27,6 +30,7 @@ public class ApiKeyService {
 
     private static final String SERVICE_DEEPL = "DEEPL";
     private static final String SERVICE_CREATION_KR = "CREATION_KR";
+    private static final String SERVICE_CREATION_KR_SESSION = "CREATION_KR_SESSION";
 
     private final ApiKeyRepository apiKeyRepository;
     private final EncryptionUtil encryptionUtil;
@@ -36,6 +40,7 @@ public class ApiKeyService {
      * DeepL API 키 저장/업데이트
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.DECRYPTED_SECRETS, key = "'" + SERVICE_DEEPL + "'")
     public ApiKeyResponse saveDeepLApiKey(ApiKeyRequest request, Long userId) {
         try {
             String encryptedKey = encryptionUtil.encrypt(request.getApiKey());
@@ -81,9 +86,11 @@ public class ApiKeyService {
     }
 
     /**
-     * DeepL API 키 복호화하여 반환 (내부 사용용)
+     * DeepL API 키 복호화하여 반환 (내부 사용용). 번역 호출마다 쓰이므로 복호화 결과를 캐시함.
+     * 키 교체 직후 복제본의 이전 키가 캐시되지 않도록 기본 DB에서 읽음
      */
-    @Transactional(readOnly = true)
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.DECRYPTED_SECRETS, key = "'" + SERVICE_DEEPL + "'", unless = "#result == null")
     public String getDecryptedDeepLApiKey() {
         Optional<ApiKey> apiKey = apiKeyRepository.findByServiceName(SERVICE_DEEPL);
         if (apiKey.isEmpty()) {
@@ -104,6 +111,7 @@ public class ApiKeyService {
      * creation.kr 계정 저장/업데이트 (이메일 + 비밀번호 JSON 암호화)
      */
     @Transactional
+    @CacheEvict(cacheNames = CacheConfig.DECRYPTED_SECRETS, key = "'" + SERVICE_CREATION_KR + "'")
     public CreationKrCredentialResponse saveCreationKrCredentials(CreationKrCredentialRequest request, Long userId) {
         try {
             Map<String, String> payload = new HashMap<>();
@@ -130,6 +138,8 @@ public class ApiKeyService {
             }
 
             apiKey = apiKeyRepository.save(apiKey);
+            // 계정이 바뀌면 이전 계정의 로그인 세션은 더 이상 쓰지 않음
+            apiKeyRepository.findByServiceName(SERVICE_CREATION_KR_SESSION).ifPresent(apiKeyRepository::delete);
             return toCreationKrResponse(apiKey, request.getEmail().trim());
         } catch (JsonProcessingException e) {
             log.error("creation.kr 계정 JSON 변환 실패", e);
@@ -156,9 +166,11 @@ public class ApiKeyService {
     }
 
     /**
-     * creation.kr 계정 복호화 (내부 사용 — Playwright 로그인 등)
+     * creation.kr 계정 복호화 (내부 사용 — Playwright 로그인 등). 게시마다 쓰이므로 결과를 캐시함.
+     * 계정 교체 직후 복제본의 이전 계정이 캐시되지 않도록 기본 DB에서 읽음
      */
-    @Transactional(readOnly = true)
+    @Transactional
+    @Cacheable(cacheNames = CacheConfig.DECRYPTED_SECRETS, key = "'" + SERVICE_CREATION_KR + "'", unless = "#result == null")
     public CreationKrCredentials getDecryptedCreationKrCredentials() {
         Optional<ApiKey> apiKey = apiKeyRepository.findByServiceName(SERVICE_CREATION_KR);
         if (apiKey.isEmpty()) {
@@ -182,6 +194,51 @@ public class ApiKeyService {
         }
     }
 
+    /**
+     * creation.kr 로그인 세션(Playwright storage state) 암호화 저장 (내부 사용)
+     */
+    @Transactional
+    public void saveCreationKrSessionState(String sessionJson) {
+        try {
+            String encrypted = encryptionUtil.encrypt(sessionJson);
+            ApiKey apiKey = apiKeyRepository.findByServiceName(SERVICE_CREATION_KR_SESSION)
+                    .orElseGet(() -> ApiKey.builder()
+                            .serviceName(SERVICE_CREATION_KR_SESSION)
+                            .build());
+            apiKey.setEncryptedApiKey(encrypted);
+            apiKeyRepository.save(apiKey);
+        } catch (Exception e) {
+            log.error("creation.kr 로그인 세션 저장 실패", e);
+            throw new RuntimeException("creation.kr 로그인 세션 저장에 실패했습니다.", e);
+        }
+    }
+
+    /**
+     * creation.kr 로그인 세션 복호화 (없으면 null).
+     * 직전 게시가 저장한 세션을 다음 게시가 바로 읽으므로 복제 지연 없이 기본 DB에서 읽음
+     */
+    @Transactional
+    public String getDecryptedCreationKrSessionState() {
+        Optional<ApiKey> apiKey = apiKeyRepository.findByServiceName(SERVICE_CREATION_KR_SESSION);
+        if (apiKey.isEmpty()) {
+            return null;
+        }
+        try {
+            return encryptionUtil.decrypt(apiKey.get().getEncryptedApiKey());
+        } catch (Exception e) {
+            log.warn("creation.kr 로그인 세션 복호화 실패 — 무시하고 재로그인합니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
+    /**
+     * creation.kr 로그인 세션 삭제 (만료·로그인 리다이렉트 감지 시)
+     */
+    @Transactional
+    public void deleteCreationKrSessionState() {
+        apiKeyRepository.findByServiceName(SERVICE_CREATION_KR_SESSION).ifPresent(apiKeyRepository::delete);
+    }
+
     private CreationKrCredentialResponse toCreationKrResponse(ApiKey apiKey, String plainEmail) {
         String maskedEmail = plainEmail != null ? maskEmail(plainEmail) : null;
         boolean hasCredentials = apiKey.getEncryptedApiKey() != null && !apiKey.getEncryptedApiKey().isEmpty();
@@ -3,10 +3,12 @@ package com.project.Transflow.settings.util;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Component;
 
+import javax.annotation.PostConstruct;
 import javax.crypto.Cipher;
 import javax.crypto.SecretKey;
 import javax.crypto.spec.SecretKeySpec;
 import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
 import java.util.Base64;
 
 @Component
@@ -18,14 +20,24 @@ public class EncryptionUtil {
     @Value("${encryption.secret.key}")
     private String encryptionSecretKey;
 
+    private SecretKey secretKey;
+
+    /**
+     * Cipher는 스레드 안전하지 않으므로 스레드별로 한 번 초기화해 재사용 (doFinal 후 초기화 상태로 리셋됨)
+     */
+    private final ThreadLocal<Cipher> encryptCipher = new ThreadLocal<>();
+    private final ThreadLocal<Cipher> decryptCipher = new ThreadLocal<>();
+
+    @PostConstruct
+    public void init() {
+        this.secretKey = generateKey();
+    }
+
     /**
      * 문자열을 AES로 암호화
      */
     public String encrypt(String plainText) throws Exception {
-        SecretKey secretKey = generateKey();
-        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-        cipher.init(Cipher.ENCRYPT_MODE, secretKey);
-        byte[] encryptedBytes = cipher.doFinal(plainText.getBytes(StandardCharsets.UTF_8));
+        byte[] encryptedBytes = doFinal(encryptCipher, Cipher.ENCRYPT_MODE, plainText.getBytes(StandardCharsets.UTF_8));
         return Base64.getEncoder().encodeToString(encryptedBytes);
     }
 
@@ -33,14 +45,27 @@ public class EncryptionUtil {
      * AES로 암호화된 문자열을 복호화
      */
     public String decrypt(String encryptedText) throws Exception {
-        SecretKey secretKey = generateKey();
-        Cipher cipher = Cipher.getInstance(TRANSFORMATION);
-        cipher.init(Cipher.DECRYPT_MODE, secretKey);
         byte[] decodedBytes = Base64.getDecoder().decode(encryptedText);
-        byte[] decryptedBytes = cipher.doFinal(decodedBytes);
+        byte[] decryptedBytes = doFinal(decryptCipher, Cipher.DECRYPT_MODE, decodedBytes);
         return new String(decryptedBytes, StandardCharsets.UTF_8);
     }
 
+    private byte[] doFinal(ThreadLocal<Cipher> holder, int mode, byte[] input) throws GeneralSecurityException {
+        Cipher cipher = holder.get();
+        if (cipher == null) {
+            cipher = Cipher.getInstance(TRANSFORMATION);
+            cipher.init(mode, secretKey);
+            holder.set(cipher);
+        }
+        try {
+            return cipher.doFinal(input);
+        } catch (GeneralSecurityException | RuntimeException e) {
+            // 실패 후 내부 상태를 신뢰할 수 없으므로 다음 호출에서 새로 만듦
+            holder.remove();
+            throw e;
+        }
+    }
+
     /**
      * SecretKey 생성 (encryptionSecretKey를 32바이트로 맞춤)
      */
@@ -54,4 +79,3 @@ public class EncryptionUtil {
         return new SecretKeySpec(fixedKeyBytes, ALGORITHM);
     }
 }
-
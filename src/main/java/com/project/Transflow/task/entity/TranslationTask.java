@@ -19,7 +19,8 @@ import java.time.LocalDateTime;
 public class TranslationTask {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "translation_task_seq")
+    @SequenceGenerator(name = "translation_task_seq", sequenceName = "translation_task_seq", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -1,5 +1,6 @@
 package com.project.Transflow.task.service;
 
+import com.project.Transflow.config.CacheConfig;
 import com.project.Transflow.document.entity.Document;
 import com.project.Transflow.document.repository.DocumentRepository;
 import com.project.Transflow.review.service.ReviewService;
@@ -11,6 +12,7 @@ import com.project.Transflow.user.entity.User;
 import com.project.Transflow.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -72,6 +74,7 @@ public class TranslationTaskService {
         return toResponse(saved);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public TranslationTaskResponse startTask(Long taskId, Long translatorId) {
         TranslationTask task = translationTaskRepository.findById(taskId)
@@ -99,6 +102,7 @@ public class TranslationTaskService {
         return toResponse(saved);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public TranslationTaskResponse submitTask(Long taskId, Long translatorId) {
         TranslationTask task = translationTaskRepository.findById(taskId)
@@ -128,6 +132,7 @@ public class TranslationTaskService {
         return toResponse(saved);
     }
 
+    @CacheEvict(cacheNames = CacheConfig.DASHBOARD_SUMMARY, allEntries = true)
     @Transactional
     public TranslationTaskResponse abandonTask(Long taskId, Long translatorId) {
         TranslationTask task = translationTaskRepository.findById(taskId)
@@ -204,7 +209,8 @@ public class TranslationTaskService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
+    // 배정·상태 변경 직후 상세 조회에 쓰이므로 복제 지연 없이 기본 DB에서 읽음
+    @Transactional
     public Optional<TranslationTaskResponse> findById(Long id) {
         return translationTaskRepository.findById(id)
                 .map(this::toResponse);
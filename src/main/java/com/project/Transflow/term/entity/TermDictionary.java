@@ -1,7 +1,10 @@
 package com.project.Transflow.term.entity;
 
+import com.project.Transflow.config.CacheConfig;
 import com.project.Transflow.user.entity.User;
 import lombok.*;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
@@ -10,6 +13,8 @@ import java.time.LocalDateTime;
 
 @Entity
 @Table(name = "term_dictionary")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheConfig.ENTITY_TERM_DICTIONARY)
 @Getter
 @Setter
 @NoArgsConstructor
@@ -18,7 +23,8 @@ import java.time.LocalDateTime;
 public class TermDictionary {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "term_dictionary_seq")
+    @SequenceGenerator(name = "term_dictionary_seq", sequenceName = "term_dictionary_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false, length = 255)
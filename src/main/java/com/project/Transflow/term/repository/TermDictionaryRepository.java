@@ -1,17 +1,28 @@
 package com.project.Transflow.term.repository;
 
+import com.project.Transflow.config.CacheConfig;
 import com.project.Transflow.term.entity.TermDictionary;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import javax.persistence.QueryHint;
 import java.util.List;
 import java.util.Optional;
 
 @Repository
 public interface TermDictionaryRepository extends JpaRepository<TermDictionary, Long> {
+    /** 번역·하이라이트마다 호출되어 쿼리 캐시 사용 (용어 추가·수정·삭제 시 Hibernate가 무효화) */
+    @QueryHints({
+            @QueryHint(name = "org.hibernate.cacheable", value = "true"),
+            @QueryHint(name = "org.hibernate.cacheRegion", value = CacheConfig.QUERY_TERMS_BY_LANG_PAIR)
+    })
     List<TermDictionary> findBySourceLangAndTargetLang(String sourceLang, String targetLang);
+
     Page<TermDictionary> findBySourceLangAndTargetLang(String sourceLang, String targetLang, Pageable pageable);
     List<TermDictionary> findBySourceLang(String sourceLang);
     Page<TermDictionary> findBySourceLang(String sourceLang, Pageable pageable);
@@ -21,5 +32,9 @@ public interface TermDictionaryRepository extends JpaRepository<TermDictionary,
     Optional<TermDictionary> findBySourceTermAndSourceLangAndTargetLang(String sourceTerm, String sourceLang, String targetLang);
     List<TermDictionary> findByCreatedBy_Id(Long createdById);
     boolean existsBySourceTermAndSourceLangAndTargetLang(String sourceTerm, String sourceLang, String targetLang);
+
+    @Query("SELECT t.sourceTerm FROM TermDictionary t WHERE t.sourceLang = :sourceLang AND t.targetLang = :targetLang")
+    List<String> findSourceTermsBySourceLangAndTargetLang(@Param("sourceLang") String sourceLang,
+                                                          @Param("targetLang") String targetLang);
 }
 
@@ -1,6 +1,7 @@
 package com.project.Transflow.term.service;
 
 import com.fasterxml.jackson.annotation.JsonProperty;
+import com.project.Transflow.metrics.DeepLMetrics;
 import com.project.Transflow.settings.service.ApiKeyService;
 import lombok.Data;
 import lombok.extern.slf4j.Slf4j;
@@ -21,11 +22,14 @@ public class DeepLGlossaryService {
 
     private final WebClient webClient;
     private final ApiKeyService apiKeyService;
+    private final DeepLMetrics deepLMetrics;
 
     public DeepLGlossaryService(
             @Value("${deepl.api.url}") String apiUrl,
-            ApiKeyService apiKeyService) {
+            ApiKeyService apiKeyService,
+            DeepLMetrics deepLMetrics) {
         this.apiKeyService = apiKeyService;
+        this.deepLMetrics = deepLMetrics;
         
         // 번역 API URL에서 /v2/translate 제거하여 base URL만 사용
         // 번역 API: https://api-free.deepl.com/v2/translate
@@ -42,7 +46,7 @@ public class DeepLGlossaryService {
     }
 
     /**
-     * DeepL API 키 조회 (DB에서 복호화)
+     * DeepL API 키 조회 (ApiKeyService 캐시, 미스 시 DB에서 복호화)
      */
     private String getApiKey() {
         try {
@@ -83,7 +87,7 @@ public class DeepLGlossaryService {
                     new DictionaryRequest(deeplSourceLang, deeplTargetLang, entriesTsv, "tsv")
             ));
 
-            CreateGlossaryResponse response = webClient.post()
+            CreateGlossaryResponse response = deepLMetrics.record("glossary_create", entriesTsv.length(), () -> webClient.post()
                     .uri("/v3/glossaries")
                     .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + getApiKey())
                     .contentType(MediaType.APPLICATION_JSON)
@@ -91,7 +95,7 @@ public class DeepLGlossaryService {
                     .retrieve()
                     .bodyToMono(CreateGlossaryResponse.class)
                     .timeout(Duration.ofSeconds(30))
-                    .block();
+                    .block());
 
             if (response != null && response.getGlossaryId() != null) {
                 log.info("DeepL Glossary 생성 성공: glossaryId={}, name={}, entries={}", 
@@ -137,7 +141,7 @@ public class DeepLGlossaryService {
             request.setEntries(entriesTsv);
             request.setEntriesFormat("tsv");
 
-            DictionaryUpdateResponse response = webClient.put()
+            DictionaryUpdateResponse response = deepLMetrics.record("glossary_update", entriesTsv.length(), () -> webClient.put()
                     .uri("/v3/glossaries/{glossaryId}/dictionaries", glossaryId)
                     .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + getApiKey())
                     .contentType(MediaType.APPLICATION_JSON)
@@ -145,7 +149,7 @@ public class DeepLGlossaryService {
                     .retrieve()
                     .bodyToMono(DictionaryUpdateResponse.class)
                     .timeout(Duration.ofSeconds(30))
-                    .block();
+                    .block());
 
             if (response != null) {
                 log.info("DeepL Glossary Dictionary 업데이트 성공: glossaryId={}, entries={}", 
@@ -171,13 +175,13 @@ public class DeepLGlossaryService {
      */
     public void deleteGlossary(String glossaryId) {
         try {
-            webClient.delete()
+            deepLMetrics.record("glossary_delete", 0, () -> webClient.delete()
                     .uri("/v3/glossaries/{glossaryId}", glossaryId)
                     .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + getApiKey())
                     .retrieve()
                     .toBodilessEntity()
                     .timeout(Duration.ofSeconds(30))
-                    .block();
+                    .block());
 
             log.info("DeepL Glossary 삭제 성공: glossaryId={}", glossaryId);
 
@@ -199,13 +203,13 @@ public class DeepLGlossaryService {
      */
     public CreateGlossaryResponse getGlossary(String glossaryId) {
         try {
-            CreateGlossaryResponse response = webClient.get()
+            CreateGlossaryResponse response = deepLMetrics.record("glossary_get", 0, () -> webClient.get()
                     .uri("/v3/glossaries/{glossaryId}", glossaryId)
                     .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + getApiKey())
                     .retrieve()
                     .bodyToMono(CreateGlossaryResponse.class)
                     .timeout(Duration.ofSeconds(30))
-                    .block();
+                    .block());
 
             return response;
 
@@ -19,8 +19,10 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.ArrayList;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -89,6 +91,12 @@ public class TermDictionaryService {
         List<String> errors = new ArrayList<>();
         int successCount = 0;
         int failedCount = 0;
+
+        // 줄마다 exists 쿼리를 보내지 않도록 기존 용어를 한 번에 조회
+        Set<String> existingTerms = termDictionaryRepository
+                .findSourceTermsBySourceLangAndTargetLang(sourceLang, targetLang).stream()
+                .collect(Collectors.toCollection(HashSet::new));
+        List<TermDictionary> newTerms = new ArrayList<>();
         
         // TSV 형식 파싱 (각 줄: 구분\t영어\t한국어\t기사제목\t출처\t기사링크\t메모)
         String[] lines = request.getTermsText().split("\n");
@@ -131,9 +139,8 @@ public class TermDictionaryService {
                     continue;
                 }
                 
-                // 중복 체크
-                if (termDictionaryRepository.existsBySourceTermAndSourceLangAndTargetLang(
-                        sourceTerm, sourceLang, targetLang)) {
+                // 중복 체크 (기존 용어 + 같은 요청 안의 앞선 줄)
+                if (!existingTerms.add(sourceTerm)) {
                     errors.add(String.format("줄 %d: 이미 존재하는 용어입니다 (%s)", i + 1, sourceTerm));
                     failedCount++;
                     continue;
@@ -153,7 +160,7 @@ public class TermDictionaryService {
                         .createdBy(createdBy)
                         .build();
                 
-                termDictionaryRepository.save(term);
+                newTerms.add(term);
                 successCount++;
                 log.debug("용어 추가: {} -> {} ({} -> {})", sourceTerm, targetTerm, sourceLang, targetLang);
                 
@@ -164,6 +171,9 @@ public class TermDictionaryService {
             }
         }
         
+        // 모아 둔 용어를 한 번에 저장 (JDBC 배치 insert)
+        termDictionaryRepository.saveAll(newTerms);
+
         log.info("대량 용어 추가 완료: 성공={}, 실패={} ({} -> {})", 
                 successCount, failedCount, sourceLang, targetLang);
         
@@ -270,7 +280,8 @@ public class TermDictionaryService {
                 .collect(Collectors.toList());
     }
 
-    @Transactional(readOnly = true)
+    // 생성·수정 직후 상세 조회에 쓰이므로 복제 지연 없이 기본 DB에서 읽음
+    @Transactional
     public Optional<TermDictionaryResponse> findById(Long id) {
         return termDictionaryRepository.findById(id)
                 .map(this::toResponse);
@@ -490,12 +501,13 @@ public class TermDictionaryService {
                         glossaryId, entries.size());
             }
             
-            // 모든 용어에 glossaryId 업데이트
+            // glossaryId가 바뀐 용어만 갱신 (JDBC 배치 update)
             final String finalGlossaryId = glossaryId;
-            terms.forEach(term -> {
-                term.setDeeplGlossaryId(finalGlossaryId);
-                termDictionaryRepository.save(term);
-            });
+            List<TermDictionary> changed = terms.stream()
+                    .filter(term -> !finalGlossaryId.equals(term.getDeeplGlossaryId()))
+                    .collect(Collectors.toList());
+            changed.forEach(term -> term.setDeeplGlossaryId(finalGlossaryId));
+            termDictionaryRepository.saveAll(changed);
             
         } catch (Exception e) {
             log.error("DeepL Glossary 동기화 실패: {}", e.getMessage(), e);
@@ -1,10 +1,12 @@
 package com.project.Transflow.translate.controller;
 
 
+import com.project.Transflow.admin.util.AdminAuthUtil;
 import com.project.Transflow.translate.dto.HtmlTranslationRequest;
 import com.project.Transflow.translate.dto.TranslationRequest;
 import com.project.Transflow.translate.dto.TranslationResponse;
 import com.project.Transflow.translate.service.TransflowService;
+import io.swagger.v3.oas.annotations.Parameter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.ResponseEntity;
@@ -17,11 +19,20 @@ import org.springframework.web.bind.annotation.*;
 public class TranslationController {
 
     private final TransflowService transflowService;
+    private final AdminAuthUtil adminAuthUtil;
 
     @PostMapping("/webpage")
-    public ResponseEntity<TranslationResponse> translateWebPage(@RequestBody TranslationRequest request) {
+    public ResponseEntity<TranslationResponse> translateWebPage(
+            @Parameter(hidden = true) @RequestHeader(value = "Authorization", required = false) String authHeader,
+            @RequestBody TranslationRequest request) {
         log.info("번역 요청 받음 - URL: {}, Target: {}", request.getUrl(), request.getTargetLang());
 
+        // 재크롤링(기존 문서의 AI 번역 재사용)은 문서를 관리하는 관리자 이상만. 그 외에는 전체 번역
+        if (request.getDocumentId() != null && !adminAuthUtil.isAdminOrAbove(authHeader)) {
+            log.warn("재크롤링 권한 없음 - documentId 무시하고 전체 번역: {}", request.getDocumentId());
+            request.setDocumentId(null);
+        }
+
         TranslationResponse response = transflowService.translateWebPage(request);
 
         if (response.isSuccess()) {
@@ -13,4 +13,5 @@ public class TranslationRequest {
     private String targetLang; // EN, KO, JA 등
     private String sourceLang; // 선택사항 (auto-detect 가능)
     private String glossaryId; // DeepL Glossary ID (선택사항)
+    private Long documentId; // 재크롤링 시 기존 문서 ID (선택사항, 관리자 이상·같은 URL의 문서만). 이 문서의 원문과 같은 문단은 기존 AI 번역을 재사용
 }
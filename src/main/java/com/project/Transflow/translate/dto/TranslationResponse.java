@@ -27,4 +27,8 @@ public class TranslationResponse {
     private String errorMessage;
     private Integer httpStatus;
     private boolean errorPage;
+
+    // 재크롤링(documentId 지정) 시 문맥 그룹 처리 내역. 일반 번역이면 null
+    private Integer reusedSegments;
+    private Integer translatedSegments;
 }
@@ -4,6 +4,7 @@ import com.microsoft.playwright.Browser;
 import com.microsoft.playwright.BrowserType;
 import com.microsoft.playwright.Page;
 import com.microsoft.playwright.Playwright;
+import com.project.Transflow.metrics.PlaywrightMetrics;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
 import org.jsoup.nodes.Document;
@@ -14,6 +15,7 @@ import org.springframework.stereotype.Service;
 
 import java.util.HashMap;
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -24,6 +26,9 @@ public class CrawlerService {
     @Autowired
     private PdfExtractionService pdfExtractionService;
 
+    @Autowired
+    private PlaywrightMetrics playwrightMetrics;
+
     // Playwright 인스턴스를 재사용하기 위한 필드 (스레드 안전하게 관리 필요)
     private Playwright playwright;
 
@@ -76,6 +81,7 @@ public class CrawlerService {
     /**
      * 웹페이지의 HTML과 CSS를 함께 가져오는 메서드 (Playwright 사용)
      * PDF URL인 경우 PdfExtractionService로 자동 분기합니다.
+     * 확장자로 알 수 없는 경우 별도 HEAD 요청 없이 본 요청 응답의 Content-Type으로 판별합니다.
      *
      * @param url 크롤링할 URL
      * @return Map containing "html" and "css" keys
@@ -87,6 +93,14 @@ public class CrawlerService {
             return pdfExtractionService.extractToHtml(url);
         }
 
+        // 이전에 PDF를 응답한 호스트면 브라우저 없이 먼저 받아서 판별
+        if (pdfExtractionService != null && pdfExtractionService.isKnownPdfHost(url)) {
+            Optional<Map<String, String>> pdf = pdfExtractionService.extractIfPdf(url);
+            if (pdf.isPresent()) {
+                return pdf.get();
+            }
+        }
+
         if (playwright == null) {
             log.error("Playwright가 초기화되지 않았습니다. Playwright 설치가 필요합니다.");
             throw new RuntimeException("Playwright가 설치되지 않았습니다. 백엔드 설정을 확인해주세요.");
@@ -94,12 +108,13 @@ public class CrawlerService {
 
         Browser browser = null;
         Page page = null;
+        boolean extractingPdf = false;
         try {
             log.info("Playwright로 크롤링 시작: {}", url);
 
             // 브라우저 실행 (headless 모드, 실제 브라우저처럼 보이게 설정)
             BrowserType browserType = playwright.chromium();
-            browser = browserType.launch(new BrowserType.LaunchOptions()
+            browser = playwrightMetrics.launch(PlaywrightMetrics.CLIENT_CRAWLER, () -> browserType.launch(new BrowserType.LaunchOptions()
                     .setHeadless(true)
                     .setTimeout(30000) // 브라우저 시작 타임아웃 30초
                     .setArgs(java.util.Arrays.asList(
@@ -107,7 +122,7 @@ public class CrawlerService {
                             "--disable-dev-shm-usage",
                             "--no-sandbox",
                             "--disable-setuid-sandbox"
-                    )));
+                    ))));
 
             // 브라우저 컨텍스트 생성 (쿠키, 세션 관리)
             com.microsoft.playwright.BrowserContext context = browser.newContext(
@@ -143,16 +158,50 @@ public class CrawlerService {
             // 페이지 로드
             log.info("페이지 로드 중...");
             int httpStatus = 0;
+            String contentType = null;
+            com.microsoft.playwright.Response response = null;
+            boolean downloadStarted = false;
             try {
-                com.microsoft.playwright.Response navigateResponse = page.navigate(url);
+                Page loadingPage = page;
+                com.microsoft.playwright.Response navigateResponse =
+                        playwrightMetrics.pageLoad(PlaywrightMetrics.CLIENT_CRAWLER, () -> loadingPage.navigate(url));
                 if (navigateResponse != null) {
+                    response = navigateResponse;
                     httpStatus = navigateResponse.status();
+                    contentType = navigateResponse.headerValue("content-type");
                 }
             } catch (Exception e) {
+                // headless 브라우저는 PDF·첨부 응답을 다운로드로 처리해 navigate가 실패함
+                downloadStarted = e.getMessage() != null && e.getMessage().contains("Download is starting");
                 log.warn("페이지 로드 중 오류 발생: {}. 현재 페이지 내용을 가져옵니다.", e.getMessage());
                 // 타임아웃이 발생해도 현재 페이지 내용은 가져올 수 있음
             }
 
+            if (pdfExtractionService != null) {
+                if (pdfExtractionService.isPdfContentType(contentType)) {
+                    log.info("Content-Type으로 PDF 감지 — PdfExtractionService로 처리: {}", url);
+                    pdfExtractionService.rememberContentType(url, true);
+                    extractingPdf = true;
+                    // 작은 응답은 이미 받은 본문을 그대로 쓰고, 크거나 길이를 모르면 힙에 올리지 않고 임시 파일로 다시 받음.
+                    // 추출 실패는 빈 페이지가 아니라 오류로 반환
+                    String contentLength = response != null ? response.headerValue("content-length") : null;
+                    byte[] body = pdfExtractionService.canReuseResponseBody(contentLength) ? readBody(response) : null;
+                    return body != null
+                            ? pdfExtractionService.extractToHtml(body, url)
+                            : pdfExtractionService.extractToHtml(url);
+                }
+                if (downloadStarted) {
+                    extractingPdf = true;
+                    Optional<Map<String, String>> pdf = pdfExtractionService.extractIfPdf(url);
+                    extractingPdf = false;
+                    if (pdf.isPresent()) {
+                        return pdf.get();
+                    }
+                } else if (contentType != null) {
+                    pdfExtractionService.rememberContentType(url, false);
+                }
+            }
+
             // Cloudflare 검증 대기 (최대 30초 추가 대기)
             log.info("Cloudflare 검증 대기 중...");
             String html = "";
@@ -223,6 +272,10 @@ public class CrawlerService {
             return result;
 
         } catch (Exception e) {
+            // PDF 추출 실패는 페이지 내용으로 대체하지 않고 그대로 알림
+            if (extractingPdf && e instanceof RuntimeException) {
+                throw (RuntimeException) e;
+            }
             // 타임아웃이 발생해도 현재 페이지 내용은 반환
             if (e.getMessage() != null && e.getMessage().contains("timeout")) {
                 log.warn("Playwright 타임아웃 발생: {}. 현재 페이지 내용을 반환합니다.", url);
@@ -255,11 +308,28 @@ public class CrawlerService {
                     browser.close();
                 } catch (Exception e) {
                     log.warn("브라우저 종료 실패: {}", e.getMessage());
+                } finally {
+                    playwrightMetrics.closed(PlaywrightMetrics.CLIENT_CRAWLER);
                 }
             }
         }
     }
 
+    /**
+     * navigate 응답 본문. 브라우저가 본문을 보관하지 않았으면 null
+     */
+    private byte[] readBody(com.microsoft.playwright.Response response) {
+        if (response == null) {
+            return null;
+        }
+        try {
+            return response.body();
+        } catch (Exception e) {
+            log.warn("응답 본문을 읽을 수 없어 다시 받습니다: {}", e.getMessage());
+            return null;
+        }
+    }
+
     /**
      * CSS를 추출하는 헬퍼 메서드
      */
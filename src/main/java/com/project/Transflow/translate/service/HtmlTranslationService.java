@@ -1,5 +1,6 @@
 package com.project.Transflow.translate.service;
 
+import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.jsoup.Jsoup;
@@ -10,7 +11,11 @@ import org.jsoup.nodes.TextNode;
 import org.springframework.stereotype.Service;
 
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedList;
 import java.util.List;
+import java.util.Map;
 import java.util.regex.Pattern;
 
 /**
@@ -42,66 +47,41 @@ public class HtmlTranslationService {
     }
 
     public String translateHtml(String html, String targetLang, String sourceLang, String glossaryId) {
+        return translateHtml(html, targetLang, sourceLang, glossaryId, Collections.emptyMap()).getHtml();
+    }
+
+    /**
+     * 재크롤링 번역: 이전에 저장한 원문·번역 HTML 쌍에서 문맥 그룹(문단 등) 단위 번역을 모아 두고,
+     * 새 원문에서 텍스트가 같은 그룹은 그 번역을 재사용합니다. 새로 생기거나 바뀐 그룹만 DeepL로 보냅니다.
+     * 이전 쌍의 구조가 맞지 않으면(다른 영역을 저장한 경우 등) 재사용 없이 전체 번역과 같게 동작합니다.
+     *
+     * @param previousSourceHtml     이전 원문 HTML (문서의 ORIGINAL 버전)
+     * @param previousTranslatedHtml 이전 원문을 이 서비스로 번역한 HTML (문서의 AI_DRAFT 버전)
+     */
+    public HtmlTranslationResult translateHtmlIncremental(String html, String previousSourceHtml,
+                                                          String previousTranslatedHtml, String targetLang,
+                                                          String sourceLang, String glossaryId) {
+        Map<String, List<String>> previousTranslations =
+                collectPreviousTranslations(previousSourceHtml, previousTranslatedHtml);
+        return translateHtml(html, targetLang, sourceLang, glossaryId, previousTranslations);
+    }
+
+    private HtmlTranslationResult translateHtml(String html, String targetLang, String sourceLang, String glossaryId,
+                                                Map<String, List<String>> previousTranslations) {
         try {
             log.info("HTML 번역 시작 - Target: {}, Source: {}, HTML 길이: {}자", targetLang, sourceLang, html.length());
 
             Document doc = Jsoup.parse(html);
-            
-            // JavaScript 완전 제거 (번역 전에 제거하여 동적 콘텐츠 변경 방지)
-            // 1. 모든 script 태그 제거 (인라인, 외부 모두) - 여러 번 제거하여 확실히
-            doc.select("script").remove();
-            doc.select("noscript").remove();
-            // 혹시 모를 경우를 위해 다시 한 번
-            doc.select("script").remove();
-            
-            // 2. 외부 스크립트 파일 링크 제거
-            doc.select("link[rel='preload'][as='script']").remove();
-            doc.select("link[rel='modulepreload']").remove();
-            // type이 module인 스크립트도 제거
-            doc.select("script[type='module']").remove();
-            doc.select("script[type='text/javascript']").remove();
-            
-            // 3. 이벤트 핸들러 속성 제거 (onclick, onload 등)
-            doc.select("*").forEach(element -> {
-                java.util.List<org.jsoup.nodes.Attribute> attrsToRemove = new java.util.ArrayList<>();
-                element.attributes().forEach(attr -> {
-                    String key = attr.getKey().toLowerCase();
-                    // 이벤트 핸들러 제거
-                    if (key.startsWith("on")) {
-                        attrsToRemove.add(attr);
-                    }
-                });
-                attrsToRemove.forEach(attr -> element.removeAttr(attr.getKey()));
-            });
-            
-            // 4. React나 다른 프레임워크가 실행되지 않도록 제거
-            // React는 data-reactroot 등을 사용하므로 제거
-            doc.select("[data-reactroot]").removeAttr("data-reactroot");
-            doc.select("[data-react-helmet]").removeAttr("data-react-helmet");
-            // React 컴포넌트 마운트 지점 제거
-            doc.select("#root, #app, [id^='react'], [class^='react']").forEach(element -> {
-                // React 관련 속성 제거
-                element.removeAttr("data-reactroot");
-                element.removeAttr("data-react-helmet");
-            });
-            
-            // 5. 외부 API 호출을 하는 요소 제거 또는 비활성화
-            // iframe 제거 (다른 페이지 로드 방지)
-            doc.select("iframe[src]").forEach(iframe -> {
-                iframe.removeAttr("src");
-                iframe.attr("data-disabled", "true");
-            });
-            
-            // 6. manifest.json 링크 제거 (로컬 파일 로드 방지)
-            doc.select("link[rel='manifest']").remove();
-            
+            sanitize(doc);
+
             // 번역할 텍스트 노드들을 수집
             List<TranslatableText> translatableTexts = collectTranslatableTexts(doc);
 
             log.info("번역 가능한 텍스트 노드 수: {}", translatableTexts.size());
 
             // 텍스트들을 배치로 번역 (DeepL API 효율성 고려)
-            translateTextNodes(translatableTexts, targetLang, sourceLang, glossaryId);
+            List<List<TranslatableText>> contextGroups = groupByContext(translatableTexts);
+            int reusedGroups = translateTextNodes(contextGroups, targetLang, sourceLang, glossaryId, previousTranslations);
 
             // 번역된 텍스트로 HTML 재구성 전에 한 번 더 스크립트 제거 (혹시 모를 경우 대비)
             doc.select("script").remove();
@@ -126,7 +106,7 @@ public class HtmlTranslationService {
             }
 
             log.info("HTML 번역 완료");
-            return translatedHtml;
+            return new HtmlTranslationResult(translatedHtml, reusedGroups, contextGroups.size() - reusedGroups);
 
         } catch (Exception e) {
             log.error("HTML 번역 실패", e);
@@ -135,9 +115,62 @@ public class HtmlTranslationService {
     }
 
     /**
-     * 번역 가능한 텍스트 노드들을 수집
+     * 번역 전 스크립트·이벤트 핸들러 등 제거. 이전 원문도 같은 방식으로 정리해야 번역본과 구조가 맞음
      */
-    private List<TranslatableText> collectTranslatableTexts(Document doc) {
+    private void sanitize(Document doc) {
+        // JavaScript 완전 제거 (번역 전에 제거하여 동적 콘텐츠 변경 방지)
+        // 1. 모든 script 태그 제거 (인라인, 외부 모두) - 여러 번 제거하여 확실히
+        doc.select("script").remove();
+        doc.select("noscript").remove();
+        // 혹시 모를 경우를 위해 다시 한 번
+        doc.select("script").remove();
+        
+        // 2. 외부 스크립트 파일 링크 제거
+        doc.select("link[rel='preload'][as='script']").remove();
+        doc.select("link[rel='modulepreload']").remove();
+        // type이 module인 스크립트도 제거
+        doc.select("script[type='module']").remove();
+        doc.select("script[type='text/javascript']").remove();
+        
+        // 3. 이벤트 핸들러 속성 제거 (onclick, onload 등)
+        doc.select("*").forEach(element -> {
+            java.util.List<org.jsoup.nodes.Attribute> attrsToRemove = new java.util.ArrayList<>();
+            element.attributes().forEach(attr -> {
+                String key = attr.getKey().toLowerCase();
+                // 이벤트 핸들러 제거
+                if (key.startsWith("on")) {
+                    attrsToRemove.add(attr);
+                }
+            });
+            attrsToRemove.forEach(attr -> element.removeAttr(attr.getKey()));
+        });
+        
+        // 4. React나 다른 프레임워크가 실행되지 않도록 제거
+        // React는 data-reactroot 등을 사용하므로 제거
+        doc.select("[data-reactroot]").removeAttr("data-reactroot");
+        doc.select("[data-react-helmet]").removeAttr("data-react-helmet");
+        // React 컴포넌트 마운트 지점 제거
+        doc.select("#root, #app, [id^='react'], [class^='react']").forEach(element -> {
+            // React 관련 속성 제거
+            element.removeAttr("data-reactroot");
+            element.removeAttr("data-react-helmet");
+        });
+        
+        // 5. 외부 API 호출을 하는 요소 제거 또는 비활성화
+        // iframe 제거 (다른 페이지 로드 방지)
+        doc.select("iframe[src]").forEach(iframe -> {
+            iframe.removeAttr("src");
+            iframe.attr("data-disabled", "true");
+        });
+        
+        // 6. manifest.json 링크 제거 (로컬 파일 로드 방지)
+        doc.select("link[rel='manifest']").remove();
+    }
+
+    /**
+     * 번역 가능한 텍스트 노드들을 수집 (벤치마크에서 직접 측정하므로 package-private)
+     */
+    List<TranslatableText> collectTranslatableTexts(Document doc) {
         List<TranslatableText> texts = new ArrayList<>();
 
         // 모든 텍스트 노드를 순회
@@ -210,21 +243,24 @@ public class HtmlTranslationService {
     /**
      * 텍스트 노드들을 번역
      * 문맥을 고려한 배치 번역으로 품질과 속도 모두 개선
+     *
+     * @param previousTranslations 그룹 원문 → 텍스트 노드별 이전 번역 (재크롤링 시). 일치하는 그룹은 DeepL 호출 없이 적용
+     * @return 이전 번역을 재사용한 문맥 그룹 수
      */
-    private void translateTextNodes(List<TranslatableText> texts, String targetLang, String sourceLang, String glossaryId) {
-        if (texts.isEmpty()) {
-            return;
+    private int translateTextNodes(List<List<TranslatableText>> contextGroups, String targetLang, String sourceLang,
+                                   String glossaryId, Map<String, List<String>> previousTranslations) {
+        if (contextGroups.isEmpty()) {
+            return 0;
         }
 
-        log.info("번역 시작 - 총 {}개 텍스트 노드", texts.size());
-        
-        // 문맥을 고려한 그룹화: 같은 부모 요소(문단, 섹션 등)의 텍스트를 함께 번역
-        List<List<TranslatableText>> contextGroups = groupByContext(texts);
-        log.info("문맥 그룹 수: {}개", contextGroups.size());
+        // 문맥 그룹: 같은 부모 요소(문단, 섹션 등)의 텍스트를 함께 번역
+        log.info("번역 시작 - 문맥 그룹 수: {}개", contextGroups.size());
         
         int totalBatches = 0;
         int currentBatchNumber = 0;
+        int reusedGroups = 0;
         int totalTextLengthSent = 0; // DeepL API로 전송된 총 텍스트 길이 (요금제 사용량 추적)
+        int totalTextLengthReused = 0;
         
         // 각 문맥 그룹을 처리
         for (List<TranslatableText> contextGroup : contextGroups) {
@@ -235,25 +271,24 @@ public class HtmlTranslationService {
             }
             
             // 같은 문맥 그룹의 모든 텍스트를 합치기
-            StringBuilder combinedText = new StringBuilder();
-            for (int i = 0; i < contextGroup.size(); i++) {
-                TranslatableText tt = contextGroup.get(i);
-                String text = tt.originalText;
-                
-                // 텍스트 사이에 공백 추가 (단, 이미 공백으로 시작/끝나면 제외)
-                if (i > 0 && !text.startsWith(" ") && !combinedText.toString().endsWith(" ")) {
-                    combinedText.append(" ");
-                }
-                combinedText.append(text);
-            }
-            
-            String fullText = combinedText.toString().trim();
+            String fullText = combineText(contextGroup);
             
             // 빈 텍스트 체크
             if (fullText.isEmpty()) {
                 log.debug("빈 텍스트 그룹 스킵");
                 continue;
             }
+
+            // 재크롤링: 이전 원문과 같은 그룹이면 저장된 번역을 노드별로 그대로 적용
+            List<String> previous = previousTranslations.get(fullText);
+            if (previous != null && previous.size() == contextGroup.size()) {
+                for (int i = 0; i < contextGroup.size(); i++) {
+                    contextGroup.get(i).textNode.text(previous.get(i));
+                }
+                reusedGroups++;
+                totalTextLengthReused += fullText.length();
+                continue;
+            }
             
             // DeepL API로 전송되는 텍스트 길이 로깅 (요금제 사용량 추적)
             int textLength = fullText.length();
@@ -296,10 +331,12 @@ public class HtmlTranslationService {
             }
         }
         
-        log.info("모든 텍스트 노드 번역 완료! (총 {}개 배치, DeepL API로 전송된 총 텍스트 길이: {}자)", 
-                totalBatches, totalTextLengthSent);
+        log.info("모든 텍스트 노드 번역 완료! (총 {}개 배치, DeepL API로 전송된 총 텍스트 길이: {}자, "
+                        + "이전 번역 재사용: {}개 그룹 / {}자)",
+                totalBatches, totalTextLengthSent, reusedGroups, totalTextLengthReused);
+        return reusedGroups;
     }
-    
+
     /**
      * 번역된 텍스트를 원래 텍스트 노드들에 분배
      * 원본 텍스트의 비율에 따라 번역된 텍스트를 분배하여 HTML 구조 유지
@@ -347,11 +384,112 @@ public class HtmlTranslationService {
         }
     }
     
+    /**
+     * 문맥 그룹의 텍스트를 공백으로 이어 붙임 (DeepL 전송 단위이자 재사용 시 비교 키)
+     */
+    private String combineText(List<TranslatableText> contextGroup) {
+        StringBuilder combinedText = new StringBuilder();
+        for (int i = 0; i < contextGroup.size(); i++) {
+            String text = contextGroup.get(i).originalText;
+
+            // 텍스트 사이에 공백 추가 (단, 이미 공백으로 시작/끝나면 제외)
+            if (i > 0 && !text.startsWith(" ") && combinedText.charAt(combinedText.length() - 1) != ' ') {
+                combinedText.append(" ");
+            }
+            combinedText.append(text);
+        }
+        return combinedText.toString().trim();
+    }
+
+    /**
+     * 이전 원문·번역 HTML 쌍에서 문맥 그룹별 번역을 모읍니다.
+     * 번역본은 원문의 텍스트 노드 내용만 바꾼 것이므로 같은 위치(요소 경로 + 부모 안의 몇 번째 텍스트)로 짝을 찾습니다.
+     * 저장 시 줄바꿈 정리로 공백 노드가 달라지므로 위치는 요소와 공백 아닌 텍스트 노드만 셉니다.
+     * 요소 수가 다르면 짝을 신뢰할 수 없어 빈 맵을, 번역이 원문과 같은(번역 실패) 그룹은 제외합니다.
+     */
+    private Map<String, List<String>> collectPreviousTranslations(String previousSourceHtml,
+                                                                  String previousTranslatedHtml) {
+        if (previousSourceHtml == null || previousTranslatedHtml == null) {
+            return Collections.emptyMap();
+        }
+        Document source = Jsoup.parse(previousSourceHtml);
+        Document translated = Jsoup.parse(previousTranslatedHtml);
+        sanitize(source);
+        sanitize(translated);
+        int sourceElements = source.getAllElements().size();
+        int translatedElements = translated.getAllElements().size();
+        if (sourceElements != translatedElements) {
+            log.info("이전 원문·번역 구조 불일치 (요소 {}개 / {}개) - 전체 번역", sourceElements, translatedElements);
+            return Collections.emptyMap();
+        }
+
+        Map<String, List<String>> previousTranslations = new HashMap<>();
+        for (List<TranslatableText> group : groupByContext(collectTranslatableTexts(source))) {
+            List<String> translations = new ArrayList<>(group.size());
+            boolean changed = false;
+            for (TranslatableText tt : group) {
+                TextNode counterpart = findCounterpart(translated, tt.textNode);
+                if (counterpart == null) {
+                    translations = null;
+                    break;
+                }
+                String translation = counterpart.text();
+                changed |= !translation.trim().equals(tt.originalText);
+                translations.add(translation);
+            }
+            if (translations != null && changed) {
+                previousTranslations.putIfAbsent(combineText(group), translations);
+            }
+        }
+        log.info("재사용 가능한 이전 번역: {}개 문맥 그룹", previousTranslations.size());
+        return previousTranslations;
+    }
+
+    /**
+     * 원문 텍스트 노드와 같은 위치의 번역본 텍스트 노드. 부모 태그나 텍스트 노드 수가 다르면 null
+     */
+    private static TextNode findCounterpart(Document translated, TextNode sourceNode) {
+        if (!(sourceNode.parent() instanceof Element)) {
+            return null;
+        }
+        Element sourceParent = (Element) sourceNode.parent();
+        LinkedList<Integer> path = new LinkedList<>();
+        for (Element current = sourceParent; current.parent() != null; current = current.parent()) {
+            path.addFirst(current.elementSiblingIndex());
+        }
+        Element translatedParent = translated;
+        for (int index : path) {
+            if (index >= translatedParent.childrenSize()) {
+                return null;
+            }
+            translatedParent = translatedParent.child(index);
+        }
+        if (!translatedParent.tagName().equals(sourceParent.tagName())) {
+            return null;
+        }
+        List<TextNode> sourceTexts = nonBlankTextNodes(sourceParent);
+        List<TextNode> translatedTexts = nonBlankTextNodes(translatedParent);
+        if (sourceTexts.size() != translatedTexts.size()) {
+            return null;
+        }
+        return translatedTexts.get(sourceTexts.indexOf(sourceNode));
+    }
+
+    private static List<TextNode> nonBlankTextNodes(Element element) {
+        List<TextNode> texts = new ArrayList<>();
+        for (TextNode textNode : element.textNodes()) {
+            if (!textNode.isBlank()) {
+                texts.add(textNode);
+            }
+        }
+        return texts;
+    }
+
     /**
      * 문맥을 고려하여 텍스트 노드를 그룹화
      * 같은 부모 요소(문단, 섹션 등)의 텍스트를 합쳐서 하나의 문장/문단으로 번역
      */
-    private List<List<TranslatableText>> groupByContext(List<TranslatableText> texts) {
+    List<List<TranslatableText>> groupByContext(List<TranslatableText> texts) {
         List<List<TranslatableText>> groups = new ArrayList<>();
         List<TranslatableText> currentGroup = new ArrayList<>();
         Element lastParent = null;
@@ -470,10 +608,26 @@ public class HtmlTranslationService {
     }
 
 
+    /**
+     * 번역 결과 HTML과 문맥 그룹 처리 내역 (재사용 / DeepL 번역)
+     */
+    @Getter
+    public static class HtmlTranslationResult {
+        private final String html;
+        private final int reusedSegments;
+        private final int translatedSegments;
+
+        HtmlTranslationResult(String html, int reusedSegments, int translatedSegments) {
+            this.html = html;
+            this.reusedSegments = reusedSegments;
+            this.translatedSegments = translatedSegments;
+        }
+    }
+
     /**
      * 번역 가능한 텍스트 노드를 나타내는 내부 클래스
      */
-    private static class TranslatableText {
+    static class TranslatableText {
         final TextNode textNode;
         final String originalText;
 
@@ -1,27 +1,87 @@
 package com.project.Transflow.translate.service;
 
+import com.project.Transflow.config.CacheConfig;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.apache.pdfbox.io.MemoryUsageSetting;
 import org.apache.pdfbox.pdmodel.PDDocument;
 import org.apache.pdfbox.text.PDFTextStripper;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
 import org.springframework.stereotype.Service;
 
+import javax.annotation.PostConstruct;
+import javax.annotation.PreDestroy;
+import java.io.BufferedInputStream;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
 import java.io.InputStream;
+import java.io.OutputStream;
 import java.net.HttpURLConnection;
+import java.net.URI;
 import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 
 /**
  * PDF URL에서 텍스트를 추출하여 HTML로 변환하는 서비스
  * Apache PDFBox를 사용하여 PDF 파일의 텍스트를 페이지별로 추출합니다.
+ * 다운로드는 임시 파일로 받고, 페이지 구간별로 제한된 스레드 풀에서 병렬 추출한 뒤 페이지 순서대로 이어 붙입니다.
  */
 @Slf4j
 @Service
+@RequiredArgsConstructor
 public class PdfExtractionService {
 
     private static final int CONNECTION_TIMEOUT = 30_000;
     private static final int READ_TIMEOUT = 60_000;
     private static final int MAX_PDF_SIZE_BYTES = 50 * 1024 * 1024; // 50MB
+    private static final byte[] PDF_MAGIC = {'%', 'P', 'D', 'F', '-'};
+
+    /** 문서당 힙에 올리는 최대 크기. 초과분은 PDFBox scratch 파일로 */
+    private static final long MAX_MAIN_MEMORY_BYTES = 16L * 1024 * 1024;
+
+    /** 브라우저가 받은 응답 본문을 힙으로 그대로 가져와 쓰는 최대 크기. 넘거나 길이를 모르면 임시 파일로 스트리밍 */
+    private static final long MAX_REUSED_BODY_BYTES = 4L * 1024 * 1024;
+
+    /** 병렬 추출 단위 (페이지 수). 이보다 짧은 PDF는 호출 스레드에서 바로 추출 */
+    private static final int PAGES_PER_RANGE = 8;
+
+    /** PDDocument는 스레드 안전하지 않으므로 구간마다 임시 파일에서 따로 연다 */
+    private ExecutorService extractionPool;
+
+    private final CacheManager cacheManager;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void init() {
+        int size = Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors()));
+        AtomicInteger seq = new AtomicInteger();
+        this.extractionPool = Executors.newFixedThreadPool(size, runnable -> {
+            Thread thread = new Thread(runnable, "pdf-extract-" + seq.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        extractionPool.shutdownNow();
+    }
 
     /**
      * PDF URL에서 텍스트를 추출하여 HTML 형식으로 반환합니다.
@@ -34,27 +94,98 @@ public class PdfExtractionService {
         log.info("PDF 텍스트 추출 시작: {}", pdfUrl);
 
         try {
-            byte[] pdfBytes = downloadPdf(pdfUrl);
-            String html = convertPdfToHtml(pdfBytes, pdfUrl);
+            HttpURLConnection conn = openConnection(pdfUrl);
+            try (InputStream in = conn.getInputStream()) {
+                return extractFromStream(in, pdfUrl);
+            }
+        } catch (Exception e) {
+            log.error("PDF 추출 실패: {}", pdfUrl, e);
+            throw new RuntimeException("PDF 텍스트 추출 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 이미 받은 응답 본문(예: 브라우저 navigate 응답)으로 추출합니다. 다시 다운로드하지 않습니다.
+     * 본문 전체가 힙에 올라오므로 canReuseResponseBody로 크기를 확인한 경우에만 사용합니다.
+     *
+     * @throws RuntimeException 추출 실패 ("PDF 텍스트 추출 실패: ...")
+     */
+    public Map<String, String> extractToHtml(byte[] pdfBytes, String sourceUrl) {
+        log.info("PDF 텍스트 추출 시작 (받은 응답 {} bytes): {}", pdfBytes.length, sourceUrl);
+        try {
+            return extractFromStream(new ByteArrayInputStream(pdfBytes), sourceUrl);
+        } catch (Exception e) {
+            log.error("PDF 추출 실패: {}", sourceUrl, e);
+            throw new RuntimeException("PDF 텍스트 추출 실패: " + e.getMessage(), e);
+        }
+    }
+
+    /**
+     * 확장자로 알 수 없는 URL을 한 번만 GET 해서 Content-Type과 매직 바이트(%PDF-)로 판별합니다.
+     * PDF이면 그 응답으로 바로 추출하고, 아니면 본문을 읽지 않고 연결을 끊은 뒤 빈 값을 반환합니다.
+     * 판별 결과는 호스트 단위로 기억해 다음 요청의 분기 힌트로 사용합니다.
+     * 판별 단계의 실패는 웹페이지로 처리하도록 빈 값이지만, PDF로 판별된 뒤의 추출 실패는 예외로 알립니다.
+     *
+     * @throws RuntimeException PDF로 판별되었으나 추출에 실패한 경우 ("PDF 텍스트 추출 실패: ...")
+     */
+    public Optional<Map<String, String>> extractIfPdf(String url) {
+        HttpURLConnection conn = null;
+        boolean pdf = false;
+        try {
+            conn = openConnection(url);
+            try (BufferedInputStream in = new BufferedInputStream(conn.getInputStream())) {
+                in.mark(PDF_MAGIC.length);
+                byte[] head = in.readNBytes(PDF_MAGIC.length);
+                in.reset();
+
+                pdf = isPdfContentType(conn.getContentType()) || Arrays.equals(head, PDF_MAGIC);
+                rememberContentType(url, pdf);
+                if (!pdf) {
+                    conn.disconnect();
+                    return Optional.empty();
+                }
+                log.info("응답 내용으로 PDF 감지: {}", url);
+                return Optional.of(extractFromStream(in, url));
+            }
+        } catch (Exception e) {
+            if (conn != null) {
+                conn.disconnect();
+            }
+            if (pdf) {
+                log.error("PDF 추출 실패: {}", url, e);
+                throw new RuntimeException("PDF 텍스트 추출 실패: " + e.getMessage(), e);
+            }
+            log.warn("PDF 판별 실패, 웹페이지로 처리: {} ({})", url, e.getMessage());
+            return Optional.empty();
+        }
+    }
+
+    private Map<String, String> extractFromStream(InputStream in, String sourceUrl) throws Exception {
+        Path pdfFile = null;
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            pdfFile = spoolToTempFile(in);
+            String html = convertPdfToHtml(pdfFile, sourceUrl);
+            outcome = "success";
 
             Map<String, String> result = new HashMap<>();
             result.put("html", html);
             result.put("css", "");
             result.put("httpStatus", "200");
 
-            log.info("PDF 텍스트 추출 완료: {} bytes → HTML {} chars", pdfBytes.length, html.length());
+            log.info("PDF 텍스트 추출 완료: {} bytes → HTML {} chars", Files.size(pdfFile), html.length());
             return result;
-
-        } catch (Exception e) {
-            log.error("PDF 추출 실패: {}", pdfUrl, e);
-            throw new RuntimeException("PDF 텍스트 추출 실패: " + e.getMessage(), e);
+        } finally {
+            sample.stop(Timer.builder("pdf.extraction")
+                    .tag("outcome", outcome)
+                    .publishPercentileHistogram()
+                    .register(meterRegistry));
+            deleteQuietly(pdfFile);
         }
     }
 
-    /**
-     * URL에서 PDF 파일을 다운로드합니다.
-     */
-    private byte[] downloadPdf(String pdfUrl) throws Exception {
+    private HttpURLConnection openConnection(String pdfUrl) throws IOException {
         URL url = new URL(pdfUrl);
         HttpURLConnection conn = (HttpURLConnection) url.openConnection();
         conn.setConnectTimeout(CONNECTION_TIMEOUT);
@@ -65,14 +196,21 @@ public class PdfExtractionService {
 
         int status = conn.getResponseCode();
         if (status >= 400) {
+            conn.disconnect();
             throw new RuntimeException("PDF 다운로드 실패: HTTP " + status);
         }
+        return conn;
+    }
 
-        try (InputStream in = conn.getInputStream()) {
+    /**
+     * 응답 본문을 임시 파일로 저장합니다. (호출자가 삭제)
+     */
+    private Path spoolToTempFile(InputStream in) throws IOException {
+        Path pdfFile = Files.createTempFile("transflow-pdf-", ".pdf");
+        try (OutputStream out = Files.newOutputStream(pdfFile)) {
             byte[] buffer = new byte[8192];
-            java.io.ByteArrayOutputStream out = new java.io.ByteArrayOutputStream();
             int bytesRead;
-            int totalBytes = 0;
+            long totalBytes = 0;
             while ((bytesRead = in.read(buffer)) != -1) {
                 totalBytes += bytesRead;
                 if (totalBytes > MAX_PDF_SIZE_BYTES) {
@@ -80,73 +218,131 @@ public class PdfExtractionService {
                 }
                 out.write(buffer, 0, bytesRead);
             }
-            return out.toByteArray();
+            return pdfFile;
+        } catch (IOException | RuntimeException e) {
+            deleteQuietly(pdfFile);
+            throw e;
         }
     }
 
     /**
-     * PDF 바이트 배열을 HTML 문자열로 변환합니다.
+     * PDF 파일을 HTML 문자열로 변환합니다.
      * 각 페이지를 <div class="pdf-page"> 블록으로 감쌉니다.
      */
-    private String convertPdfToHtml(byte[] pdfBytes, String sourceUrl) throws Exception {
-        try (PDDocument doc = PDDocument.load(pdfBytes)) {
-            int totalPages = doc.getNumberOfPages();
+    private String convertPdfToHtml(Path pdfFile, String sourceUrl) throws Exception {
+        StringBuilder htmlBody = new StringBuilder();
+
+        int totalPages;
+        try (PDDocument doc = load(pdfFile)) {
+            totalPages = doc.getNumberOfPages();
             log.info("PDF 페이지 수: {}", totalPages);
 
-            PDFTextStripper stripper = new PDFTextStripper();
-            stripper.setSortByPosition(true);
+            if (totalPages <= PAGES_PER_RANGE) {
+                appendPages(doc, 1, totalPages, totalPages, htmlBody);
+            }
+        }
+        // 페이지 수만 확인한 문서는 닫은 뒤 병렬 추출 (구간별로 여는 문서와 동시에 메모리에 올리지 않음)
+        if (totalPages > PAGES_PER_RANGE) {
+            appendPagesInParallel(pdfFile, totalPages, htmlBody);
+        }
 
-            StringBuilder htmlBody = new StringBuilder();
+        if (htmlBody.length() == 0) {
+            htmlBody.append("<div class=\"pdf-page\"><p>텍스트를 추출할 수 없는 PDF입니다. (이미지 기반 PDF이거나 보안이 적용된 파일일 수 있습니다.)</p></div>");
+        }
 
-            for (int page = 1; page <= totalPages; page++) {
-                stripper.setStartPage(page);
-                stripper.setEndPage(page);
-                String pageText = stripper.getText(doc);
+        return "<!DOCTYPE html><html><head><meta charset=\"UTF-8\">"
+                + "<style>"
+                + "body{font-family:system-ui,sans-serif;padding:24px;margin:0;background:#fff;color:#111;line-height:1.7;}"
+                + ".pdf-page{max-width:800px;margin:0 auto 32px;padding:24px;border:1px solid #e5e7eb;border-radius:8px;}"
+                + "p{margin:0 0 8px;word-break:break-word;}"
+                + "</style>"
+                + "<title>PDF: " + escapeHtml(sourceUrl) + "</title>"
+                + "</head><body>\n"
+                + htmlBody
+                + "</body></html>";
+    }
 
-                if (pageText == null || pageText.trim().isEmpty()) {
-                    continue;
+    /**
+     * 페이지 구간별로 병렬 추출하고, 앞 구간부터 완료되는 대로 순서대로 이어 붙입니다.
+     */
+    private void appendPagesInParallel(Path pdfFile, int totalPages, StringBuilder htmlBody) throws Exception {
+        List<Future<String>> ranges = new ArrayList<>();
+        for (int from = 1; from <= totalPages; from += PAGES_PER_RANGE) {
+            int start = from;
+            int end = Math.min(from + PAGES_PER_RANGE - 1, totalPages);
+            ranges.add(extractionPool.submit(() -> {
+                StringBuilder fragment = new StringBuilder();
+                try (PDDocument doc = load(pdfFile)) {
+                    appendPages(doc, start, end, totalPages, fragment);
                 }
+                return fragment.toString();
+            }));
+        }
 
-                htmlBody.append("<div class=\"pdf-page\" data-page=\"")
-                        .append(page)
-                        .append("\">\n");
+        try {
+            for (Future<String> range : ranges) {
+                htmlBody.append(range.get());
+            }
+        } catch (ExecutionException e) {
+            throw e.getCause() instanceof Exception ? (Exception) e.getCause() : e;
+        } finally {
+            ranges.forEach(range -> range.cancel(true));
+        }
+    }
 
-                // 페이지 헤더 (2페이지 이상일 때만)
-                if (totalPages > 1) {
-                    htmlBody.append("<p class=\"pdf-page-number\" style=\"color:#999;font-size:12px;margin-bottom:8px;\">")
-                            .append("— ").append(page).append(" / ").append(totalPages).append(" —")
-                            .append("</p>\n");
-                }
+    private void appendPages(PDDocument doc, int startPage, int endPage, int totalPages, StringBuilder htmlBody)
+            throws IOException {
+        PDFTextStripper stripper = new PDFTextStripper();
+        stripper.setSortByPosition(true);
 
-                // 줄바꿈 기준으로 문단 분리
-                String[] lines = pageText.split("\\r?\\n");
-                for (String line : lines) {
-                    String trimmed = line.trim();
-                    if (trimmed.isEmpty()) {
-                        continue;
-                    }
-                    htmlBody.append("<p>")
-                            .append(escapeHtml(trimmed))
-                            .append("</p>\n");
-                }
+        for (int page = startPage; page <= endPage; page++) {
+            stripper.setStartPage(page);
+            stripper.setEndPage(page);
+            String pageText = stripper.getText(doc);
+
+            if (pageText == null || pageText.trim().isEmpty()) {
+                continue;
+            }
+
+            htmlBody.append("<div class=\"pdf-page\" data-page=\"")
+                    .append(page)
+                    .append("\">\n");
 
-                htmlBody.append("</div>\n");
+            // 페이지 헤더 (2페이지 이상일 때만)
+            if (totalPages > 1) {
+                htmlBody.append("<p class=\"pdf-page-number\" style=\"color:#999;font-size:12px;margin-bottom:8px;\">")
+                        .append("— ").append(page).append(" / ").append(totalPages).append(" —")
+                        .append("</p>\n");
             }
 
-            if (htmlBody.length() == 0) {
-                htmlBody.append("<div class=\"pdf-page\"><p>텍스트를 추출할 수 없는 PDF입니다. (이미지 기반 PDF이거나 보안이 적용된 파일일 수 있습니다.)</p></div>");
+            // 줄바꿈 기준으로 문단 분리
+            String[] lines = pageText.split("\\r?\\n");
+            for (String line : lines) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                htmlBody.append("<p>")
+                        .append(escapeHtml(trimmed))
+                        .append("</p>\n");
             }
 
-            return "<!DOCTYPE html><html><head><meta charset=\"UTF-8\">"
-                    + "<style>"
-                    + "body{font-family:system-ui,sans-serif;padding:24px;margin:0;background:#fff;color:#111;line-height:1.7;}"
-                    + ".pdf-page{max-width:800px;margin:0 auto 32px;padding:24px;border:1px solid #e5e7eb;border-radius:8px;}"
-                    + "p{margin:0 0 8px;word-break:break-word;}"
-                    + "</style>"
-                    + "<title>PDF: " + escapeHtml(sourceUrl) + "</title>"
-                    + "</head><body>\n"
-                    + htmlBody
-                    + "</body></html>";
+            htmlBody.append("</div>\n");
+        }
+    }
+
+    private PDDocument load(Path pdfFile) throws IOException {
+        return PDDocument.load(pdfFile.toFile(), MemoryUsageSetting.setupMixed(MAX_MAIN_MEMORY_BYTES));
+    }
+
+    private void deleteQuietly(Path file) {
+        if (file == null) {
+            return;
+        }
+        try {
+            Files.deleteIfExists(file);
+        } catch (IOException e) {
+            log.warn("PDF 임시 파일 삭제 실패: {}", file, e);
         }
     }
 
@@ -162,8 +358,7 @@ public class PdfExtractionService {
     }
 
     /**
-     * URL이 PDF 파일을 가리키는지 판별합니다.
-     * 확장자 기반 1차 검사 + Content-Type 헤더 2차 검사를 수행합니다.
+     * URL이 PDF 파일을 가리키는지 확장자로만 판별합니다. (네트워크 요청 없음)
      */
     public boolean isPdfUrl(String url) {
         if (url == null || url.isBlank()) return false;
@@ -171,30 +366,55 @@ public class PdfExtractionService {
         String lower = url.toLowerCase();
         // 쿼리스트링/해시 제거 후 확장자 확인
         String path = lower.split("[?#]")[0];
-        if (path.endsWith(".pdf")) {
-            return true;
+        return path.endsWith(".pdf");
+    }
+
+    /**
+     * 확장자 없는 URL에서 이전에 PDF를 응답한 호스트인지 (extractIfPdf를 먼저 시도할지 판단하는 힌트)
+     */
+    public boolean isKnownPdfHost(String url) {
+        String host = hostOf(url);
+        Cache cache = cacheManager.getCache(CacheConfig.PDF_HOST_HINTS);
+        return host != null && cache != null && Boolean.TRUE.equals(cache.get(host, Boolean.class));
+    }
+
+    /**
+     * 본 요청 응답에서 확인한 Content-Type 판별 결과를 호스트 단위로 기억합니다.
+     */
+    public void rememberContentType(String url, boolean pdf) {
+        String host = hostOf(url);
+        Cache cache = cacheManager.getCache(CacheConfig.PDF_HOST_HINTS);
+        if (host != null && cache != null) {
+            cache.put(host, pdf);
+        }
+    }
+
+    /**
+     * 브라우저 응답 본문을 byte[]로 가져와 재사용해도 되는지 Content-Length로 판단합니다.
+     * 길이를 모르거나 크면 false이며, 이때는 extractToHtml(url)로 임시 파일에 스트리밍해 다시 받습니다.
+     */
+    public boolean canReuseResponseBody(String contentLength) {
+        if (contentLength == null) {
+            return false;
+        }
+        try {
+            long length = Long.parseLong(contentLength.trim());
+            return length >= 0 && length <= MAX_REUSED_BODY_BYTES;
+        } catch (NumberFormatException e) {
+            return false;
         }
+    }
+
+    public boolean isPdfContentType(String contentType) {
+        return contentType != null && contentType.toLowerCase(Locale.ROOT).contains("application/pdf");
+    }
 
-        // 확장자로 판단하기 어려운 경우 HEAD 요청으로 Content-Type 확인
+    private String hostOf(String url) {
         try {
-            URL u = new URL(url);
-            HttpURLConnection conn = (HttpURLConnection) u.openConnection();
-            conn.setRequestMethod("HEAD");
-            conn.setConnectTimeout(5000);
-            conn.setReadTimeout(5000);
-            conn.setRequestProperty("User-Agent",
-                    "Mozilla/5.0 (Windows NT 10.0; Win64; x64) AppleWebKit/537.36");
-            conn.connect();
-            String contentType = conn.getContentType();
-            conn.disconnect();
-            if (contentType != null && contentType.toLowerCase().contains("application/pdf")) {
-                log.info("Content-Type으로 PDF 감지: {}", url);
-                return true;
-            }
+            String host = URI.create(url.trim()).getHost();
+            return host != null ? host.toLowerCase(Locale.ROOT) : null;
         } catch (Exception e) {
-            log.debug("PDF HEAD 요청 실패 (무시): {}", e.getMessage());
+            return null;
         }
-
-        return false;
     }
 }
@@ -1,6 +1,8 @@
 package com.project.Transflow.translate.service;
 
-
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.repository.DocumentRepository;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
 import com.project.Transflow.translate.dto.HtmlTranslationRequest;
 import com.project.Transflow.translate.dto.TranslationRequest;
 import com.project.Transflow.translate.dto.TranslationResponse;
@@ -12,6 +14,7 @@ import org.jsoup.nodes.Document;
 import org.springframework.stereotype.Service;
 
 import java.util.Map;
+import java.util.Optional;
 
 @Slf4j
 @Service
@@ -21,6 +24,8 @@ public class TransflowService {
     private final CrawlerService crawlerService;
     private final HtmlTranslationService htmlTranslationService;
     private final TermDictionaryService termDictionaryService;
+    private final DocumentRepository documentRepository;
+    private final DocumentVersionRepository documentVersionRepository;
 
     public TranslationResponse translateWebPage(TranslationRequest request) {
         try {
@@ -51,6 +56,8 @@ public class TransflowService {
             // 2. 번역이 필요한지 확인 (targetLang이 'NONE'이면 번역 건너뛰기)
             String translatedHtml = null; // 번역하지 않으면 null
             String translatedText = null;
+            Integer reusedSegments = null;
+            Integer translatedSegments = null;
             
             if (request.getTargetLang() != null && !request.getTargetLang().equalsIgnoreCase("NONE")) {
                 // 용어집 자동 조회 (요청에 glossaryId가 없으면 자동으로 조회)
@@ -69,14 +76,31 @@ public class TransflowService {
                     }
                 }
                 
-                // HTML 구조 유지하며 번역
-                translatedHtml = htmlTranslationService.translateHtml(
-                        originalHtml,
-                        request.getTargetLang(),
-                        request.getSourceLang(),
-                        glossaryId
-                );
-                log.info("HTML 번역 완료");
+                // HTML 구조 유지하며 번역 (재크롤링이면 기존 문서의 원문·AI 번역에서 바뀌지 않은 문단은 재사용)
+                Optional<String[]> previous = findPreviousTranslation(request);
+                if (previous.isPresent()) {
+                    HtmlTranslationService.HtmlTranslationResult result = htmlTranslationService.translateHtmlIncremental(
+                            originalHtml,
+                            previous.get()[0],
+                            previous.get()[1],
+                            request.getTargetLang(),
+                            request.getSourceLang(),
+                            glossaryId
+                    );
+                    translatedHtml = result.getHtml();
+                    reusedSegments = result.getReusedSegments();
+                    translatedSegments = result.getTranslatedSegments();
+                    log.info("재크롤링 HTML 번역 완료 - documentId: {}, 재사용 {}개 / 번역 {}개 문맥 그룹",
+                            request.getDocumentId(), reusedSegments, translatedSegments);
+                } else {
+                    translatedHtml = htmlTranslationService.translateHtml(
+                            originalHtml,
+                            request.getTargetLang(),
+                            request.getSourceLang(),
+                            glossaryId
+                    );
+                    log.info("HTML 번역 완료");
+                }
                 
                 // 번역된 텍스트 추출
                 Document translatedDoc = Jsoup.parse(translatedHtml);
@@ -106,6 +130,8 @@ public class TransflowService {
                     .success(true)
                     .errorPage(false)
                     .httpStatus(httpStatus == 0 ? null : httpStatus)
+                    .reusedSegments(reusedSegments)
+                    .translatedSegments(translatedSegments)
                     .build();
 
         } catch (Exception e) {
@@ -119,6 +145,48 @@ public class TransflowService {
         }
     }
 
+    /**
+     * 재크롤링 기준: 요청 문서의 최신 ORIGINAL·AI_DRAFT 본문 쌍 (원문, 번역).
+     * 문서가 요청 URL에서 만들어진 것이 아니거나(다른 문서의 번역을 끌어오지 않도록), 버전이 없거나 언어가 다르면 빈 값 → 전체 번역
+     */
+    private Optional<String[]> findPreviousTranslation(TranslationRequest request) {
+        Long documentId = request.getDocumentId();
+        if (documentId == null) {
+            return Optional.empty();
+        }
+        Optional<com.project.Transflow.document.entity.Document> document = documentRepository.findById(documentId)
+                .filter(found -> isSameUrl(found.getOriginalUrl(), request.getUrl()));
+        if (document.isEmpty()) {
+            log.warn("재크롤링 기준 문서가 없거나 요청 URL과 달라 전체 번역 - documentId: {}, URL: {}",
+                    documentId, request.getUrl());
+            return Optional.empty();
+        }
+        boolean sameLanguages = document
+                .map(found -> request.getTargetLang().equalsIgnoreCase(found.getTargetLang())
+                        && (request.getSourceLang() == null || found.getSourceLang() == null
+                        || request.getSourceLang().equalsIgnoreCase(found.getSourceLang())))
+                .orElse(false);
+        if (!sameLanguages) {
+            log.info("재크롤링 기준 문서와 언어가 달라 전체 번역 - documentId: {}", documentId);
+            return Optional.empty();
+        }
+        Optional<String> original = documentVersionRepository
+                .findFirstByDocument_IdAndVersionTypeOrderByVersionNumberDesc(documentId, "ORIGINAL")
+                .map(DocumentVersion::getContent);
+        Optional<String> aiDraft = documentVersionRepository
+                .findFirstByDocument_IdAndVersionTypeOrderByVersionNumberDesc(documentId, "AI_DRAFT")
+                .map(DocumentVersion::getContent);
+        if (original.isEmpty() || aiDraft.isEmpty()) {
+            log.info("재크롤링 기준 문서에 ORIGINAL/AI_DRAFT 버전이 없어 전체 번역 - documentId: {}", documentId);
+            return Optional.empty();
+        }
+        return Optional.of(new String[]{original.get(), aiDraft.get()});
+    }
+
+    private boolean isSameUrl(String documentUrl, String requestUrl) {
+        return documentUrl != null && requestUrl != null && documentUrl.trim().equals(requestUrl.trim());
+    }
+
     private int parseHttpStatus(String status) {
         if (status == null || status.isBlank()) return 0;
         try {
@@ -1,5 +1,6 @@
 package com.project.Transflow.translate.service;
 
+import com.project.Transflow.metrics.DeepLMetrics;
 import com.project.Transflow.settings.service.ApiKeyService;
 import com.project.Transflow.translate.dto.DeepLResponse;
 import lombok.extern.slf4j.Slf4j;
@@ -21,13 +22,16 @@ public class TranslationService {
     private final WebClient webClient;
     private final ApiKeyService apiKeyService;
     private final KoreanStylePostProcessor koreanStylePostProcessor;
+    private final DeepLMetrics deepLMetrics;
 
     public TranslationService(
             @Value("${deepl.api.url}") String apiUrl,
             ApiKeyService apiKeyService,
-            KoreanStylePostProcessor koreanStylePostProcessor) {
+            KoreanStylePostProcessor koreanStylePostProcessor,
+            DeepLMetrics deepLMetrics) {
         this.apiKeyService = apiKeyService;
         this.koreanStylePostProcessor = koreanStylePostProcessor;
+        this.deepLMetrics = deepLMetrics;
         this.webClient = WebClient.builder()
                 .baseUrl(apiUrl)
                 .codecs(configurer -> configurer.defaultCodecs().maxInMemorySize(10 * 1024 * 1024)) // 10MB
@@ -35,7 +39,7 @@ public class TranslationService {
     }
 
     /**
-     * DeepL API 키 조회 (DB에서 복호화)
+     * DeepL API 키 조회 (ApiKeyService 캐시, 미스 시 DB에서 복호화)
      */
     private String getApiKey() {
         try {
@@ -113,7 +117,8 @@ public class TranslationService {
                 }
 
                 String currentApiKey = getApiKey(); // API 키 동적 조회
-                DeepLResponse response = webClient.post()
+                int sentCharacters = formData.get("text").stream().mapToInt(String::length).sum();
+                DeepLResponse response = deepLMetrics.record("translate_batch", sentCharacters, () -> webClient.post()
                         .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + currentApiKey)
                         .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                         .bodyValue(formData)
@@ -122,7 +127,7 @@ public class TranslationService {
                             return clientResponse.createException();
                         })
                         .bodyToMono(DeepLResponse.class)
-                        .block(Duration.ofMinutes(5));
+                        .block(Duration.ofMinutes(5)));
 
                 if (response != null && response.getTranslations() != null && !response.getTranslations().isEmpty()) {
                     List<String> translatedTexts = new ArrayList<>();
@@ -146,6 +151,7 @@ public class TranslationService {
                             Thread.currentThread().interrupt();
                             throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
                         }
+                        deepLMetrics.retry("translate_batch");
                         retryCount++;
                         continue;
                     } else {
@@ -177,6 +183,7 @@ public class TranslationService {
                             Thread.currentThread().interrupt();
                             throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
                         }
+                        deepLMetrics.retry("translate_batch");
                         retryCount++;
                         continue;
                     }
@@ -221,7 +228,7 @@ public class TranslationService {
             }
 
             String currentApiKey = getApiKey(); // API 키 동적 조회
-            DeepLResponse response = webClient.post()
+            DeepLResponse response = deepLMetrics.record("translate", textToTranslate.length(), () -> webClient.post()
                     .header(HttpHeaders.AUTHORIZATION, "DeepL-Auth-Key " + currentApiKey)
                     .contentType(MediaType.APPLICATION_FORM_URLENCODED)
                     .bodyValue(formData)
@@ -231,7 +238,7 @@ public class TranslationService {
                             return clientResponse.createException();
                         })
                     .bodyToMono(DeepLResponse.class)
-                        .block(Duration.ofMinutes(5)); // 5분 타임아웃
+                        .block(Duration.ofMinutes(5))); // 5분 타임아웃
 
             if (response != null && response.getTranslations() != null && !response.getTranslations().isEmpty()) {
                 String translatedText = response.getTranslations().get(0).getText();
@@ -254,6 +261,7 @@ public class TranslationService {
                             Thread.currentThread().interrupt();
                             throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
                         }
+                        deepLMetrics.retry("translate");
                         retryCount++;
                         continue;
                     } else {
@@ -287,6 +295,7 @@ public class TranslationService {
                             Thread.currentThread().interrupt();
                             throw new RuntimeException("재시도 대기 중 인터럽트 발생", ie);
                         }
+                        deepLMetrics.retry("translate");
                         retryCount++;
                         continue;
                     }
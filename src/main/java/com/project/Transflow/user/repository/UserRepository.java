@@ -10,6 +10,7 @@ import java.util.Optional;
 @Repository
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
+
     Optional<User> findByGoogleId(String googleId);
     List<User> findByRoleLevelLessThanEqual(Integer roleLevel);
     boolean existsByEmail(String email);
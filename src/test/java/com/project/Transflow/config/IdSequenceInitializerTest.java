@@ -0,0 +1,84 @@
+package com.project.Transflow.config;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import javax.persistence.EntityManagerFactory;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.Mockito.mock;
+
+/**
+ * ddl-auto가 만든 시퀀스 테이블(next_val=1)을 기존 AUTO_INCREMENT 최대 ID 위로 올리는지 확인
+ */
+class IdSequenceInitializerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private IdSequenceInitializer initializer;
+
+    @BeforeEach
+    void setUp() {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+                "jdbc:h2:mem:sequences-" + UUID.randomUUID() + ";DB_CLOSE_DELAY=-1", "sa", "");
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        jdbcTemplate.execute("CREATE TABLE term_dictionary (id BIGINT PRIMARY KEY)");
+        initializer = new IdSequenceInitializer(dataSource, mock(EntityManagerFactory.class));
+    }
+
+    @Test
+    void freshSequenceIsRaisedAboveExistingIds() {
+        insertIds(1, 120);
+        createSequence(1L);
+
+        initializer.align("term_dictionary");
+
+        // 다음 블록의 첫 ID = next_val - 49 = 121
+        assertThat(nextVal()).isEqualTo(120 + IdSequenceInitializer.ALLOCATION_SIZE);
+    }
+
+    @Test
+    void sequenceAheadOfMaxIdIsLeftAlone() {
+        insertIds(1, 10);
+        createSequence(500L);
+
+        initializer.align("term_dictionary");
+
+        assertThat(nextVal()).isEqualTo(500L);
+    }
+
+    @Test
+    void missingRowIsSeeded() {
+        insertIds(1, 3);
+        jdbcTemplate.execute("CREATE TABLE term_dictionary_seq (next_val BIGINT)");
+
+        initializer.align("term_dictionary");
+
+        assertThat(nextVal()).isEqualTo(3 + IdSequenceInitializer.ALLOCATION_SIZE);
+    }
+
+    @Test
+    void missingSequenceTableFailsFast() {
+        assertThatThrownBy(() -> initializer.align("term_dictionary"))
+                .isInstanceOf(IllegalStateException.class)
+                .hasMessageContaining("term_dictionary_seq");
+    }
+
+    private void insertIds(int from, int to) {
+        for (int id = from; id <= to; id++) {
+            jdbcTemplate.update("INSERT INTO term_dictionary (id) VALUES (?)", id);
+        }
+    }
+
+    private void createSequence(long nextVal) {
+        jdbcTemplate.execute("CREATE TABLE term_dictionary_seq (next_val BIGINT)");
+        jdbcTemplate.update("INSERT INTO term_dictionary_seq (next_val) VALUES (?)", nextVal);
+    }
+
+    private Long nextVal() {
+        return jdbcTemplate.queryForObject("SELECT next_val FROM term_dictionary_seq", Long.class);
+    }
+}
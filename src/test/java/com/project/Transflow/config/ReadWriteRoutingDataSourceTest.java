@@ -0,0 +1,176 @@
+package com.project.Transflow.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.SQLException;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 두 개의 H2 인메모리 DB를 기본·복제본으로 두고 트랜잭션 종류별 라우팅을 확인
+ */
+class ReadWriteRoutingDataSourceTest {
+
+    private final DataSourceRoutingConfig config = new DataSourceRoutingConfig();
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private JdbcTemplate jdbcTemplate;
+    private DataSourceTransactionManager transactionManager;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        DataSourceProperties primaryProperties = new DataSourceProperties();
+        primaryProperties.setUrl("jdbc:h2:mem:primary-" + suffix + ";DB_CLOSE_DELAY=-1");
+        primaryProperties.setUsername("sa");
+        primaryProperties.setPassword("");
+
+        ReadReplicaProperties replicaProperties = new ReadReplicaProperties();
+        replicaProperties.setUrl("jdbc:h2:mem:replica-" + suffix + ";DB_CLOSE_DELAY=-1");
+
+        primary = config.primaryDataSource(primaryProperties);
+        replica = config.replicaDataSource(primaryProperties, replicaProperties);
+        seed(primary, "primary");
+        seed(replica, "replica");
+
+        DataSource routing = config.dataSource(primary, replica, replicaProperties);
+        jdbcTemplate = new JdbcTemplate(routing);
+        transactionManager = new DataSourceTransactionManager(routing);
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void readOnlyTransactionUsesReplica() {
+        assertThat(inTransaction(true)).isEqualTo("replica");
+    }
+
+    @Test
+    void writeTransactionUsesPrimary() {
+        assertThat(inTransaction(false)).isEqualTo("primary");
+    }
+
+    @Test
+    void queryOutsideTransactionUsesPrimary() {
+        assertThat(currentDatabase()).isEqualTo("primary");
+    }
+
+    @Test
+    void readOnlyJoinedToWriteTransactionStaysOnPrimary() {
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        String joined = write.execute(status -> {
+            jdbcTemplate.update("INSERT INTO marker (name) VALUES ('written')");
+            return inTransaction(true);
+        });
+
+        assertThat(joined).isEqualTo("primary");
+    }
+
+    @Test
+    void readYourWritesOnPrimaryAfterCommit() {
+        new TransactionTemplate(transactionManager).executeWithoutResult(status ->
+                jdbcTemplate.update("INSERT INTO marker (name) VALUES ('written')"));
+
+        TransactionTemplate write = new TransactionTemplate(transactionManager);
+        Integer onPrimary = write.execute(status -> countWritten());
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        Integer onReplica = readOnly.execute(status -> countWritten());
+
+        // 복제가 따라오기 전에는 readOnly 조회에서 방금 쓴 행이 보이지 않음
+        assertThat(onPrimary).isEqualTo(1);
+        assertThat(onReplica).isZero();
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsDown() {
+        DataSourceProperties primaryProperties = new DataSourceProperties();
+        primaryProperties.setUsername("sa");
+        primaryProperties.setPassword("");
+        ReadReplicaProperties downProperties = new ReadReplicaProperties();
+        downProperties.setUrl("jdbc:h2:tcp://127.0.0.1:1/mem:replica-down");
+        downProperties.setConnectionTimeoutMs(250);
+
+        try (HikariDataSource down = config.replicaDataSource(primaryProperties, downProperties)) {
+            DataSource routing = config.dataSource(primary, down, downProperties);
+            jdbcTemplate = new JdbcTemplate(routing);
+            transactionManager = new DataSourceTransactionManager(routing);
+
+            assertThat(inTransaction(true)).isEqualTo("primary");
+        }
+    }
+
+    @Test
+    void replicaFailureIsRememberedDuringBackoff() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("replica down"));
+        ReadReplicaProperties downProperties = new ReadReplicaProperties();
+        downProperties.setFailureBackoffMs(60_000);
+        DataSource routing = config.dataSource(primary, down, downProperties);
+        jdbcTemplate = new JdbcTemplate(routing);
+        transactionManager = new DataSourceTransactionManager(routing);
+
+        assertThat(inTransaction(true)).isEqualTo("primary");
+        assertThat(inTransaction(true)).isEqualTo("primary");
+        assertThat(inTransaction(true)).isEqualTo("primary");
+
+        // 첫 실패 이후로는 복제본 커넥션 대기 없이 바로 기본 DB
+        verify(down, times(1)).getConnection();
+    }
+
+    @Test
+    void replicaIsRetriedAfterBackoff() throws SQLException {
+        DataSource down = mock(DataSource.class);
+        when(down.getConnection()).thenThrow(new SQLException("replica down"));
+        ReadReplicaProperties downProperties = new ReadReplicaProperties();
+        downProperties.setFailureBackoffMs(0);
+        DataSource routing = config.dataSource(primary, down, downProperties);
+        jdbcTemplate = new JdbcTemplate(routing);
+        transactionManager = new DataSourceTransactionManager(routing);
+
+        assertThat(inTransaction(true)).isEqualTo("primary");
+        assertThat(inTransaction(true)).isEqualTo("primary");
+
+        verify(down, times(2)).getConnection();
+    }
+
+    private String inTransaction(boolean readOnly) {
+        TransactionTemplate template = new TransactionTemplate(transactionManager);
+        template.setReadOnly(readOnly);
+        template.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRED);
+        return template.execute(status -> currentDatabase());
+    }
+
+    private String currentDatabase() {
+        return jdbcTemplate.queryForObject("SELECT name FROM marker WHERE name IN ('primary', 'replica')", String.class);
+    }
+
+    private Integer countWritten() {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM marker WHERE name = 'written'", Integer.class);
+    }
+
+    private static void seed(DataSource dataSource, String name) {
+        JdbcTemplate seed = new JdbcTemplate(dataSource);
+        seed.execute("CREATE TABLE marker (name VARCHAR(20))");
+        seed.update("INSERT INTO marker (name) VALUES (?)", name);
+    }
+}
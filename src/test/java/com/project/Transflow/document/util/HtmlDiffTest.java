@@ -0,0 +1,92 @@
+package com.project.Transflow.document.util;
+
+import com.project.Transflow.document.dto.VersionDiffResponse.ParagraphDiff;
+import com.project.Transflow.document.dto.VersionDiffResponse.Segment;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.tuple;
+
+class HtmlDiffTest {
+
+    @Test
+    void identicalContentIsUnchanged() {
+        String html = "<h2>지층</h2><p>홍수는 지구를 덮었습니다.</p><p>지층은 평탄합니다.</p>";
+
+        List<ParagraphDiff> diff = HtmlDiff.diff(html, html);
+
+        assertThat(diff).extracting(ParagraphDiff::getType, ParagraphDiff::getFromPosition, ParagraphDiff::getToPosition)
+                .containsExactly(
+                        tuple(HtmlDiff.UNCHANGED, 0, 0),
+                        tuple(HtmlDiff.UNCHANGED, 1, 1),
+                        tuple(HtmlDiff.UNCHANGED, 2, 2));
+        assertThat(diff).allSatisfy(paragraph -> assertThat(paragraph.getSegments()).isNull());
+    }
+
+    @Test
+    void insertedParagraphIsAddedInPlace() {
+        String from = "<p>First paragraph.</p><p>Third paragraph.</p>";
+        String to = "<p>First paragraph.</p><p>A brand new paragraph in between.</p><p>Third paragraph.</p>";
+
+        List<ParagraphDiff> diff = HtmlDiff.diff(from, to);
+
+        assertThat(diff).extracting(ParagraphDiff::getType, ParagraphDiff::getFromPosition, ParagraphDiff::getToPosition)
+                .containsExactly(
+                        tuple(HtmlDiff.UNCHANGED, 0, 0),
+                        tuple(HtmlDiff.ADDED, null, 1),
+                        tuple(HtmlDiff.UNCHANGED, 1, 2));
+        assertThat(diff.get(1).getHtml()).isEqualTo("<p>A brand new paragraph in between.</p>");
+    }
+
+    @Test
+    void deletedParagraphIsRemovedInPlace() {
+        String from = "<p>First paragraph.</p><p>A paragraph that goes away.</p><p>Third paragraph.</p>";
+        String to = "<p>First paragraph.</p><p>Third paragraph.</p>";
+
+        List<ParagraphDiff> diff = HtmlDiff.diff(from, to);
+
+        assertThat(diff).extracting(ParagraphDiff::getType, ParagraphDiff::getFromPosition, ParagraphDiff::getToPosition)
+                .containsExactly(
+                        tuple(HtmlDiff.UNCHANGED, 0, 0),
+                        tuple(HtmlDiff.REMOVED, 1, null),
+                        tuple(HtmlDiff.UNCHANGED, 2, 1));
+        assertThat(diff.get(1).getHtml()).isEqualTo("<p>A paragraph that goes away.</p>");
+    }
+
+    @Test
+    void modifiedParagraphHasWordSegments() {
+        String from = "<p>Intro.</p><p>The flood covered the earth.</p>";
+        String to = "<p>Intro.</p><p>The flood covered the whole earth.</p>";
+
+        List<ParagraphDiff> diff = HtmlDiff.diff(from, to);
+
+        assertThat(diff).extracting(ParagraphDiff::getType).containsExactly(HtmlDiff.UNCHANGED, HtmlDiff.MODIFIED);
+        ParagraphDiff modified = diff.get(1);
+        assertThat(modified.getFromPosition()).isEqualTo(1);
+        assertThat(modified.getToPosition()).isEqualTo(1);
+        assertThat(modified.getSegments()).extracting(Segment::getOp, Segment::getText)
+                .containsExactly(
+                        tuple(HtmlDiff.EQUAL, "The flood covered the "),
+                        tuple(HtmlDiff.INSERT, "whole "),
+                        tuple(HtmlDiff.EQUAL, "earth."));
+    }
+
+    @Test
+    void formattingOnlyChangeIsModifiedWithoutTextChanges() {
+        List<ParagraphDiff> diff = HtmlDiff.diff("<p>지층은 평탄합니다.</p>", "<p><strong>지층은</strong> 평탄합니다.</p>");
+
+        assertThat(diff).hasSize(1);
+        assertThat(diff.get(0).getType()).isEqualTo(HtmlDiff.MODIFIED);
+        assertThat(diff.get(0).getSegments()).extracting(Segment::getOp, Segment::getText)
+                .containsExactly(tuple(HtmlDiff.EQUAL, "지층은 평탄합니다."));
+    }
+
+    @Test
+    void unrelatedReplacementIsRemovedAndAdded() {
+        List<ParagraphDiff> diff = HtmlDiff.diff("<p>Sedimentary layers.</p>", "<p>완전히 다른 문단입니다.</p>");
+
+        assertThat(diff).extracting(ParagraphDiff::getType).containsExactly(HtmlDiff.REMOVED, HtmlDiff.ADDED);
+    }
+}
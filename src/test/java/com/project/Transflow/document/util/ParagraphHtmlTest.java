@@ -0,0 +1,91 @@
+package com.project.Transflow.document.util;
+
+import org.jsoup.Jsoup;
+import org.jsoup.nodes.Document;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ParagraphHtmlTest {
+
+    private static final String STORED_TRANSLATION = "/fixtures/paragraph/stored-translation.html";
+
+    @Test
+    void splitAndAssembleKeepsFullDocument() throws IOException {
+        String stored = readFixture(STORED_TRANSLATION);
+
+        ParagraphHtml.Split split = ParagraphHtml.split(stored);
+        String assembled = ParagraphHtml.assemble(split.getSkeleton(), split.getParagraphs());
+
+        assertThat(split.getParagraphs()).containsOnlyKeys(0, 1, 2, 3, 4);
+        assertThat(split.getParagraphs().get(2)).contains("data-paragraph-index=\"99\"");
+        assertThat(assembled).isEqualTo(normalize(stored));
+        assertThat(assembled)
+                .startsWith("<!doctype html>")
+                .contains("<html lang=\"ko\">")
+                .contains("<meta charset=\"utf-8\">")
+                .contains("<title>노아 홍수의 지질학적 증거</title>")
+                .contains("<style>.article-body p { line-height: 1.7; }</style>")
+                .contains("<body class=\"single-post article-body\" data-theme=\"light\">");
+    }
+
+    @Test
+    void assembleWithChangedParagraphKeepsStructureAndSplitsAgain() throws IOException {
+        String stored = readFixture(STORED_TRANSLATION);
+        ParagraphHtml.Split split = ParagraphHtml.split(stored);
+
+        Map<Integer, String> paragraphs = new HashMap<>(split.getParagraphs());
+        String edited = "<p data-paragraph-index=\"1\">지층 경계는 평탄합니다.</p>";
+        paragraphs.put(1, edited);
+        String assembled = ParagraphHtml.assemble(split.getSkeleton(), paragraphs);
+
+        Document doc = Jsoup.parse(assembled);
+        assertThat(doc.documentType()).isNotNull();
+        assertThat(doc.selectFirst("html").attr("lang")).isEqualTo("ko");
+        assertThat(doc.title()).isEqualTo("노아 홍수의 지질학적 증거");
+        assertThat(doc.body().className()).isEqualTo("single-post article-body");
+        assertThat(doc.select("figure img").attr("src")).isEqualTo("https://example.org/images/strata.jpg");
+
+        ParagraphHtml.Split again = ParagraphHtml.split(assembled);
+        assertThat(again.getSkeleton()).isEqualTo(split.getSkeleton());
+        assertThat(again.getParagraphs()).isEqualTo(paragraphs);
+    }
+
+    @Test
+    void bodyFragmentStaysFragment() {
+        String fragment = "<h1>제목</h1><p data-paragraph-index=\"0\">첫 문단</p><p data-paragraph-index=\"1\">둘째</p>";
+
+        ParagraphHtml.Split split = ParagraphHtml.split(fragment);
+
+        assertThat(split.getSkeleton()).doesNotContain("<html").doesNotContain("<body");
+        assertThat(ParagraphHtml.assemble(split.getSkeleton(), split.getParagraphs())).isEqualTo(fragment);
+    }
+
+    @Test
+    void rejectsDuplicateIndex() {
+        String html = "<p data-paragraph-index=\"0\">a</p><p data-paragraph-index=\"0\">b</p>";
+
+        assertThatThrownBy(() -> ParagraphHtml.split(html))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    private static String normalize(String html) {
+        Document doc = Jsoup.parse(html);
+        doc.outputSettings().prettyPrint(false);
+        return doc.outerHtml();
+    }
+
+    private static String readFixture(String path) throws IOException {
+        try (InputStream in = ParagraphHtmlTest.class.getResourceAsStream(path)) {
+            assertThat(in).as(path).isNotNull();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.project.Transflow.metrics;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.reactive.function.client.WebClientResponseException;
+import reactor.core.Exceptions;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * rate_limited 분류는 HTTP 상태로만: 메시지에 "429"가 들어 있어도 다른 오류는 error
+ */
+class DeepLMetricsTest {
+
+    private final SimpleMeterRegistry registry = new SimpleMeterRegistry();
+    private final DeepLMetrics metrics = new DeepLMetrics(registry);
+
+    @Test
+    void tooManyRequestsIsRateLimited() {
+        WebClientResponseException tooManyRequests = WebClientResponseException.create(
+                HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null, null);
+
+        assertThatThrownBy(() -> metrics.record("translate", 10, () -> {
+            throw tooManyRequests;
+        })).isSameAs(tooManyRequests);
+
+        assertThat(registry.counter("deepl.rate_limited", "operation", "translate").count()).isEqualTo(1.0);
+        assertThat(registry.find("deepl.requests").tag("outcome", "rate_limited").timer()).isNotNull();
+    }
+
+    @Test
+    void wrappedTooManyRequestsIsRateLimited() {
+        WebClientResponseException tooManyRequests = WebClientResponseException.create(
+                HttpStatus.TOO_MANY_REQUESTS.value(), "Too Many Requests", null, null, null);
+
+        assertThat(DeepLMetrics.isRateLimited(Exceptions.propagate(new Exception(tooManyRequests)))).isTrue();
+    }
+
+    @Test
+    void messageMentioningFourTwentyNineIsNotRateLimited() {
+        RuntimeException unrelated = new RuntimeException("번역 결과가 비어있습니다. (문단 429)");
+        WebClientResponseException badRequest = WebClientResponseException.create(
+                HttpStatus.BAD_REQUEST.value(), "Bad Request", null, "text 429".getBytes(), null);
+
+        assertThatThrownBy(() -> metrics.record("translate", 10, () -> {
+            throw unrelated;
+        })).isSameAs(unrelated);
+
+        assertThat(DeepLMetrics.isRateLimited(badRequest)).isFalse();
+        assertThat(registry.counter("deepl.rate_limited", "operation", "translate").count()).isZero();
+        assertThat(registry.find("deepl.requests").tag("outcome", "error").timer()).isNotNull();
+    }
+}
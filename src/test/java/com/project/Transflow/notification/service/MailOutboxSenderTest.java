@@ -0,0 +1,272 @@
+package com.project.Transflow.notification.service;
+
+import com.icegreen.greenmail.junit5.GreenMailExtension;
+import com.icegreen.greenmail.util.ServerSetupTest;
+import com.project.Transflow.notification.config.MailOutboxProperties;
+import com.project.Transflow.notification.entity.MailOutbox;
+import com.project.Transflow.notification.repository.MailOutboxRepository;
+import com.project.Transflow.user.entity.User;
+import com.project.Transflow.user.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.mail.MailSendException;
+import org.springframework.mail.SimpleMailMessage;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import javax.mail.MessagingException;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 아웃박스 발송을 내장 SMTP(GreenMail)로 확인: 배치 발송, 실패한 메일만 재시도, 완료 알림 dedup 키
+ */
+class MailOutboxSenderTest {
+
+    @RegisterExtension
+    static GreenMailExtension greenMail = new GreenMailExtension(ServerSetupTest.SMTP);
+
+    private final InMemoryOutbox outbox = new InMemoryOutbox();
+    private final FlakySmtpSender mailSender = new FlakySmtpSender();
+    private final MailOutboxProperties properties = new MailOutboxProperties();
+    private MailOutboxSender sender;
+
+    @BeforeEach
+    void setUp() {
+        mailSender.setHost("127.0.0.1");
+        mailSender.setPort(ServerSetupTest.SMTP.getPort());
+        properties.setBatchSize(20);
+        properties.setRecipientsPerMessage(2);
+        properties.setRetryBackoffSeconds(0);
+
+        sender = new MailOutboxSender(outbox.repository, mailSender, properties, mock(PlatformTransactionManager.class));
+        sender.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        sender.shutdown();
+    }
+
+    @Test
+    void sendsQueuedMailsInOneBatchSplitByRecipients() {
+        MailOutbox first = outbox.add("a", "a1@a.example.org,a2@a.example.org,a3@a.example.org");
+        MailOutbox second = outbox.add("b", "b1@b.example.org");
+
+        sender.poll();
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 4)).isTrue();
+        awaitUntil(() -> outbox.status(first.getId()).equals(MailOutbox.STATUS_SENT)
+                && outbox.status(second.getId()).equals(MailOutbox.STATUS_SENT));
+        // 메일 2건, 수신자 2명 단위로 나눠 3통을 한 번의 send(= 한 SMTP 연결)로 발송
+        assertThat(mailSender.sendCalls.get()).isEqualTo(1);
+        assertThat(mailSender.messagesSent.get()).isEqualTo(3);
+        assertThat(greenMail.getReceivedMessages()).hasSize(4);
+    }
+
+    @Test
+    void retriesOnlyFailedMessages() {
+        MailOutbox partial = outbox.add("a", "a1@a.example.org,a2@a.example.org,a3@a.example.org");
+        MailOutbox delivered = outbox.add("b", "b1@b.example.org,b2@b.example.org");
+        mailSender.rejectOnce.add("a3@a.example.org");
+
+        sender.poll();
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 4)).isTrue();
+        awaitUntil(() -> outbox.status(partial.getId()).equals(MailOutbox.STATUS_QUEUED)
+                && outbox.status(delivered.getId()).equals(MailOutbox.STATUS_SENT));
+        MailOutbox retry = outbox.rows.get(partial.getId());
+        assertThat(retry.getRecipients()).isEqualTo("a3@a.example.org");
+        assertThat(retry.getAttempts()).isEqualTo(1);
+        assertThat(retry.getLastError()).isNotBlank();
+
+        sender.poll();
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 5)).isTrue();
+        awaitUntil(() -> outbox.status(partial.getId()).equals(MailOutbox.STATUS_SENT));
+        assertThat(greenMail.getReceivedMessagesForDomain("a.example.org")).hasSize(3);
+        assertThat(greenMail.getReceivedMessagesForDomain("b.example.org")).hasSize(2);
+        assertThat(greenMail.getReceivedMessages()).hasSize(5);
+    }
+
+    @Test
+    void recordsTranslationCompletedOncePerDocumentWindow() {
+        UserRepository userRepository = mock(UserRepository.class);
+        when(userRepository.findByRoleLevelLessThanEqual(2)).thenReturn(List.of(
+                User.builder().email("admin@a.example.org").roleLevel(1).build(),
+                User.builder().email(" admin@a.example.org ").roleLevel(2).build(),
+                User.builder().email("reviewer@b.example.org").roleLevel(2).build()));
+        properties.setTranslationCompletedWindowMinutes(30);
+        TranslationNotificationMailService service = new TranslationNotificationMailService(
+                userRepository, outbox.repository, mock(ApplicationEventPublisher.class), properties);
+        ReflectionTestUtils.setField(service, "reviewsUrl", "https://example.org/reviews");
+        LocalDateTime completedAt = LocalDateTime.of(2026, 10, 18, 10, 0);
+
+        // 같은 구간 안의 재요청·재완료(새 버전)는 한 건으로, 구간이 지나면 새로 기록
+        service.enqueueTranslationCompletedToAdmins(7L, 42L, "홍수 지질학", completedAt);
+        service.enqueueTranslationCompletedToAdmins(7L, 42L, "홍수 지질학", completedAt);
+        service.enqueueTranslationCompletedToAdmins(7L, 43L, "홍수 지질학", completedAt.plusMinutes(5));
+        service.enqueueTranslationCompletedToAdmins(7L, 44L, "홍수 지질학", completedAt.plusMinutes(40));
+
+        assertThat(outbox.rows.values()).extracting(MailOutbox::getDedupKey)
+                .containsExactlyInAnyOrder(
+                        service.translationCompletedDedupKey(7L, completedAt),
+                        service.translationCompletedDedupKey(7L, completedAt.plusMinutes(40)));
+        assertThat(outbox.rows.values()).extracting(MailOutbox::getDedupKey)
+                .allMatch(key -> key.startsWith("translation-completed:7:"));
+        assertThat(outbox.rows.values()).extracting(MailOutbox::getRecipients)
+                .containsOnly("admin@a.example.org,reviewer@b.example.org");
+
+        sender.poll();
+
+        assertThat(greenMail.waitForIncomingEmail(5000, 4)).isTrue();
+        awaitUntil(() -> outbox.rows.values().stream().allMatch(row -> MailOutbox.STATUS_SENT.equals(row.getStatus())));
+        assertThat(greenMail.getReceivedMessagesForDomain("a.example.org")).hasSize(2);
+    }
+
+    private static void awaitUntil(BooleanSupplier condition) {
+        long deadline = System.currentTimeMillis() + 5000;
+        while (!condition.getAsBoolean()) {
+            if (System.currentTimeMillis() > deadline) {
+                throw new AssertionError("조건을 만족하지 못함");
+            }
+            try {
+                Thread.sleep(20);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                throw new AssertionError(e);
+            }
+        }
+    }
+
+    /**
+     * 지정한 수신자가 든 메일만 한 번 거부하고 나머지는 실제 SMTP로 보냄 (JavaMailSenderImpl의 부분 실패와 같은 예외)
+     */
+    private static final class FlakySmtpSender extends JavaMailSenderImpl {
+        private final Set<String> rejectOnce = ConcurrentHashMap.newKeySet();
+        private final AtomicInteger sendCalls = new AtomicInteger();
+        private final AtomicInteger messagesSent = new AtomicInteger();
+
+        @Override
+        public void send(SimpleMailMessage... simpleMessages) {
+            sendCalls.incrementAndGet();
+            List<SimpleMailMessage> accepted = new ArrayList<>();
+            Map<Object, Exception> failed = new LinkedHashMap<>();
+            for (SimpleMailMessage message : simpleMessages) {
+                boolean rejected = Arrays.stream(message.getTo()).anyMatch(rejectOnce::remove);
+                if (rejected) {
+                    failed.put(message, new MessagingException("550 mailbox unavailable"));
+                } else {
+                    accepted.add(message);
+                }
+            }
+            if (!accepted.isEmpty()) {
+                super.send(accepted.toArray(new SimpleMailMessage[0]));
+                messagesSent.addAndGet(accepted.size());
+            }
+            if (!failed.isEmpty()) {
+                throw new MailSendException(failed);
+            }
+        }
+    }
+
+    /**
+     * MailOutboxRepository의 메모리 구현. JPA처럼 조회 결과는 저장된 행과 분리된 사본
+     */
+    private static final class InMemoryOutbox {
+        private final Map<Long, MailOutbox> rows = new ConcurrentHashMap<>();
+        private final AtomicLong sequence = new AtomicLong();
+        private final MailOutboxRepository repository = mock(MailOutboxRepository.class);
+
+        private InMemoryOutbox() {
+            when(repository.existsByDedupKey(anyString())).thenAnswer(invocation -> rows.values().stream()
+                    .anyMatch(row -> row.getDedupKey().equals(invocation.getArgument(0))));
+            when(repository.findDue(any(LocalDateTime.class), any(Pageable.class))).thenAnswer(invocation -> {
+                LocalDateTime now = invocation.getArgument(0);
+                Pageable pageable = invocation.getArgument(1);
+                return rows.values().stream()
+                        .filter(row -> MailOutbox.STATUS_QUEUED.equals(row.getStatus()))
+                        .filter(row -> !row.getNextAttemptAt().isAfter(now))
+                        .sorted(Comparator.comparing(MailOutbox::getNextAttemptAt).thenComparing(MailOutbox::getId))
+                        .limit(pageable.getPageSize())
+                        .map(InMemoryOutbox::copy)
+                        .collect(Collectors.toList());
+            });
+            when(repository.claim(anyLong(), any(LocalDateTime.class))).thenAnswer(invocation -> {
+                MailOutbox row = rows.get(invocation.<Long>getArgument(0));
+                if (row == null || !MailOutbox.STATUS_QUEUED.equals(row.getStatus())) {
+                    return 0;
+                }
+                row.setStatus(MailOutbox.STATUS_SENDING);
+                row.setStartedAt(invocation.getArgument(1));
+                row.setAttempts(row.getAttempts() + 1);
+                return 1;
+            });
+            when(repository.requeueStale(any(LocalDateTime.class), any(LocalDateTime.class))).thenReturn(0);
+            when(repository.findById(anyLong())).thenAnswer(invocation ->
+                    Optional.ofNullable(rows.get(invocation.<Long>getArgument(0))).map(InMemoryOutbox::copy));
+            when(repository.save(any(MailOutbox.class))).thenAnswer(invocation -> {
+                MailOutbox row = invocation.getArgument(0);
+                if (row.getId() == null) {
+                    row.setId(sequence.incrementAndGet());
+                }
+                rows.put(row.getId(), copy(row));
+                return row;
+            });
+        }
+
+        private MailOutbox add(String key, String recipients) {
+            return repository.save(MailOutbox.builder()
+                    .dedupKey(key)
+                    .recipients(recipients)
+                    .subject("[LangBridge] 번역 완료 알림")
+                    .body("번역이 완료되었습니다.")
+                    .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                    .build());
+        }
+
+        private String status(Long id) {
+            return rows.get(id).getStatus();
+        }
+
+        private static MailOutbox copy(MailOutbox row) {
+            return MailOutbox.builder()
+                    .id(row.getId())
+                    .dedupKey(row.getDedupKey())
+                    .recipients(row.getRecipients())
+                    .subject(row.getSubject())
+                    .body(row.getBody())
+                    .status(row.getStatus())
+                    .attempts(row.getAttempts())
+                    .nextAttemptAt(row.getNextAttemptAt())
+                    .startedAt(row.getStartedAt())
+                    .sentAt(row.getSentAt())
+                    .lastError(row.getLastError())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,56 @@
+package com.project.Transflow.publish.service;
+
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.stream.Stream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 단일 순회 sanitizer가 이전 구현(여러 번 select·순회)과 같은 HTML을 내는지 fixture로 비교
+ */
+class CreationKrPublishHtmlSanitizerTest {
+
+    private static final String FIXTURE_DIR = "/fixtures/sanitizer/";
+    private static final String BASE_URL = "https://creation.example.org/articles/2023/flood-geology/";
+
+    private final CreationKrPublishHtmlSanitizer sanitizer = new CreationKrPublishHtmlSanitizer();
+    private final LegacyCreationKrPublishHtmlSanitizer legacy = new LegacyCreationKrPublishHtmlSanitizer();
+
+    static Stream<String> fixtures() {
+        return Stream.of(
+                "wordpress-article.html",
+                "tinymce-editor.html",
+                "media-and-tables.html",
+                "fragment-no-root.html",
+                "pre-whitespace.html"
+        );
+    }
+
+    @ParameterizedTest
+    @MethodSource("fixtures")
+    void matchesLegacyOutputWithBaseUrl(String fixture) throws IOException {
+        String html = readFixture(fixture);
+
+        assertThat(sanitizer.sanitize(html, BASE_URL)).isEqualTo(legacy.sanitize(html, BASE_URL));
+    }
+
+    @ParameterizedTest
+    @MethodSource("fixtures")
+    void matchesLegacyOutputWithoutBaseUrl(String fixture) throws IOException {
+        String html = readFixture(fixture);
+
+        assertThat(sanitizer.sanitize(html)).isEqualTo(legacy.sanitize(html));
+    }
+
+    private static String readFixture(String name) throws IOException {
+        try (InputStream in = CreationKrPublishHtmlSanitizerTest.class.getResourceAsStream(FIXTURE_DIR + name)) {
+            assertThat(in).as(name).isNotNull();
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+}
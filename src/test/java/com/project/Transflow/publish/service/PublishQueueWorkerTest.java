@@ -0,0 +1,259 @@
+package com.project.Transflow.publish.service;
+
+import com.project.Transflow.publish.config.CreationKrProperties;
+import com.project.Transflow.publish.dto.PublishResult;
+import com.project.Transflow.publish.entity.PublishJob;
+import com.project.Transflow.publish.repository.PublishJobRepository;
+import com.project.Transflow.review.service.ReviewService;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentMatcher;
+import org.springframework.data.domain.Pageable;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * RUNNING에 멈춘 게시 작업 회수: 등록 클릭 이후 중단은 재시도하지 않고, 등록 전 중단은 시도 횟수 안에서만 재등록
+ */
+class PublishQueueWorkerTest {
+
+    private final InMemoryJobs jobs = new InMemoryJobs();
+    private final ReviewService reviewService = mock(ReviewService.class);
+    private final CreationKrProperties properties = new CreationKrProperties();
+    private PublishQueueWorker worker;
+
+    @BeforeEach
+    void setUp() {
+        properties.getQueue().setWorkers(1);
+        properties.getQueue().setMaxAttempts(3);
+        CreationKrBrowserClient browserClient = mock(CreationKrBrowserClient.class);
+        doAnswer(invocation -> {
+            invocation.<Runnable>getArgument(0).run();
+            return null;
+        }).when(browserClient).runOnQueueWorker(any(Runnable.class));
+        worker = new PublishQueueWorker(jobs.repository, reviewService, browserClient, properties,
+                mock(PlatformTransactionManager.class));
+        worker.init();
+    }
+
+    @AfterEach
+    void tearDown() {
+        worker.shutdown();
+    }
+
+    @Test
+    void crashAfterSubmitIsFailedInsteadOfRequeued() throws InterruptedException {
+        PublishJob job = jobs.add(PublishJob.STATUS_QUEUED, 0, null, null);
+        CountDownLatch submitted = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        when(reviewService.executePublishAttempt(eq(job.getReviewId()), isNull(), isNull(), any(Runnable.class)))
+                .thenAnswer(invocation -> {
+                    invocation.<Runnable>getArgument(3).run();
+                    submitted.countDown();
+                    // 등록 클릭 후 브라우저·프로세스가 멈춘 상태
+                    release.await(10, TimeUnit.SECONDS);
+                    throw new IllegalStateException("브라우저 프로세스 종료");
+                });
+
+        worker.dispatchDueJobs();
+        assertThat(submitted.await(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(jobs.row(job).getSubmittedAt()).isNotNull();
+
+        jobs.row(job).setStartedAt(LocalDateTime.now().minusHours(2));
+        worker.dispatchDueJobs();
+
+        PublishJob recovered = jobs.row(job);
+        assertThat(recovered.getStatus()).isEqualTo(PublishJob.STATUS_FAILED);
+        assertThat(recovered.getLastError()).contains("등록 버튼 클릭 후");
+        verify(reviewService, times(1)).executePublishAttempt(anyLong(), any(), any(), any(Runnable.class));
+        verify(reviewService).completePublish(eq(job.getReviewId()), argThat(failure("등록 버튼 클릭 후")));
+        release.countDown();
+    }
+
+    @Test
+    void crashBeforeSubmitIsRequeuedWhileAttemptsRemain() {
+        PublishJob job = jobs.add(PublishJob.STATUS_RUNNING, 1, LocalDateTime.now().minusHours(2), null);
+
+        worker.recoverStale(tx(), LocalDateTime.now());
+
+        PublishJob recovered = jobs.row(job);
+        assertThat(recovered.getStatus()).isEqualTo(PublishJob.STATUS_QUEUED);
+        assertThat(recovered.getAttempts()).isEqualTo(1);
+        verify(reviewService, never()).completePublish(anyLong(), any());
+    }
+
+    @Test
+    void crashBeforeSubmitOnLastAttemptIsFailed() {
+        PublishJob job = jobs.add(PublishJob.STATUS_RUNNING, 3, LocalDateTime.now().minusHours(2), null);
+
+        worker.recoverStale(tx(), LocalDateTime.now());
+
+        PublishJob recovered = jobs.row(job);
+        assertThat(recovered.getStatus()).isEqualTo(PublishJob.STATUS_FAILED);
+        assertThat(recovered.getLastError()).contains("3회");
+        verify(reviewService).completePublish(eq(job.getReviewId()), argThat(failure("3회")));
+    }
+
+    @Test
+    void recentRunningJobIsLeftAlone() {
+        PublishJob job = jobs.add(PublishJob.STATUS_RUNNING, 1, LocalDateTime.now().minusMinutes(1),
+                LocalDateTime.now().minusMinutes(1));
+
+        worker.recoverStale(tx(), LocalDateTime.now());
+
+        assertThat(jobs.row(job).getStatus()).isEqualTo(PublishJob.STATUS_RUNNING);
+        verify(reviewService, never()).completePublish(anyLong(), any());
+    }
+
+    private static TransactionTemplate tx() {
+        return new TransactionTemplate(mock(PlatformTransactionManager.class));
+    }
+
+    private static ArgumentMatcher<PublishResult> failure(String message) {
+        return result -> !result.isSuccess() && !result.isRetryable() && result.getErrorMessage().contains(message);
+    }
+
+    /**
+     * PublishJobRepository의 메모리 구현 (조건부 UPDATE는 JPQL과 같은 조건으로 반영)
+     */
+    private static final class InMemoryJobs {
+        private final Map<Long, PublishJob> rows = new ConcurrentHashMap<>();
+        private final AtomicLong sequence = new AtomicLong();
+        private final PublishJobRepository repository = mock(PublishJobRepository.class);
+
+        private InMemoryJobs() {
+            when(repository.findDue(any(LocalDateTime.class), any(Pageable.class))).thenAnswer(invocation -> {
+                LocalDateTime now = invocation.getArgument(0);
+                Pageable pageable = invocation.getArgument(1);
+                return select(row -> PublishJob.STATUS_QUEUED.equals(row.getStatus())
+                        && !row.getNextAttemptAt().isAfter(now)).stream()
+                        .limit(pageable.getPageSize())
+                        .collect(Collectors.toList());
+            });
+            when(repository.findStale(any(LocalDateTime.class))).thenAnswer(invocation -> {
+                LocalDateTime staleBefore = invocation.getArgument(0);
+                return select(row -> PublishJob.STATUS_RUNNING.equals(row.getStatus())
+                        && row.getStartedAt().isBefore(staleBefore));
+            });
+            when(repository.claim(anyLong(), any(LocalDateTime.class))).thenAnswer(invocation -> update(
+                    invocation.getArgument(0), row -> PublishJob.STATUS_QUEUED.equals(row.getStatus()), row -> {
+                        row.setStatus(PublishJob.STATUS_RUNNING);
+                        row.setStartedAt(invocation.getArgument(1));
+                        row.setAttempts(row.getAttempts() + 1);
+                    }));
+            when(repository.markSubmitted(anyLong(), anyInt(), any(LocalDateTime.class))).thenAnswer(invocation -> update(
+                    invocation.getArgument(0), running(invocation.getArgument(1)),
+                    row -> row.setSubmittedAt(invocation.getArgument(2))));
+            when(repository.requeueStale(anyLong(), anyInt(), any(LocalDateTime.class), anyInt(), any(LocalDateTime.class)))
+                    .thenAnswer(invocation -> update(invocation.getArgument(0),
+                            running(invocation.getArgument(1))
+                                    .and(row -> row.getStartedAt().isBefore(invocation.getArgument(2)))
+                                    .and(row -> row.getSubmittedAt() == null)
+                                    .and(row -> row.getAttempts() < invocation.<Integer>getArgument(3)),
+                            row -> {
+                                row.setStatus(PublishJob.STATUS_QUEUED);
+                                row.setNextAttemptAt(invocation.getArgument(4));
+                            }));
+            when(repository.failStale(anyLong(), anyInt(), any(LocalDateTime.class), anyString(), any(LocalDateTime.class)))
+                    .thenAnswer(invocation -> update(invocation.getArgument(0),
+                            running(invocation.getArgument(1))
+                                    .and(row -> row.getStartedAt().isBefore(invocation.getArgument(2))),
+                            row -> {
+                                row.setStatus(PublishJob.STATUS_FAILED);
+                                row.setLastError(invocation.getArgument(3));
+                            }));
+            when(repository.finish(anyLong(), anyInt(), anyString(), any(), any(LocalDateTime.class)))
+                    .thenAnswer(invocation -> update(invocation.getArgument(0), running(invocation.getArgument(1)),
+                            row -> {
+                                row.setStatus(invocation.getArgument(2));
+                                row.setLastError(invocation.getArgument(3));
+                            }));
+        }
+
+        private PublishJob add(String status, int attempts, LocalDateTime startedAt, LocalDateTime submittedAt) {
+            long id = sequence.incrementAndGet();
+            PublishJob job = PublishJob.builder()
+                    .id(id)
+                    .reviewId(100L + id)
+                    .status(status)
+                    .attempts(attempts)
+                    .nextAttemptAt(LocalDateTime.now().minusSeconds(1))
+                    .startedAt(startedAt)
+                    .submittedAt(submittedAt)
+                    .build();
+            rows.put(id, job);
+            return copy(job);
+        }
+
+        private PublishJob row(PublishJob job) {
+            return rows.get(job.getId());
+        }
+
+        private List<PublishJob> select(Predicate<PublishJob> filter) {
+            return rows.values().stream()
+                    .filter(filter)
+                    .sorted(Comparator.comparing(PublishJob::getId))
+                    .map(InMemoryJobs::copy)
+                    .collect(Collectors.toList());
+        }
+
+        private int update(Long id, Predicate<PublishJob> condition, Consumer<PublishJob> change) {
+            synchronized (rows) {
+                PublishJob row = rows.get(id);
+                if (row == null || !condition.test(row)) {
+                    return 0;
+                }
+                change.accept(row);
+                return 1;
+            }
+        }
+
+        private static Predicate<PublishJob> running(int attempt) {
+            return row -> PublishJob.STATUS_RUNNING.equals(row.getStatus()) && row.getAttempts() == attempt;
+        }
+
+        private static PublishJob copy(PublishJob row) {
+            return PublishJob.builder()
+                    .id(row.getId())
+                    .reviewId(row.getReviewId())
+                    .sitePath(row.getSitePath())
+                    .boardId(row.getBoardId())
+                    .batchId(row.getBatchId())
+                    .status(row.getStatus())
+                    .attempts(row.getAttempts())
+                    .nextAttemptAt(row.getNextAttemptAt())
+                    .startedAt(row.getStartedAt())
+                    .submittedAt(row.getSubmittedAt())
+                    .lastError(row.getLastError())
+                    .build();
+        }
+    }
+}
@@ -0,0 +1,150 @@
+package com.project.Transflow.review.service;
+
+import com.project.Transflow.config.DataSourceRoutingConfig;
+import com.project.Transflow.config.ReadReplicaProperties;
+import com.project.Transflow.document.entity.Document;
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.repository.DocumentRepository;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.document.service.DocumentParagraphService;
+import com.project.Transflow.publish.dto.PublishResult;
+import com.project.Transflow.publish.entity.PublishJob;
+import com.project.Transflow.publish.repository.PublishJobRepository;
+import com.project.Transflow.publish.service.CreationKrBoardCatalogService;
+import com.project.Transflow.publish.service.CreationKrPublishService;
+import com.project.Transflow.review.entity.Review;
+import com.project.Transflow.review.repository.ReviewRepository;
+import com.project.Transflow.user.repository.UserRepository;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.BiConsumer;
+import java.util.function.IntConsumer;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 게시 워커 경로의 라우팅 확인: 복제본이 게시 등록(PENDING)을 아직 받지 못했어도 워커는 기본 DB를 보고 게시해야 함
+ */
+class ReviewServicePublishRoutingTest {
+
+    private static final long REVIEW_ID = 7L;
+
+    private final DataSourceRoutingConfig config = new DataSourceRoutingConfig();
+    private final ReviewRepository reviewRepository = mock(ReviewRepository.class);
+    private final CreationKrPublishService creationKrPublishService = mock(CreationKrPublishService.class);
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private ReviewService reviewService;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString();
+        DataSourceProperties primaryProperties = new DataSourceProperties();
+        primaryProperties.setUrl("jdbc:h2:mem:primary-" + suffix + ";DB_CLOSE_DELAY=-1");
+        primaryProperties.setUsername("sa");
+        primaryProperties.setPassword("");
+        ReadReplicaProperties replicaProperties = new ReadReplicaProperties();
+        replicaProperties.setUrl("jdbc:h2:mem:replica-" + suffix + ";DB_CLOSE_DELAY=-1");
+
+        primary = config.primaryDataSource(primaryProperties);
+        replica = config.replicaDataSource(primaryProperties, replicaProperties);
+        // 기본 DB에는 게시 등록이 커밋됐지만 복제본은 아직 이전 상태
+        seed(primary, "PENDING");
+        seed(replica, "NONE");
+
+        DataSource routing = config.dataSource(primary, replica, replicaProperties);
+        JdbcTemplate jdbcTemplate = new JdbcTemplate(routing);
+        when(reviewRepository.findById(anyLong())).thenAnswer(invocation -> Optional.of(review(
+                invocation.getArgument(0),
+                jdbcTemplate.queryForObject("SELECT publish_status FROM review WHERE id = ?", String.class,
+                        invocation.<Long>getArgument(0)))));
+
+        reviewService = new ReviewService(reviewRepository, mock(DocumentRepository.class),
+                mock(DocumentVersionRepository.class), mock(UserRepository.class), creationKrPublishService,
+                mock(CreationKrBoardCatalogService.class), mock(PublishPreviewRenderer.class),
+                mock(DocumentParagraphService.class), mock(PublishJobRepository.class),
+                mock(ApplicationEventPublisher.class), new DataSourceTransactionManager(routing));
+    }
+
+    @AfterEach
+    void tearDown() {
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void singlePublishAttemptReadsPrimary() {
+        when(creationKrPublishService.publishFromReview(any(Review.class), eq("board"), eq("1"), any(Runnable.class)))
+                .thenReturn(PublishResult.success("https://creation.kr/board/1"));
+
+        PublishResult result = reviewService.executePublishAttempt(REVIEW_ID, "board", "1", () -> { });
+
+        assertThat(result).isNotNull();
+        assertThat(result.isSuccess()).isTrue();
+        verify(creationKrPublishService).publishFromReview(any(Review.class), eq("board"), eq("1"), any(Runnable.class));
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void batchPublishAttemptReadsPrimary() {
+        List<Integer> published = new ArrayList<>();
+        when(creationKrPublishService.publishBatchFromReviews(anyList(), any(IntConsumer.class), any(BiConsumer.class)))
+                .thenAnswer(invocation -> {
+                    List<CreationKrPublishService.ReviewPublishTarget> targets = invocation.getArgument(0);
+                    BiConsumer<Integer, PublishResult> onResult = invocation.getArgument(2);
+                    List<PublishResult> results = new ArrayList<>();
+                    for (int i = 0; i < targets.size(); i++) {
+                        published.add(i);
+                        PublishResult result = PublishResult.success("https://creation.kr/board/" + i);
+                        results.add(result);
+                        onResult.accept(i, result);
+                    }
+                    return results;
+                });
+        PublishJob job = PublishJob.builder().id(1L).reviewId(REVIEW_ID).batchId("batch").build();
+
+        List<PublishResult> results = reviewService.executePublishBatchAttempt(List.of(job), i -> { }, (i, result) -> { });
+
+        assertThat(published).containsExactly(0);
+        assertThat(results).hasSize(1);
+        assertThat(results.get(0)).isNotNull();
+        assertThat(results.get(0).isSuccess()).isTrue();
+    }
+
+    private static Review review(Long id, String publishStatus) {
+        Document document = Document.builder().id(1L).title("홍수 지질학").build();
+        return Review.builder()
+                .id(id)
+                .document(document)
+                .documentVersion(DocumentVersion.builder().id(2L).document(document).content("<p>본문</p>").build())
+                .status("APPROVED")
+                .publishStatus(publishStatus)
+                .build();
+    }
+
+    private static void seed(DataSource dataSource, String publishStatus) {
+        JdbcTemplate seed = new JdbcTemplate(dataSource);
+        seed.execute("CREATE TABLE review (id BIGINT PRIMARY KEY, publish_status VARCHAR(20))");
+        seed.update("INSERT INTO review (id, publish_status) VALUES (?, ?)", REVIEW_ID, publishStatus);
+    }
+}
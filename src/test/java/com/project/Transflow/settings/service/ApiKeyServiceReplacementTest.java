@@ -0,0 +1,130 @@
+package com.project.Transflow.settings.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.project.Transflow.config.CacheConfig;
+import com.project.Transflow.config.DataSourceRoutingConfig;
+import com.project.Transflow.config.ReadReplicaProperties;
+import com.project.Transflow.settings.dto.ApiKeyRequest;
+import com.project.Transflow.settings.entity.ApiKey;
+import com.project.Transflow.settings.repository.ApiKeyRepository;
+import com.project.Transflow.settings.util.EncryptionUtil;
+import com.zaxxer.hikari.HikariDataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.autoconfigure.jdbc.DataSourceProperties;
+import org.springframework.context.annotation.AnnotationConfigApplicationContext;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.EnableTransactionManagement;
+
+import javax.sql.DataSource;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * 교체(폐기)된 외부 서비스 키가 곧바로 쓰이지 않는지 확인: 복제본이 아직 이전 키를 갖고 있어도
+ * 복호화 캐시는 무효화되고 다음 조회는 기본 DB의 새 키를 돌려줘야 함
+ */
+class ApiKeyServiceReplacementTest {
+
+    private static final String SERVICE_DEEPL = "DEEPL";
+
+    private final DataSourceRoutingConfig config = new DataSourceRoutingConfig();
+
+    private HikariDataSource primary;
+    private HikariDataSource replica;
+    private AnnotationConfigApplicationContext context;
+    private ApiKeyService apiKeyService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        String suffix = UUID.randomUUID().toString();
+        DataSourceProperties primaryProperties = new DataSourceProperties();
+        primaryProperties.setUrl("jdbc:h2:mem:primary-" + suffix + ";DB_CLOSE_DELAY=-1");
+        primaryProperties.setUsername("sa");
+        primaryProperties.setPassword("");
+        ReadReplicaProperties replicaProperties = new ReadReplicaProperties();
+        replicaProperties.setUrl("jdbc:h2:mem:replica-" + suffix + ";DB_CLOSE_DELAY=-1");
+
+        primary = config.primaryDataSource(primaryProperties);
+        replica = config.replicaDataSource(primaryProperties, replicaProperties);
+        DataSource routing = config.dataSource(primary, replica, replicaProperties);
+
+        EncryptionUtil encryptionUtil = new EncryptionUtil();
+        ReflectionTestUtils.setField(encryptionUtil, "encryptionSecretKey", "test-secret");
+        encryptionUtil.init();
+        String oldKey = encryptionUtil.encrypt("old-key");
+        seed(primary, oldKey);
+        seed(replica, oldKey);
+
+        context = new AnnotationConfigApplicationContext();
+        context.register(CacheConfig.class, TransactionConfig.class);
+        context.registerBean(PlatformTransactionManager.class, () -> new DataSourceTransactionManager(routing));
+        context.registerBean(ApiKeyRepository.class, () -> repository(new JdbcTemplate(routing)));
+        context.registerBean(EncryptionUtil.class, () -> encryptionUtil);
+        context.registerBean(ObjectMapper.class, ObjectMapper::new);
+        context.registerBean(ApiKeyService.class);
+        context.refresh();
+        apiKeyService = context.getBean(ApiKeyService.class);
+    }
+
+    @AfterEach
+    void tearDown() {
+        context.close();
+        primary.close();
+        replica.close();
+    }
+
+    @Test
+    void replacedKeyIsNotServedAfterSave() {
+        assertThat(apiKeyService.getDecryptedDeepLApiKey()).isEqualTo("old-key");
+
+        // 새 키는 기본 DB에만 커밋되고 복제본은 아직 이전 키
+        apiKeyService.saveDeepLApiKey(new ApiKeyRequest("new-key"), 1L);
+
+        assertThat(apiKeyService.getDecryptedDeepLApiKey()).isEqualTo("new-key");
+        assertThat(apiKeyService.getDecryptedDeepLApiKey()).isEqualTo("new-key");
+    }
+
+    @EnableTransactionManagement
+    static class TransactionConfig {
+    }
+
+    private static ApiKeyRepository repository(JdbcTemplate jdbcTemplate) {
+        ApiKeyRepository repository = mock(ApiKeyRepository.class);
+        when(repository.findByServiceName(anyString())).thenAnswer(invocation -> {
+            List<ApiKey> rows = jdbcTemplate.query(
+                    "SELECT id, service_name, encrypted_api_key FROM api_key WHERE service_name = ?",
+                    (rs, rowNum) -> ApiKey.builder()
+                            .id(rs.getLong("id"))
+                            .serviceName(rs.getString("service_name"))
+                            .encryptedApiKey(rs.getString("encrypted_api_key"))
+                            .build(),
+                    invocation.<String>getArgument(0));
+            return rows.stream().findFirst();
+        });
+        when(repository.save(any(ApiKey.class))).thenAnswer(invocation -> {
+            ApiKey apiKey = invocation.getArgument(0);
+            jdbcTemplate.update("UPDATE api_key SET encrypted_api_key = ? WHERE service_name = ?",
+                    apiKey.getEncryptedApiKey(), apiKey.getServiceName());
+            return apiKey;
+        });
+        return repository;
+    }
+
+    private static void seed(DataSource dataSource, String encryptedKey) {
+        JdbcTemplate seed = new JdbcTemplate(dataSource);
+        seed.execute("CREATE TABLE api_key (id BIGINT PRIMARY KEY, service_name VARCHAR(50), encrypted_api_key TEXT)");
+        seed.update("INSERT INTO api_key (id, service_name, encrypted_api_key) VALUES (1, ?, ?)",
+                SERVICE_DEEPL, encryptedKey);
+    }
+}
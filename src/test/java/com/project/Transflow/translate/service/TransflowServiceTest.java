@@ -0,0 +1,86 @@
+package com.project.Transflow.translate.service;
+
+import com.project.Transflow.document.entity.Document;
+import com.project.Transflow.document.entity.DocumentVersion;
+import com.project.Transflow.document.repository.DocumentRepository;
+import com.project.Transflow.document.repository.DocumentVersionRepository;
+import com.project.Transflow.term.service.TermDictionaryService;
+import com.project.Transflow.translate.dto.TranslationRequest;
+import com.project.Transflow.translate.dto.TranslationResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.Map;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+/**
+ * 재크롤링은 요청 URL에서 만들어진 문서의 번역만 재사용: 다른 URL의 문서 ID를 보내면 전체 번역
+ */
+class TransflowServiceTest {
+
+    private static final String PAGE_URL = "https://creation.example.org/flood";
+    private static final String PAGE_HTML = "<html><body><p>The flood covered the earth.</p></body></html>";
+
+    private final CrawlerService crawlerService = mock(CrawlerService.class);
+    private final HtmlTranslationService htmlTranslationService = mock(HtmlTranslationService.class);
+    private final DocumentRepository documentRepository = mock(DocumentRepository.class);
+    private final DocumentVersionRepository documentVersionRepository = mock(DocumentVersionRepository.class);
+    private TransflowService service;
+
+    @BeforeEach
+    void setUp() {
+        service = new TransflowService(crawlerService, htmlTranslationService, mock(TermDictionaryService.class),
+                documentRepository, documentVersionRepository);
+        when(crawlerService.crawlWebPageWithStyles(PAGE_URL)).thenReturn(Map.of("html", PAGE_HTML, "css", "", "httpStatus", "200"));
+        when(htmlTranslationService.translateHtml(anyString(), anyString(), any(), any()))
+                .thenReturn("<p>홍수가 지구를 덮었습니다.</p>");
+        when(htmlTranslationService.translateHtmlIncremental(anyString(), anyString(), anyString(), anyString(), any(), any()))
+                .thenReturn(new HtmlTranslationService.HtmlTranslationResult("<p>홍수가 지구를 덮었습니다.</p>", 1, 0));
+        when(documentVersionRepository.findFirstByDocument_IdAndVersionTypeOrderByVersionNumberDesc(any(), eq("ORIGINAL")))
+                .thenReturn(Optional.of(DocumentVersion.builder().content("<p>The flood covered the earth.</p>").build()));
+        when(documentVersionRepository.findFirstByDocument_IdAndVersionTypeOrderByVersionNumberDesc(any(), eq("AI_DRAFT")))
+                .thenReturn(Optional.of(DocumentVersion.builder().content("<p>홍수가 지구를 덮었습니다.</p>").build()));
+    }
+
+    @Test
+    void reusesTranslationOfDocumentCrawledFromSameUrl() {
+        when(documentRepository.findById(7L)).thenReturn(Optional.of(document(7L, PAGE_URL)));
+
+        TranslationResponse response = service.translateWebPage(request(7L));
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getReusedSegments()).isEqualTo(1);
+        verify(htmlTranslationService, never()).translateHtml(anyString(), anyString(), any(), any());
+    }
+
+    @Test
+    void documentFromAnotherUrlIsNotReused() {
+        when(documentRepository.findById(8L)).thenReturn(Optional.of(document(8L, "https://creation.example.org/other")));
+
+        TranslationResponse response = service.translateWebPage(request(8L));
+
+        assertThat(response.isSuccess()).isTrue();
+        assertThat(response.getReusedSegments()).isNull();
+        verify(htmlTranslationService, never())
+                .translateHtmlIncremental(anyString(), anyString(), anyString(), anyString(), any(), any());
+        verify(documentVersionRepository, never())
+                .findFirstByDocument_IdAndVersionTypeOrderByVersionNumberDesc(any(), anyString());
+    }
+
+    private static TranslationRequest request(Long documentId) {
+        return new TranslationRequest(PAGE_URL, "KO", "EN", "glossary", documentId);
+    }
+
+    private static Document document(Long id, String originalUrl) {
+        return Document.builder().id(id).originalUrl(originalUrl).sourceLang("EN").targetLang("KO").build();
+    }
+}